@@ -25,4 +25,14 @@ package com.blazebit.persistence;
  */
 public interface BaseCTECriteriaBuilder<X extends BaseCTECriteriaBuilder<X>> extends CommonQueryBuilder<X>, FromBuilder<X>, KeysetQueryBuilder<X>, WhereBuilder<X>, OrderByBuilder<X>, GroupByBuilder<X>, DistinctBuilder<X>, LimitBuilder<X>, WindowContainerBuilder<X> {
 // TODO: maybe also add CTEBuilder?
+
+    /**
+     * Adds the given SQL level optimizer hint to the query.
+     * Index hints refer to a join alias of this query and are rendered by the DBMS dialect into the position the DBMS expects.
+     *
+     * @param queryHint The query hint
+     * @return The query builder for chaining calls
+     * @since 1.6.9
+     */
+    public X hint(QueryHint queryHint);
 }
@@ -26,4 +26,14 @@ package com.blazebit.persistence;
  */
 public interface BaseCriteriaBuilder<T, X extends BaseCriteriaBuilder<T, X>> extends BaseQueryBuilder<T, X>, GroupByBuilder<X>, DistinctBuilder<X>, LimitBuilder<X> {
 
+    /**
+     * Adds the given SQL level optimizer hint to the query.
+     * Index hints refer to a join alias of this query and are rendered by the DBMS dialect into the position the DBMS expects.
+     * When paginating, the hints are applied to the count, id and object query, as long as the respective query contains the join alias.
+     *
+     * @param queryHint The query hint
+     * @return The query builder for chaining calls
+     * @since 1.6.9
+     */
+    public X hint(QueryHint queryHint);
 }
@@ -120,4 +120,16 @@ public interface CTEBuilder<T extends CTEBuilder<T>> extends ServiceProvider {
      */
     public boolean hasCte(Class<?> cte);
 
+    /**
+     * Requests the given materialization for the CTE of the given type from the DBMS.
+     * The materialization can be set before or after the CTE is defined and is ignored for inlined CTEs.
+     * DBMS that have no syntax for controlling the materialization ignore it.
+     *
+     * @param cteClass The type of the CTE
+     * @param materialization The requested materialization or <code>null</code> to let the DBMS decide
+     * @return This for method chaining
+     * @since 1.6.9
+     */
+    public T setCteMaterialization(Class<?> cteClass, CTEMaterialization materialization);
+
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence;
+
+/**
+ * The materialization of a CTE that is requested from the DBMS.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public enum CTEMaterialization {
+
+    /**
+     * The CTE query should be computed once and the result be reused for every reference of the CTE.
+     */
+    MATERIALIZED,
+    /**
+     * The CTE query should be inlined into every reference so that predicates can be pushed into the CTE query.
+     */
+    NOT_MATERIALIZED;
+}
@@ -211,6 +211,93 @@ public final class ConfigurationProperties {
      */
     public static final String CRITERIA_VALUE_AS_PARAMETER = "com.blazebit.persistence.criteria_value_as_parameter";
 
+    /**
+     * The role that is reported to {@link com.blazebit.persistence.spi.QueryExecutionListener}s for the object query of a criteria builder.
+     * Valid values for this property are the names of {@link com.blazebit.persistence.spi.QueryExecutionRole} constants and <code>auto</code>.
+     * Default is <code>auto</code> which reports the role based on the builder type.
+     *
+     * The property can be changed for a criteria builder before constructing a query.
+     *
+     * @since 1.6.9
+     */
+    public static final String QUERY_EXECUTION_ROLE = "com.blazebit.persistence.query_execution_role";
+
+    /**
+     * If set to true, the criteria builder factory creates a {@link com.blazebit.persistence.spi.QueryResultCache}.
+     * Only then queries can opt into caching via {@link #QUERY_RESULT_CACHE_ENABLED}, and modification queries
+     * as well as entity view flushes invalidate the entity types they write.
+     * Modification queries end the invalidation when the transaction completes, which requires a JPA provider that supports
+     * transaction completion callbacks like Hibernate. Enabling the cache for other JPA providers fails.
+     * Valid values for this property are <code>true</code> and <code>false</code>.
+     * Default is <code>false</code>.
+     *
+     * @since 1.6.9
+     */
+    public static final String QUERY_RESULT_CACHE = "com.blazebit.persistence.query_result_cache";
+
+    /**
+     * If set to true, the results of the object query of a criteria builder are cached in the {@link com.blazebit.persistence.spi.QueryResultCache}
+     * and reused until an entity type read by the query is written through a modification query or entity view flush.
+     * Paginated criteria builders and queries that return entity instances or use a lock mode are never cached.
+     * This has no effect unless the query result cache is enabled via {@link #QUERY_RESULT_CACHE}.
+     * Valid values for this property are <code>true</code> and <code>false</code>.
+     * Default is <code>false</code>.
+     *
+     * The property can be changed for a criteria builder before constructing a query.
+     *
+     * @since 1.6.9
+     */
+    public static final String QUERY_RESULT_CACHE_ENABLED = "com.blazebit.persistence.query_result_cache_enabled";
+
+    /**
+     * If set to true, left joins for to-one associations are omitted from a query if the join alias is not referenced by any clause or other join.
+     * Joins with an ON condition, fetch joins and collection joins are always rendered.
+     * Valid values for this property are <code>true</code> and <code>false</code>.
+     * Default is <code>false</code>.
+     *
+     * The property can be changed for a criteria builder before constructing a query.
+     *
+     * @since 1.6.9
+     */
+    public static final String LEFT_JOIN_ELIMINATION = "com.blazebit.persistence.left_join_elimination";
+
+    /**
+     * If set to true, the values of collection-valued parameters are padded to the next power of two by repeating the last element.
+     * This reduces the number of distinct SQL statements produced for <code>IN</code> predicates with varying list sizes,
+     * which improves the hit rate of the JPA provider query plan cache and the JDBC statement cache.
+     * Valid values for this property are <code>true</code> and <code>false</code>.
+     * Default is <code>false</code>.
+     *
+     * The property can be changed for a criteria builder before constructing a query.
+     *
+     * @since 1.6.9
+     */
+    public static final String IN_LIST_PADDING = "com.blazebit.persistence.in_list_padding";
+
+    /**
+     * If set to true, non-recursive select CTEs that are built with the same query are only computed once
+     * and every duplicate is rendered as a select from the first one.
+     * Valid values for this property are <code>true</code> and <code>false</code>.
+     * Default is <code>false</code>.
+     *
+     * The property can be changed for a criteria builder before constructing a query.
+     *
+     * @since 1.6.9
+     */
+    public static final String CTE_REUSE = "com.blazebit.persistence.cte_reuse";
+
+    /**
+     * The execution time in milliseconds above which the execution plan of a query is logged.
+     * The plan is retrieved through {@link FullQueryBuilder#getExplainPlan(ExplainOptions)} without analyzing the query
+     * and logged with the level <code>WARNING</code> to the logger <code>com.blazebit.persistence.impl.query.QueryExplainer</code>.
+     * Only select queries are sampled and explaining a query must be supported by the DBMS and JPA provider.
+     * Valid values for this property are numbers. A negative value disables the logging.
+     * Default is <code>-1</code>.
+     *
+     * @since 1.6.9
+     */
+    public static final String SLOW_QUERY_EXPLAIN_THRESHOLD = "com.blazebit.persistence.slow_query_explain_threshold";
+
     private ConfigurationProperties() {
     }
 }
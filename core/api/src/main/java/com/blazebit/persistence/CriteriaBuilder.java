@@ -64,6 +64,17 @@ public interface CriteriaBuilder<T> extends FullQueryBuilder<T, CriteriaBuilder<
     @Override
     public <Y> CriteriaBuilder<Y> copy(Class<Y> resultClass);
 
+    /**
+     * Creates a full copy of this criteria builder that is read-only.
+     * The copy runs on the entity manager as provided by the configured {@link com.blazebit.persistence.spi.ReadOnlyEntityManagerProvider},
+     * unless the entity manager of this builder is joined to a transaction.
+     *
+     * @return A new read-only criteria builder
+     * @since 1.6.9
+     * @see CriteriaBuilderFactory#createReadOnly(javax.persistence.EntityManager, Class, String)
+     */
+    public CriteriaBuilder<T> copyReadOnly();
+
     @Override
     public <Y> SelectObjectBuilder<CriteriaBuilder<Y>> selectNew(Class<Y> clazz);
 
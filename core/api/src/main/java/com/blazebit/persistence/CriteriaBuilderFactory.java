@@ -75,6 +75,33 @@ public interface CriteriaBuilderFactory extends ServiceProvider, ConfigurationSo
      */
     public <T> CriteriaBuilder<T> create(EntityManager entityManager, Class<T> resultClass, String alias);
 
+    /**
+     * Like {@link CriteriaBuilderFactory#createReadOnly(javax.persistence.EntityManager, java.lang.Class, java.lang.String)} but with the alias
+     * equivalent to the camel cased result of what {@link Class#getSimpleName()} of the result class returns.
+     *
+     * @param entityManager The entity manager for which to create the read-only criteria builder
+     * @param resultClass The result class of the query
+     * @param <T> The type of the result class
+     * @return A new read-only criteria builder
+     * @since 1.6.9
+     */
+    public <T> CriteriaBuilder<T> createReadOnly(EntityManager entityManager, Class<T> resultClass);
+
+    /**
+     * Like {@link CriteriaBuilderFactory#create(javax.persistence.EntityManager, java.lang.Class, java.lang.String)} but creates a read-only criteria builder.
+     * A read-only criteria builder runs on the entity manager as provided by the configured {@link com.blazebit.persistence.spi.ReadOnlyEntityManagerProvider},
+     * unless the given entity manager is joined to a transaction. All queries of the builder like e.g. count queries,
+     * as well as the queries of entity view correlations, run on the same entity manager.
+     *
+     * @param entityManager The entity manager for which to create the read-only criteria builder
+     * @param resultClass The result class of the query
+     * @param <T> The type of the result class
+     * @param alias The alias that should be used for the result class from clause
+     * @return A new read-only criteria builder
+     * @since 1.6.9
+     */
+    public <T> CriteriaBuilder<T> createReadOnly(EntityManager entityManager, Class<T> resultClass, String alias);
+
     /**
      * Like {@link CriteriaBuilderFactory#delete(javax.persistence.EntityManager, java.lang.Class, java.lang.String)} but with the alias
      * equivalent to the camel cased result of what {@link Class#getSimpleName()} of the delete class returns.
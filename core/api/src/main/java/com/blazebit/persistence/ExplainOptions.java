@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence;
+
+/**
+ * Options for retrieving the execution plan of a query through {@link FullQueryBuilder#getExplainPlan(ExplainOptions)}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public final class ExplainOptions {
+
+    private final boolean analyze;
+
+    /**
+     * Creates new explain options.
+     *
+     * @param analyze Whether the query should be executed to report actual row counts and timings
+     */
+    public ExplainOptions(boolean analyze) {
+        this.analyze = analyze;
+    }
+
+    /**
+     * Returns whether the query is executed to report actual row counts and timings along with the plan.
+     * Note that analyzing a query executes it, so this should be used with care.
+     *
+     * @return Whether the query is analyzed
+     */
+    public boolean isAnalyze() {
+        return analyze;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence;
+
+import com.blazebit.persistence.spi.QueryExecutionRole;
+
+import java.util.List;
+
+/**
+ * The execution plan the database reports for a single physical query.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ * @see FullQueryBuilder#getExplainPlan(ExplainOptions)
+ */
+public interface ExplainPlan {
+
+    /**
+     * Returns the role of the explained query.
+     *
+     * @return The role of the query
+     */
+    public QueryExecutionRole getRole();
+
+    /**
+     * Returns the JPQL query string of the explained query.
+     *
+     * @return The query string
+     */
+    public String getQueryString();
+
+    /**
+     * Returns the SQL that was explained, without the dialect specific explain prefix.
+     *
+     * @return The SQL
+     */
+    public String getSql();
+
+    /**
+     * Returns the lines of the plan as reported by the database.
+     *
+     * @return The plan lines
+     */
+    public List<String> getPlanLines();
+
+}
@@ -18,6 +18,8 @@ package com.blazebit.persistence;
 
 import javax.persistence.TypedQuery;
 import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A base interface for builders that support normal query functionality.
@@ -40,6 +42,49 @@ public interface FullQueryBuilder<T, X extends FullQueryBuilder<T, X>> extends Q
      */
     public <Y> FullQueryBuilder<Y, ?> copy(Class<Y> resultClass);
 
+    /**
+     * Returns whether this query builder is read-only and runs on the entity manager of the configured {@link com.blazebit.persistence.spi.ReadOnlyEntityManagerProvider}.
+     *
+     * @return Whether this query builder is read-only
+     * @since 1.6.9
+     * @see CriteriaBuilderFactory#createReadOnly(javax.persistence.EntityManager, Class, String)
+     */
+    public boolean isReadOnly();
+
+    /**
+     * Sets a new {@link QueryDeadline} that expires after the given timeout counted from now.
+     * The time that is left right before a query is executed is applied as query timeout to every query of this builder,
+     * including the count and id queries of a paginated query.
+     * The budget is not restarted when the builder or a query of it is executed again, so a builder that is reused
+     * needs another call to this method to get a new budget.
+     *
+     * @param timeout The timeout
+     * @param unit The unit of the timeout
+     * @return The query builder for chaining calls
+     * @since 1.6.9
+     * @see #withDeadline(QueryDeadline)
+     */
+    public X withTimeout(long timeout, TimeUnit unit);
+
+    /**
+     * Sets the given deadline for all queries created by this builder.
+     * Queries executed after the deadline expired or was {@link QueryDeadline#cancel() cancelled} fail with a {@link javax.persistence.QueryTimeoutException}.
+     * Copies of this builder share the deadline.
+     *
+     * @param deadline The deadline or <code>null</code> to remove the deadline
+     * @return The query builder for chaining calls
+     * @since 1.6.9
+     */
+    public X withDeadline(QueryDeadline deadline);
+
+    /**
+     * Returns the deadline of this query builder or <code>null</code> if there is none.
+     *
+     * @return The deadline or <code>null</code>
+     * @since 1.6.9
+     */
+    public QueryDeadline getDeadline();
+
     /**
      * Copies this query builder into a new {@link CriteriaBuilder}, using it's projection as an overridable default.
      *
@@ -85,6 +130,19 @@ public interface FullQueryBuilder<T, X extends FullQueryBuilder<T, X>> extends Q
      */
     public String getCountQueryString(long maximumCount);
 
+    /**
+     * Returns the execution plans the database reports for the SQL that is executed for this query builder.
+     * The SQL of the CTEs, VALUES clauses and keyset predicates is explained along with the query as it is part of the same statement.
+     * A {@link PaginatedCriteriaBuilder} returns a plan for every query it executes, i.e. the count, id and object query.
+     * To bind the identifiers of an object query, the corresponding id query is executed.
+     *
+     * @param explainOptions The options for the explain statement
+     * @return The execution plans
+     * @throws UnsupportedOperationException If the DBMS or JPA provider has no support for explaining queries
+     * @since 1.6.9
+     */
+    public List<ExplainPlan> getExplainPlan(ExplainOptions explainOptions);
+
     /**
      * Invokes {@link FullQueryBuilder#pageBy(int, int, String, String...)} with the identifiers of the query root entity.
      *
@@ -37,6 +37,7 @@ public class PagedArrayList<T> extends ArrayList<T> implements PagedList<T> {
     private final int totalPages;
     private final int firstResult;
     private final int maxResults;
+    private final boolean hasNextPage;
 
     /**
      * Constructs a new empty paged array list.
@@ -53,6 +54,7 @@ public class PagedArrayList<T> extends ArrayList<T> implements PagedList<T> {
         this.totalPages = totalSize < 1 ? 0 : (int) Math.ceil(totalSize * 1d / maxResults);
         this.firstResult = firstResult;
         this.maxResults = maxResults;
+        this.hasNextPage = totalSize > (firstResult == -1 ? 0 : firstResult) + maxResults;
     }
 
     /**
@@ -65,6 +67,21 @@ public class PagedArrayList<T> extends ArrayList<T> implements PagedList<T> {
      * @param maxResults  The maximum result count for a page
      */
     public PagedArrayList(Collection<? extends T> collection, KeysetPage keyset, long totalSize, int firstResult, int maxResults) {
+        this(collection, keyset, totalSize, firstResult, maxResults, totalSize > (firstResult == -1 ? 0 : firstResult) + maxResults);
+    }
+
+    /**
+     * Constructs a new paged array list from the given collection.
+     *
+     * @param collection  The collection of elements for this page
+     * @param keyset      The keyset page for this page
+     * @param totalSize   The total size of the result
+     * @param firstResult The first result index within the overall result
+     * @param maxResults  The maximum result count for a page
+     * @param hasNextPage Whether there is a page after this page
+     * @since 1.6.9
+     */
+    public PagedArrayList(Collection<? extends T> collection, KeysetPage keyset, long totalSize, int firstResult, int maxResults, boolean hasNextPage) {
         super(collection);
         this.keyset = keyset;
         this.totalSize = totalSize;
@@ -72,6 +89,7 @@ public class PagedArrayList<T> extends ArrayList<T> implements PagedList<T> {
         this.totalPages = totalSize < 1 ? 0 : (int) Math.ceil(totalSize * 1d / maxResults);
         this.firstResult = firstResult;
         this.maxResults = maxResults;
+        this.hasNextPage = hasNextPage;
     }
 
     @Override
@@ -109,4 +127,16 @@ public class PagedArrayList<T> extends ArrayList<T> implements PagedList<T> {
         return keyset;
     }
 
+    /**
+     * Returns whether there is a page after this page.
+     * The value is exact if the count query or the lookahead via {@link PaginatedCriteriaBuilder#withHasNextPageLookahead(boolean)} was used.
+     * When navigating to a previous page via keyset pagination, this always returns <code>true</code> for a non-empty page.
+     *
+     * @return true if there is a next page, false otherwise
+     * @since 1.6.9
+     */
+    public boolean hasNextPage() {
+        return hasNextPage;
+    }
+
 }
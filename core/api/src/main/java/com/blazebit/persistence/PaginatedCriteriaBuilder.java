@@ -135,6 +135,26 @@ public interface PaginatedCriteriaBuilder<T> extends FullQueryBuilder<T, Paginat
      */
     public long getBoundedCount();
 
+    /**
+     * Enables or disables the lookahead for a next page which determines whether {@link PagedArrayList#hasNextPage()} is available without a count query.
+     * When enabled, the id query, or the object query if no id query is needed, fetches one row more than the page size.
+     * The additional row is not part of the resulting {@link PagedList} and keyset extraction is done based on the rows of the page.
+     * This is usually combined with {@link #withCountQuery(boolean)} disabled, e.g. for infinite scrolling.
+     *
+     * @param withHasNextPageLookahead true to enable, false to disable the lookahead
+     * @return The query builder for chaining calls
+     * @since 1.6.9
+     */
+    public PaginatedCriteriaBuilder<T> withHasNextPageLookahead(boolean withHasNextPageLookahead);
+
+    /**
+     * Returns whether the lookahead for a next page is enabled or not.
+     *
+     * @return true when enabled, false otherwise
+     * @since 1.6.9
+     */
+    public boolean isWithHasNextPageLookahead();
+
     /**
      * Forces the use of an id query even if the pagination would not need it.
      *
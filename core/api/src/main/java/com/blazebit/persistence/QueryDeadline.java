@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence;
+
+import javax.persistence.QueryTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A time budget that is shared by all queries participating in one logical fetch, like the count, id and object queries
+ * of a paginated query or the correlation queries of an entity view.
+ * Every query executed while the deadline is active receives the remaining time as query timeout.
+ *
+ * A deadline can be cancelled from any thread, which lets every query that is executed afterwards fail with a {@link QueryTimeoutException}.
+ * Cancellation is cooperative, so a query that already runs is only aborted by its query timeout.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ * @see FullQueryBuilder#withDeadline(QueryDeadline)
+ */
+public final class QueryDeadline {
+
+    private final long deadlineNanos;
+    private volatile boolean cancelled;
+
+    private QueryDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a new deadline that expires after the given timeout counted from now.
+     *
+     * @param timeout The timeout
+     * @param unit The unit of the timeout
+     * @return The new deadline
+     */
+    public static QueryDeadline after(long timeout, TimeUnit unit) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("Negative timeout: " + timeout);
+        }
+        return new QueryDeadline(System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * Cancels the deadline, so that no further queries are run for it.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Returns whether the deadline was cancelled.
+     *
+     * @return Whether the deadline was cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Returns whether the deadline expired.
+     *
+     * @return Whether the deadline expired
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Returns the remaining time in milliseconds or <code>0</code> if the deadline expired.
+     *
+     * @return The remaining time in milliseconds
+     */
+    public long getRemainingMillis() {
+        return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * Returns the remaining time in milliseconds as query timeout or throws a {@link QueryTimeoutException}
+     * if the deadline was cancelled or expired.
+     *
+     * @return The remaining time in milliseconds, at least <code>1</code>
+     * @throws QueryTimeoutException if the deadline was cancelled or expired
+     */
+    public int checkRemainingMillis() {
+        if (cancelled) {
+            throw new QueryTimeoutException("The query deadline was cancelled");
+        }
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+            throw new QueryTimeoutException("The query deadline expired");
+        }
+        return (int) Math.max(1L, Math.min(Integer.MAX_VALUE, TimeUnit.NANOSECONDS.toMillis(remainingNanos)));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence;
+
+/**
+ * A SQL level optimizer hint for a query that is rendered by the {@link com.blazebit.persistence.spi.DbmsDialect} in the position the DBMS expects.
+ * Index hints refer to a join alias of the query and are only rendered if the join is part of the query.
+ * Hints that are not supported by a DBMS are ignored, just like a DBMS ignores hints that can't be applied.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public final class QueryHint {
+
+    private final Type type;
+    private final String alias;
+    private final String indexName;
+    private final String directive;
+
+    private QueryHint(Type type, String alias, String indexName, String directive) {
+        this.type = type;
+        this.alias = alias;
+        this.indexName = indexName;
+        this.directive = directive;
+    }
+
+    /**
+     * Creates a hint that instructs the DBMS to use the index with the given name for accessing the table of the given join alias.
+     *
+     * @param alias The join alias
+     * @param indexName The name of the index to use
+     * @return The query hint
+     */
+    public static QueryHint index(String alias, String indexName) {
+        if (alias == null) {
+            throw new NullPointerException("alias");
+        }
+        if (indexName == null) {
+            throw new NullPointerException("indexName");
+        }
+        return new QueryHint(Type.INDEX, alias, indexName, null);
+    }
+
+    /**
+     * Creates a hint that instructs the DBMS to not use the index with the given name for accessing the table of the given join alias.
+     *
+     * @param alias The join alias
+     * @param indexName The name of the index to avoid
+     * @return The query hint
+     */
+    public static QueryHint noIndex(String alias, String indexName) {
+        if (alias == null) {
+            throw new NullPointerException("alias");
+        }
+        if (indexName == null) {
+            throw new NullPointerException("indexName");
+        }
+        return new QueryHint(Type.NO_INDEX, alias, indexName, null);
+    }
+
+    /**
+     * Creates a hint for a DBMS specific optimizer directive that is rendered as is into the hint position of the DBMS,
+     * e.g. <code>FIRST_ROWS(10)</code> for Oracle or <code>RECOMPILE</code> for the MSSQL <code>OPTION</code> clause.
+     *
+     * @param directive The optimizer directive
+     * @return The query hint
+     */
+    public static QueryHint directive(String directive) {
+        if (directive == null) {
+            throw new NullPointerException("directive");
+        }
+        return new QueryHint(Type.DIRECTIVE, null, null, directive);
+    }
+
+    /**
+     * Returns a copy of this hint that refers to the given alias instead.
+     * This is used to resolve the join alias of a hint to the SQL table alias before handing the hint to the {@link com.blazebit.persistence.spi.DbmsDialect}.
+     *
+     * @param alias The new alias
+     * @return The query hint for the given alias
+     */
+    public QueryHint withAlias(String alias) {
+        if (type == Type.DIRECTIVE) {
+            throw new IllegalStateException("A directive hint has no alias!");
+        }
+        return new QueryHint(type, alias, indexName, directive);
+    }
+
+    /**
+     * Returns the hint type.
+     *
+     * @return The hint type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the alias of the join to which the hint refers or <code>null</code> for directive hints.
+     *
+     * @return The alias
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * Returns the index name or <code>null</code> for directive hints.
+     *
+     * @return The index name
+     */
+    public String getIndexName() {
+        return indexName;
+    }
+
+    /**
+     * Returns the optimizer directive or <code>null</code> for index hints.
+     *
+     * @return The optimizer directive
+     */
+    public String getDirective() {
+        return directive;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryHint)) {
+            return false;
+        }
+
+        QueryHint queryHint = (QueryHint) o;
+
+        if (type != queryHint.type) {
+            return false;
+        }
+        if (alias != null ? !alias.equals(queryHint.alias) : queryHint.alias != null) {
+            return false;
+        }
+        if (indexName != null ? !indexName.equals(queryHint.indexName) : queryHint.indexName != null) {
+            return false;
+        }
+        return directive != null ? directive.equals(queryHint.directive) : queryHint.directive == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = type.hashCode();
+        result = 31 * result + (alias != null ? alias.hashCode() : 0);
+        result = 31 * result + (indexName != null ? indexName.hashCode() : 0);
+        result = 31 * result + (directive != null ? directive.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        if (type == Type.DIRECTIVE) {
+            return "QueryHint{" + type + "(" + directive + ")}";
+        }
+        return "QueryHint{" + type + "(" + alias + ", " + indexName + ")}";
+    }
+
+    /**
+     * The type of a query hint.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    public static enum Type {
+        /**
+         * Use the given index for the table of a join alias.
+         */
+        INDEX,
+        /**
+         * Don't use the given index for the table of a join alias.
+         */
+        NO_INDEX,
+        /**
+         * A DBMS specific optimizer directive.
+         */
+        DIRECTIVE;
+    }
+}
@@ -61,9 +61,30 @@ public interface Queryable<T, X extends Queryable<T, X>> {
 
     /**
      * Execute the query and return the result as a type Stream.
+     * The results are read through a forward-only cursor, so combined with a {@link #setFetchSize(int) fetch size}
+     * the results are not materialized at once if the JDBC driver supports streaming.
      *
      * @return The stream of the results
      */
     public Stream<T> getResultStream();
 
+    /**
+     * Sets the number of rows that should be fetched from the database at once when more rows are needed.
+     * A value of 0 means that the default of the JPA provider or JDBC driver is used.
+     * Note that some JDBC drivers like the one of PostgreSQL only stream results when a fetch size is set and auto-commit is disabled.
+     *
+     * @param fetchSize The fetch size hint
+     * @return The query builder for chaining calls
+     * @since 1.6.9
+     */
+    public X setFetchSize(int fetchSize);
+
+    /**
+     * Returns the fetch size hint or 0 if the default is used.
+     *
+     * @return The fetch size hint
+     * @since 1.6.9
+     */
+    public int getFetchSize();
+
 }
@@ -125,6 +125,59 @@ public interface CriteriaBuilderConfiguration {
      */
     public List<EntityManagerFactoryIntegrator> getEntityManagerIntegrators();
 
+    /**
+     * Registers the given query execution listener in the configuration.
+     *
+     * @param queryExecutionListener The listener that should be added
+     * @return this for method chaining
+     * @since 1.6.9
+     */
+    public CriteriaBuilderConfiguration registerQueryExecutionListener(QueryExecutionListener queryExecutionListener);
+
+    /**
+     * Returns a list of registered query execution listeners.
+     *
+     * @return A list of registered query execution listeners
+     * @since 1.6.9
+     */
+    public List<QueryExecutionListener> getQueryExecutionListeners();
+
+    /**
+     * Sets the storage that should be used by the query result cache.
+     * By default, a bounded in-memory storage is used.
+     *
+     * @param queryResultCacheStorage The storage for the query result cache
+     * @return this for method chaining
+     * @since 1.6.9
+     */
+    public CriteriaBuilderConfiguration setQueryResultCacheStorage(QueryResultCacheStorage queryResultCacheStorage);
+
+    /**
+     * Returns the storage that should be used by the query result cache or <code>null</code> if the default should be used.
+     *
+     * @return The storage for the query result cache
+     * @since 1.6.9
+     */
+    public QueryResultCacheStorage getQueryResultCacheStorage();
+
+    /**
+     * Sets the provider for the entity managers of read-only queries.
+     * By default, read-only queries run on the entity manager they are created for.
+     *
+     * @param readOnlyEntityManagerProvider The provider for the entity managers of read-only queries
+     * @return this for method chaining
+     * @since 1.6.9
+     */
+    public CriteriaBuilderConfiguration setReadOnlyEntityManagerProvider(ReadOnlyEntityManagerProvider readOnlyEntityManagerProvider);
+
+    /**
+     * Returns the provider for the entity managers of read-only queries or <code>null</code> if read-only queries aren't routed.
+     *
+     * @return The provider for the entity managers of read-only queries
+     * @since 1.6.9
+     */
+    public ReadOnlyEntityManagerProvider getReadOnlyEntityManagerProvider();
+
     /**
      * Creates a new {@linkplain CriteriaBuilderFactory} based on this configuration.
      *
@@ -16,6 +16,10 @@
 
 package com.blazebit.persistence.spi;
 
+import com.blazebit.persistence.CTEMaterialization;
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.QueryHint;
+
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -475,4 +479,49 @@ public interface DbmsDialect {
      * @since 1.2.0
      */
     public ResultSet extractReturningResult(PreparedStatement ps) throws SQLException;
+
+    /**
+     * Returns the statement that explains the given SQL query or <code>null</code> if explaining queries is not supported.
+     * The parameter markers of the SQL query must be retained so that the query parameters can be bound to the statement.
+     *
+     * @param sql The SQL query to explain
+     * @param explainOptions The options for the explain statement
+     * @return The explain statement or <code>null</code>
+     * @since 1.6.9
+     */
+    public String getExplainSql(String sql, ExplainOptions explainOptions);
+
+    /**
+     * Renders the query hints that belong to a query block into the given SQL of a select query block.
+     * The SQL does not contain a WITH clause or a LIMIT/OFFSET clause yet.
+     * The aliases of the hints are the SQL table aliases of the query block.
+     *
+     * @param sqlSb The SQL of the query block
+     * @param queryHints The query hints of the query block
+     * @since 1.6.9
+     */
+    public void appendQueryBlockHints(StringBuilder sqlSb, List<QueryHint> queryHints);
+
+    /**
+     * Renders the query hints that belong to a whole statement into the given SQL select statement.
+     * The given hints contain the hints of the main query as well as the hints of the CTEs of the statement,
+     * which were already passed to {@link #appendQueryBlockHints(StringBuilder, List)} for the respective query block.
+     * The aliases of the hints are SQL table aliases.
+     *
+     * @param sqlSb The SQL statement
+     * @param queryHints The query hints of all query blocks of the statement
+     * @since 1.6.9
+     */
+    public void appendStatementHints(StringBuilder sqlSb, List<QueryHint> queryHints);
+
+    /**
+     * Renders the requested materialization into the definition of a CTE that starts at the given index of the given WITH clause.
+     * The definition consists of the CTE name with the column list, followed by <code> AS( </code>, the CTE query and <code> )</code>.
+     *
+     * @param sqlSb The SQL of the WITH clause
+     * @param cteStartIndex The index at which the definition of the CTE starts
+     * @param materialization The requested materialization
+     * @since 1.6.9
+     */
+    public void appendCteMaterialization(StringBuilder sqlSb, int cteStartIndex, CTEMaterialization materialization);
 }
@@ -47,6 +47,14 @@ public interface ExtendedQuerySupport {
      */
     public boolean needsExampleQueryForAdvancedDml();
 
+    /**
+     * Returns whether the JPA provider supports retrieving execution plans through {@link #getExplainPlan(ServiceProvider, List, Query, String)}.
+     *
+     * @return Whether execution plans can be retrieved
+     * @since 1.6.9
+     */
+    public boolean supportsExplainPlan();
+
     /**
      * Applies the first and max results to the query.
      *
@@ -192,6 +200,48 @@ public interface ExtendedQuerySupport {
      */
     public ReturningResult<Object[]> executeReturning(ServiceProvider serviceProvider, List<Query> participatingQueries, Query baseQuery, Query exampleQuery, String sqlOverride, boolean queryPlanCacheEnabled);
 
+    /**
+     * Executes the given explain statement with the parameters of the participating queries bound and returns the first column of every result row.
+     *
+     * @param serviceProvider The service provider to access {@linkplain EntityManager} and others
+     * @param participatingQueries The list of participating queries from which to combine parameters
+     * @param query The query which represents the original query
+     * @param explainSql The explain statement for the SQL of the query as returned by {@link DbmsDialect#getExplainSql(String, com.blazebit.persistence.ExplainOptions)}
+     * @return The rows of the explain result
+     * @since 1.6.9
+     */
+    public List<String> getExplainPlan(ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String explainSql);
+
+    /**
+     * Returns whether the JPA provider supports registering callbacks for the completion of a transaction through {@link #registerTransactionCompletionCallback(EntityManager, Runnable)}.
+     *
+     * @return Whether transaction completion callbacks can be registered
+     * @since 1.6.9
+     */
+    public boolean supportsTransactionCompletionCallbacks();
+
+    /**
+     * Registers the given callback to be run after the transaction that is active for the given entity manager completed,
+     * regardless of whether it was committed or rolled back.
+     *
+     * @param em The entity manager
+     * @param callback The callback to run after transaction completion
+     * @return Whether the callback was registered, <code>false</code> if no transaction is active
+     * @since 1.6.9
+     */
+    public boolean registerTransactionCompletionCallback(EntityManager em, Runnable callback);
+
+    /**
+     * Returns the state of the given entity manager that influences the results of queries besides the query string and the parameter values,
+     * like the tenant identifier or enabled filters, or <code>null</code> if no such state is active.
+     * The returned object is used as part of a cache key and must therefore implement <code>equals</code> and <code>hashCode</code>.
+     *
+     * @param em The entity manager
+     * @return The state that influences query results or <code>null</code>
+     * @since 1.6.9
+     */
+    public Object getQueryResultInfluencingState(EntityManager em);
+
     /**
      * Provides SQL information about a FROM element.
      *
@@ -621,6 +621,25 @@ public interface JpaProvider {
      */
     public void setCacheable(Query query);
 
+    /**
+     * Sets the JDBC fetch size hint for the given query.
+     *
+     * @param query The query to set the fetch size on
+     * @param fetchSize The fetch size
+     * @since 1.6.9
+     */
+    public void setFetchSize(Query query, int fetchSize);
+
+    /**
+     * Sets the query timeout hint for the given query.
+     * Providers that only support a timeout with a granularity of seconds round the timeout up.
+     *
+     * @param query The query to set the timeout on
+     * @param timeoutMillis The timeout in milliseconds
+     * @since 1.6.9
+     */
+    public void setQueryTimeout(Query query, int timeoutMillis);
+
     /**
      * Sets the given parameter as singular parameter on the given query.
      *
@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.spi;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,6 +32,7 @@ public final class JpqlFunctionGroup {
     private final String name;
     private final JpqlFunctionKind kind;
     private final Map<String, JpqlFunction> rdbmsFunctions;
+    private final Map<String, LazyFunction> lazyRdbmsFunctions = new HashMap<>();
 
     /**
      * Constructs a non-aggregate function group with the given name.
@@ -133,7 +135,18 @@ public final class JpqlFunctionGroup {
      * @return The {@link JpqlFunction} or null
      */
     public JpqlFunction get(String rdbms) {
-        return rdbmsFunctions.get(rdbms);
+        synchronized (lazyRdbmsFunctions) {
+            if (lazyRdbmsFunctions.isEmpty()) {
+                return rdbmsFunctions.get(rdbms);
+            }
+            LazyFunction lazyFunction = lazyRdbmsFunctions.remove(rdbms);
+            if (lazyFunction == null) {
+                return rdbmsFunctions.get(rdbms);
+            }
+            JpqlFunction function = lazyFunction.create();
+            rdbmsFunctions.put(rdbms, function);
+            return function;
+        }
     }
 
     /**
@@ -144,7 +157,7 @@ public final class JpqlFunctionGroup {
      * @since 1.5.0
      */
     public JpqlFunctionProcessor<?> getProcessor(String rdbms) {
-        JpqlFunction jpqlFunction = rdbmsFunctions.get(rdbms);
+        JpqlFunction jpqlFunction = get(rdbms);
         if (jpqlFunction instanceof JpqlFunctionProcessor<?>) {
             return (JpqlFunctionProcessor<?>) jpqlFunction;
         }
@@ -158,7 +171,9 @@ public final class JpqlFunctionGroup {
      * @return True if a function for the RDBMS was registered, false otherwise
      */
     public boolean contains(String rdbms) {
-        return rdbmsFunctions.containsKey(rdbms);
+        synchronized (lazyRdbmsFunctions) {
+            return rdbmsFunctions.containsKey(rdbms) || lazyRdbmsFunctions.containsKey(rdbms);
+        }
     }
 
     /**
@@ -168,6 +183,52 @@ public final class JpqlFunctionGroup {
      * @param function The {@link JpqlFunction} to register
      */
     public void add(String rdbms, JpqlFunction function) {
-        rdbmsFunctions.put(rdbms, function);
+        synchronized (lazyRdbmsFunctions) {
+            lazyRdbmsFunctions.remove(rdbms);
+            rdbmsFunctions.put(rdbms, function);
+        }
+    }
+
+    /**
+     * Adds the {@link JpqlFunction} class with the given name for the given RDBMS to the group.
+     * The class is only loaded and instantiated through its no-arg constructor when the function for the RDBMS is requested,
+     * so function implementations of RDBMSes that are never used are not loaded at all.
+     *
+     * @param rdbms The RDBMS name for which to register the function or null to register the default function
+     * @param functionClassName The fully qualified class name of the {@link JpqlFunction} to register
+     * @param classLoader The class loader to use for loading the function class
+     * @since 1.6.9
+     */
+    public void addLazy(String rdbms, String functionClassName, ClassLoader classLoader) {
+        synchronized (lazyRdbmsFunctions) {
+            rdbmsFunctions.remove(rdbms);
+            lazyRdbmsFunctions.put(rdbms, new LazyFunction(functionClassName, classLoader));
+        }
+    }
+
+    /**
+     * A function that is instantiated on first access.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    private static final class LazyFunction {
+        private final String className;
+        private final ClassLoader classLoader;
+
+        public LazyFunction(String className, ClassLoader classLoader) {
+            this.className = className;
+            this.classLoader = classLoader;
+        }
+
+        public JpqlFunction create() {
+            try {
+                return (JpqlFunction) Class.forName(className, true, classLoader).getDeclaredConstructor().newInstance();
+            } catch (InvocationTargetException ex) {
+                throw new IllegalStateException("Could not instantiate the JPQL function " + className, ex.getCause());
+            } catch (Exception ex) {
+                throw new IllegalStateException("Could not instantiate the JPQL function " + className, ex);
+            }
+        }
     }
 }
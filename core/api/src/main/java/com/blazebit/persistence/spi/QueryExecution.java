@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.spi;
+
+/**
+ * Describes a single execution of a physical query.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ * @see QueryExecutionListener
+ */
+public interface QueryExecution {
+
+    /**
+     * Returns the role of the executed query.
+     *
+     * @return The role of the query
+     */
+    public QueryExecutionRole getRole();
+
+    /**
+     * Returns the JPQL query string of the executed query.
+     *
+     * @return The query string
+     */
+    public String getQueryString();
+
+    /**
+     * Returns a hash of the SQL that is executed for the query that can be used to group executions of the same query shape.
+     * Parameter values do not contribute to the hash. If the JPA provider can't render the SQL of a query,
+     * the hash is computed over the query string instead.
+     *
+     * @return The query shape hash
+     */
+    public int getQueryShapeHash();
+
+    /**
+     * Returns the number of bound parameter values. The elements of collection valued parameters are counted individually.
+     *
+     * @return The number of bound parameter values
+     */
+    public int getBindCount();
+
+    /**
+     * Returns the number of rows returned or, for modification queries, the number of affected rows.
+     * Returns -1 if the number of rows is unknown.
+     *
+     * @return The number of rows
+     */
+    public int getRowCount();
+
+    /**
+     * Returns the time in nanoseconds it took to build the query object.
+     * When a query object is executed multiple times, only the first execution reports the build time.
+     *
+     * @return The build time in nanoseconds
+     */
+    public long getBuildTimeNanos();
+
+    /**
+     * Returns the time in nanoseconds it took to execute the query and fetch the raw results.
+     *
+     * @return The execution time in nanoseconds
+     */
+    public long getExecutionTimeNanos();
+
+    /**
+     * Returns the time in nanoseconds it took to transform the raw results through an object builder.
+     *
+     * @return The transformation time in nanoseconds
+     */
+    public long getTransformTimeNanos();
+
+}
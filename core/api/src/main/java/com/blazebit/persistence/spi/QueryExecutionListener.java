@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.spi;
+
+/**
+ * A listener that is notified about every physical query execution of a criteria builder factory.
+ * A logical query may consist of multiple physical queries, like the count, id and object queries of a paginated query
+ * or the correlation queries executed for an entity view.
+ *
+ * Listeners are invoked synchronously on the thread that executes the query and should therefore return quickly.
+ * The registered listeners can be retrieved as array through {@link com.blazebit.persistence.CriteriaBuilderFactory#getService(Class)}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ * @see CriteriaBuilderConfiguration#registerQueryExecutionListener(QueryExecutionListener)
+ */
+public interface QueryExecutionListener {
+
+    /**
+     * Called after a query was successfully executed.
+     *
+     * @param queryExecution The query execution
+     */
+    public void onQueryExecuted(QueryExecution queryExecution);
+
+}
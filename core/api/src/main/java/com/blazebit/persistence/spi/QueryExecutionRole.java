@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.spi;
+
+/**
+ * The role a physical query plays for the logical query it was created for.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public enum QueryExecutionRole {
+
+    /**
+     * The query that produces the actual results.
+     */
+    OBJECT,
+    /**
+     * The count query of a paginated query.
+     */
+    COUNT,
+    /**
+     * The id query of a paginated query.
+     */
+    ID,
+    /**
+     * A query that loads correlated data for a batch of correlation keys.
+     */
+    CORRELATION,
+    /**
+     * A DML statement, possibly with a returning clause.
+     */
+    MODIFICATION
+
+}
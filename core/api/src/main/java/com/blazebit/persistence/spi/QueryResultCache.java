@@ -0,0 +1,98 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.spi;
+
+/**
+ * The query result cache of a criteria builder factory which can be retrieved via
+ * {@link com.blazebit.persistence.CriteriaBuilderFactory#getService(Class)} if it is enabled via
+ * {@link com.blazebit.persistence.ConfigurationProperties#QUERY_RESULT_CACHE}.
+ *
+ * Results are cached per query string, parameter values and limit/offset, and tracked against the entity types the query reads.
+ * Writing to an entity type invalidates all cached results that read the entity type or one of its subtypes.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ * @see com.blazebit.persistence.ConfigurationProperties#QUERY_RESULT_CACHE
+ * @see com.blazebit.persistence.ConfigurationProperties#QUERY_RESULT_CACHE_ENABLED
+ */
+public interface QueryResultCache {
+
+    /**
+     * Invalidates all cached results that read the given entity type.
+     * This is meant for changes that are already committed. Changes that are part of a running transaction should be
+     * signaled via {@link #beginInvalidation(Class)} and {@link #endInvalidation(Class)} instead.
+     *
+     * @param entityClass The entity type
+     */
+    public void invalidate(Class<?> entityClass);
+
+    /**
+     * Invalidates all cached results that read the given entity type and suspends caching of results for the entity type
+     * until {@link #endInvalidation(Class)} is invoked. This is usually invoked before flushing a change and the end is signaled after transaction completion.
+     *
+     * @param entityClass The entity type
+     */
+    public void beginInvalidation(Class<?> entityClass);
+
+    /**
+     * Invalidates all cached results that read the given entity type and ends a suspension started by {@link #beginInvalidation(Class)}.
+     *
+     * @param entityClass The entity type
+     */
+    public void endInvalidation(Class<?> entityClass);
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear();
+
+    /**
+     * Returns the number of query executions that could be served from the cache.
+     *
+     * @return The hit count
+     */
+    public long getHitCount();
+
+    /**
+     * Returns the number of cacheable query executions that could not be served from the cache.
+     *
+     * @return The miss count
+     */
+    public long getMissCount();
+
+    /**
+     * Returns the number of query results that were put into the cache.
+     *
+     * @return The put count
+     */
+    public long getPutCount();
+
+    /**
+     * Returns the number of entity type invalidations.
+     *
+     * @return The invalidation count
+     */
+    public long getInvalidationCount();
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return The number of cached results
+     */
+    public int getSize();
+
+}
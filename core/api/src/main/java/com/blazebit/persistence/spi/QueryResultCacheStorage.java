@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.spi;
+
+/**
+ * The storage backing the query result cache of a criteria builder factory.
+ * Keys and values are opaque to the storage, which may evict entries at any time.
+ * Implementations must be thread-safe.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ * @see CriteriaBuilderConfiguration#setQueryResultCacheStorage(QueryResultCacheStorage)
+ */
+public interface QueryResultCacheStorage {
+
+    /**
+     * Returns the value stored for the given key or <code>null</code>.
+     *
+     * @param key The key
+     * @return The stored value or <code>null</code>
+     */
+    public Object get(Object key);
+
+    /**
+     * Stores the given value for the given key.
+     *
+     * @param key The key
+     * @param value The value
+     */
+    public void put(Object key, Object value);
+
+    /**
+     * Removes the value stored for the given key.
+     *
+     * @param key The key
+     */
+    public void remove(Object key);
+
+    /**
+     * Returns the number of stored entries.
+     *
+     * @return The number of stored entries
+     */
+    public int size();
+
+    /**
+     * Removes all stored entries.
+     */
+    public void clear();
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.spi;
+
+import javax.persistence.EntityManager;
+
+/**
+ * Provides the entity managers for read-only queries, which are usually connected to a read replica of the database.
+ * Read-only queries are created via {@link com.blazebit.persistence.CriteriaBuilderFactory#createReadOnly(EntityManager, Class, String)}
+ * or {@link com.blazebit.persistence.CriteriaBuilder#copyReadOnly()}.
+ *
+ * Read-only queries that are created while the given entity manager is joined to a transaction are never routed to the provider,
+ * so that a transaction never reads stale data from a replica after writing.
+ * The lifecycle of the returned entity manager is managed by the provider. Implementations must be thread-safe.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ * @see CriteriaBuilderConfiguration#setReadOnlyEntityManagerProvider(ReadOnlyEntityManagerProvider)
+ */
+public interface ReadOnlyEntityManagerProvider {
+
+    /**
+     * Returns the entity manager that should be used for a read-only query instead of the given entity manager
+     * or <code>null</code> if the query should run on the given entity manager.
+     *
+     * @param entityManager The entity manager for which a read-only query is created
+     * @return The entity manager for the read-only query or <code>null</code>
+     */
+    public EntityManager getReadOnlyEntityManager(EntityManager entityManager);
+}
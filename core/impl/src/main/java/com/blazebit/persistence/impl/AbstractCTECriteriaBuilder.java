@@ -108,7 +108,7 @@ public abstract class AbstractCTECriteriaBuilder<Y, X extends BaseCTECriteriaBui
         Set<JoinNode> keyRestrictedLeftJoins = getKeyRestrictedLeftJoins();
         Query query;
         
-        if (hasLimit() && !isMainQuery && !mainQuery.jpaProvider.supportsSubqueryLimitOffset() || joinManager.hasEntityFunctions() || !keyRestrictedLeftJoins.isEmpty()) {
+        if (hasLimit() && !isMainQuery && !mainQuery.jpaProvider.supportsSubqueryLimitOffset() || joinManager.hasEntityFunctions() || !keyRestrictedLeftJoins.isEmpty() || !queryHints.isEmpty()) {
             // We need to change the underlying sql when doing a limit
             query = em.createQuery(baseQueryString);
 
@@ -141,7 +141,8 @@ public abstract class AbstractCTECriteriaBuilder<Y, X extends BaseCTECriteriaBui
                     limit,
                     offset,
                     keyRestrictedLeftJoinAliases,
-                    entityFunctionNodes
+                    entityFunctionNodes,
+                    getQueryHints(query)
             );
 
             query = new CustomSQLQuery(
@@ -19,6 +19,7 @@ package com.blazebit.persistence.impl;
 import com.blazebit.persistence.BaseFromQueryBuilder;
 import com.blazebit.persistence.BaseSubqueryBuilder;
 import com.blazebit.persistence.CTEBuilder;
+import com.blazebit.persistence.CTEMaterialization;
 import com.blazebit.persistence.CaseWhenStarterBuilder;
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.CriteriaBuilderFactory;
@@ -36,6 +37,8 @@ import com.blazebit.persistence.MultipleSubqueryInitiator;
 import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.Path;
 import com.blazebit.persistence.PredicateBuilder;
+import com.blazebit.persistence.QueryDeadline;
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.RestrictionBuilder;
 import com.blazebit.persistence.ReturningModificationCriteriaBuilderFactory;
 import com.blazebit.persistence.SelectRecursiveCTECriteriaBuilder;
@@ -66,6 +69,14 @@ import com.blazebit.persistence.impl.query.CustomSQLTypedQuery;
 import com.blazebit.persistence.impl.query.DefaultQuerySpecification;
 import com.blazebit.persistence.impl.query.EntityFunctionNode;
 import com.blazebit.persistence.impl.query.ObjectBuilderTypedQuery;
+import com.blazebit.persistence.impl.query.QueryDeadlineTypedQuery;
+import com.blazebit.persistence.impl.query.QueryExecutionListenerQuery;
+import com.blazebit.persistence.impl.query.QueryExecutionListenerTypedQuery;
+import com.blazebit.persistence.impl.query.QueryExplainer;
+import com.blazebit.persistence.impl.query.QueryResultCacheImpl;
+import com.blazebit.persistence.impl.query.QueryResultCacheInvalidatingQuery;
+import com.blazebit.persistence.impl.query.QueryResultCacheInvalidatingTypedQuery;
+import com.blazebit.persistence.impl.query.QueryResultCacheTypedQuery;
 import com.blazebit.persistence.impl.query.QuerySpecification;
 import com.blazebit.persistence.impl.query.TypedQueryWrapper;
 import com.blazebit.persistence.impl.transform.ExpressionModifierVisitor;
@@ -95,6 +106,7 @@ import com.blazebit.persistence.parser.expression.StringLiteral;
 import com.blazebit.persistence.parser.expression.Subquery;
 import com.blazebit.persistence.parser.expression.SubqueryExpression;
 import com.blazebit.persistence.parser.expression.SubqueryExpressionFactory;
+import com.blazebit.persistence.parser.expression.VisitorAdapter;
 import com.blazebit.persistence.parser.expression.modifier.ExpressionModifier;
 import com.blazebit.persistence.parser.predicate.Predicate;
 import com.blazebit.persistence.parser.util.ExpressionUtils;
@@ -108,6 +120,8 @@ import com.blazebit.persistence.spi.ExtendedManagedType;
 import com.blazebit.persistence.spi.ExtendedQuerySupport;
 import com.blazebit.persistence.spi.JpqlMacro;
 import com.blazebit.persistence.spi.LateralStyle;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 import com.blazebit.persistence.spi.ServiceProvider;
 import com.blazebit.persistence.spi.SetOperationType;
 import com.blazebit.persistence.spi.ValuesStrategy;
@@ -142,6 +156,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  *
@@ -195,6 +210,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
     protected boolean fromClassExplicitlySet = false;
 
     protected final List<ExpressionTransformerGroup<?>> transformerGroups;
+    protected final List<QueryHint> queryHints;
 
     // Cache
     protected String cachedQueryString;
@@ -240,6 +256,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         this.aliasManager = builder.aliasManager;
         this.expressionFactory = builder.expressionFactory;
         this.transformerGroups = builder.transformerGroups;
+        this.queryHints = builder.queryHints;
         this.resultType = builder.resultType;
     }
 
@@ -289,6 +306,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
                 new SimpleTransformerGroup(new OuterFunctionVisitor(joinManager)),
                 new SimpleTransformerGroup(new SubqueryRecursiveExpressionVisitor()),
                 new SizeTransformerGroup(sizeTransformationVisitor, this, orderByManager, selectManager, joinManager, groupByManager, parameterManager));
+        this.queryHints = new ArrayList<>();
         this.resultType = builder.resultType;
 
         applyFrom(builder, isMainQuery, true, true, true, Collections.<ClauseType>emptySet(), Collections.<JoinNode>emptySet(), joinManagerMapping, copyContext);
@@ -360,6 +378,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
                 new SimpleTransformerGroup(new OuterFunctionVisitor(joinManager)),
                 new SimpleTransformerGroup(new SubqueryRecursiveExpressionVisitor()),
                 new SizeTransformerGroup(sizeTransformationVisitor, this, orderByManager, selectManager, joinManager, groupByManager, parameterManager));
+        this.queryHints = new ArrayList<>();
         this.resultType = resultClazz;
         
         this.finalSetOperationBuilder = finalSetOperationBuilder;
@@ -398,6 +417,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
 
         setFirstResult(builder.firstResult);
         setMaxResults(builder.maxResults);
+        queryHints.addAll(builder.queryHints);
 
         // TODO: select aliases that are ordered by?
         // TODO: set operations?
@@ -474,6 +494,42 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
     public boolean isCacheable() {
         return this.mainQuery.getQueryConfiguration().isCacheable();
     }
+
+    @SuppressWarnings("unchecked")
+    public BuilderType setFetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Invalid negative fetch size: " + fetchSize);
+        }
+        this.mainQuery.getMutableQueryConfiguration().setFetchSize(fetchSize);
+        return (BuilderType) this;
+    }
+
+    public int getFetchSize() {
+        return this.mainQuery.getQueryConfiguration().getFetchSize();
+    }
+
+    public BuilderType withTimeout(long timeout, TimeUnit unit) {
+        return withDeadline(QueryDeadline.after(timeout, unit));
+    }
+
+    @SuppressWarnings("unchecked")
+    public BuilderType withDeadline(QueryDeadline deadline) {
+        this.mainQuery.getMutableQueryConfiguration().setDeadline(deadline);
+        return (BuilderType) this;
+    }
+
+    public QueryDeadline getDeadline() {
+        return this.mainQuery.getQueryConfiguration().getDeadline();
+    }
+
+    protected final <T> TypedQuery<T> applyDeadline(TypedQuery<T> query) {
+        QueryDeadline deadline = mainQuery.getQueryConfiguration().getDeadline();
+        if (deadline == null) {
+            return query;
+        }
+        // The remaining time is only known right before the execution, so we can't apply it while building the query
+        return new QueryDeadlineTypedQuery<>(query, deadline, mainQuery.jpaProvider);
+    }
     
     public Map<String, String> getProperties() {
         return this.mainQuery.getQueryConfiguration().getProperties();
@@ -506,6 +562,12 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         return mainQuery.cteManager.hasCte(mainQuery.metamodel.entity(cte));
     }
 
+    @SuppressWarnings("unchecked")
+    public BuilderType setCteMaterialization(Class<?> cteClass, CTEMaterialization materialization) {
+        mainQuery.cteManager.setMaterialization(mainQuery.metamodel.entity(cteClass), materialization);
+        return (BuilderType) this;
+    }
+
     public FullSelectCTECriteriaBuilder<BuilderType> with(Class<?> cteClass) {
         Boolean inlineCtesEnabled = mainQuery.getQueryConfiguration().getInlineCtesEnabled();
         return with(cteClass, inlineCtesEnabled == null ? !mainQuery.dbmsDialect.supportsWithClause() : inlineCtesEnabled);
@@ -1196,6 +1258,25 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         return firstResult;
     }
 
+    @SuppressWarnings("unchecked")
+    public BuilderType hint(QueryHint queryHint) {
+        if (queryHint == null) {
+            throw new NullPointerException("queryHint");
+        }
+        mainQuery.assertSupportsAdvancedSql("Illegal use of query hints!");
+        prepareForModification(null);
+        queryHints.add(queryHint);
+        return (BuilderType) this;
+    }
+
+    public boolean isMainQuery() {
+        return isMainQuery;
+    }
+
+    public boolean isReadOnly() {
+        return mainQuery.isReadOnly();
+    }
+
     public int getMaxResults() {
         return maxResults;
     }
@@ -2858,15 +2939,21 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
             if (isCacheable()) {
                 mainQuery.jpaProvider.setCacheable(query);
             }
+            if (getFetchSize() > 0) {
+                mainQuery.jpaProvider.setFetchSize(query, getFetchSize());
+            }
 
             parameterManager.parameterizeQuery(query);
-            return applyObjectBuilder(query);
+            return applyObjectBuilder(applyQueryResultCache(query, lateralSb));
         }
 
         TypedQuery<QueryResultType> baseQuery = (TypedQuery<QueryResultType>) em.createQuery(baseQueryString, selectManager.getExpectedQueryResultType());
         if (isCacheable()) {
             mainQuery.jpaProvider.setCacheable(baseQuery);
         }
+        if (getFetchSize() > 0) {
+            mainQuery.jpaProvider.setFetchSize(baseQuery, getFetchSize());
+        }
         Set<String> parameterListNames = parameterManager.getParameterListNames(baseQuery);
         String limit = null;
         String offset = null;
@@ -2886,7 +2973,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         List<CTENode> ctes = shouldRenderCteNodes ? getCteNodes(false) : Collections.<CTENode>emptyList();
         QuerySpecification querySpecification = new CustomQuerySpecification(
                 this, baseQuery, parameterManager.getParameterImpls(), parameterListNames, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes,
-                mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null
+                mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null, getQueryHints(baseQuery)
         );
 
         TypedQuery<QueryResultType> query = new CustomSQLTypedQuery<QueryResultType>(
@@ -2909,11 +2996,146 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         }
 
         parameterManager.parameterizeQuery(query);
-        return applyObjectBuilder(query);
+        return applyObjectBuilder(applyQueryResultCache(query, lateralSb));
+    }
+
+    protected final TypedQuery<?> applyQueryResultCache(TypedQuery<?> query, StringBuilder lateralSb) {
+        QueryResultCacheImpl queryResultCache = cbf.getQueryResultCache();
+        if (queryResultCache == null || !isMainQuery || lateralSb != null || !checkSetBuilderEnded) {
+            return query;
+        }
+        if (statementType != DbmsStatementType.SELECT || finalSetOperationBuilder != null) {
+            return query;
+        }
+        // Executing a query that contains modification CTEs is considered a write, just like for modification queries
+        Set<Class<?>> modifiedEntityClasses = new HashSet<>();
+        collectQueryResultCacheModifiedEntityClasses(modifiedEntityClasses);
+        if (!modifiedEntityClasses.isEmpty()) {
+            return new QueryResultCacheInvalidatingTypedQuery<>(query, queryResultCache, em, modifiedEntityClasses.toArray(new Class<?>[modifiedEntityClasses.size()]));
+        }
+        if (!mainQuery.getQueryConfiguration().isQueryResultCacheEnabled()) {
+            return query;
+        }
+        Set<Class<?>> entityClasses = new HashSet<>();
+        if (!collectQueryResultCacheEntityClasses(entityClasses)) {
+            return query;
+        }
+        for (CTEInfo cteInfo : mainQuery.cteManager.getCtes()) {
+            if (!collectQueryResultCacheEntityClasses(cteInfo, entityClasses)) {
+                return query;
+            }
+        }
+        return new QueryResultCacheTypedQuery<>(query, queryResultCache, em, getExternalQueryString(), queryResultCache.getEntityTypeStates(entityClasses));
+    }
+
+    protected final <T> TypedQuery<T> applyQueryResultCacheInvalidation(TypedQuery<T> query) {
+        QueryResultCacheImpl queryResultCache = cbf.getQueryResultCache();
+        if (queryResultCache == null) {
+            return query;
+        }
+        Set<Class<?>> modifiedEntityClasses = new HashSet<>();
+        collectQueryResultCacheModifiedEntityClasses(modifiedEntityClasses);
+        if (modifiedEntityClasses.isEmpty()) {
+            return query;
+        }
+        return new QueryResultCacheInvalidatingTypedQuery<>(query, queryResultCache, em, modifiedEntityClasses.toArray(new Class<?>[modifiedEntityClasses.size()]));
+    }
+
+    protected final Query applyQueryResultCacheInvalidation(Query query) {
+        QueryResultCacheImpl queryResultCache = cbf.getQueryResultCache();
+        if (queryResultCache == null) {
+            return query;
+        }
+        Set<Class<?>> modifiedEntityClasses = new HashSet<>();
+        collectQueryResultCacheModifiedEntityClasses(modifiedEntityClasses);
+        if (modifiedEntityClasses.isEmpty()) {
+            return query;
+        }
+        return new QueryResultCacheInvalidatingQuery(query, queryResultCache, em, modifiedEntityClasses.toArray(new Class<?>[modifiedEntityClasses.size()]));
+    }
+
+    /**
+     * Collects the entity types written by the modification CTEs of this query into the given set.
+     *
+     * @param entityClasses The set to collect entity types into
+     */
+    void collectQueryResultCacheModifiedEntityClasses(Set<Class<?>> entityClasses) {
+        if (mainQuery.cteManager.hasCtes()) {
+            for (CTEInfo cteInfo : mainQuery.cteManager.getCtes()) {
+                if (cteInfo.nonRecursiveCriteriaBuilder instanceof AbstractModificationCriteriaBuilder<?, ?, ?>) {
+                    entityClasses.add(((AbstractModificationCriteriaBuilder<?, ?, ?>) cteInfo.nonRecursiveCriteriaBuilder).entityType.getJavaType());
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the entity types read by this query into the given set.
+     *
+     * @param entityClasses The set to collect entity types into
+     * @return Whether the result of the query may be cached
+     */
+    boolean collectQueryResultCacheEntityClasses(final Set<Class<?>> entityClasses) {
+        final boolean[] cacheable = { true };
+        joinManager.acceptVisitor(new JoinNodeVisitor() {
+            @Override
+            public void visit(JoinNode node) {
+                Class<?> javaType = node.getJavaType();
+                if (mainQuery.metamodel.getEntity(javaType) != null) {
+                    entityClasses.add(javaType);
+                }
+                if (node.getInlineCte() != null && !collectQueryResultCacheEntityClasses(node.getInlineCte(), entityClasses)) {
+                    cacheable[0] = false;
+                }
+            }
+        });
+        applyVisitor(new VisitorAdapter() {
+            @Override
+            public void visit(SubqueryExpression expression) {
+                if (expression.getSubquery() instanceof AbstractCommonQueryBuilder<?, ?, ?, ?, ?>) {
+                    if (!((AbstractCommonQueryBuilder<?, ?, ?, ?, ?>) expression.getSubquery()).collectQueryResultCacheEntityClasses(entityClasses)) {
+                        cacheable[0] = false;
+                    }
+                }
+            }
+        });
+        return cacheable[0];
+    }
+
+    private static boolean collectQueryResultCacheEntityClasses(CTEInfo cteInfo, Set<Class<?>> entityClasses) {
+        if (!cteInfo.nonRecursiveCriteriaBuilder.collectQueryResultCacheEntityClasses(entityClasses)) {
+            return false;
+        }
+        return cteInfo.recursiveCriteriaBuilder == null || cteInfo.recursiveCriteriaBuilder.collectQueryResultCacheEntityClasses(entityClasses);
     }
 
     protected boolean needsSqlReplacement(Set<JoinNode> keyRestrictedLeftJoins) {
-        return isMainQuery && mainQuery.cteManager.hasCtes() || joinManager.hasEntityFunctions() || !keyRestrictedLeftJoins.isEmpty() || !isMainQuery && hasLimit();
+        return isMainQuery && mainQuery.cteManager.hasCtes() || joinManager.hasEntityFunctions() || !keyRestrictedLeftJoins.isEmpty() || !isMainQuery && hasLimit() || !queryHints.isEmpty();
+    }
+
+    protected List<QueryHint> getQueryHints(Query baseQuery) {
+        if (queryHints.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<QueryHint> resolvedQueryHints = new ArrayList<>(queryHints.size());
+        for (QueryHint queryHint : queryHints) {
+            if (queryHint.getType() == QueryHint.Type.DIRECTIVE) {
+                resolvedQueryHints.add(queryHint);
+                continue;
+            }
+            if (!(aliasManager.getAliasInfoForBottomLevel(queryHint.getAlias()) instanceof JoinAliasInfo)) {
+                throw new IllegalArgumentException("The query hint " + queryHint + " refers to the alias '" + queryHint.getAlias() + "' which is not a from node alias of the query!");
+            }
+            String sqlAlias;
+            try {
+                sqlAlias = cbf.getExtendedQuerySupport().getSqlAlias(em, baseQuery, queryHint.getAlias(), 0);
+            } catch (IllegalArgumentException ex) {
+                // The from node is not part of this query e.g. because it was omitted for the id query of a paginated query
+                continue;
+            }
+            resolvedQueryHints.add(queryHint.withAlias(sqlAlias));
+        }
+        return resolvedQueryHints;
     }
 
     protected List<String> getKeyRestrictedLeftJoinAliases(Query baseQuery, Set<JoinNode> keyRestrictedLeftJoins, Set<ClauseType> clauseExclusions) {
@@ -3407,9 +3629,22 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         }
 
         StringBuilder sb = new StringBuilder();
+        // Detecting identical CTEs requires rendering every CTE query, so this is opt-in
+        Map<List<Object>, CTEInfo> structurallyIdenticalCtes = mainQuery.getQueryConfiguration().isCteReuseEnabled() ? new HashMap<List<Object>, CTEInfo>() : null;
 
         for (CTEInfo cteInfo : mainQuery.cteManager.getCtes()) {
             if (!cteInfo.inline) {
+                CTEMaterialization materialization = mainQuery.cteManager.getMaterialization(cteInfo);
+                List<Object> structureKey = structurallyIdenticalCtes == null ? null : getCteStructureKey(cteInfo, materialization);
+                if (structureKey != null) {
+                    CTEInfo identicalCteInfo = structurallyIdenticalCtes.get(structureKey);
+                    if (identicalCteInfo != null) {
+                        // The same CTE query is built multiple times e.g. by different CTE providers, so let the DBMS compute it only once
+                        cteNodes.add(createReusingCteNode(sb, cteInfo, identicalCteInfo, materialization));
+                        continue;
+                    }
+                    structurallyIdenticalCtes.put(structureKey, cteInfo);
+                }
                 // Build queries and add as participating queries
                 Map<DbmsModificationState, String> modificationStates = cteInfo.nonRecursiveCriteriaBuilder.getModificationStates(explicitVersionEntities);
                 Query nonRecursiveQuery = cteInfo.nonRecursiveCriteriaBuilder.getQuery(modificationStates);
@@ -3448,16 +3683,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
                     sb.setLength(0);
                     sb.append(cteName);
                     sb.append('(');
-
-                    for (int i = 0; i < columnNames.size(); i++) {
-                        String column = columnNames.get(i);
-                        if (i != 0) {
-                            sb.append(", ");
-                        }
-
-                        sb.append(column);
-                    }
-
+                    appendColumnNames(sb, columnNames);
                     sb.append(')');
                     head = sb.toString();
                     aliases = null;
@@ -3504,7 +3730,8 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
                         recursiveQuerySpecification,
                         nonRecursiveTableNameRemappings,
                         recursiveTableNameRemappings,
-                        nonRecursiveWithClauseSuffix
+                        nonRecursiveWithClauseSuffix,
+                        materialization
                 ));
             }
         }
@@ -3512,6 +3739,59 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         return cteNodes;
     }
 
+    /**
+     * Returns a key that is equal for CTEs which produce the same rows or <code>null</code> if the CTE can't be reused.
+     * Reusing is limited to non-recursive select CTEs with a head, as the columns of the reused CTE are mapped by position.
+     * DBMS that emulate non-recursive CTEs through recursive ones are excluded, as e.g. H2 fails to resolve the columns of such a CTE when another CTE refers to it.
+     *
+     * @param cteInfo The CTE
+     * @param materialization The materialization of the CTE
+     * @return The structure key or <code>null</code>
+     */
+    private List<Object> getCteStructureKey(CTEInfo cteInfo, CTEMaterialization materialization) {
+        if (cteInfo.recursive || !(cteInfo.nonRecursiveCriteriaBuilder instanceof AbstractCTECriteriaBuilder<?, ?, ?, ?>)
+                || !mainQuery.dbmsDialect.supportsWithClauseHead() || !mainQuery.dbmsDialect.supportsNonRecursiveWithClause()) {
+            return null;
+        }
+        AbstractCommonQueryBuilder<?, ?, ?, ?, ?> cteBuilder = cteInfo.nonRecursiveCriteriaBuilder;
+        List<Object> key = new ArrayList<>(6);
+        // The select items are rendered in the order of the column names, so equal queries produce the same columns by position
+        key.add(cteBuilder.getBaseQueryStringWithCheck(null, null));
+        key.add(cteBuilder.firstResult);
+        key.add(cteBuilder.maxResults);
+        key.add(new ArrayList<>(cteBuilder.queryHints));
+        key.add(materialization);
+        // Duplicates are rendered as a select of the bound attributes of the first CTE, so the bound attributes must match
+        key.add(new ArrayList<>(cteInfo.attributes));
+        return key;
+    }
+
+    private CTENode createReusingCteNode(StringBuilder sb, CTEInfo cteInfo, CTEInfo reusedCteInfo, CTEMaterialization materialization) {
+        sb.setLength(0);
+        sb.append(cteInfo.cteType.getName());
+        sb.append('(');
+        appendColumnNames(sb, cteInfo.columnNames);
+        sb.append(')');
+        String head = sb.toString();
+
+        sb.setLength(0);
+        sb.append("select ");
+        appendColumnNames(sb, reusedCteInfo.columnNames);
+        sb.append(" from ");
+        sb.append(reusedCteInfo.cteType.getName());
+        return new CTENode(cteInfo.name, cteInfo.cteType.getName(), head, sb.toString(), materialization);
+    }
+
+    private static void appendColumnNames(StringBuilder sb, List<String> columnNames) {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (i != 0) {
+                sb.append(", ");
+            }
+
+            sb.append(columnNames.get(i));
+        }
+    }
+
     protected Query getLateralQuery(StringBuilder lateralSb, JoinNode lateralJoinNode) {
         return getTypedQuery(lateralSb, lateralJoinNode);
     }
@@ -4002,5 +4282,33 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
             return (TypedQuery<QueryResultType>) query;
         }
     }
+
+    protected final QueryExecutionRole getQueryExecutionRole(QueryExecutionRole defaultRole) {
+        QueryExecutionRole configuredRole = mainQuery.getQueryConfiguration().getQueryExecutionRole();
+        if (configuredRole != null && defaultRole == QueryExecutionRole.OBJECT) {
+            return configuredRole;
+        }
+        return defaultRole;
+    }
+
+    protected final <T> TypedQuery<T> applyQueryExecutionListeners(TypedQuery<T> query, QueryExecutionRole defaultRole, String queryString, long buildStartNanos) {
+        QueryExecutionListener[] listeners = cbf.getQueryExecutionListeners();
+        long slowQueryExplainThresholdNanos = cbf.getSlowQueryExplainThresholdNanos();
+        if (query == null || listeners.length == 0 && slowQueryExplainThresholdNanos < 0L) {
+            return query;
+        }
+        QueryExplainer slowQueryExplainer = slowQueryExplainThresholdNanos < 0L ? null : new QueryExplainer(this);
+        return new QueryExecutionListenerTypedQuery<>(query, listeners, getQueryExecutionRole(defaultRole), queryString, cbf.getExtendedQuerySupport(), em, System.nanoTime() - buildStartNanos, slowQueryExplainer, slowQueryExplainThresholdNanos);
+    }
+
+    protected final Query applyQueryExecutionListeners(Query query, QueryExecutionRole defaultRole, String queryString, long buildStartNanos) {
+        // Only select queries are sampled for logging the plan of slow queries
+        QueryExecutionListener[] listeners = cbf.getQueryExecutionListeners();
+        if (listeners.length == 0) {
+            return query;
+        }
+        return new QueryExecutionListenerQuery(query, listeners, getQueryExecutionRole(defaultRole), queryString, cbf.getExtendedQuerySupport(), em, System.nanoTime() - buildStartNanos);
+    }
+
     // TODO: needs equals-hashCode implementation
 }
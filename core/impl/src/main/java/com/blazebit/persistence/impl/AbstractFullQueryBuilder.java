@@ -18,6 +18,8 @@ package com.blazebit.persistence.impl;
 
 import com.blazebit.persistence.CaseWhenStarterBuilder;
 import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.ExplainPlan;
 import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.HavingOrBuilder;
 import com.blazebit.persistence.JoinType;
@@ -44,6 +46,7 @@ import com.blazebit.persistence.impl.query.CTENode;
 import com.blazebit.persistence.impl.query.CustomQuerySpecification;
 import com.blazebit.persistence.impl.query.CustomSQLTypedQuery;
 import com.blazebit.persistence.impl.query.EntityFunctionNode;
+import com.blazebit.persistence.impl.query.QueryExplainer;
 import com.blazebit.persistence.impl.query.QuerySpecification;
 import com.blazebit.persistence.impl.query.TypedQueryWrapper;
 import com.blazebit.persistence.parser.expression.Expression;
@@ -55,7 +58,9 @@ import com.blazebit.persistence.parser.util.JpaMetamodelUtils;
 import com.blazebit.persistence.parser.util.TypeUtils;
 import com.blazebit.persistence.spi.AttributeAccessor;
 import com.blazebit.persistence.spi.JpaMetamodelAccessor;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 
+import javax.persistence.EntityManager;
 import javax.persistence.Parameter;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
@@ -157,6 +162,8 @@ public abstract class AbstractFullQueryBuilder<T, X extends FullQueryBuilder<T,
         prepareAndCheck();
         MainQuery mainQuery = cbf.createMainQuery(getEntityManager());
         mainQuery.copyConfiguration(this.mainQuery.getQueryConfiguration());
+        // The copy runs on the same entity manager, so it is read-only as well
+        mainQuery.setReadOnly(this.mainQuery.isReadOnly());
         CriteriaBuilderImpl<Y> newBuilder = new CriteriaBuilderImpl<Y>(mainQuery, true, resultClass, null);
         newBuilder.fromClassExplicitlySet = true;
 
@@ -165,6 +172,53 @@ public abstract class AbstractFullQueryBuilder<T, X extends FullQueryBuilder<T,
         return newBuilder;
     }
 
+    /**
+     * Creates a full copy of this builder that is bound to the given entity manager.
+     * Contrary to {@link #copy(Class)}, the copy retains the result type, the select object builder and the distinct flag,
+     * which makes it possible to use a fully built query builder as template for further queries of the same shape.
+     * A template that is kept for a longer time should be created with a <code>null</code> entity manager,
+     * so that it doesn't keep a persistence context alive. Such a template must only be used for creating further copies.
+     *
+     * @param entityManager The entity manager to use for the copy or <code>null</code>
+     * @return The copied builder
+     * @since 1.6.9
+     */
+    public CriteriaBuilderImpl<T> copyTemplate(EntityManager entityManager) {
+        if (createdPaginatedBuilder) {
+            throw new IllegalStateException("Calling copyTemplate() on a CriteriaBuilder that was transformed to a PaginatedCriteriaBuilder is not allowed.");
+        }
+        return copyTemplate(cbf.createMainQuery(entityManager));
+    }
+
+    public CriteriaBuilderImpl<T> copyReadOnly() {
+        if (createdPaginatedBuilder) {
+            throw new IllegalStateException("Calling copyReadOnly() on a CriteriaBuilder that was transformed to a PaginatedCriteriaBuilder is not allowed.");
+        }
+        if (mainQuery.isReadOnly()) {
+            // Route only once, the entity manager of a read-only builder might already be the one of a replica
+            MainQuery readOnlyMainQuery = cbf.createMainQuery(em);
+            readOnlyMainQuery.setReadOnly(true);
+            return copyTemplate(readOnlyMainQuery);
+        }
+        return copyTemplate(cbf.createReadOnlyMainQuery(em));
+    }
+
+    private CriteriaBuilderImpl<T> copyTemplate(MainQuery mainQuery) {
+        prepareAndCheck();
+        mainQuery.copyConfiguration(this.mainQuery.getQueryConfiguration());
+        CriteriaBuilderImpl<T> newBuilder = new CriteriaBuilderImpl<T>(mainQuery, true, resultType, null);
+        // The roots are copied from this builder, so we have to remove the implicit root for an entity result type
+        if (!newBuilder.joinManager.getRoots().isEmpty()) {
+            newBuilder.joinManager.removeRoot();
+        }
+        newBuilder.fromClassExplicitlySet = true;
+
+        newBuilder.applyFrom(this, true, true, true, true, Collections.<ClauseType>emptySet(), Collections.<JoinNode>emptySet(), new IdentityHashMap<JoinManager, JoinManager>(), ExpressionCopyContext.EMPTY);
+        newBuilder.selectManager.copyObjectBuilder(selectManager);
+
+        return newBuilder;
+    }
+
     @Override
     public CriteriaBuilder<Object[]> createPageIdQuery(int firstResult, int maxResults, String identifierExpression) {
         return createPageIdQuery(null, firstResult, maxResults, getIdentifierExpressionsToUse(identifierExpression, null));
@@ -638,14 +692,20 @@ public abstract class AbstractFullQueryBuilder<T, X extends FullQueryBuilder<T,
 
     @Override
     public TypedQuery<Long> getCountQuery() {
-        prepareAndCheck();
-        return getCountQuery(getCountQueryStringWithoutCheck(Long.MAX_VALUE), useCountWrapper(true));
+        return getCountQuery(Long.MAX_VALUE);
+    }
+
+    @Override
+    public List<ExplainPlan> getExplainPlan(ExplainOptions explainOptions) {
+        return Collections.singletonList(new QueryExplainer(this).explain(getQuery(), getQueryExecutionRole(QueryExecutionRole.OBJECT), getQueryString(), explainOptions));
     }
 
     @Override
     public TypedQuery<Long> getCountQuery(long maximumCount) {
+        long buildStart = System.nanoTime();
         prepareAndCheck();
-        return getCountQuery(getCountQueryStringWithoutCheck(maximumCount), useCountWrapper(true));
+        String countQueryString = getCountQueryStringWithoutCheck(maximumCount);
+        return applyQueryExecutionListeners(applyDeadline(getCountQuery(countQueryString, useCountWrapper(true))), QueryExecutionRole.COUNT, countQueryString, buildStart);
     }
 
     protected TypedQuery<Long> getCountQuery(String countQueryString, boolean useCountWrapper) {
@@ -653,7 +713,7 @@ public abstract class AbstractFullQueryBuilder<T, X extends FullQueryBuilder<T,
         Set<JoinNode> keyRestrictedLeftJoins = getKeyRestrictedLeftJoins();
         Set<JoinNode> alwaysIncludedNodes = getIdentifierExpressionsToUseNonRootJoinNodes();
         List<JoinNode> entityFunctions = null;
-        boolean normalQueryMode = !useCountWrapper && (!isMainQuery || (!mainQuery.cteManager.hasCtes() && (entityFunctions = joinManager.getEntityFunctions(COUNT_QUERY_GROUP_BY_CLAUSE_EXCLUSIONS, true, alwaysIncludedNodes)).isEmpty() && keyRestrictedLeftJoins.isEmpty()));
+        boolean normalQueryMode = !useCountWrapper && (!isMainQuery || (!mainQuery.cteManager.hasCtes() && (entityFunctions = joinManager.getEntityFunctions(COUNT_QUERY_GROUP_BY_CLAUSE_EXCLUSIONS, true, alwaysIncludedNodes)).isEmpty() && keyRestrictedLeftJoins.isEmpty() && queryHints.isEmpty()));
 
         Collection<Parameter<?>> parameters;
         Map<String, String> valuesParameters;
@@ -712,7 +772,7 @@ public abstract class AbstractFullQueryBuilder<T, X extends FullQueryBuilder<T,
         QuerySpecification querySpecification = new CustomQuerySpecification(
                 this, baseQuery, parameters, parameterListNames, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes,
                 mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(),
-                useCountWrapper ? getCountExampleQuery() : null
+                useCountWrapper ? getCountExampleQuery() : null, getQueryHints(baseQuery)
         );
 
         CustomSQLTypedQuery<Long> countQuery = new CustomSQLTypedQuery<>(
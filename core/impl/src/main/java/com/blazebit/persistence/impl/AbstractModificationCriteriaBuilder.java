@@ -43,6 +43,7 @@ import com.blazebit.persistence.spi.ExtendedAttribute;
 import com.blazebit.persistence.spi.ExtendedManagedType;
 import com.blazebit.persistence.spi.JoinTable;
 import com.blazebit.persistence.spi.JpaMetamodelAccessor;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 
 import javax.persistence.Query;
 import javax.persistence.Tuple;
@@ -186,7 +187,13 @@ public abstract class AbstractModificationCriteriaBuilder<T, X extends BaseModif
 
     @Override
     public Query getQuery() {
-        return getQuery(null);
+        long buildStart = System.nanoTime();
+        Query query = getQuery(null);
+        if (isMainQuery) {
+            query = applyQueryResultCacheInvalidation(query);
+            return applyQueryExecutionListeners(query, QueryExecutionRole.MODIFICATION, getBaseQueryString(null, null), buildStart);
+        }
+        return query;
     }
 
     @Override
@@ -254,6 +261,18 @@ public abstract class AbstractModificationCriteriaBuilder<T, X extends BaseModif
     public int executeUpdate() {
         return getQuery().executeUpdate();
     }
+
+    @Override
+    boolean collectQueryResultCacheEntityClasses(Set<Class<?>> entityClasses) {
+        // A query that writes data must always be executed
+        return false;
+    }
+
+    @Override
+    void collectQueryResultCacheModifiedEntityClasses(Set<Class<?>> entityClasses) {
+        entityClasses.add(entityType.getJavaType());
+        super.collectQueryResultCacheModifiedEntityClasses(entityClasses);
+    }
     
     @Override
     protected Map<DbmsModificationState, String> getModificationStates(Map<Class<?>, Map<String, DbmsModificationState>> explicitVersionEntities) {
@@ -322,6 +341,7 @@ public abstract class AbstractModificationCriteriaBuilder<T, X extends BaseModif
     }
 
     public TypedQuery<ReturningResult<Tuple>> getWithReturningQuery(String... attributes) {
+        long buildStart = System.nanoTime();
         if (attributes == null) {
             throw new NullPointerException("attributes");
         }
@@ -333,7 +353,7 @@ public abstract class AbstractModificationCriteriaBuilder<T, X extends BaseModif
         List<List<Attribute<?, ?>>> attributeList = getAndCheckAttributes(attributes);
         TypedQuery<Object[]> exampleQuery = getExampleQuery(attributeList);
         String[] returningColumns = getReturningColumns(attributeList);
-        return getExecuteWithReturningQuery(exampleQuery, baseQuery, returningColumns, new ReturningTupleObjectBuilder());
+        return applyQueryExecutionListeners(applyQueryResultCacheInvalidation(getExecuteWithReturningQuery(exampleQuery, baseQuery, returningColumns, new ReturningTupleObjectBuilder())), QueryExecutionRole.MODIFICATION, getBaseQueryString(null, null), buildStart);
     }
 
     public <Z> ReturningResult<Z> executeWithReturning(String attribute, Class<Z> type) {
@@ -342,6 +362,7 @@ public abstract class AbstractModificationCriteriaBuilder<T, X extends BaseModif
 
     @SuppressWarnings("unchecked")
     public <Z> TypedQuery<ReturningResult<Z>> getWithReturningQuery(String attribute, Class<Z> type) {
+        long buildStart = System.nanoTime();
         if (attribute == null) {
             throw new NullPointerException("attribute");
         }
@@ -365,7 +386,7 @@ public abstract class AbstractModificationCriteriaBuilder<T, X extends BaseModif
         Query baseQuery = em.createQuery(getBaseQueryStringWithCheck(null, null));
         TypedQuery<Object[]> exampleQuery = getExampleQuery(attributes);
         String[] returningColumns = getReturningColumns(attributes);
-        return getExecuteWithReturningQuery(exampleQuery, baseQuery, returningColumns, null);
+        return applyQueryExecutionListeners(applyQueryResultCacheInvalidation(getExecuteWithReturningQuery(exampleQuery, baseQuery, returningColumns, (ReturningObjectBuilder<Z>) null)), QueryExecutionRole.MODIFICATION, getBaseQueryString(null, null), buildStart);
     }
 
     public <Z> ReturningResult<Z> executeWithReturning(ReturningObjectBuilder<Z> objectBuilder) {
@@ -374,6 +395,7 @@ public abstract class AbstractModificationCriteriaBuilder<T, X extends BaseModif
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <Z> TypedQuery<ReturningResult<Z>> getWithReturningQuery(ReturningObjectBuilder<Z> objectBuilder) {
+        long buildStart = System.nanoTime();
         returningAttributes.clear();
         objectBuilder.applyReturning(this);
         List<List<Attribute<?, ?>>> attributes = getAndCheckReturningAttributes();
@@ -381,7 +403,7 @@ public abstract class AbstractModificationCriteriaBuilder<T, X extends BaseModif
         Query baseQuery = em.createQuery(getBaseQueryStringWithCheck(null, null));
         TypedQuery<Object[]> exampleQuery = getExampleQuery(attributes);
         String[] returningColumns = getReturningColumns(attributes);
-        return getExecuteWithReturningQuery(exampleQuery, baseQuery, returningColumns, objectBuilder);
+        return applyQueryExecutionListeners(applyQueryResultCacheInvalidation(getExecuteWithReturningQuery(exampleQuery, baseQuery, returningColumns, objectBuilder)), QueryExecutionRole.MODIFICATION, getBaseQueryString(null, null), buildStart);
     }
     
     protected <R> TypedQuery<ReturningResult<R>> getExecuteWithReturningQuery(TypedQuery<Object[]> exampleQuery, Query baseQuery, String[] returningColumns, ReturningObjectBuilder<R> objectBuilder) {
@@ -24,6 +24,7 @@ import javax.persistence.TypedQuery;
 import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.Queryable;
 import com.blazebit.persistence.spi.DbmsStatementType;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 
 /**
  *
@@ -50,7 +51,12 @@ public abstract class AbstractQueryBuilder<T, X extends Queryable<T, X>, Z, W, F
 
     @Override
     public TypedQuery<T> getQuery() {
-        return getTypedQuery(null, null);
+        long buildStart = System.nanoTime();
+        TypedQuery<T> query = getTypedQuery(null, null);
+        if (isMainQuery) {
+            return applyQueryExecutionListeners(applyDeadline(query), QueryExecutionRole.OBJECT, getBaseQueryString(null, null), buildStart);
+        }
+        return query;
     }
 
     @Override
@@ -45,6 +45,11 @@ public abstract class AbstractQueryConfiguration implements QueryConfiguration {
             case ConfigurationProperties.INLINE_COUNT_QUERY: return getInlineCountQueryEnabled() == null ? "auto" : Boolean.toString(getInlineCountQueryEnabled());
             case ConfigurationProperties.INLINE_CTES: return getInlineCtesEnabled() == null ? "auto" : Boolean.toString(getInlineCtesEnabled());
             case ConfigurationProperties.QUERY_PLAN_CACHE_ENABLED: return Boolean.toString(isQueryPlanCacheEnabled());
+            case ConfigurationProperties.QUERY_EXECUTION_ROLE: return getQueryExecutionRole() == null ? "auto" : getQueryExecutionRole().name();
+            case ConfigurationProperties.QUERY_RESULT_CACHE_ENABLED: return Boolean.toString(isQueryResultCacheEnabled());
+            case ConfigurationProperties.LEFT_JOIN_ELIMINATION: return Boolean.toString(isLeftJoinEliminationEnabled());
+            case ConfigurationProperties.IN_LIST_PADDING: return Boolean.toString(isInListPaddingEnabled());
+            case ConfigurationProperties.CTE_REUSE: return Boolean.toString(isCteReuseEnabled());
             default: return null;
         }
     }
@@ -66,6 +71,11 @@ public abstract class AbstractQueryConfiguration implements QueryConfiguration {
         properties.put(ConfigurationProperties.INLINE_COUNT_QUERY, getInlineCountQueryEnabled() == null ? "auto" : Boolean.toString(getInlineCountQueryEnabled()));
         properties.put(ConfigurationProperties.INLINE_CTES, getInlineCtesEnabled() == null ? "auto" : Boolean.toString(getInlineCtesEnabled()));
         properties.put(ConfigurationProperties.QUERY_PLAN_CACHE_ENABLED, Boolean.toString(isQueryPlanCacheEnabled()));
+        properties.put(ConfigurationProperties.QUERY_EXECUTION_ROLE, getQueryExecutionRole() == null ? "auto" : getQueryExecutionRole().name());
+        properties.put(ConfigurationProperties.QUERY_RESULT_CACHE_ENABLED, Boolean.toString(isQueryResultCacheEnabled()));
+        properties.put(ConfigurationProperties.LEFT_JOIN_ELIMINATION, Boolean.toString(isLeftJoinEliminationEnabled()));
+        properties.put(ConfigurationProperties.IN_LIST_PADDING, Boolean.toString(isInListPaddingEnabled()));
+        properties.put(ConfigurationProperties.CTE_REUSE, Boolean.toString(isCteReuseEnabled()));
         return properties;
     }
 
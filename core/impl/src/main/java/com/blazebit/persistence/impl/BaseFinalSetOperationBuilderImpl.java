@@ -39,6 +39,7 @@ import com.blazebit.persistence.parser.expression.StringLiteral;
 import com.blazebit.persistence.parser.util.JpaMetamodelUtils;
 import com.blazebit.persistence.spi.DbmsStatementType;
 import com.blazebit.persistence.spi.OrderByElement;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 import com.blazebit.persistence.spi.SetOperationType;
 
 import javax.persistence.Query;
@@ -448,7 +449,7 @@ public abstract class BaseFinalSetOperationBuilderImpl<T, X extends BaseFinalSet
 
         parameterManager.parameterizeQuery(query);
 
-        return applyObjectBuilder(query);
+        return applyObjectBuilder(applyQueryResultCache(query, null));
     }
 
     @Override
@@ -498,20 +499,38 @@ public abstract class BaseFinalSetOperationBuilderImpl<T, X extends BaseFinalSet
         }
     }
 
+    @Override
+    boolean collectQueryResultCacheEntityClasses(Set<Class<?>> entityClasses) {
+        if (!setOperationManager.getStartQueryBuilder().collectQueryResultCacheEntityClasses(entityClasses)) {
+            return false;
+        }
+        for (AbstractCommonQueryBuilder<?, ?, ?, ?, ?> setOperand : setOperationManager.getSetOperations()) {
+            if (!setOperand.collectQueryResultCacheEntityClasses(entityClasses)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public TypedQuery<T> getQuery() {
-        return getTypedQuery(null, null);
+        long buildStart = System.nanoTime();
+        TypedQuery<T> query = getTypedQuery(null, null);
+        if (isMainQuery) {
+            return applyQueryExecutionListeners(applyDeadline(query), QueryExecutionRole.OBJECT, getBaseQueryString(null, null), buildStart);
+        }
+        return query;
     }
 
     public List<T> getResultList() {
-        return getTypedQuery(null, null).getResultList();
+        return getQuery().getResultList();
     }
 
     public T getSingleResult() {
-        return getTypedQuery(null, null).getSingleResult();
+        return getQuery().getSingleResult();
     }
 
     public Stream<T> getResultStream() {
-        return getTypedQuery(null, null).getResultStream();
+        return getQuery().getResultStream();
     }
 }
@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.impl;
 
+import com.blazebit.persistence.CTEMaterialization;
 import com.blazebit.persistence.FullSelectCTECriteriaBuilder;
 import com.blazebit.persistence.LeafOngoingFinalSetOperationCTECriteriaBuilder;
 import com.blazebit.persistence.ReturningModificationCriteriaBuilderFactory;
@@ -27,6 +28,7 @@ import com.blazebit.persistence.parser.util.JpaMetamodelUtils;
 import javax.persistence.metamodel.EntityType;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -42,12 +44,14 @@ public class CTEManager extends CTEBuilderListenerImpl {
 
     private final MainQuery mainQuery;
     private final Map<CTEKey, CTEInfo> ctes;
+    private final Map<String, CTEMaterialization> materializations;
     private QueryContext queryContext;
     private boolean recursive = false;
 
     CTEManager(MainQuery mainQuery) {
         this.mainQuery = mainQuery;
         this.ctes = new LinkedHashMap<>();
+        this.materializations = new HashMap<>(0);
     }
 
     void init(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> queryBuilder) {
@@ -69,6 +73,7 @@ public class CTEManager extends CTEBuilderListenerImpl {
 
             ctes.put(entry.getKey(), cteInfo);
         }
+        materializations.putAll(cteManager.materializations);
     }
 
     QueryContext getQueryContext() {
@@ -91,6 +96,19 @@ public class CTEManager extends CTEBuilderListenerImpl {
         return ctes.get(getCteKey(cteType, name, joinManager));
     }
 
+    void setMaterialization(EntityType<?> cteType, CTEMaterialization materialization) {
+        String name = getCteKey(cteType, null, null).getName();
+        if (materialization == null) {
+            materializations.remove(name);
+        } else {
+            materializations.put(name, materialization);
+        }
+    }
+
+    CTEMaterialization getMaterialization(CTEInfo cteInfo) {
+        return materializations.get(cteInfo.name);
+    }
+
     private CTEKey getCteKey(EntityType<?> cteClass, String name, JoinManager owner) {
         return new CTEKey(cteClass, name, owner);
     }
@@ -404,6 +404,16 @@ public final class CachingJpaProvider implements JpaProvider {
         jpaProvider.setCacheable(query);
     }
 
+    @Override
+    public void setFetchSize(Query query, int fetchSize) {
+        jpaProvider.setFetchSize(query, fetchSize);
+    }
+
+    @Override
+    public void setQueryTimeout(Query query, int timeoutMillis) {
+        jpaProvider.setQueryTimeout(query, timeoutMillis);
+    }
+
     @Override
     public void setSingularParameter(Query query, String name, Object value) {
         jpaProvider.setSingularParameter(query, name, value);
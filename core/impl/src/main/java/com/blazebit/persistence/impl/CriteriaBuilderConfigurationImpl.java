@@ -29,10 +29,8 @@ import com.blazebit.persistence.impl.dialect.OracleDbmsDialect;
 import com.blazebit.persistence.impl.dialect.PostgreSQLDbmsDialect;
 import com.blazebit.persistence.impl.function.alias.AliasFunction;
 import com.blazebit.persistence.impl.function.base64.Base64Function;
-import com.blazebit.persistence.impl.function.base64.PostgreSQLBase64Function;
 import com.blazebit.persistence.impl.function.cast.CastFunction;
 import com.blazebit.persistence.impl.function.cast.DB2CastFunction;
-import com.blazebit.persistence.impl.function.chr.CharChrFunction;
 import com.blazebit.persistence.impl.function.chr.ChrFunction;
 import com.blazebit.persistence.impl.function.colldml.CollectionDmlSupportFunction;
 import com.blazebit.persistence.impl.function.coltrunc.ColumnTruncFunction;
@@ -42,294 +40,41 @@ import com.blazebit.persistence.impl.function.concat.PlusBasedConcatFunction;
 import com.blazebit.persistence.impl.function.count.AbstractCountFunction;
 import com.blazebit.persistence.impl.function.count.CountTupleEmulationFunction;
 import com.blazebit.persistence.impl.function.count.CountTupleFunction;
-import com.blazebit.persistence.impl.function.count.MySQLCountTupleFunction;
 import com.blazebit.persistence.impl.function.countwrapper.CountWrapperFunction;
-import com.blazebit.persistence.impl.function.dateadd.day.DB2DayAddFunction;
 import com.blazebit.persistence.impl.function.dateadd.day.DayAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.day.H2DayAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.day.MSSQLDayAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.day.MySQLDayAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.day.OracleDayAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.day.PostgreSQLDayAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.hour.DB2HourAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.hour.H2HourAddFunction;
 import com.blazebit.persistence.impl.function.dateadd.hour.HourAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.hour.MSSQLHourAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.hour.MySQLHourAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.hour.OracleHourAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.hour.PostgreSQLHourAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.microseconds.DB2MicrosecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.microseconds.H2MicrosecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.microseconds.MSSQLMicrosecondsAddFunction;
 import com.blazebit.persistence.impl.function.dateadd.microseconds.MicrosecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.microseconds.MySQLMicrosecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.microseconds.OracleMicrosecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.microseconds.PostgreSQLMicrosecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.milliseconds.DB2MillisecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.milliseconds.H2MillisecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.milliseconds.MSSQLMillisecondsAddFunction;
 import com.blazebit.persistence.impl.function.dateadd.milliseconds.MillisecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.milliseconds.MySQLMillisecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.milliseconds.OracleMillisecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.milliseconds.PostgreSQLMillisecondsAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.minute.DB2MinuteAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.minute.H2MinuteAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.minute.MSSQLMinuteAddFunction;
 import com.blazebit.persistence.impl.function.dateadd.minute.MinuteAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.minute.MySQLMinuteAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.minute.OracleMinuteAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.minute.PostgreSQLMinuteAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.month.DB2MonthAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.month.H2MonthAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.month.MSSQLMonthAddFunction;
 import com.blazebit.persistence.impl.function.dateadd.month.MonthAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.month.MySQLMonthAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.month.OracleMonthAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.month.PostgreSQLMonthAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.quarter.DB2QuarterAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.quarter.H2QuarterAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.quarter.MSSQLQuarterAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.quarter.MySQLQuarterAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.quarter.OracleQuarterAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.quarter.PostgreSQLQuarterAddFunction;
 import com.blazebit.persistence.impl.function.dateadd.quarter.QuarterAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.second.DB2SecondAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.second.H2SecondAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.second.MSSQLSecondAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.second.MySQLSecondAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.second.OracleSecondAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.second.PostgreSQLSecondAddFunction;
 import com.blazebit.persistence.impl.function.dateadd.second.SecondAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.week.DB2WeekAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.week.H2WeekAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.week.MSSQLWeekAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.week.MySQLWeekAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.week.OracleWeekAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.week.PostgreSQLWeekAddFunction;
 import com.blazebit.persistence.impl.function.dateadd.week.WeekAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.year.DB2YearAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.year.H2YearAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.year.MSSQLYearAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.year.MySQLYearAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.year.OracleYearAddFunction;
-import com.blazebit.persistence.impl.function.dateadd.year.PostgreSQLYearAddFunction;
 import com.blazebit.persistence.impl.function.dateadd.year.YearAddFunction;
-import com.blazebit.persistence.impl.function.datediff.day.AccessDayDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.day.DB2DayDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.day.DefaultDayDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.day.MySQLDayDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.day.OracleDayDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.day.PostgreSQLDayDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.hour.AccessHourDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.hour.DB2HourDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.hour.DefaultHourDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.hour.MySQLHourDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.hour.OracleHourDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.hour.PostgreSQLHourDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.microsecond.AccessMicrosecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.microsecond.DB2MicrosecondDiffFunction;
 import com.blazebit.persistence.impl.function.datediff.microsecond.DefaultMicrosecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.microsecond.MSSQLMicrosecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.microsecond.MySQLMicrosecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.microsecond.OracleMicrosecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.microsecond.PostgreSQLMicrosecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.millisecond.AccessMillisecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.millisecond.DB2MillisecondDiffFunction;
 import com.blazebit.persistence.impl.function.datediff.millisecond.DefaultMillisecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.millisecond.MSSQLMillisecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.millisecond.MySQLMillisecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.millisecond.OracleMillisecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.millisecond.PostgreSQLMillisecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.minute.AccessMinuteDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.minute.DB2MinuteDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.minute.DefaultMinuteDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.minute.MySQLMinuteDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.minute.OracleMinuteDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.minute.PostgreSQLMinuteDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.month.AccessMonthDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.month.DB2MonthDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.month.DefaultMonthDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.month.MySQLMonthDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.month.OracleMonthDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.month.PostgreSQLMonthDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.quarter.AccessQuarterDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.quarter.DB2QuarterDiffFunction;
 import com.blazebit.persistence.impl.function.datediff.quarter.DefaultQuarterDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.quarter.H2QuarterDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.quarter.MSSQLQuarterDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.quarter.MySQLQuarterDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.quarter.OracleQuarterDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.quarter.PostgreSQLQuarterDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.second.AccessSecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.second.DB2SecondDiffFunction;
 import com.blazebit.persistence.impl.function.datediff.second.DefaultSecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.second.MSSQLSecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.second.MySQLSecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.second.OracleSecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.second.PostgreSQLSecondDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.week.DB2WeekDiffFunction;
 import com.blazebit.persistence.impl.function.datediff.week.DefaultWeekDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.week.H2WeekDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.week.MSSQLWeekDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.week.MySQLWeekDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.week.OracleWeekDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.week.PostgreSQLWeekDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.year.AccessYearDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.year.DB2YearDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.year.DefaultYearDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.year.MySQLYearDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.year.OracleYearDiffFunction;
-import com.blazebit.persistence.impl.function.datediff.year.PostgreSQLYearDiffFunction;
-import com.blazebit.persistence.impl.function.datetime.day.AccessDayFunction;
-import com.blazebit.persistence.impl.function.datetime.day.DB2DayFunction;
 import com.blazebit.persistence.impl.function.datetime.day.DayFunction;
-import com.blazebit.persistence.impl.function.datetime.day.DerbyDayFunction;
-import com.blazebit.persistence.impl.function.datetime.day.MSSQLDayFunction;
-import com.blazebit.persistence.impl.function.datetime.day.PostgreSQLDayFunction;
-import com.blazebit.persistence.impl.function.datetime.day.SqliteDayFunction;
-import com.blazebit.persistence.impl.function.datetime.day.SybaseDayFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofweek.AccessDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofweek.DB2DayOfWeekFunction;
 import com.blazebit.persistence.impl.function.datetime.dayofweek.DayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofweek.MSSQLDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofweek.MySQLDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofweek.OracleDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofweek.PostgreSQLDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofweek.SqliteDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofweek.SybaseDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofyear.AccessDayOfYearFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofyear.DB2DayOfYearFunction;
 import com.blazebit.persistence.impl.function.datetime.dayofyear.DayOfYearFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofyear.MSSQLDayOfYearFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofyear.MySQLDayOfYearFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofyear.OracleDayOfYearFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofyear.PostgreSQLDayOfYearFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofyear.SqliteDayOfYearFunction;
-import com.blazebit.persistence.impl.function.datetime.dayofyear.SybaseDayOfYearFunction;
-import com.blazebit.persistence.impl.function.datetime.epoch.DB2EpochFunction;
 import com.blazebit.persistence.impl.function.datetime.epoch.DefaultEpochFunction;
-import com.blazebit.persistence.impl.function.datetime.epoch.MySQLEpochFunction;
-import com.blazebit.persistence.impl.function.datetime.epoch.OracleEpochFunction;
-import com.blazebit.persistence.impl.function.datetime.epoch.PostgreSQLEpochFunction;
-import com.blazebit.persistence.impl.function.datetime.epochday.DB2EpochDayFunction;
 import com.blazebit.persistence.impl.function.datetime.epochday.DefaultEpochDayFunction;
-import com.blazebit.persistence.impl.function.datetime.epochday.MySQLEpochDayFunction;
-import com.blazebit.persistence.impl.function.datetime.epochday.OracleEpochDayFunction;
-import com.blazebit.persistence.impl.function.datetime.epochday.PostgreSQLEpochDayFunction;
-import com.blazebit.persistence.impl.function.datetime.epochmicro.DB2EpochMicrosecondFunction;
 import com.blazebit.persistence.impl.function.datetime.epochmicro.DefaultEpochMicrosecondFunction;
-import com.blazebit.persistence.impl.function.datetime.epochmicro.MSSQLEpochMicrosecondFunction;
-import com.blazebit.persistence.impl.function.datetime.epochmicro.MySQLEpochMicrosecondFunction;
-import com.blazebit.persistence.impl.function.datetime.epochmicro.OracleEpochMicrosecondFunction;
-import com.blazebit.persistence.impl.function.datetime.epochmicro.PostgreSQLEpochMicrosecondFunction;
-import com.blazebit.persistence.impl.function.datetime.epochmilli.DB2EpochMillisecondFunction;
 import com.blazebit.persistence.impl.function.datetime.epochmilli.DefaultEpochMillisecondFunction;
-import com.blazebit.persistence.impl.function.datetime.epochmilli.MSSQLEpochMillisecondFunction;
-import com.blazebit.persistence.impl.function.datetime.epochmilli.MySQLEpochMillisecondFunction;
-import com.blazebit.persistence.impl.function.datetime.epochmilli.OracleEpochMillisecondFunction;
-import com.blazebit.persistence.impl.function.datetime.epochmilli.PostgreSQLEpochMillisecondFunction;
-import com.blazebit.persistence.impl.function.datetime.hour.AccessHourFunction;
-import com.blazebit.persistence.impl.function.datetime.hour.DB2HourFunction;
-import com.blazebit.persistence.impl.function.datetime.hour.DerbyHourFunction;
 import com.blazebit.persistence.impl.function.datetime.hour.HourFunction;
-import com.blazebit.persistence.impl.function.datetime.hour.MSSQLHourFunction;
-import com.blazebit.persistence.impl.function.datetime.hour.OracleHourFunction;
-import com.blazebit.persistence.impl.function.datetime.hour.PostgreSQLHourFunction;
-import com.blazebit.persistence.impl.function.datetime.hour.SqliteHourFunction;
-import com.blazebit.persistence.impl.function.datetime.hour.SybaseHourFunction;
-import com.blazebit.persistence.impl.function.datetime.isodayofweek.AccessIsoDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isodayofweek.DB2IsoDayOfWeekFunction;
 import com.blazebit.persistence.impl.function.datetime.isodayofweek.IsoDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isodayofweek.MSSQLIsoDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isodayofweek.MySQLIsoDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isodayofweek.OracleIsoDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isodayofweek.PostgreSQLIsoDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isodayofweek.SqliteIsoDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isodayofweek.SybaseIsoDayOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isoweek.AccessIsoWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isoweek.DB2IsoWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isoweek.H2IsoWeekFunction;
 import com.blazebit.persistence.impl.function.datetime.isoweek.IsoWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isoweek.MSSQLIsoWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isoweek.MySQLIsoWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isoweek.OracleIsoWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isoweek.PostgreSQLIsoWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isoweek.SqliteIsoWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.isoweek.SybaseIsoWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.microsecond.DB2MicrosecondFunction;
-import com.blazebit.persistence.impl.function.datetime.microsecond.MSSQLMicrosecondFunction;
 import com.blazebit.persistence.impl.function.datetime.microsecond.MicrosecondFunction;
-import com.blazebit.persistence.impl.function.datetime.microsecond.MySQLMicrosecondFunction;
-import com.blazebit.persistence.impl.function.datetime.microsecond.OracleMicrosecondFunction;
-import com.blazebit.persistence.impl.function.datetime.microsecond.PostgreSQLMicrosecondFunction;
-import com.blazebit.persistence.impl.function.datetime.microsecond.SybaseMicrosecondFunction;
-import com.blazebit.persistence.impl.function.datetime.millisecond.DB2MillisecondFunction;
-import com.blazebit.persistence.impl.function.datetime.millisecond.MSSQLMillisecondFunction;
 import com.blazebit.persistence.impl.function.datetime.millisecond.MillisecondFunction;
-import com.blazebit.persistence.impl.function.datetime.millisecond.MySQLMillisecondFunction;
-import com.blazebit.persistence.impl.function.datetime.millisecond.OracleMillisecondFunction;
-import com.blazebit.persistence.impl.function.datetime.millisecond.PostgreSQLMillisecondFunction;
-import com.blazebit.persistence.impl.function.datetime.millisecond.SybaseMillisecondFunction;
-import com.blazebit.persistence.impl.function.datetime.minute.AccessMinuteFunction;
-import com.blazebit.persistence.impl.function.datetime.minute.DB2MinuteFunction;
-import com.blazebit.persistence.impl.function.datetime.minute.DerbyMinuteFunction;
-import com.blazebit.persistence.impl.function.datetime.minute.MSSQLMinuteFunction;
 import com.blazebit.persistence.impl.function.datetime.minute.MinuteFunction;
-import com.blazebit.persistence.impl.function.datetime.minute.OracleMinuteFunction;
-import com.blazebit.persistence.impl.function.datetime.minute.PostgreSQLMinuteFunction;
-import com.blazebit.persistence.impl.function.datetime.minute.SqliteMinuteFunction;
-import com.blazebit.persistence.impl.function.datetime.minute.SybaseMinuteFunction;
-import com.blazebit.persistence.impl.function.datetime.month.AccessMonthFunction;
-import com.blazebit.persistence.impl.function.datetime.month.DB2MonthFunction;
-import com.blazebit.persistence.impl.function.datetime.month.DerbyMonthFunction;
-import com.blazebit.persistence.impl.function.datetime.month.MSSQLMonthFunction;
 import com.blazebit.persistence.impl.function.datetime.month.MonthFunction;
-import com.blazebit.persistence.impl.function.datetime.month.PostgreSQLMonthFunction;
-import com.blazebit.persistence.impl.function.datetime.month.SqliteMonthFunction;
-import com.blazebit.persistence.impl.function.datetime.month.SybaseMonthFunction;
-import com.blazebit.persistence.impl.function.datetime.quarter.AccessQuarterFunction;
-import com.blazebit.persistence.impl.function.datetime.quarter.DB2QuarterFunction;
-import com.blazebit.persistence.impl.function.datetime.quarter.MSSQLQuarterFunction;
-import com.blazebit.persistence.impl.function.datetime.quarter.OracleQuarterFunction;
-import com.blazebit.persistence.impl.function.datetime.quarter.PostgreSQLQuarterFunction;
 import com.blazebit.persistence.impl.function.datetime.quarter.QuarterFunction;
-import com.blazebit.persistence.impl.function.datetime.quarter.SqliteQuarterFunction;
-import com.blazebit.persistence.impl.function.datetime.quarter.SybaseQuarterFunction;
-import com.blazebit.persistence.impl.function.datetime.second.AccessSecondFunction;
-import com.blazebit.persistence.impl.function.datetime.second.DB2SecondFunction;
-import com.blazebit.persistence.impl.function.datetime.second.DerbySecondFunction;
-import com.blazebit.persistence.impl.function.datetime.second.MSSQLSecondFunction;
-import com.blazebit.persistence.impl.function.datetime.second.OracleSecondFunction;
-import com.blazebit.persistence.impl.function.datetime.second.PostgreSQLSecondFunction;
 import com.blazebit.persistence.impl.function.datetime.second.SecondFunction;
-import com.blazebit.persistence.impl.function.datetime.second.SqliteSecondFunction;
-import com.blazebit.persistence.impl.function.datetime.second.SybaseSecondFunction;
-import com.blazebit.persistence.impl.function.datetime.week.DB2WeekInYearFunction;
-import com.blazebit.persistence.impl.function.datetime.week.MSSQLWeekInYearFunction;
-import com.blazebit.persistence.impl.function.datetime.week.MySQLWeekInYearFunction;
-import com.blazebit.persistence.impl.function.datetime.week.OracleWeekInYearFunction;
-import com.blazebit.persistence.impl.function.datetime.week.PostgreSQLWeekInYearFunction;
 import com.blazebit.persistence.impl.function.datetime.week.WeekInYearFunction;
-import com.blazebit.persistence.impl.function.datetime.year.AccessYearFunction;
-import com.blazebit.persistence.impl.function.datetime.year.DB2YearFunction;
-import com.blazebit.persistence.impl.function.datetime.year.DerbyYearFunction;
-import com.blazebit.persistence.impl.function.datetime.year.MSSQLYearFunction;
-import com.blazebit.persistence.impl.function.datetime.year.PostgreSQLYearFunction;
-import com.blazebit.persistence.impl.function.datetime.year.SqliteYearFunction;
-import com.blazebit.persistence.impl.function.datetime.year.SybaseYearFunction;
 import com.blazebit.persistence.impl.function.datetime.year.YearFunction;
-import com.blazebit.persistence.impl.function.datetime.yearofweek.DB2YearOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.yearofweek.MSSQLYearOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.yearofweek.MySQLYearOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.yearofweek.OracleYearOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.yearofweek.PostgreSQLYearOfWeekFunction;
 import com.blazebit.persistence.impl.function.datetime.yearofweek.YearOfWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.yearweek.DB2YearWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.yearweek.H2YearWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.yearweek.MSSQLYearWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.yearweek.MySQLYearWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.yearweek.OracleYearWeekFunction;
-import com.blazebit.persistence.impl.function.datetime.yearweek.PostgreSQLYearWeekFunction;
 import com.blazebit.persistence.impl.function.datetime.yearweek.YearWeekFunction;
 import com.blazebit.persistence.impl.function.entity.EntityFunction;
 import com.blazebit.persistence.impl.function.every.EveryFunction;
@@ -337,36 +82,16 @@ import com.blazebit.persistence.impl.function.every.FallbackEveryFunction;
 import com.blazebit.persistence.impl.function.exist.ExistFunction;
 import com.blazebit.persistence.impl.function.greatest.AbstractGreatestFunction;
 import com.blazebit.persistence.impl.function.greatest.DefaultGreatestFunction;
-import com.blazebit.persistence.impl.function.greatest.MaxGreatestFunction;
-import com.blazebit.persistence.impl.function.greatest.SelectMaxUnionGreatestFunction;
 import com.blazebit.persistence.impl.function.groupconcat.AbstractGroupConcatFunction;
-import com.blazebit.persistence.impl.function.groupconcat.DB2GroupConcatFunction;
-import com.blazebit.persistence.impl.function.groupconcat.H2GroupConcatFunction;
-import com.blazebit.persistence.impl.function.groupconcat.MSSQLGroupConcatFunction;
-import com.blazebit.persistence.impl.function.groupconcat.MySQLGroupConcatFunction;
-import com.blazebit.persistence.impl.function.groupconcat.OracleListaggGroupConcatFunction;
-import com.blazebit.persistence.impl.function.groupconcat.PostgreSQLGroupConcatFunction;
 import com.blazebit.persistence.impl.function.grouping.GroupingFunction;
 import com.blazebit.persistence.impl.function.groupingsets.CubeFunction;
 import com.blazebit.persistence.impl.function.groupingsets.GroupingSetFunction;
 import com.blazebit.persistence.impl.function.groupingsets.GroupingSetsFunction;
 import com.blazebit.persistence.impl.function.groupingsets.RollupFunction;
 import com.blazebit.persistence.impl.function.jsonget.AbstractJsonGetFunction;
-import com.blazebit.persistence.impl.function.jsonget.DB2JsonGetFunction;
-import com.blazebit.persistence.impl.function.jsonget.MSSQLJsonGetFunction;
-import com.blazebit.persistence.impl.function.jsonget.MySQL8JsonGetFunction;
-import com.blazebit.persistence.impl.function.jsonget.OracleJsonGetFunction;
-import com.blazebit.persistence.impl.function.jsonget.PostgreSQLJsonGetFunction;
 import com.blazebit.persistence.impl.function.jsonset.AbstractJsonSetFunction;
-import com.blazebit.persistence.impl.function.jsonset.DB2JsonSetFunction;
-import com.blazebit.persistence.impl.function.jsonset.MSSQLJsonSetFunction;
-import com.blazebit.persistence.impl.function.jsonset.MySQL8JsonSetFunction;
-import com.blazebit.persistence.impl.function.jsonset.OracleJsonSetFunction;
-import com.blazebit.persistence.impl.function.jsonset.PostgreSQLJsonSetFunction;
 import com.blazebit.persistence.impl.function.least.AbstractLeastFunction;
 import com.blazebit.persistence.impl.function.least.DefaultLeastFunction;
-import com.blazebit.persistence.impl.function.least.MinLeastFunction;
-import com.blazebit.persistence.impl.function.least.SelectMinUnionLeastFunction;
 import com.blazebit.persistence.impl.function.limit.LimitFunction;
 import com.blazebit.persistence.impl.function.literal.LiteralCalendarFunction;
 import com.blazebit.persistence.impl.function.literal.LiteralDateFunction;
@@ -384,108 +109,48 @@ import com.blazebit.persistence.impl.function.nullfn.NullfnFunction;
 import com.blazebit.persistence.impl.function.nullsubquery.NullSubqueryFunction;
 import com.blazebit.persistence.impl.function.oragg.FallbackOrAggFunction;
 import com.blazebit.persistence.impl.function.oragg.OrAggFunction;
-import com.blazebit.persistence.impl.function.pageposition.MySQLPagePositionFunction;
-import com.blazebit.persistence.impl.function.pageposition.OraclePagePositionFunction;
 import com.blazebit.persistence.impl.function.pageposition.PagePositionFunction;
-import com.blazebit.persistence.impl.function.pageposition.TransactSQLPagePositionFunction;
 import com.blazebit.persistence.impl.function.param.ParamFunction;
 import com.blazebit.persistence.impl.function.querywrapper.QueryWrapperFunction;
 import com.blazebit.persistence.impl.function.repeat.AbstractRepeatFunction;
 import com.blazebit.persistence.impl.function.repeat.DefaultRepeatFunction;
-import com.blazebit.persistence.impl.function.repeat.LpadRepeatFunction;
-import com.blazebit.persistence.impl.function.repeat.ReplicateRepeatFunction;
 import com.blazebit.persistence.impl.function.replace.ReplaceFunction;
 import com.blazebit.persistence.impl.function.rowvalue.RowValueComparisonFunction;
 import com.blazebit.persistence.impl.function.rowvalue.RowValueSubqueryComparisonFunction;
 import com.blazebit.persistence.impl.function.set.SetFunction;
 import com.blazebit.persistence.impl.function.stringjsonagg.AbstractStringJsonAggFunction;
-import com.blazebit.persistence.impl.function.stringjsonagg.GroupConcatBasedStringJsonAggFunction;
-import com.blazebit.persistence.impl.function.stringjsonagg.MySQLStringJsonAggFunction;
-import com.blazebit.persistence.impl.function.stringjsonagg.OracleStringJsonAggFunction;
-import com.blazebit.persistence.impl.function.stringjsonagg.PostgreSQLStringJsonAggFunction;
+import com.blazebit.persistence.impl.function.stringjsonagg.LazyGroupConcatBasedStringJsonAggFunction;
 import com.blazebit.persistence.impl.function.stringxmlagg.AbstractStringXmlAggFunction;
 import com.blazebit.persistence.impl.function.stringxmlagg.GroupConcatBasedStringXmlAggFunction;
 import com.blazebit.persistence.impl.function.stringxmlagg.OracleGroupConcatBasedStringXmlAggFunction;
-import com.blazebit.persistence.impl.function.stringxmlagg.PostgreSQLStringXmlAggFunction;
 import com.blazebit.persistence.impl.function.subquery.SubqueryFunction;
 import com.blazebit.persistence.impl.function.tomultiset.ToMultisetFunction;
 import com.blazebit.persistence.impl.function.tostringjson.AbstractToStringJsonFunction;
 import com.blazebit.persistence.impl.function.tostringjson.ForJsonPathToStringJsonFunction;
 import com.blazebit.persistence.impl.function.tostringjson.GroupConcatBasedToStringJsonFunction;
-import com.blazebit.persistence.impl.function.tostringjson.MySQLToStringJsonFunction;
 import com.blazebit.persistence.impl.function.tostringjson.OracleToStringJsonFunction;
-import com.blazebit.persistence.impl.function.tostringjson.PostgreSQLToStringJsonFunction;
 import com.blazebit.persistence.impl.function.tostringxml.AbstractToStringXmlFunction;
 import com.blazebit.persistence.impl.function.tostringxml.ForXmlPathToStringXmlFunction;
 import com.blazebit.persistence.impl.function.tostringxml.GroupConcatBasedToStringXmlFunction;
 import com.blazebit.persistence.impl.function.tostringxml.OracleGroupConcatBasedToStringXmlFunction;
-import com.blazebit.persistence.impl.function.tostringxml.PostgreSQLToStringXmlFunction;
 import com.blazebit.persistence.impl.function.treat.TreatFunction;
-import com.blazebit.persistence.impl.function.trunc.day.DB2TruncDayFunction;
-import com.blazebit.persistence.impl.function.trunc.day.H2TruncDayFunction;
-import com.blazebit.persistence.impl.function.trunc.day.MSSQLTruncDayFunction;
-import com.blazebit.persistence.impl.function.trunc.day.MySQLTruncDayFunction;
-import com.blazebit.persistence.impl.function.trunc.day.OracleTruncDayFunction;
 import com.blazebit.persistence.impl.function.trunc.day.PostgreSQLTruncDayFunction;
 import com.blazebit.persistence.impl.function.trunc.day.TruncDayFunction;
-import com.blazebit.persistence.impl.function.trunc.hour.DB2TruncHourFunction;
-import com.blazebit.persistence.impl.function.trunc.hour.H2TruncHourFunction;
-import com.blazebit.persistence.impl.function.trunc.hour.MSSQLTruncHourFunction;
-import com.blazebit.persistence.impl.function.trunc.hour.MySQLTruncHourFunction;
-import com.blazebit.persistence.impl.function.trunc.hour.OracleTruncHourFunction;
 import com.blazebit.persistence.impl.function.trunc.hour.PostgreSQLTruncHourFunction;
 import com.blazebit.persistence.impl.function.trunc.hour.TruncHourFunction;
-import com.blazebit.persistence.impl.function.trunc.microseconds.DB2TruncMicrosecondsFunction;
-import com.blazebit.persistence.impl.function.trunc.microseconds.H2TruncMicrosecondsFunction;
-import com.blazebit.persistence.impl.function.trunc.microseconds.MSSQLTruncMicrosecondsFunction;
-import com.blazebit.persistence.impl.function.trunc.microseconds.MySQLTruncMicrosecondsFunction;
-import com.blazebit.persistence.impl.function.trunc.microseconds.OracleTruncMicrosecondsFunction;
 import com.blazebit.persistence.impl.function.trunc.microseconds.PostgreSQLTruncMicrosecondsFunction;
 import com.blazebit.persistence.impl.function.trunc.microseconds.TruncMicrosecondsFunction;
-import com.blazebit.persistence.impl.function.trunc.milliseconds.DB2TruncMillisecondsFunction;
-import com.blazebit.persistence.impl.function.trunc.milliseconds.H2TruncMillisecondsFunction;
-import com.blazebit.persistence.impl.function.trunc.milliseconds.MSSQLTruncMillisecondsFunction;
-import com.blazebit.persistence.impl.function.trunc.milliseconds.MySQLTruncMillisecondsFunction;
-import com.blazebit.persistence.impl.function.trunc.milliseconds.OracleTruncMillisecondsFunction;
 import com.blazebit.persistence.impl.function.trunc.milliseconds.PostgreSQLTruncMillisecondsFunction;
 import com.blazebit.persistence.impl.function.trunc.milliseconds.TruncMillisecondsFunction;
-import com.blazebit.persistence.impl.function.trunc.minute.DB2TruncMinuteFunction;
-import com.blazebit.persistence.impl.function.trunc.minute.H2TruncMinuteFunction;
-import com.blazebit.persistence.impl.function.trunc.minute.MSSQLTruncMinuteFunction;
-import com.blazebit.persistence.impl.function.trunc.minute.MySQLTruncMinuteFunction;
-import com.blazebit.persistence.impl.function.trunc.minute.OracleTruncMinuteFunction;
 import com.blazebit.persistence.impl.function.trunc.minute.PostgreSQLTruncMinuteFunction;
 import com.blazebit.persistence.impl.function.trunc.minute.TruncMinuteFunction;
-import com.blazebit.persistence.impl.function.trunc.month.DB2TruncMonthFunction;
-import com.blazebit.persistence.impl.function.trunc.month.H2TruncMonthFunction;
-import com.blazebit.persistence.impl.function.trunc.month.MSSQLTruncMonthFunction;
-import com.blazebit.persistence.impl.function.trunc.month.MySQLTruncMonthFunction;
-import com.blazebit.persistence.impl.function.trunc.month.OracleTruncMonthFunction;
 import com.blazebit.persistence.impl.function.trunc.month.PostgreSQLTruncMonthFunction;
 import com.blazebit.persistence.impl.function.trunc.month.TruncMonthFunction;
-import com.blazebit.persistence.impl.function.trunc.quarter.DB2TruncQuarterFunction;
-import com.blazebit.persistence.impl.function.trunc.quarter.H2TruncQuarterFunction;
-import com.blazebit.persistence.impl.function.trunc.quarter.MSSQLTruncQuarterFunction;
-import com.blazebit.persistence.impl.function.trunc.quarter.MySQLTruncQuarterFunction;
-import com.blazebit.persistence.impl.function.trunc.quarter.OracleTruncQuarterFunction;
 import com.blazebit.persistence.impl.function.trunc.quarter.PostgreSQLTruncQuarterFunction;
 import com.blazebit.persistence.impl.function.trunc.quarter.TruncQuarterFunction;
-import com.blazebit.persistence.impl.function.trunc.second.DB2TruncSecondFunction;
-import com.blazebit.persistence.impl.function.trunc.second.H2TruncSecondFunction;
-import com.blazebit.persistence.impl.function.trunc.second.MSSQLTruncSecondFunction;
-import com.blazebit.persistence.impl.function.trunc.second.MySQLTruncSecondFunction;
-import com.blazebit.persistence.impl.function.trunc.second.OracleTruncSecondFunction;
 import com.blazebit.persistence.impl.function.trunc.second.PostgreSQLTruncSecondFunction;
 import com.blazebit.persistence.impl.function.trunc.second.TruncSecondFunction;
-import com.blazebit.persistence.impl.function.trunc.week.MSSQLTruncWeekFunction;
-import com.blazebit.persistence.impl.function.trunc.week.MySQLTruncWeekFunction;
-import com.blazebit.persistence.impl.function.trunc.week.OracleTruncWeekFunction;
 import com.blazebit.persistence.impl.function.trunc.week.TruncWeekFunction;
-import com.blazebit.persistence.impl.function.trunc.year.DB2TruncYearFunction;
-import com.blazebit.persistence.impl.function.trunc.year.H2TruncYearFunction;
-import com.blazebit.persistence.impl.function.trunc.year.MSSQLTruncYearFunction;
-import com.blazebit.persistence.impl.function.trunc.year.MySQLTruncYearFunction;
-import com.blazebit.persistence.impl.function.trunc.year.OracleTruncYearFunction;
 import com.blazebit.persistence.impl.function.trunc.year.PostgreSQLTruncYearFunction;
 import com.blazebit.persistence.impl.function.trunc.year.TruncYearFunction;
 import com.blazebit.persistence.impl.function.window.avg.AvgFunction;
@@ -529,6 +194,9 @@ import com.blazebit.persistence.spi.JpqlFunctionKind;
 import com.blazebit.persistence.spi.JpqlMacro;
 import com.blazebit.persistence.spi.LateralStyle;
 import com.blazebit.persistence.spi.PackageOpener;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryResultCacheStorage;
+import com.blazebit.persistence.spi.ReadOnlyEntityManagerProvider;
 import com.blazebit.persistence.spi.SetOperationType;
 
 import javax.persistence.EntityManagerFactory;
@@ -562,6 +230,9 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
     private final Map<String, Class<?>> treatTypes = new HashMap<String, Class<?>>();
     private final Map<String, JpqlMacro> macros = new HashMap<String, JpqlMacro>();
     private final List<EntityManagerFactoryIntegrator> entityManagerIntegrators = new ArrayList<EntityManagerFactoryIntegrator>();
+    private final List<QueryExecutionListener> queryExecutionListeners = new ArrayList<QueryExecutionListener>();
+    private QueryResultCacheStorage queryResultCacheStorage;
+    private ReadOnlyEntityManagerProvider readOnlyEntityManagerProvider;
     private PackageOpener packageOpener;
     private Properties properties = new Properties();
     private ExtendedQuerySupport extendedQuerySupport;
@@ -579,6 +250,8 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
     // NOTE: When adding a function here, you might want to also add it in AbstractCoreTest so it is recognized
     @SuppressWarnings("checkstyle:methodlength")
     private void loadFunctions() {
+        // Dialect specific functions are registered by class name so that only the ones of the used DBMS are loaded
+        ClassLoader functionClassLoader = CriteriaBuilderConfigurationImpl.class.getClassLoader();
         JpqlFunctionGroup jpqlFunctionGroup;
         
         // limit
@@ -597,11 +270,11 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
 
         jpqlFunctionGroup = new JpqlFunctionGroup(PagePositionFunction.FUNCTION_NAME, false);
         jpqlFunctionGroup.add(null, new PagePositionFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLPagePositionFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLPagePositionFunction());
-        jpqlFunctionGroup.add("oracle", new OraclePagePositionFunction());
-        jpqlFunctionGroup.add("sybase", new TransactSQLPagePositionFunction());
-        jpqlFunctionGroup.add("microsoft", new TransactSQLPagePositionFunction());
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.pageposition.MySQLPagePositionFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.pageposition.MySQLPagePositionFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.pageposition.OraclePagePositionFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.pageposition.TransactSQLPagePositionFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.pageposition.TransactSQLPagePositionFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // entity_function
@@ -625,16 +298,16 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
         // chr
         jpqlFunctionGroup = new JpqlFunctionGroup(ChrFunction.FUNCTION_NAME, false);
         jpqlFunctionGroup.add(null, new ChrFunction());
-        jpqlFunctionGroup.add("mysql", new CharChrFunction());
-        jpqlFunctionGroup.add("mysql8", new CharChrFunction());
-        jpqlFunctionGroup.add("microsoft", new CharChrFunction());
-        jpqlFunctionGroup.add("sybase", new CharChrFunction());
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.chr.CharChrFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.chr.CharChrFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.chr.CharChrFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.chr.CharChrFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // base64
         jpqlFunctionGroup = new JpqlFunctionGroup(Base64Function.FUNCTION_NAME, false);
         jpqlFunctionGroup.add(null, new Base64Function());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLBase64Function());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.base64.PostgreSQLBase64Function", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
         
         // set operations
@@ -758,13 +431,13 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
         // group_concat
         
         jpqlFunctionGroup = new JpqlFunctionGroup(AbstractGroupConcatFunction.FUNCTION_NAME, true);
-        jpqlFunctionGroup.add("db2", new DB2GroupConcatFunction());
-        jpqlFunctionGroup.add("oracle", new OracleListaggGroupConcatFunction());
-        jpqlFunctionGroup.add("h2", new H2GroupConcatFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLGroupConcatFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLGroupConcatFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLGroupConcatFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLGroupConcatFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.groupconcat.DB2GroupConcatFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.groupconcat.OracleListaggGroupConcatFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.groupconcat.H2GroupConcatFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.groupconcat.MySQLGroupConcatFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.groupconcat.MySQLGroupConcatFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.groupconcat.MSSQLGroupConcatFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.groupconcat.PostgreSQLGroupConcatFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // listagg
@@ -775,7 +448,7 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
         jpqlFunctionGroup.add("h2", new H2GroupConcatWindowFunction(dbmsDialects.get("h2")));
         jpqlFunctionGroup.add("mysql", new MySQLGroupConcatWindowFunction(dbmsDialects.get("mysql")));
         jpqlFunctionGroup.add("mysql8", new MySQLGroupConcatWindowFunction(dbmsDialects.get("mysql8")));
-        jpqlFunctionGroup.add("microsoft", new MSSQLGroupConcatFunction());
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.groupconcat.MSSQLGroupConcatFunction", functionClassLoader);
         jpqlFunctionGroup.add("postgresql", new PostgreSQLGroupConcatWindowFunction(dbmsDialects.get("postgresql")));
         registerFunction(jpqlFunctionGroup);
 
@@ -794,614 +467,614 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
 
         jpqlFunctionGroup = new JpqlFunctionGroup("year", false);
         jpqlFunctionGroup.add(null, new YearFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLYearFunction());
-        jpqlFunctionGroup.add("access", new AccessYearFunction());
-        jpqlFunctionGroup.add("db2", new DB2YearFunction());
-        jpqlFunctionGroup.add("derby", new DerbyYearFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLYearFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseYearFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteYearFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.year.PostgreSQLYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.year.AccessYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.year.DB2YearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("derby", "com.blazebit.persistence.impl.function.datetime.year.DerbyYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.year.MSSQLYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.year.SybaseYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.year.SqliteYearFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("year_of_week", false);
         jpqlFunctionGroup.add(null, new YearOfWeekFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLYearOfWeekFunction());
-        jpqlFunctionGroup.add("db2", new DB2YearOfWeekFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLYearOfWeekFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLYearOfWeekFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLYearOfWeekFunction());
-        jpqlFunctionGroup.add("oracle", new OracleYearOfWeekFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.yearofweek.PostgreSQLYearOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.yearofweek.DB2YearOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.yearofweek.MSSQLYearOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.yearofweek.MySQLYearOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.yearofweek.MySQLYearOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.yearofweek.OracleYearOfWeekFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("year_week", false);
         jpqlFunctionGroup.add(null, new YearWeekFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLYearWeekFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLYearWeekFunction());
-        jpqlFunctionGroup.add("db2", new DB2YearWeekFunction());
-        jpqlFunctionGroup.add("oracle", new OracleYearWeekFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLYearWeekFunction());
-        jpqlFunctionGroup.add("h2", new H2YearWeekFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLYearWeekFunction());
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.yearweek.MySQLYearWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.yearweek.MySQLYearWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.yearweek.DB2YearWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.yearweek.OracleYearWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.yearweek.PostgreSQLYearWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.datetime.yearweek.H2YearWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.yearweek.MSSQLYearWeekFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("month", false);
         jpqlFunctionGroup.add(null, new MonthFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMonthFunction());
-        jpqlFunctionGroup.add("access", new AccessMonthFunction());
-        jpqlFunctionGroup.add("db2", new DB2MonthFunction());
-        jpqlFunctionGroup.add("derby", new DerbyMonthFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLMonthFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseMonthFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteMonthFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.month.PostgreSQLMonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.month.AccessMonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.month.DB2MonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("derby", "com.blazebit.persistence.impl.function.datetime.month.DerbyMonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.month.MSSQLMonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.month.SybaseMonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.month.SqliteMonthFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("week", false);
         jpqlFunctionGroup.add(null, new IsoWeekFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLIsoWeekFunction());
-        jpqlFunctionGroup.add("access", new AccessIsoWeekFunction());
-        jpqlFunctionGroup.add("db2", new DB2IsoWeekFunction());
-        jpqlFunctionGroup.add("h2", new H2IsoWeekFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLIsoWeekFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseIsoWeekFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteIsoWeekFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLIsoWeekFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLIsoWeekFunction());
-        jpqlFunctionGroup.add("oracle", new OracleIsoWeekFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteIsoWeekFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.isoweek.PostgreSQLIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.isoweek.AccessIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.isoweek.DB2IsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.datetime.isoweek.H2IsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.isoweek.MSSQLIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.isoweek.SybaseIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.isoweek.SqliteIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.isoweek.MySQLIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.isoweek.MySQLIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.isoweek.OracleIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.isoweek.SqliteIsoWeekFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("iso_week", false);
         jpqlFunctionGroup.add(null, new IsoWeekFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLIsoWeekFunction());
-        jpqlFunctionGroup.add("access", new AccessIsoWeekFunction());
-        jpqlFunctionGroup.add("db2", new DB2IsoWeekFunction());
-        jpqlFunctionGroup.add("h2", new H2IsoWeekFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLIsoWeekFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseIsoWeekFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteIsoWeekFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLIsoWeekFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLIsoWeekFunction());
-        jpqlFunctionGroup.add("oracle", new OracleIsoWeekFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteIsoWeekFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.isoweek.PostgreSQLIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.isoweek.AccessIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.isoweek.DB2IsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.datetime.isoweek.H2IsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.isoweek.MSSQLIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.isoweek.SybaseIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.isoweek.SqliteIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.isoweek.MySQLIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.isoweek.MySQLIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.isoweek.OracleIsoWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.isoweek.SqliteIsoWeekFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("week_in_year", false);
         jpqlFunctionGroup.add(null, new WeekInYearFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLWeekInYearFunction());
-        jpqlFunctionGroup.add("db2", new DB2WeekInYearFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLWeekInYearFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLWeekInYearFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLWeekInYearFunction());
-        jpqlFunctionGroup.add("oracle", new OracleWeekInYearFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.week.PostgreSQLWeekInYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.week.DB2WeekInYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.week.MSSQLWeekInYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.week.MySQLWeekInYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.week.MySQLWeekInYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.week.OracleWeekInYearFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("quarter", false);
         jpqlFunctionGroup.add(null, new QuarterFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLQuarterFunction());
-        jpqlFunctionGroup.add("access", new AccessQuarterFunction());
-        jpqlFunctionGroup.add("db2", new DB2QuarterFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLQuarterFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseQuarterFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteQuarterFunction());
-        jpqlFunctionGroup.add("oracle", new OracleQuarterFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteQuarterFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.quarter.PostgreSQLQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.quarter.AccessQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.quarter.DB2QuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.quarter.MSSQLQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.quarter.SybaseQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.quarter.SqliteQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.quarter.OracleQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.quarter.SqliteQuarterFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("day", false);
         jpqlFunctionGroup.add(null, new DayFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLDayFunction());
-        jpqlFunctionGroup.add("access", new AccessDayFunction());
-        jpqlFunctionGroup.add("db2", new DB2DayFunction());
-        jpqlFunctionGroup.add("derby", new DerbyDayFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLDayFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseDayFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteDayFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.day.PostgreSQLDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.day.AccessDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.day.DB2DayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("derby", "com.blazebit.persistence.impl.function.datetime.day.DerbyDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.day.MSSQLDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.day.SybaseDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.day.SqliteDayFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("dayofyear", false);
         jpqlFunctionGroup.add(null, new DayOfYearFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLDayOfYearFunction());
-        jpqlFunctionGroup.add("access", new AccessDayOfYearFunction());
-        jpqlFunctionGroup.add("db2", new DB2DayOfYearFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLDayOfYearFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLDayOfYearFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLDayOfYearFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseDayOfYearFunction());
-        jpqlFunctionGroup.add("oracle", new OracleDayOfYearFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteDayOfYearFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.dayofyear.PostgreSQLDayOfYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.dayofyear.AccessDayOfYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.dayofyear.DB2DayOfYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.dayofyear.MySQLDayOfYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.dayofyear.MySQLDayOfYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.dayofyear.MSSQLDayOfYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.dayofyear.SybaseDayOfYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.dayofyear.OracleDayOfYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.dayofyear.SqliteDayOfYearFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("dayofweek", false);
         jpqlFunctionGroup.add(null, new DayOfWeekFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLDayOfWeekFunction());
-        jpqlFunctionGroup.add("access", new AccessDayOfWeekFunction());
-        jpqlFunctionGroup.add("db2", new DB2DayOfWeekFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLDayOfWeekFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLDayOfWeekFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLDayOfWeekFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseDayOfWeekFunction());
-        jpqlFunctionGroup.add("oracle", new OracleDayOfWeekFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteDayOfWeekFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.dayofweek.PostgreSQLDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.dayofweek.AccessDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.dayofweek.DB2DayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.dayofweek.MySQLDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.dayofweek.MySQLDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.dayofweek.MSSQLDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.dayofweek.SybaseDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.dayofweek.OracleDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.dayofweek.SqliteDayOfWeekFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("isodayofweek", false);
         jpqlFunctionGroup.add(null, new IsoDayOfWeekFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLIsoDayOfWeekFunction());
-        jpqlFunctionGroup.add("access", new AccessIsoDayOfWeekFunction());
-        jpqlFunctionGroup.add("db2", new DB2IsoDayOfWeekFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLIsoDayOfWeekFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLIsoDayOfWeekFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLIsoDayOfWeekFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseIsoDayOfWeekFunction());
-        jpqlFunctionGroup.add("oracle", new OracleIsoDayOfWeekFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteIsoDayOfWeekFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.isodayofweek.PostgreSQLIsoDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.isodayofweek.AccessIsoDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.isodayofweek.DB2IsoDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.isodayofweek.MySQLIsoDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.isodayofweek.MySQLIsoDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.isodayofweek.MSSQLIsoDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.isodayofweek.SybaseIsoDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.isodayofweek.OracleIsoDayOfWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.isodayofweek.SqliteIsoDayOfWeekFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("hour", false);
         jpqlFunctionGroup.add(null, new HourFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLHourFunction());
-        jpqlFunctionGroup.add("access", new AccessHourFunction());
-        jpqlFunctionGroup.add("db2", new DB2HourFunction());
-        jpqlFunctionGroup.add("derby", new DerbyHourFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLHourFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseHourFunction());
-        jpqlFunctionGroup.add("oracle", new OracleHourFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteHourFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.hour.PostgreSQLHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.hour.AccessHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.hour.DB2HourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("derby", "com.blazebit.persistence.impl.function.datetime.hour.DerbyHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.hour.MSSQLHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.hour.SybaseHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.hour.OracleHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.hour.SqliteHourFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("minute", false);
         jpqlFunctionGroup.add(null, new MinuteFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMinuteFunction());
-        jpqlFunctionGroup.add("access", new AccessMinuteFunction());
-        jpqlFunctionGroup.add("db2", new DB2MinuteFunction());
-        jpqlFunctionGroup.add("derby", new DerbyMinuteFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLMinuteFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseMinuteFunction());
-        jpqlFunctionGroup.add("oracle", new OracleMinuteFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteMinuteFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.minute.PostgreSQLMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.minute.AccessMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.minute.DB2MinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("derby", "com.blazebit.persistence.impl.function.datetime.minute.DerbyMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.minute.MSSQLMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.minute.SybaseMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.minute.OracleMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.minute.SqliteMinuteFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("second", false);
         jpqlFunctionGroup.add(null, new SecondFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLSecondFunction());
-        jpqlFunctionGroup.add("access", new AccessSecondFunction());
-        jpqlFunctionGroup.add("db2", new DB2SecondFunction());
-        jpqlFunctionGroup.add("derby", new DerbySecondFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLSecondFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseSecondFunction());
-        jpqlFunctionGroup.add("oracle", new OracleSecondFunction());
-        jpqlFunctionGroup.add("sqlite", new SqliteSecondFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.second.PostgreSQLSecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datetime.second.AccessSecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.second.DB2SecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("derby", "com.blazebit.persistence.impl.function.datetime.second.DerbySecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.second.MSSQLSecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.second.SybaseSecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.second.OracleSecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sqlite", "com.blazebit.persistence.impl.function.datetime.second.SqliteSecondFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("millisecond", false);
         jpqlFunctionGroup.add(null, new MillisecondFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMillisecondFunction());
-        jpqlFunctionGroup.add("db2", new DB2MillisecondFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLMillisecondFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLMillisecondFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLMillisecondFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseMillisecondFunction());
-        jpqlFunctionGroup.add("oracle", new OracleMillisecondFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.millisecond.PostgreSQLMillisecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.millisecond.DB2MillisecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.millisecond.MySQLMillisecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.millisecond.MySQLMillisecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.millisecond.MSSQLMillisecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.millisecond.SybaseMillisecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.millisecond.OracleMillisecondFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("microsecond", false);
         jpqlFunctionGroup.add(null, new MicrosecondFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMicrosecondFunction());
-        jpqlFunctionGroup.add("db2", new DB2MicrosecondFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLMicrosecondFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLMicrosecondFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLMicrosecondFunction());
-        jpqlFunctionGroup.add("sybase", new SybaseMicrosecondFunction());
-        jpqlFunctionGroup.add("oracle", new OracleMicrosecondFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.microsecond.PostgreSQLMicrosecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.microsecond.DB2MicrosecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.microsecond.MySQLMicrosecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.microsecond.MySQLMicrosecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.microsecond.MSSQLMicrosecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datetime.microsecond.SybaseMicrosecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.microsecond.OracleMicrosecondFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("epoch", false);
         jpqlFunctionGroup.add(null, new DefaultEpochFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLEpochFunction());
-        jpqlFunctionGroup.add("oracle", new OracleEpochFunction());
-        jpqlFunctionGroup.add("db2", new DB2EpochFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLEpochFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLEpochFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.epoch.PostgreSQLEpochFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.epoch.OracleEpochFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.epoch.DB2EpochFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.epoch.MySQLEpochFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.epoch.MySQLEpochFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("epoch_seconds", false);
         jpqlFunctionGroup.add(null, new DefaultEpochFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLEpochFunction());
-        jpqlFunctionGroup.add("oracle", new OracleEpochFunction());
-        jpqlFunctionGroup.add("db2", new DB2EpochFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLEpochFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLEpochFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.epoch.PostgreSQLEpochFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.epoch.OracleEpochFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.epoch.DB2EpochFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.epoch.MySQLEpochFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.epoch.MySQLEpochFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("epoch_days", false);
         jpqlFunctionGroup.add(null, new DefaultEpochDayFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLEpochDayFunction());
-        jpqlFunctionGroup.add("oracle", new OracleEpochDayFunction());
-        jpqlFunctionGroup.add("db2", new DB2EpochDayFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLEpochDayFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLEpochDayFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.epochday.PostgreSQLEpochDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.epochday.OracleEpochDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.epochday.DB2EpochDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.epochday.MySQLEpochDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.epochday.MySQLEpochDayFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("epoch_milliseconds", false);
         jpqlFunctionGroup.add(null, new DefaultEpochMillisecondFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLEpochMillisecondFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLEpochMillisecondFunction());
-        jpqlFunctionGroup.add("oracle", new OracleEpochMillisecondFunction());
-        jpqlFunctionGroup.add("db2", new DB2EpochMillisecondFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLEpochMillisecondFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLEpochMillisecondFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.epochmilli.PostgreSQLEpochMillisecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.epochmilli.MSSQLEpochMillisecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.epochmilli.OracleEpochMillisecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.epochmilli.DB2EpochMillisecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.epochmilli.MySQLEpochMillisecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.epochmilli.MySQLEpochMillisecondFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("epoch_microseconds", false);
         jpqlFunctionGroup.add(null, new DefaultEpochMicrosecondFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLEpochMicrosecondFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLEpochMicrosecondFunction());
-        jpqlFunctionGroup.add("oracle", new OracleEpochMicrosecondFunction());
-        jpqlFunctionGroup.add("db2", new DB2EpochMicrosecondFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLEpochMicrosecondFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLEpochMicrosecondFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datetime.epochmicro.PostgreSQLEpochMicrosecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datetime.epochmicro.MSSQLEpochMicrosecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datetime.epochmicro.OracleEpochMicrosecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datetime.epochmicro.DB2EpochMicrosecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datetime.epochmicro.MySQLEpochMicrosecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datetime.epochmicro.MySQLEpochMicrosecondFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // dateadd
 
         jpqlFunctionGroup = new JpqlFunctionGroup(DayAddFunction.NAME, false);
         jpqlFunctionGroup.add(null, new DayAddFunction());
-        jpqlFunctionGroup.add("db2", new DB2DayAddFunction());
-        jpqlFunctionGroup.add("h2", new H2DayAddFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLDayAddFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLDayAddFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLDayAddFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLDayAddFunction());
-        jpqlFunctionGroup.add("oracle", new OracleDayAddFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.dateadd.day.DB2DayAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.dateadd.day.H2DayAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.dateadd.day.MSSQLDayAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.dateadd.day.MySQLDayAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.dateadd.day.MySQLDayAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.dateadd.day.PostgreSQLDayAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.dateadd.day.OracleDayAddFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(HourAddFunction.NAME, false);
         jpqlFunctionGroup.add(null, new HourAddFunction());
-        jpqlFunctionGroup.add("db2", new DB2HourAddFunction());
-        jpqlFunctionGroup.add("h2", new H2HourAddFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLHourAddFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLHourAddFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLHourAddFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLHourAddFunction());
-        jpqlFunctionGroup.add("oracle", new OracleHourAddFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.dateadd.hour.DB2HourAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.dateadd.hour.H2HourAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.dateadd.hour.MSSQLHourAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.dateadd.hour.MySQLHourAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.dateadd.hour.MySQLHourAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.dateadd.hour.PostgreSQLHourAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.dateadd.hour.OracleHourAddFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(MicrosecondsAddFunction.NAME, false);
         jpqlFunctionGroup.add(null, new MicrosecondsAddFunction());
-        jpqlFunctionGroup.add("db2", new DB2MicrosecondsAddFunction());
-        jpqlFunctionGroup.add("h2", new H2MicrosecondsAddFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLMicrosecondsAddFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLMicrosecondsAddFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLMicrosecondsAddFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMicrosecondsAddFunction());
-        jpqlFunctionGroup.add("oracle", new OracleMicrosecondsAddFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.dateadd.microseconds.DB2MicrosecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.dateadd.microseconds.H2MicrosecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.dateadd.microseconds.MSSQLMicrosecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.dateadd.microseconds.MySQLMicrosecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.dateadd.microseconds.MySQLMicrosecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.dateadd.microseconds.PostgreSQLMicrosecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.dateadd.microseconds.OracleMicrosecondsAddFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(MillisecondsAddFunction.NAME, false);
         jpqlFunctionGroup.add(null, new MillisecondsAddFunction());
-        jpqlFunctionGroup.add("db2", new DB2MillisecondsAddFunction());
-        jpqlFunctionGroup.add("h2", new H2MillisecondsAddFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLMillisecondsAddFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLMillisecondsAddFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLMillisecondsAddFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMillisecondsAddFunction());
-        jpqlFunctionGroup.add("oracle", new OracleMillisecondsAddFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.dateadd.milliseconds.DB2MillisecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.dateadd.milliseconds.H2MillisecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.dateadd.milliseconds.MSSQLMillisecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.dateadd.milliseconds.MySQLMillisecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.dateadd.milliseconds.MySQLMillisecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.dateadd.milliseconds.PostgreSQLMillisecondsAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.dateadd.milliseconds.OracleMillisecondsAddFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(MinuteAddFunction.NAME, false);
         jpqlFunctionGroup.add(null, new MinuteAddFunction());
-        jpqlFunctionGroup.add("db2", new DB2MinuteAddFunction());
-        jpqlFunctionGroup.add("h2", new H2MinuteAddFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLMinuteAddFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLMinuteAddFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLMinuteAddFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMinuteAddFunction());
-        jpqlFunctionGroup.add("oracle", new OracleMinuteAddFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.dateadd.minute.DB2MinuteAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.dateadd.minute.H2MinuteAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.dateadd.minute.MSSQLMinuteAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.dateadd.minute.MySQLMinuteAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.dateadd.minute.MySQLMinuteAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.dateadd.minute.PostgreSQLMinuteAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.dateadd.minute.OracleMinuteAddFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(MonthAddFunction.NAME, false);
         jpqlFunctionGroup.add(null, new MonthAddFunction());
-        jpqlFunctionGroup.add("db2", new DB2MonthAddFunction());
-        jpqlFunctionGroup.add("h2", new H2MonthAddFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLMonthAddFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLMonthAddFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLMonthAddFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMonthAddFunction());
-        jpqlFunctionGroup.add("oracle", new OracleMonthAddFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.dateadd.month.DB2MonthAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.dateadd.month.H2MonthAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.dateadd.month.MSSQLMonthAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.dateadd.month.MySQLMonthAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.dateadd.month.MySQLMonthAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.dateadd.month.PostgreSQLMonthAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.dateadd.month.OracleMonthAddFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(QuarterAddFunction.NAME, false);
         jpqlFunctionGroup.add(null, new QuarterAddFunction());
-        jpqlFunctionGroup.add("db2", new DB2QuarterAddFunction());
-        jpqlFunctionGroup.add("h2", new H2QuarterAddFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLQuarterAddFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLQuarterAddFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLQuarterAddFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLQuarterAddFunction());
-        jpqlFunctionGroup.add("oracle", new OracleQuarterAddFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.dateadd.quarter.DB2QuarterAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.dateadd.quarter.H2QuarterAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.dateadd.quarter.MSSQLQuarterAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.dateadd.quarter.MySQLQuarterAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.dateadd.quarter.MySQLQuarterAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.dateadd.quarter.PostgreSQLQuarterAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.dateadd.quarter.OracleQuarterAddFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(SecondAddFunction.NAME, false);
         jpqlFunctionGroup.add(null, new SecondAddFunction());
-        jpqlFunctionGroup.add("db2", new DB2SecondAddFunction());
-        jpqlFunctionGroup.add("h2", new H2SecondAddFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLSecondAddFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLSecondAddFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLSecondAddFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLSecondAddFunction());
-        jpqlFunctionGroup.add("oracle", new OracleSecondAddFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.dateadd.second.DB2SecondAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.dateadd.second.H2SecondAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.dateadd.second.MSSQLSecondAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.dateadd.second.MySQLSecondAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.dateadd.second.MySQLSecondAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.dateadd.second.PostgreSQLSecondAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.dateadd.second.OracleSecondAddFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(WeekAddFunction.NAME, false);
         jpqlFunctionGroup.add(null, new WeekAddFunction());
-        jpqlFunctionGroup.add("db2", new DB2WeekAddFunction());
-        jpqlFunctionGroup.add("h2", new H2WeekAddFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLWeekAddFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLWeekAddFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLWeekAddFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLWeekAddFunction());
-        jpqlFunctionGroup.add("oracle", new OracleWeekAddFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.dateadd.week.DB2WeekAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.dateadd.week.H2WeekAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.dateadd.week.MSSQLWeekAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.dateadd.week.MySQLWeekAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.dateadd.week.MySQLWeekAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.dateadd.week.PostgreSQLWeekAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.dateadd.week.OracleWeekAddFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(YearAddFunction.NAME, false);
         jpqlFunctionGroup.add(null, new YearAddFunction());
-        jpqlFunctionGroup.add("db2", new DB2YearAddFunction());
-        jpqlFunctionGroup.add("h2", new H2YearAddFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLYearAddFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLYearAddFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLYearAddFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLYearAddFunction());
-        jpqlFunctionGroup.add("oracle", new OracleYearAddFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.dateadd.year.DB2YearAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.dateadd.year.H2YearAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.dateadd.year.MSSQLYearAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.dateadd.year.MySQLYearAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.dateadd.year.MySQLYearAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.dateadd.year.PostgreSQLYearAddFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.dateadd.year.OracleYearAddFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // datediff
 
         jpqlFunctionGroup = new JpqlFunctionGroup("year_diff", false);
-        jpqlFunctionGroup.add("access", new AccessYearDiffFunction());
-        jpqlFunctionGroup.add("db2", new DB2YearDiffFunction());
-        jpqlFunctionGroup.add("h2", new DefaultYearDiffFunction());
-        jpqlFunctionGroup.add("microsoft", new DefaultYearDiffFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLYearDiffFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLYearDiffFunction());
-        jpqlFunctionGroup.add("sybase", new DefaultYearDiffFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLYearDiffFunction());
-        jpqlFunctionGroup.add("oracle", new OracleYearDiffFunction());
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datediff.year.AccessYearDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datediff.year.DB2YearDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.datediff.year.DefaultYearDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datediff.year.DefaultYearDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datediff.year.MySQLYearDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datediff.year.MySQLYearDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datediff.year.DefaultYearDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datediff.year.PostgreSQLYearDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datediff.year.OracleYearDiffFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("month_diff", false);
-        jpqlFunctionGroup.add("access", new AccessMonthDiffFunction());
-        jpqlFunctionGroup.add("db2", new DB2MonthDiffFunction());
-        jpqlFunctionGroup.add("h2", new DefaultMonthDiffFunction());
-        jpqlFunctionGroup.add("microsoft", new DefaultMonthDiffFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLMonthDiffFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLMonthDiffFunction());
-        jpqlFunctionGroup.add("sybase", new DefaultMonthDiffFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMonthDiffFunction());
-        jpqlFunctionGroup.add("oracle", new OracleMonthDiffFunction());
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datediff.month.AccessMonthDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datediff.month.DB2MonthDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.datediff.month.DefaultMonthDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datediff.month.DefaultMonthDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datediff.month.MySQLMonthDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datediff.month.MySQLMonthDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datediff.month.DefaultMonthDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datediff.month.PostgreSQLMonthDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datediff.month.OracleMonthDiffFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("day_diff", false);
-        jpqlFunctionGroup.add("access", new AccessDayDiffFunction());
-        jpqlFunctionGroup.add("db2", new DB2DayDiffFunction());
-        jpqlFunctionGroup.add("h2", new DefaultDayDiffFunction());
-        jpqlFunctionGroup.add("microsoft", new DefaultDayDiffFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLDayDiffFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLDayDiffFunction());
-        jpqlFunctionGroup.add("sybase", new DefaultDayDiffFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLDayDiffFunction());
-        jpqlFunctionGroup.add("oracle", new OracleDayDiffFunction());
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datediff.day.AccessDayDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datediff.day.DB2DayDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.datediff.day.DefaultDayDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datediff.day.DefaultDayDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datediff.day.MySQLDayDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datediff.day.MySQLDayDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datediff.day.DefaultDayDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datediff.day.PostgreSQLDayDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datediff.day.OracleDayDiffFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("hour_diff", false);
-        jpqlFunctionGroup.add("access", new AccessHourDiffFunction());
-        jpqlFunctionGroup.add("db2", new DB2HourDiffFunction());
-        jpqlFunctionGroup.add("h2", new DefaultHourDiffFunction());
-        jpqlFunctionGroup.add("microsoft", new DefaultHourDiffFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLHourDiffFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLHourDiffFunction());
-        jpqlFunctionGroup.add("sybase", new DefaultHourDiffFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLHourDiffFunction());
-        jpqlFunctionGroup.add("oracle", new OracleHourDiffFunction());
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datediff.hour.AccessHourDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datediff.hour.DB2HourDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.datediff.hour.DefaultHourDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datediff.hour.DefaultHourDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datediff.hour.MySQLHourDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datediff.hour.MySQLHourDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datediff.hour.DefaultHourDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datediff.hour.PostgreSQLHourDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datediff.hour.OracleHourDiffFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("minute_diff", false);
-        jpqlFunctionGroup.add("access", new AccessMinuteDiffFunction());
-        jpqlFunctionGroup.add("db2", new DB2MinuteDiffFunction());
-        jpqlFunctionGroup.add("h2", new DefaultMinuteDiffFunction());
-        jpqlFunctionGroup.add("microsoft", new DefaultMinuteDiffFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLMinuteDiffFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLMinuteDiffFunction());
-        jpqlFunctionGroup.add("sybase", new DefaultMinuteDiffFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMinuteDiffFunction());
-        jpqlFunctionGroup.add("oracle", new OracleMinuteDiffFunction());
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datediff.minute.AccessMinuteDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datediff.minute.DB2MinuteDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.datediff.minute.DefaultMinuteDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datediff.minute.DefaultMinuteDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datediff.minute.MySQLMinuteDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datediff.minute.MySQLMinuteDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("sybase", "com.blazebit.persistence.impl.function.datediff.minute.DefaultMinuteDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datediff.minute.PostgreSQLMinuteDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datediff.minute.OracleMinuteDiffFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("second_diff", false);
         jpqlFunctionGroup.add(null, new DefaultSecondDiffFunction());
-        jpqlFunctionGroup.add("access", new AccessSecondDiffFunction());
-        jpqlFunctionGroup.add("db2", new DB2SecondDiffFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLSecondDiffFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLSecondDiffFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLSecondDiffFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLSecondDiffFunction());
-        jpqlFunctionGroup.add("oracle", new OracleSecondDiffFunction());
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datediff.second.AccessSecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datediff.second.DB2SecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datediff.second.MSSQLSecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datediff.second.MySQLSecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datediff.second.MySQLSecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datediff.second.PostgreSQLSecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datediff.second.OracleSecondDiffFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("epoch_diff", false);
         jpqlFunctionGroup.add(null, new DefaultSecondDiffFunction());
-        jpqlFunctionGroup.add("access", new AccessSecondDiffFunction());
-        jpqlFunctionGroup.add("db2", new DB2SecondDiffFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLSecondDiffFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLSecondDiffFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLSecondDiffFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLSecondDiffFunction());
-        jpqlFunctionGroup.add("oracle", new OracleSecondDiffFunction());
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datediff.second.AccessSecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datediff.second.DB2SecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datediff.second.MSSQLSecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datediff.second.MySQLSecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datediff.second.MySQLSecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datediff.second.PostgreSQLSecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datediff.second.OracleSecondDiffFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("millisecond_diff", false);
         jpqlFunctionGroup.add(null, new DefaultMillisecondDiffFunction());
-        jpqlFunctionGroup.add("access", new AccessMillisecondDiffFunction());
-        jpqlFunctionGroup.add("db2", new DB2MillisecondDiffFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLMillisecondDiffFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLMillisecondDiffFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLMillisecondDiffFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMillisecondDiffFunction());
-        jpqlFunctionGroup.add("oracle", new OracleMillisecondDiffFunction());
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datediff.millisecond.AccessMillisecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datediff.millisecond.DB2MillisecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datediff.millisecond.MSSQLMillisecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datediff.millisecond.MySQLMillisecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datediff.millisecond.MySQLMillisecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datediff.millisecond.PostgreSQLMillisecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datediff.millisecond.OracleMillisecondDiffFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("microsecond_diff", false);
         jpqlFunctionGroup.add(null, new DefaultMicrosecondDiffFunction());
-        jpqlFunctionGroup.add("access", new AccessMicrosecondDiffFunction());
-        jpqlFunctionGroup.add("db2", new DB2MicrosecondDiffFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLMicrosecondDiffFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLMicrosecondDiffFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLMicrosecondDiffFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLMicrosecondDiffFunction());
-        jpqlFunctionGroup.add("oracle", new OracleMicrosecondDiffFunction());
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datediff.microsecond.AccessMicrosecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datediff.microsecond.DB2MicrosecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datediff.microsecond.MySQLMicrosecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datediff.microsecond.MySQLMicrosecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datediff.microsecond.MSSQLMicrosecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datediff.microsecond.PostgreSQLMicrosecondDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datediff.microsecond.OracleMicrosecondDiffFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("week_diff", false);
         jpqlFunctionGroup.add(null, new DefaultWeekDiffFunction());
-        jpqlFunctionGroup.add("h2", new H2WeekDiffFunction());
-        jpqlFunctionGroup.add("db2", new DB2WeekDiffFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLWeekDiffFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLWeekDiffFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLWeekDiffFunction());
-        jpqlFunctionGroup.add("oracle", new OracleWeekDiffFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLWeekDiffFunction());
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.datediff.week.H2WeekDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datediff.week.DB2WeekDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datediff.week.MySQLWeekDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datediff.week.MySQLWeekDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datediff.week.PostgreSQLWeekDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datediff.week.OracleWeekDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datediff.week.MSSQLWeekDiffFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup("quarter_diff", false);
         jpqlFunctionGroup.add(null, new DefaultQuarterDiffFunction());
-        jpqlFunctionGroup.add("access", new AccessQuarterDiffFunction());
-        jpqlFunctionGroup.add("h2", new H2QuarterDiffFunction());
-        jpqlFunctionGroup.add("db2", new DB2QuarterDiffFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLQuarterDiffFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLQuarterDiffFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLQuarterDiffFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLQuarterDiffFunction());
-        jpqlFunctionGroup.add("oracle", new OracleQuarterDiffFunction());
+        jpqlFunctionGroup.addLazy("access", "com.blazebit.persistence.impl.function.datediff.quarter.AccessQuarterDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.datediff.quarter.H2QuarterDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.datediff.quarter.DB2QuarterDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.datediff.quarter.MySQLQuarterDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.datediff.quarter.MySQLQuarterDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.datediff.quarter.PostgreSQLQuarterDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.datediff.quarter.MSSQLQuarterDiffFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.datediff.quarter.OracleQuarterDiffFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // date trunc
 
         jpqlFunctionGroup = new JpqlFunctionGroup(TruncDayFunction.NAME, false);
         jpqlFunctionGroup.add(null, new PostgreSQLTruncDayFunction());
-        jpqlFunctionGroup.add("db2", new DB2TruncDayFunction());
-        jpqlFunctionGroup.add("h2", new H2TruncDayFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLTruncDayFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLTruncDayFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLTruncDayFunction());
-        jpqlFunctionGroup.add("oracle", new OracleTruncDayFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLTruncDayFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.trunc.day.DB2TruncDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.trunc.day.H2TruncDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.trunc.day.MSSQLTruncDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.trunc.day.MySQLTruncDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.trunc.day.MySQLTruncDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.trunc.day.OracleTruncDayFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.trunc.day.PostgreSQLTruncDayFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(TruncHourFunction.NAME, false);
         jpqlFunctionGroup.add(null, new PostgreSQLTruncHourFunction());
-        jpqlFunctionGroup.add("db2", new DB2TruncHourFunction());
-        jpqlFunctionGroup.add("h2", new H2TruncHourFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLTruncHourFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLTruncHourFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLTruncHourFunction());
-        jpqlFunctionGroup.add("oracle", new OracleTruncHourFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLTruncHourFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.trunc.hour.DB2TruncHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.trunc.hour.H2TruncHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.trunc.hour.MSSQLTruncHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.trunc.hour.MySQLTruncHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.trunc.hour.MySQLTruncHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.trunc.hour.OracleTruncHourFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.trunc.hour.PostgreSQLTruncHourFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(TruncMicrosecondsFunction.NAME, false);
         jpqlFunctionGroup.add(null, new PostgreSQLTruncMicrosecondsFunction());
-        jpqlFunctionGroup.add("db2", new DB2TruncMicrosecondsFunction());
-        jpqlFunctionGroup.add("h2", new H2TruncMicrosecondsFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLTruncMicrosecondsFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLTruncMicrosecondsFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLTruncMicrosecondsFunction());
-        jpqlFunctionGroup.add("oracle", new OracleTruncMicrosecondsFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLTruncMicrosecondsFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.trunc.microseconds.DB2TruncMicrosecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.trunc.microseconds.H2TruncMicrosecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.trunc.microseconds.MSSQLTruncMicrosecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.trunc.microseconds.MySQLTruncMicrosecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.trunc.microseconds.MySQLTruncMicrosecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.trunc.microseconds.OracleTruncMicrosecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.trunc.microseconds.PostgreSQLTruncMicrosecondsFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(TruncMillisecondsFunction.NAME, false);
         jpqlFunctionGroup.add(null, new PostgreSQLTruncMillisecondsFunction());
-        jpqlFunctionGroup.add("db2", new DB2TruncMillisecondsFunction());
-        jpqlFunctionGroup.add("h2", new H2TruncMillisecondsFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLTruncMillisecondsFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLTruncMillisecondsFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLTruncMillisecondsFunction());
-        jpqlFunctionGroup.add("oracle", new OracleTruncMillisecondsFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLTruncMillisecondsFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.trunc.milliseconds.DB2TruncMillisecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.trunc.milliseconds.H2TruncMillisecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.trunc.milliseconds.MSSQLTruncMillisecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.trunc.milliseconds.MySQLTruncMillisecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.trunc.milliseconds.MySQLTruncMillisecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.trunc.milliseconds.OracleTruncMillisecondsFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.trunc.milliseconds.PostgreSQLTruncMillisecondsFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(TruncMinuteFunction.NAME, false);
         jpqlFunctionGroup.add(null, new PostgreSQLTruncMinuteFunction());
-        jpqlFunctionGroup.add("db2", new DB2TruncMinuteFunction());
-        jpqlFunctionGroup.add("h2", new H2TruncMinuteFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLTruncMinuteFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLTruncMinuteFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLTruncMinuteFunction());
-        jpqlFunctionGroup.add("oracle", new OracleTruncMinuteFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLTruncMinuteFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.trunc.minute.DB2TruncMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.trunc.minute.H2TruncMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.trunc.minute.MSSQLTruncMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.trunc.minute.MySQLTruncMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.trunc.minute.MySQLTruncMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.trunc.minute.OracleTruncMinuteFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.trunc.minute.PostgreSQLTruncMinuteFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(TruncMonthFunction.NAME, false);
         jpqlFunctionGroup.add(null, new PostgreSQLTruncMonthFunction());
-        jpqlFunctionGroup.add("db2", new DB2TruncMonthFunction());
-        jpqlFunctionGroup.add("h2", new H2TruncMonthFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLTruncMonthFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLTruncMonthFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLTruncMonthFunction());
-        jpqlFunctionGroup.add("oracle", new OracleTruncMonthFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLTruncMonthFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.trunc.month.DB2TruncMonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.trunc.month.H2TruncMonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.trunc.month.MSSQLTruncMonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.trunc.month.MySQLTruncMonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.trunc.month.MySQLTruncMonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.trunc.month.OracleTruncMonthFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.trunc.month.PostgreSQLTruncMonthFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(TruncQuarterFunction.NAME, false);
         jpqlFunctionGroup.add(null, new PostgreSQLTruncQuarterFunction());
-        jpqlFunctionGroup.add("db2", new DB2TruncQuarterFunction());
-        jpqlFunctionGroup.add("h2", new H2TruncQuarterFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLTruncQuarterFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLTruncQuarterFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLTruncQuarterFunction());
-        jpqlFunctionGroup.add("oracle", new OracleTruncQuarterFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLTruncQuarterFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.trunc.quarter.DB2TruncQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.trunc.quarter.H2TruncQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.trunc.quarter.MSSQLTruncQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.trunc.quarter.MySQLTruncQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.trunc.quarter.MySQLTruncQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.trunc.quarter.OracleTruncQuarterFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.trunc.quarter.PostgreSQLTruncQuarterFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(TruncSecondFunction.NAME, false);
         jpqlFunctionGroup.add(null, new PostgreSQLTruncSecondFunction());
-        jpqlFunctionGroup.add("db2", new DB2TruncSecondFunction());
-        jpqlFunctionGroup.add("h2", new H2TruncSecondFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLTruncSecondFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLTruncSecondFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLTruncSecondFunction());
-        jpqlFunctionGroup.add("oracle", new OracleTruncSecondFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLTruncSecondFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.trunc.second.DB2TruncSecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.trunc.second.H2TruncSecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.trunc.second.MSSQLTruncSecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.trunc.second.MySQLTruncSecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.trunc.second.MySQLTruncSecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.trunc.second.OracleTruncSecondFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.trunc.second.PostgreSQLTruncSecondFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(TruncWeekFunction.NAME, false);
         jpqlFunctionGroup.add(null, new TruncWeekFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLTruncWeekFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLTruncWeekFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLTruncWeekFunction());
-        jpqlFunctionGroup.add("oracle", new OracleTruncWeekFunction());
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.trunc.week.MSSQLTruncWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.trunc.week.MySQLTruncWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.trunc.week.MySQLTruncWeekFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.trunc.week.OracleTruncWeekFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         jpqlFunctionGroup = new JpqlFunctionGroup(TruncYearFunction.NAME, false);
         jpqlFunctionGroup.add(null, new PostgreSQLTruncYearFunction());
-        jpqlFunctionGroup.add("db2", new DB2TruncYearFunction());
-        jpqlFunctionGroup.add("h2", new H2TruncYearFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLTruncYearFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLTruncYearFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLTruncYearFunction());
-        jpqlFunctionGroup.add("oracle", new OracleTruncYearFunction());
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLTruncYearFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.trunc.year.DB2TruncYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.trunc.year.H2TruncYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.trunc.year.MSSQLTruncYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.trunc.year.MySQLTruncYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.trunc.year.MySQLTruncYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.trunc.year.OracleTruncYearFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.trunc.year.PostgreSQLTruncYearFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // count
 
         jpqlFunctionGroup = new JpqlFunctionGroup(AbstractCountFunction.FUNCTION_NAME, true);
         jpqlFunctionGroup.add(null, new CountTupleFunction());
-        jpqlFunctionGroup.add("mysql", new MySQLCountTupleFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLCountTupleFunction());
-        jpqlFunctionGroup.add("db2", new CountTupleEmulationFunction());
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.count.MySQLCountTupleFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.count.MySQLCountTupleFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.count.CountTupleEmulationFunction", functionClassLoader);
         jpqlFunctionGroup.add("microsoft", new CountTupleEmulationFunction("+", "varchar(max)"));
-        jpqlFunctionGroup.add("oracle", new CountTupleEmulationFunction());
-        jpqlFunctionGroup.add("hsql", new CountTupleEmulationFunction());
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.count.CountTupleEmulationFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("hsql", "com.blazebit.persistence.impl.function.count.CountTupleEmulationFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // row values
@@ -1443,24 +1116,24 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
 
         jpqlFunctionGroup = new JpqlFunctionGroup(AbstractGreatestFunction.FUNCTION_NAME, false);
         jpqlFunctionGroup.add(null, new DefaultGreatestFunction());
-        jpqlFunctionGroup.add("db2", new MaxGreatestFunction());
-        jpqlFunctionGroup.add("microsoft", new SelectMaxUnionGreatestFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.greatest.MaxGreatestFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.greatest.SelectMaxUnionGreatestFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // least
 
         jpqlFunctionGroup = new JpqlFunctionGroup(AbstractLeastFunction.FUNCTION_NAME, false);
         jpqlFunctionGroup.add(null, new DefaultLeastFunction());
-        jpqlFunctionGroup.add("db2", new MinLeastFunction());
-        jpqlFunctionGroup.add("microsoft", new SelectMinUnionLeastFunction());
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.least.MinLeastFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.least.SelectMinUnionLeastFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // repeat
 
         jpqlFunctionGroup = new JpqlFunctionGroup(AbstractRepeatFunction.FUNCTION_NAME, false);
         jpqlFunctionGroup.add(null, new DefaultRepeatFunction());
-        jpqlFunctionGroup.add("oracle", new LpadRepeatFunction());
-        jpqlFunctionGroup.add("microsoft", new ReplicateRepeatFunction());
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.repeat.LpadRepeatFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.repeat.ReplicateRepeatFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // subquery
@@ -1519,30 +1192,18 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
 
         jpqlFunctionGroup = new JpqlFunctionGroup(AbstractStringJsonAggFunction.FUNCTION_NAME, true);
         {
+            // The functions this is based on are resolved on first use, so that their DBMS specific implementations stay unloaded
             JpqlFunctionGroup chrFunctionGroup = functions.get(ChrFunction.FUNCTION_NAME);
             JpqlFunctionGroup replaceFunctionGroup = functions.get(ReplaceFunction.FUNCTION_NAME);
             JpqlFunctionGroup concatFunctionGroup = functions.get(ConcatFunction.FUNCTION_NAME);
             JpqlFunctionGroup groupConcatFunctionGroup = functions.get(AbstractGroupConcatFunction.FUNCTION_NAME);
             for (Map.Entry<String, DbmsDialect> dialectEntry : this.dbmsDialects.entrySet()) {
-                ChrFunction chrFunction = (ChrFunction) chrFunctionGroup.get(dialectEntry.getKey());
-                if (chrFunction == null) {
-                    chrFunction = (ChrFunction) chrFunctionGroup.get(null);
-                }
-                ReplaceFunction replaceFunction = (ReplaceFunction) replaceFunctionGroup.get(dialectEntry.getKey());
-                if (replaceFunction == null) {
-                    replaceFunction = (ReplaceFunction) replaceFunctionGroup.get(null);
-                }
-                ConcatFunction concatFunction = (ConcatFunction) concatFunctionGroup.get(dialectEntry.getKey());
-                if (concatFunction == null) {
-                    concatFunction = (ConcatFunction) concatFunctionGroup.get(null);
-                }
-                jpqlFunctionGroup.add(dialectEntry.getKey(), new GroupConcatBasedStringJsonAggFunction((AbstractGroupConcatFunction) groupConcatFunctionGroup.get(dialectEntry.getKey()), chrFunction, replaceFunction, concatFunction));
+                jpqlFunctionGroup.add(dialectEntry.getKey(), new LazyGroupConcatBasedStringJsonAggFunction(dialectEntry.getKey(), "oracle".equals(dialectEntry.getKey()), groupConcatFunctionGroup, chrFunctionGroup, replaceFunctionGroup, concatFunctionGroup));
             }
         }
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLStringJsonAggFunction());
-        jpqlFunctionGroup.add("oracle", new OracleStringJsonAggFunction((AbstractGroupConcatFunction) findFunction(AbstractGroupConcatFunction.FUNCTION_NAME, "oracle"), (ChrFunction) findFunction(ChrFunction.FUNCTION_NAME, "oracle"), (ReplaceFunction) findFunction(ReplaceFunction.FUNCTION_NAME, "oracle"), (ConcatFunction) findFunction(ConcatFunction.FUNCTION_NAME, "oracle")));
-        jpqlFunctionGroup.add("mysql", new MySQLStringJsonAggFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLStringJsonAggFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.stringjsonagg.PostgreSQLStringJsonAggFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.stringjsonagg.MySQLStringJsonAggFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.stringjsonagg.MySQLStringJsonAggFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // string_xml_agg
@@ -1564,7 +1225,7 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
                 jpqlFunctionGroup.add(dialectEntry.getKey(), new GroupConcatBasedStringXmlAggFunction((AbstractGroupConcatFunction) groupConcatFunctionGroup.get(dialectEntry.getKey()), replaceFunction, concatFunction));
             }
         }
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLStringXmlAggFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.stringxmlagg.PostgreSQLStringXmlAggFunction", functionClassLoader);
         jpqlFunctionGroup.add("oracle", new OracleGroupConcatBasedStringXmlAggFunction((AbstractGroupConcatFunction) findFunction(AbstractGroupConcatFunction.FUNCTION_NAME, "oracle"), (ReplaceFunction) findFunction(ReplaceFunction.FUNCTION_NAME, "oracle"), (ConcatFunction) findFunction(ConcatFunction.FUNCTION_NAME, "oracle")));
         registerFunction(jpqlFunctionGroup);
 
@@ -1592,7 +1253,7 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
                 jpqlFunctionGroup.add(dialectEntry.getKey(), new GroupConcatBasedToStringJsonFunction((AbstractGroupConcatFunction) groupConcatFunctionGroup.get(dialectEntry.getKey()), chrFunction, replaceFunction, concatFunction, dialectEntry.getValue().getLateralStyle()));
             }
         }
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLToStringJsonFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.tostringjson.PostgreSQLToStringJsonFunction", functionClassLoader);
         jpqlFunctionGroup.add("microsoft", new ForJsonPathToStringJsonFunction((CastFunction) findFunction("cast_string", "microsoft")));
         jpqlFunctionGroup.add("oracle", new OracleToStringJsonFunction(
                 (AbstractGroupConcatFunction) findFunction(AbstractGroupConcatFunction.FUNCTION_NAME, "oracle"),
@@ -1600,8 +1261,8 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
                 (ReplaceFunction) findFunction(ReplaceFunction.FUNCTION_NAME, "oracle"),
                 (ConcatFunction) findFunction(ConcatFunction.FUNCTION_NAME, "oracle")
         ));
-        jpqlFunctionGroup.add("mysql", new MySQLToStringJsonFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQLToStringJsonFunction());
+        jpqlFunctionGroup.addLazy("mysql", "com.blazebit.persistence.impl.function.tostringjson.MySQLToStringJsonFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.tostringjson.MySQLToStringJsonFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // to_string_xml
@@ -1623,7 +1284,7 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
                 jpqlFunctionGroup.add(dialectEntry.getKey(), new GroupConcatBasedToStringXmlFunction((AbstractGroupConcatFunction) groupConcatFunctionGroup.get(dialectEntry.getKey()), replaceFunction, concatFunction, dialectEntry.getValue().getLateralStyle()));
             }
         }
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLToStringXmlFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.tostringxml.PostgreSQLToStringXmlFunction", functionClassLoader);
         jpqlFunctionGroup.add("microsoft", new ForXmlPathToStringXmlFunction((CastFunction) findFunction("cast_string", "microsoft")));
         jpqlFunctionGroup.add("oracle", new OracleGroupConcatBasedToStringXmlFunction(
                 (AbstractGroupConcatFunction) findFunction(AbstractGroupConcatFunction.FUNCTION_NAME, "oracle"),
@@ -1811,20 +1472,20 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
 
         // JSON_GET
         jpqlFunctionGroup = new JpqlFunctionGroup(AbstractJsonGetFunction.FUNCTION_NAME, false);
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLJsonGetFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQL8JsonGetFunction());
-        jpqlFunctionGroup.add("oracle", new OracleJsonGetFunction());
-        jpqlFunctionGroup.add("db2", new DB2JsonGetFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLJsonGetFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.jsonget.PostgreSQLJsonGetFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.jsonget.MySQL8JsonGetFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.jsonget.OracleJsonGetFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.jsonget.DB2JsonGetFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.jsonget.MSSQLJsonGetFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // JSON_SET
         jpqlFunctionGroup = new JpqlFunctionGroup(AbstractJsonSetFunction.FUNCTION_NAME, false);
-        jpqlFunctionGroup.add("postgresql", new PostgreSQLJsonSetFunction());
-        jpqlFunctionGroup.add("mysql8", new MySQL8JsonSetFunction());
-        jpqlFunctionGroup.add("oracle", new OracleJsonSetFunction());
-        jpqlFunctionGroup.add("db2", new DB2JsonSetFunction());
-        jpqlFunctionGroup.add("microsoft", new MSSQLJsonSetFunction());
+        jpqlFunctionGroup.addLazy("postgresql", "com.blazebit.persistence.impl.function.jsonset.PostgreSQLJsonSetFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("mysql8", "com.blazebit.persistence.impl.function.jsonset.MySQL8JsonSetFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("oracle", "com.blazebit.persistence.impl.function.jsonset.OracleJsonSetFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("db2", "com.blazebit.persistence.impl.function.jsonset.DB2JsonSetFunction", functionClassLoader);
+        jpqlFunctionGroup.addLazy("microsoft", "com.blazebit.persistence.impl.function.jsonset.MSSQLJsonSetFunction", functionClassLoader);
         registerFunction(jpqlFunctionGroup);
 
         // grouping
@@ -2013,6 +1674,39 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
         return entityManagerIntegrators;
     }
 
+    @Override
+    public CriteriaBuilderConfiguration registerQueryExecutionListener(QueryExecutionListener queryExecutionListener) {
+        queryExecutionListeners.add(queryExecutionListener);
+        return this;
+    }
+
+    @Override
+    public List<QueryExecutionListener> getQueryExecutionListeners() {
+        return queryExecutionListeners;
+    }
+
+    @Override
+    public CriteriaBuilderConfiguration setQueryResultCacheStorage(QueryResultCacheStorage queryResultCacheStorage) {
+        this.queryResultCacheStorage = queryResultCacheStorage;
+        return this;
+    }
+
+    @Override
+    public QueryResultCacheStorage getQueryResultCacheStorage() {
+        return queryResultCacheStorage;
+    }
+
+    @Override
+    public CriteriaBuilderConfiguration setReadOnlyEntityManagerProvider(ReadOnlyEntityManagerProvider readOnlyEntityManagerProvider) {
+        this.readOnlyEntityManagerProvider = readOnlyEntityManagerProvider;
+        return this;
+    }
+
+    @Override
+    public ReadOnlyEntityManagerProvider getReadOnlyEntityManagerProvider() {
+        return readOnlyEntityManagerProvider;
+    }
+
     @Override
     public CriteriaBuilderFactory createCriteriaBuilderFactory(EntityManagerFactory emf) {
         return new CriteriaBuilderFactoryImpl(this, emf);
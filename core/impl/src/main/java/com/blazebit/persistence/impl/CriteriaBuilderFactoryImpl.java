@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.impl;
 
+import com.blazebit.persistence.ConfigurationProperties;
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.CriteriaBuilderFactory;
 import com.blazebit.persistence.DeleteCriteriaBuilder;
@@ -23,6 +24,10 @@ import com.blazebit.persistence.InsertCriteriaBuilder;
 import com.blazebit.persistence.LeafOngoingFinalSetOperationCriteriaBuilder;
 import com.blazebit.persistence.StartOngoingSetOperationCriteriaBuilder;
 import com.blazebit.persistence.UpdateCriteriaBuilder;
+import com.blazebit.persistence.impl.query.BoundedQueryResultCacheStorage;
+import com.blazebit.persistence.impl.query.QueryResultCacheImpl;
+import com.blazebit.persistence.impl.query.SqlTemplateCache;
+import com.blazebit.persistence.impl.util.PropertyUtils;
 import com.blazebit.persistence.parser.FunctionKind;
 import com.blazebit.persistence.parser.expression.ExpressionCache;
 import com.blazebit.persistence.parser.expression.ExpressionFactory;
@@ -40,6 +45,10 @@ import com.blazebit.persistence.spi.JpqlFunction;
 import com.blazebit.persistence.spi.JpqlFunctionGroup;
 import com.blazebit.persistence.spi.JpqlFunctionKind;
 import com.blazebit.persistence.spi.PackageOpener;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryResultCache;
+import com.blazebit.persistence.spi.QueryResultCacheStorage;
+import com.blazebit.persistence.spi.ReadOnlyEntityManagerProvider;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -48,6 +57,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  *
@@ -64,9 +76,17 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
     private final Map<String, FunctionKind> functions;
     private final Map<Class<?>, String> namedTypes;
     private final ExpressionCache expressionCache;
+    private final SqlTemplateCache sqlTemplateCache;
+    private final QueryResultCacheImpl queryResultCache;
     private final ExpressionFactory expressionFactory;
     private final ExpressionFactory subqueryExpressionFactory;
     private final QueryConfiguration queryConfiguration;
+    private final QueryExecutionListener[] queryExecutionListeners;
+    private final long slowQueryExplainThresholdNanos;
+    private final ReadOnlyEntityManagerProvider readOnlyEntityManagerProvider;
+    private final EntityManagerFactoryIntegrator integrator;
+    private final Map<String, JpqlFunctionGroup> functionGroups;
+    private final Set<EntityManagerFactory> readOnlyEntityManagerFactories;
 
     private final MacroConfiguration macroConfiguration;
     private final String configuredDbms;
@@ -112,12 +132,21 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
 
         this.transientEntityParameterTransformerFactory = new TransientEntityAssociationParameterTransformerFactory(metamodel, new AssociationToIdParameterTransformer(jpaProvider));
         this.extendedQuerySupport = config.getExtendedQuerySupport();
+        List<QueryExecutionListener> listeners = config.getQueryExecutionListeners();
+        this.queryExecutionListeners = listeners.toArray(new QueryExecutionListener[listeners.size()]);
+        this.slowQueryExplainThresholdNanos = getSlowQueryExplainThresholdNanos(config);
+        this.readOnlyEntityManagerProvider = config.getReadOnlyEntityManagerProvider();
+        this.integrator = integrator;
+        this.functionGroups = new HashMap<>(config.getFunctions());
+        this.readOnlyEntityManagerFactories = Collections.newSetFromMap(new ConcurrentHashMap<EntityManagerFactory, Boolean>());
         this.functions = resolveFunctions(config.getFunctions(), configuredRegisteredFunctions);
         this.registeredFunctionNames = caseInsensitiveFunctions(configuredRegisteredFunctions);
         this.namedTypes = resolveNamedTypes(config.getNamedTypes());
 
         ExpressionFactory originalExpressionFactory = new ExpressionFactoryImpl(functions, metamodel.getEntityTypes(), metamodel.getEnumTypes(), metamodel.getEnumTypesForLiterals(), !compatibleMode, optimize);
         this.expressionCache = createCache(queryConfiguration.getExpressionCacheClass());
+        this.sqlTemplateCache = new SqlTemplateCache();
+        this.queryResultCache = createQueryResultCache(config);
         ExpressionFactory cachingExpressionFactory = new SimpleCachingExpressionFactory(originalExpressionFactory, expressionCache);
         ExpressionFactory cachingSubqueryExpressionFactory = new SimpleCachingExpressionFactory(new SubqueryExpressionFactory(functions, metamodel.getEntityTypes(), metamodel.getEnumTypes(), metamodel.getEnumTypesForLiterals(), !compatibleMode, optimize, originalExpressionFactory));
         this.macroConfiguration = MacroConfiguration.of(JpqlMacroAdapter.createMacros(config.getMacros(), cachingExpressionFactory));
@@ -134,6 +163,32 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         }
     }
 
+    private QueryResultCacheImpl createQueryResultCache(CriteriaBuilderConfigurationImpl config) {
+        if (!PropertyUtils.getAsBooleanProperty(config.getProperties(), ConfigurationProperties.QUERY_RESULT_CACHE, false)) {
+            return null;
+        }
+        QueryResultCacheStorage storage = config.getQueryResultCacheStorage();
+        if (storage == null) {
+            storage = new BoundedQueryResultCacheStorage();
+        }
+        // Modification queries end the invalidation of the entity types they write when the transaction completes
+        if (extendedQuerySupport == null || !extendedQuerySupport.supportsTransactionCompletionCallbacks()) {
+            throw new IllegalStateException("The query result cache is not supported by the JPA provider!");
+        }
+        return new QueryResultCacheImpl(metamodel, storage, extendedQuerySupport);
+    }
+
+    private static long getSlowQueryExplainThresholdNanos(CriteriaBuilderConfigurationImpl config) {
+        String threshold = config.getProperty(ConfigurationProperties.SLOW_QUERY_EXPLAIN_THRESHOLD);
+        long thresholdMillis;
+        try {
+            thresholdMillis = threshold == null || threshold.isEmpty() ? -1L : Long.parseLong(threshold);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid value for property " + ConfigurationProperties.SLOW_QUERY_EXPLAIN_THRESHOLD + ": " + threshold, ex);
+        }
+        return thresholdMillis < 0L ? -1L : TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
     private static Map<String, FunctionKind> resolveFunctions(Map<String, JpqlFunctionGroup> functions, Map<String, JpqlFunction> configuredFunctions) {
         Map<String, FunctionKind> map = new HashMap<>();
         for (Map.Entry<String, JpqlFunctionGroup> entry : functions.entrySet()) {
@@ -208,6 +263,57 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         return macroConfiguration;
     }
 
+    public QueryResultCacheImpl getQueryResultCache() {
+        return queryResultCache;
+    }
+
+    public QueryExecutionListener[] getQueryExecutionListeners() {
+        return queryExecutionListeners;
+    }
+
+    public long getSlowQueryExplainThresholdNanos() {
+        return slowQueryExplainThresholdNanos;
+    }
+
+    /**
+     * Returns the entity manager on which read-only queries for the given entity manager should run.
+     * A transaction must never read stale data from a replica after writing, so we stay on the given entity manager
+     * as long as it is joined to a transaction.
+     *
+     * @param entityManager The entity manager for which a read-only query is created
+     * @return The entity manager on which the read-only query should run
+     */
+    public EntityManager getReadOnlyEntityManager(EntityManager entityManager) {
+        if (readOnlyEntityManagerProvider == null || entityManager.isJoinedToTransaction()) {
+            return entityManager;
+        }
+        EntityManager readOnlyEntityManager = readOnlyEntityManagerProvider.getReadOnlyEntityManager(entityManager);
+        if (readOnlyEntityManager == null) {
+            return entityManager;
+        }
+        EntityManagerFactory readOnlyEntityManagerFactory = readOnlyEntityManager.getEntityManagerFactory();
+        if (readOnlyEntityManagerFactory != entityManager.getEntityManagerFactory() && !readOnlyEntityManagerFactories.contains(readOnlyEntityManagerFactory)) {
+            registerFunctions(readOnlyEntityManagerFactory);
+        }
+        return readOnlyEntityManager;
+    }
+
+    private void registerFunctions(EntityManagerFactory readOnlyEntityManagerFactory) {
+        // A replica usually has its own entity manager factory which needs our functions as well
+        synchronized (readOnlyEntityManagerFactories) {
+            if (!readOnlyEntityManagerFactories.contains(readOnlyEntityManagerFactory)) {
+                integrator.registerFunctions(readOnlyEntityManagerFactory, functionGroups);
+                readOnlyEntityManagerFactories.add(readOnlyEntityManagerFactory);
+            }
+        }
+    }
+
+    public MainQuery createReadOnlyMainQuery(EntityManager entityManager) {
+        MainQuery mainQuery = createMainQuery(getReadOnlyEntityManager(entityManager));
+        mainQuery.setReadOnly(true);
+        return mainQuery;
+    }
+
     public ExtendedQuerySupport getExtendedQuerySupport() {
         return extendedQuerySupport;
     }
@@ -285,6 +391,17 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         return cb;
     }
 
+    @Override
+    public <T> CriteriaBuilder<T> createReadOnly(EntityManager entityManager, Class<T> resultClass) {
+        return createReadOnly(entityManager, resultClass, null);
+    }
+
+    @Override
+    public <T> CriteriaBuilder<T> createReadOnly(EntityManager entityManager, Class<T> resultClass, String alias) {
+        MainQuery mainQuery = createReadOnlyMainQuery(entityManager);
+        return new CriteriaBuilderImpl<T>(mainQuery, true, resultClass, alias);
+    }
+
     @Override
     public <T> DeleteCriteriaBuilder<T> delete(EntityManager entityManager, Class<T> deleteClass) {
         return delete(entityManager, deleteClass, null);
@@ -364,8 +481,14 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
             return (T) configuredJpaProviderFactory;
         } else if (JpaProvider.class.equals(serviceClass)) {
             return (T) jpaProvider;
+        } else if (QueryExecutionListener[].class.equals(serviceClass)) {
+            return (T) queryExecutionListeners.clone();
         } else if (ExpressionCache.class.equals(serviceClass)) {
             return (T) expressionCache;
+        } else if (SqlTemplateCache.class.equals(serviceClass)) {
+            return (T) sqlTemplateCache;
+        } else if (QueryResultCache.class.equals(serviceClass)) {
+            return (T) queryResultCache;
         } else if (Metamodel.class.isAssignableFrom(serviceClass)) {
             return (T) metamodel;
         } else if (EntityManagerFactory.class.equals(serviceClass)) {
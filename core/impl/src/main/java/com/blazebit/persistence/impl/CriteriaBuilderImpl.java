@@ -22,6 +22,7 @@ import com.blazebit.persistence.LeafOngoingSetOperationCriteriaBuilder;
 import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.SelectObjectBuilder;
 import com.blazebit.persistence.StartOngoingSetOperationCriteriaBuilder;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 import com.blazebit.persistence.spi.SetOperationType;
 
 import javax.persistence.TypedQuery;
@@ -53,14 +54,15 @@ public class CriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T, Criteria
 
     @Override
     public TypedQuery<Long> getQueryRootCountQuery() {
-        prepareAndCheck();
-        return getCountQuery(getCountQueryRootQueryStringWithoutCheck(Long.MAX_VALUE), isComplexCountQuery());
+        return getQueryRootCountQuery(Long.MAX_VALUE);
     }
 
     @Override
     public TypedQuery<Long> getQueryRootCountQuery(long maximumCount) {
+        long buildStart = System.nanoTime();
         prepareAndCheck();
-        return getCountQuery(getCountQueryRootQueryStringWithoutCheck(maximumCount), isComplexCountQuery());
+        String countQueryString = getCountQueryRootQueryStringWithoutCheck(maximumCount);
+        return applyQueryExecutionListeners(applyDeadline(getCountQuery(countQueryString, isComplexCountQuery())), QueryExecutionRole.COUNT, countQueryString, buildStart);
     }
 
     @Override
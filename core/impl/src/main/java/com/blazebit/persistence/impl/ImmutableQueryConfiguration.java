@@ -17,7 +17,9 @@
 package com.blazebit.persistence.impl;
 
 import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.QueryDeadline;
 import com.blazebit.persistence.impl.util.PropertyUtils;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -45,6 +47,11 @@ public class ImmutableQueryConfiguration extends AbstractQueryConfiguration {
     private final Boolean inlineCountQuery;
     private final Boolean inlineCtes;
     private final boolean queryPlanCacheEnabled;
+    private final QueryExecutionRole queryExecutionRole;
+    private final boolean queryResultCacheEnabled;
+    private final boolean leftJoinEliminationEnabled;
+    private final boolean inListPaddingEnabled;
+    private final boolean cteReuseEnabled;
 
     public ImmutableQueryConfiguration(Map<String, String> properties) {
         this.compatibleModeEnabled = PropertyUtils.getAsBooleanProperty(properties, ConfigurationProperties.COMPATIBLE_MODE, false);
@@ -66,6 +73,12 @@ public class ImmutableQueryConfiguration extends AbstractQueryConfiguration {
         this.inlineCountQuery = "auto".equalsIgnoreCase(inlineCountQuery) ? null : Boolean.parseBoolean(inlineCountQuery);
         this.inlineCtes = "auto".equalsIgnoreCase(inlineCtes) ? null : Boolean.parseBoolean(inlineCtes);
         this.queryPlanCacheEnabled =                        getBooleanProperty(properties, ConfigurationProperties.QUERY_PLAN_CACHE_ENABLED,            "true");
+        String queryExecutionRole =                         getProperty(properties, ConfigurationProperties.QUERY_EXECUTION_ROLE,                       "auto");
+        this.queryExecutionRole = "auto".equalsIgnoreCase(queryExecutionRole) ? null : QueryExecutionRole.valueOf(queryExecutionRole);
+        this.queryResultCacheEnabled =                      getBooleanProperty(properties, ConfigurationProperties.QUERY_RESULT_CACHE_ENABLED,          "false");
+        this.leftJoinEliminationEnabled =                   getBooleanProperty(properties, ConfigurationProperties.LEFT_JOIN_ELIMINATION,               "false");
+        this.inListPaddingEnabled =                         getBooleanProperty(properties, ConfigurationProperties.IN_LIST_PADDING,                     "false");
+        this.cteReuseEnabled =                              getBooleanProperty(properties, ConfigurationProperties.CTE_REUSE,                           "false");
     }
 
     @Override
@@ -148,11 +161,56 @@ public class ImmutableQueryConfiguration extends AbstractQueryConfiguration {
         return false;
     }
 
+    @Override
+    public void setFetchSize(int fetchSize) {
+        throw new UnsupportedOperationException("Can't set fetch size on immutable query configuration!");
+    }
+
+    @Override
+    public int getFetchSize() {
+        return 0;
+    }
+
+    @Override
+    public void setDeadline(QueryDeadline deadline) {
+        throw new UnsupportedOperationException("Can't set deadline on immutable query configuration!");
+    }
+
+    @Override
+    public QueryDeadline getDeadline() {
+        return null;
+    }
+
     @Override
     public boolean isQueryPlanCacheEnabled() {
         return queryPlanCacheEnabled;
     }
 
+    @Override
+    public QueryExecutionRole getQueryExecutionRole() {
+        return queryExecutionRole;
+    }
+
+    @Override
+    public boolean isQueryResultCacheEnabled() {
+        return queryResultCacheEnabled;
+    }
+
+    @Override
+    public boolean isLeftJoinEliminationEnabled() {
+        return leftJoinEliminationEnabled;
+    }
+
+    @Override
+    public boolean isInListPaddingEnabled() {
+        return inListPaddingEnabled;
+    }
+
+    @Override
+    public boolean isCteReuseEnabled() {
+        return cteReuseEnabled;
+    }
+
     @Override
     public String getProperty(String name) {
         switch (name) {
@@ -171,6 +229,11 @@ public class ImmutableQueryConfiguration extends AbstractQueryConfiguration {
             case ConfigurationProperties.INLINE_COUNT_QUERY: return inlineIdQuery == null ? "auto" : Boolean.toString(inlineIdQuery);
             case ConfigurationProperties.INLINE_CTES: return inlineCtes == null ? "auto" : Boolean.toString(inlineCtes);
             case ConfigurationProperties.QUERY_PLAN_CACHE_ENABLED: return Boolean.toString(queryPlanCacheEnabled);
+            case ConfigurationProperties.QUERY_EXECUTION_ROLE: return queryExecutionRole == null ? "auto" : queryExecutionRole.name();
+            case ConfigurationProperties.QUERY_RESULT_CACHE_ENABLED: return Boolean.toString(queryResultCacheEnabled);
+            case ConfigurationProperties.LEFT_JOIN_ELIMINATION: return Boolean.toString(leftJoinEliminationEnabled);
+            case ConfigurationProperties.IN_LIST_PADDING: return Boolean.toString(inListPaddingEnabled);
+            case ConfigurationProperties.CTE_REUSE: return Boolean.toString(cteReuseEnabled);
             default: return null;
         }
     }
@@ -193,6 +256,11 @@ public class ImmutableQueryConfiguration extends AbstractQueryConfiguration {
         properties.put(ConfigurationProperties.INLINE_COUNT_QUERY, getInlineCountQueryEnabled() == null ? "auto" : Boolean.toString(getInlineCountQueryEnabled()));
         properties.put(ConfigurationProperties.INLINE_CTES, getInlineCtesEnabled() == null ? "auto" : Boolean.toString(getInlineCtesEnabled()));
         properties.put(ConfigurationProperties.QUERY_PLAN_CACHE_ENABLED, Boolean.toString(queryPlanCacheEnabled));
+        properties.put(ConfigurationProperties.QUERY_EXECUTION_ROLE, queryExecutionRole == null ? "auto" : queryExecutionRole.name());
+        properties.put(ConfigurationProperties.QUERY_RESULT_CACHE_ENABLED, Boolean.toString(queryResultCacheEnabled));
+        properties.put(ConfigurationProperties.LEFT_JOIN_ELIMINATION, Boolean.toString(leftJoinEliminationEnabled));
+        properties.put(ConfigurationProperties.IN_LIST_PADDING, Boolean.toString(inListPaddingEnabled));
+        properties.put(ConfigurationProperties.CTE_REUSE, Boolean.toString(cteReuseEnabled));
         return properties;
     }
 
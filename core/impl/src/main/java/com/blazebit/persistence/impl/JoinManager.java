@@ -135,6 +135,7 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
     private final Set<JoinNode> collectionJoinNodes = Collections.newSetFromMap(new IdentityHashMap<JoinNode, Boolean>());
     private final Set<JoinNode> renderedJoins = Collections.newSetFromMap(new IdentityHashMap<JoinNode, Boolean>());
     private final Set<JoinNode> markedJoinNodes = Collections.newSetFromMap(new IdentityHashMap<JoinNode, Boolean>());
+    private final Set<JoinNode> eliminatedLeftJoins = Collections.newSetFromMap(new IdentityHashMap<JoinNode, Boolean>());
     private final StringBuilder tempSb = new StringBuilder();
 
     // Setting to force entity joins being rendered as cross joins. Needed for recursive CTEs with DB2..
@@ -1406,6 +1407,10 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
         final boolean renderFetches = !clauseExclusions.contains(ClauseType.SELECT);
         collectionJoinNodes.clear();
         renderedJoins.clear();
+        eliminatedLeftJoins.clear();
+        if (mainQuery.getQueryConfiguration().isLeftJoinEliminationEnabled()) {
+            collectEliminatedLeftJoins(nodesToFetch, alwaysIncludedNodes);
+        }
         if (renderFrom) {
             sb.append(" FROM ");
         }
@@ -2256,6 +2261,55 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
         return true;
     }
 
+    private void collectEliminatedLeftJoins(Set<JoinNode> nodesToFetch, Set<JoinNode> alwaysIncludedNodes) {
+        final Set<JoinNode> referencedNodes = Collections.newSetFromMap(new IdentityHashMap<JoinNode, Boolean>());
+        acceptVisitor(new JoinNodeVisitor() {
+            @Override
+            public void visit(JoinNode node) {
+                referencedNodes.addAll(node.getDependencies());
+            }
+        });
+        ConstantifiedJoinNodeAttributeCollector constantifiedJoinNodeAttributeCollector = queryBuilder.functionalDependencyAnalyzerVisitor.getConstantifiedJoinNodeAttributeCollector();
+        for (JoinNode rootNode : rootNodes) {
+            for (JoinTreeNode treeNode : rootNode.getNodes().values()) {
+                for (JoinNode node : treeNode.getJoinNodes().values()) {
+                    collectEliminatedLeftJoins(node, referencedNodes, nodesToFetch, alwaysIncludedNodes, constantifiedJoinNodeAttributeCollector);
+                }
+            }
+        }
+    }
+
+    private boolean collectEliminatedLeftJoins(JoinNode node, Set<JoinNode> referencedNodes, Set<JoinNode> nodesToFetch, Set<JoinNode> alwaysIncludedNodes, ConstantifiedJoinNodeAttributeCollector constantifiedJoinNodeAttributeCollector) {
+        boolean eliminable = true;
+        for (JoinTreeNode treeNode : node.getNodes().values()) {
+            for (JoinNode childNode : treeNode.getJoinNodes().values()) {
+                eliminable = collectEliminatedLeftJoins(childNode, referencedNodes, nodesToFetch, alwaysIncludedNodes, constantifiedJoinNodeAttributeCollector) && eliminable;
+            }
+        }
+        // A left join can only be omitted if nothing refers to it and it is guaranteed to produce at most one row for the parent row
+        // We don't eliminate joins with an ON condition since it might contain parameters that are registered for the query
+        if (eliminable
+                && node.getJoinType() == JoinType.LEFT
+                && node.getClauseDependencies().isEmpty()
+                && (node.getOnPredicate() == null || node.getOnPredicate().getChildren().isEmpty())
+                && !node.isFetch()
+                && node.getTreatType() == null
+                && node.getTreatedJoinNodes().isEmpty()
+                && node.getEntityJoinNodes().isEmpty()
+                && node.getCorrelationParent() == null
+                && !node.isLateral()
+                && !node.isInlineCte()
+                && node.getValueCount() == 0
+                && !node.isCollection(constantifiedJoinNodeAttributeCollector)
+                && !referencedNodes.contains(node)
+                && !nodesToFetch.contains(node)
+                && !alwaysIncludedNodes.contains(node)) {
+            eliminatedLeftJoins.add(node);
+            return true;
+        }
+        return false;
+    }
+
     private void addDefaultJoins(List<JoinNode> stack, Map<String, JoinTreeNode> nodes) {
         for (Map.Entry<String, JoinTreeNode> nodeEntry : nodes.entrySet()) {
             JoinTreeNode treeNode = nodeEntry.getValue();
@@ -2274,6 +2328,10 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
         if (!clauseExclusions.isEmpty() && clauseExclusions.containsAll(node.getClauseDependencies()) && (ignoreCardinality || !node.isCardinalityMandatory()) && !alwaysIncludedNodes.contains(node)) {
             return;
         }
+        // Unused left joins that produce at most one row don't influence the result, so we skip them as well
+        if (eliminatedLeftJoins.contains(node)) {
+            return;
+        }
 
         // We have to render any dependencies this join node has before actually rendering itself
         // Non-Default join nodes are rendered in insertion order but their dependencies doesn't include the parent,
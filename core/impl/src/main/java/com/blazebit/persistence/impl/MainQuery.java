@@ -47,8 +47,9 @@ public class MainQuery {
 
     private final JpqlMacroStorage macroStorage;
     private QueryConfiguration queryConfiguration;
+    private boolean readOnly;
 
-    private MainQuery(CriteriaBuilderFactoryImpl cbf, EntityManager em, JpaProvider jpaProvider, DbmsDialect dbmsDialect, Map<String, JpqlFunction> registeredFunctions, Map<String, String> registeredFunctionNames, ParameterManager parameterManager) {
+    private MainQuery(CriteriaBuilderFactoryImpl cbf, EntityManager em, JpaProvider jpaProvider, DbmsDialect dbmsDialect, Map<String, JpqlFunction> registeredFunctions, Map<String, String> registeredFunctionNames) {
         super();
         this.cbf = cbf;
         this.queryConfiguration = cbf.getQueryConfiguration();
@@ -62,7 +63,7 @@ public class MainQuery {
         this.dbmsDialect = dbmsDialect;
         this.registeredFunctions = registeredFunctions;
         this.registeredFunctionNames = registeredFunctionNames;
-        this.parameterManager = parameterManager;
+        this.parameterManager = new ParameterManager(this, jpaProvider, metamodel);
         this.cteManager = new CTEManager(this);
 
         if (jpaProvider.supportsTransientEntityAsParameter()) {
@@ -77,9 +78,7 @@ public class MainQuery {
             throw new NullPointerException("criteriaBuilderFactory");
         }
 
-        JpaProvider jpaProvider = cbf.getJpaProvider();
-        ParameterManager parameterManager = new ParameterManager(jpaProvider, cbf.getMetamodel());
-        return new MainQuery(cbf, em, jpaProvider, dbmsDialect, registeredFunctions, registeredFunctionNames, parameterManager);
+        return new MainQuery(cbf, em, cbf.getJpaProvider(), dbmsDialect, registeredFunctions, registeredFunctionNames);
     }
 
     public final void registerMacro(String macroName, JpqlMacro jpqlMacro) {
@@ -112,6 +111,14 @@ public class MainQuery {
         return queryConfiguration;
     }
 
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
     public CriteriaBuilderFactoryImpl getCbf() {
         return cbf;
     }
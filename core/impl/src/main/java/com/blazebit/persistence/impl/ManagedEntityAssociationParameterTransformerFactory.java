@@ -44,6 +44,10 @@ public class ManagedEntityAssociationParameterTransformerFactory implements Asso
 
             @Override
             public Object transform(Object originalValue) {
+                // An unbound template is never executed, the copies that are bound to an entity manager transform the value
+                if (em == null) {
+                    return originalValue;
+                }
                 return em.getReference(entityType, originalValue);
             }
         };
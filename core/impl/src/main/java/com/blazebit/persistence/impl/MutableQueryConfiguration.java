@@ -17,6 +17,8 @@
 package com.blazebit.persistence.impl;
 
 import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.QueryDeadline;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 
 import java.util.Map;
 
@@ -40,10 +42,17 @@ public class MutableQueryConfiguration extends AbstractQueryConfiguration {
     private boolean parameterAsLiteralRenderingEnabled;
     private boolean optimizedKeysetPredicateRenderingEnabled;
     private boolean cacheable;
+    private int fetchSize;
+    private QueryDeadline deadline;
     private Boolean inlineIdQuery;
     private Boolean inlineCountQuery;
     private Boolean inlineCtes;
     private boolean queryPlanCacheEnabled;
+    private QueryExecutionRole queryExecutionRole;
+    private boolean queryResultCacheEnabled;
+    private boolean leftJoinEliminationEnabled;
+    private boolean inListPaddingEnabled;
+    private boolean cteReuseEnabled;
 
     public MutableQueryConfiguration(QueryConfiguration queryConfiguration) {
         this.compatibleModeEnabled = queryConfiguration.isCompatibleModeEnabled();
@@ -58,9 +67,17 @@ public class MutableQueryConfiguration extends AbstractQueryConfiguration {
         this.parameterAsLiteralRenderingEnabled = queryConfiguration.isParameterAsLiteralRenderingEnabled();
         this.optimizedKeysetPredicateRenderingEnabled = queryConfiguration.isOptimizedKeysetPredicateRenderingEnabled();
         this.cacheable = queryConfiguration.isCacheable();
+        this.fetchSize = queryConfiguration.getFetchSize();
+        this.deadline = queryConfiguration.getDeadline();
         this.inlineIdQuery = queryConfiguration.getInlineIdQueryEnabled();
         this.inlineCountQuery = queryConfiguration.getInlineCountQueryEnabled();
         this.inlineCtes = queryConfiguration.getInlineCtesEnabled();
+        this.queryPlanCacheEnabled = queryConfiguration.isQueryPlanCacheEnabled();
+        this.queryExecutionRole = queryConfiguration.getQueryExecutionRole();
+        this.queryResultCacheEnabled = queryConfiguration.isQueryResultCacheEnabled();
+        this.leftJoinEliminationEnabled = queryConfiguration.isLeftJoinEliminationEnabled();
+        this.inListPaddingEnabled = queryConfiguration.isInListPaddingEnabled();
+        this.cteReuseEnabled = queryConfiguration.isCteReuseEnabled();
     }
 
     @Override
@@ -143,11 +160,56 @@ public class MutableQueryConfiguration extends AbstractQueryConfiguration {
         return cacheable;
     }
 
+    @Override
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    @Override
+    public void setDeadline(QueryDeadline deadline) {
+        this.deadline = deadline;
+    }
+
+    @Override
+    public QueryDeadline getDeadline() {
+        return deadline;
+    }
+
     @Override
     public boolean isQueryPlanCacheEnabled() {
         return queryPlanCacheEnabled;
     }
 
+    @Override
+    public QueryExecutionRole getQueryExecutionRole() {
+        return queryExecutionRole;
+    }
+
+    @Override
+    public boolean isQueryResultCacheEnabled() {
+        return queryResultCacheEnabled;
+    }
+
+    @Override
+    public boolean isLeftJoinEliminationEnabled() {
+        return leftJoinEliminationEnabled;
+    }
+
+    @Override
+    public boolean isInListPaddingEnabled() {
+        return inListPaddingEnabled;
+    }
+
+    @Override
+    public boolean isCteReuseEnabled() {
+        return cteReuseEnabled;
+    }
+
     @Override
     public void setProperties(Map<String, String> properties) {
         for (Map.Entry<String, String> entry : properties.entrySet()) {
@@ -174,6 +236,11 @@ public class MutableQueryConfiguration extends AbstractQueryConfiguration {
             case ConfigurationProperties.INLINE_COUNT_QUERY:                    inlineCountQuery = "auto".equalsIgnoreCase(propertyValue) ? null : booleanOrFail(propertyName, propertyValue); break;
             case ConfigurationProperties.INLINE_CTES:                           inlineCtes = "auto".equalsIgnoreCase(propertyValue) ? null : booleanOrFail(propertyName, propertyValue); break;
             case ConfigurationProperties.QUERY_PLAN_CACHE_ENABLED:              queryPlanCacheEnabled = booleanOrFail(propertyName, propertyValue); break;
+            case ConfigurationProperties.QUERY_EXECUTION_ROLE:                  queryExecutionRole = "auto".equalsIgnoreCase(propertyValue) ? null : QueryExecutionRole.valueOf(propertyValue); break;
+            case ConfigurationProperties.QUERY_RESULT_CACHE_ENABLED:            queryResultCacheEnabled = booleanOrFail(propertyName, propertyValue); break;
+            case ConfigurationProperties.LEFT_JOIN_ELIMINATION:                 leftJoinEliminationEnabled = booleanOrFail(propertyName, propertyValue); break;
+            case ConfigurationProperties.IN_LIST_PADDING:                       inListPaddingEnabled = booleanOrFail(propertyName, propertyValue); break;
+            case ConfigurationProperties.CTE_REUSE:                             cteReuseEnabled = booleanOrFail(propertyName, propertyValue); break;
             default: break;
         }
         // CHECKSTYLE:ON: OneStatementPerLine
@@ -19,6 +19,8 @@ package com.blazebit.persistence.impl;
 import com.blazebit.persistence.CaseWhenStarterBuilder;
 import com.blazebit.persistence.ConfigurationProperties;
 import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.ExplainPlan;
 import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.HavingOrBuilder;
 import com.blazebit.persistence.Keyset;
@@ -51,6 +53,7 @@ import com.blazebit.persistence.impl.query.CustomQuerySpecification;
 import com.blazebit.persistence.impl.query.CustomSQLTypedQuery;
 import com.blazebit.persistence.impl.query.EntityFunctionNode;
 import com.blazebit.persistence.impl.query.ObjectBuilderTypedQuery;
+import com.blazebit.persistence.impl.query.QueryExplainer;
 import com.blazebit.persistence.impl.query.QuerySpecification;
 import com.blazebit.persistence.impl.query.TypedQueryWrapper;
 import com.blazebit.persistence.parser.expression.Expression;
@@ -65,6 +68,7 @@ import com.blazebit.persistence.parser.predicate.EqPredicate;
 import com.blazebit.persistence.parser.predicate.InPredicate;
 import com.blazebit.persistence.parser.predicate.Predicate;
 import com.blazebit.persistence.spi.AttributeAccessor;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 
 import javax.persistence.Parameter;
 import javax.persistence.TypedQuery;
@@ -98,6 +102,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
     private Boolean withInlineIdQuery;
     private boolean withInlineCountQuery;
     private long maximumCount = Long.MAX_VALUE;
+    private boolean withHasNextPageLookahead;
     private int highestOffset = 0;
     private final KeysetPage keysetPage;
     private final ResolvedExpression[] identifierExpressions;
@@ -317,6 +322,25 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         return maximumCount;
     }
 
+    @Override
+    public PaginatedCriteriaBuilder<T> withHasNextPageLookahead(boolean withHasNextPageLookahead) {
+        if (this.withHasNextPageLookahead != withHasNextPageLookahead) {
+            this.withHasNextPageLookahead = withHasNextPageLookahead;
+            prepareForModification(ClauseType.SELECT);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isWithHasNextPageLookahead() {
+        return withHasNextPageLookahead;
+    }
+
+    private int getPageQueryMaxResults() {
+        // The lookahead fetches one more row than the page size to determine if there is a next page
+        return withHasNextPageLookahead ? maxResults + 1 : maxResults;
+    }
+
     @Override
     public PaginatedCriteriaBuilder<T> withForceIdQuery(boolean withForceIdQuery) {
         this.withForceIdQuery = withForceIdQuery;
@@ -495,7 +519,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         }
         QuerySpecification querySpecification = new CustomQuerySpecification(
                 this, baseQuery, parameters, parameterListNames, null, null, keyRestrictedLeftJoinAliases, entityFunctionNodes,
-                mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null
+                mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null, getQueryHints(baseQuery)
         );
 
         CustomSQLTypedQuery<X> countQuery = new CustomSQLTypedQuery<X>(
@@ -518,10 +542,11 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
 
     @Override
     public PaginatedTypedQueryImpl<T> getQuery() {
+        long buildStart = System.nanoTime();
         prepareAndCheck();
         // We can only use the query directly if we have no ctes, entity functions or hibernate bugs
         Set<JoinNode> keyRestrictedLeftJoins = getKeyRestrictedLeftJoins();
-        boolean normalQueryMode = !isMainQuery || (!mainQuery.cteManager.hasCtes() && !joinManager.hasEntityFunctions() && keyRestrictedLeftJoins.isEmpty());
+        boolean normalQueryMode = !isMainQuery || (!mainQuery.cteManager.hasCtes() && !joinManager.hasEntityFunctions() && keyRestrictedLeftJoins.isEmpty() && queryHints.isEmpty());
         TypedQuery<?> countQuery;
         String countQueryString = getPageCountQueryStringWithoutCheck();
         List<JoinNode> entityFunctions = null;
@@ -530,6 +555,9 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
             alwaysIncludedNodes = getIdentifierExpressionsToUseNonRootJoinNodes();
             entityFunctions = joinManager.getEntityFunctions(COUNT_QUERY_GROUP_BY_CLAUSE_EXCLUSIONS, true, alwaysIncludedNodes);
         }
+        // The preparation is shared by all queries, but we attribute it to the object query
+        long preparationTime = System.nanoTime() - buildStart;
+        long countBuildStart = System.nanoTime();
 
         if (maximumCount == Long.MAX_VALUE) {
             if (entityId == null) {
@@ -550,35 +578,40 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
             }
         }
 
+        countQuery = applyQueryExecutionListeners(applyDeadline(countQuery), QueryExecutionRole.COUNT, countQueryString, countBuildStart);
+
         TypedQuery<?> idQuery = null;
         TypedQuery<T> objectQuery;
         ObjectBuilder<T> objectBuilder;
         boolean inlinedIdQuery;
         boolean inlinedCountQuery = firstResult < maximumCount && withCountQuery && withInlineCountQuery;
         if (!isWithInlineIdQuery() && (hasCollections || withForceIdQuery)) {
+            long idBuildStart = System.nanoTime();
             String idQueryString = getPageIdQueryStringWithoutCheck();
             if (normalQueryMode) {
                 entityFunctions = Collections.emptyList();
             } else {
                 entityFunctions = joinManager.getEntityFunctions(ID_QUERY_GROUP_BY_CLAUSE_EXCLUSIONS, true, alwaysIncludedNodes);
             }
-            idQuery = getIdQuery(idQueryString, normalQueryMode, keyRestrictedLeftJoins, entityFunctions);
+            idQuery = applyQueryExecutionListeners(applyDeadline(getIdQuery(idQueryString, normalQueryMode, keyRestrictedLeftJoins, entityFunctions)), QueryExecutionRole.ID, idQueryString, idBuildStart);
+            long objectBuildStart = System.nanoTime() - preparationTime;
             if (normalQueryMode) {
                 entityFunctions = Collections.emptyList();
             } else {
                 entityFunctions = joinManager.getEntityFunctions(OBJECT_QUERY_CLAUSE_EXCLUSIONS, false, alwaysIncludedNodes);
             }
-            objectQuery = getObjectQueryById(normalQueryMode, keyRestrictedLeftJoins, entityFunctions);
+            objectQuery = applyQueryExecutionListeners(applyDeadline(getObjectQueryById(normalQueryMode, keyRestrictedLeftJoins, entityFunctions)), QueryExecutionRole.OBJECT, getBaseQueryString(null, null), objectBuildStart);
             objectBuilder = null;
             inlinedIdQuery = false;
         } else {
+            long objectBuildStart = System.nanoTime() - preparationTime;
             if (normalQueryMode) {
                 entityFunctions = Collections.emptyList();
             } else {
                 entityFunctions = joinManager.getEntityFunctions(hasGroupBy ? NO_CLAUSE_EXCLUSION : OBJECT_QUERY_WITHOUT_GROUP_BY_EXCLUSIONS, false, alwaysIncludedNodes);
             }
             Map.Entry<TypedQuery<T>, ObjectBuilder<T>> entry = getObjectQuery(normalQueryMode, keyRestrictedLeftJoins, entityFunctions);
-            objectQuery = entry.getKey();
+            objectQuery = applyQueryExecutionListeners(applyDeadline(entry.getKey()), QueryExecutionRole.OBJECT, getBaseQueryString(null, null), objectBuildStart);
             objectBuilder = entry.getValue();
             inlinedIdQuery = isWithInlineIdQuery() && (hasCollections || withForceIdQuery);
         }
@@ -586,6 +619,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
                 withExtractAllKeysets,
                 firstResult < maximumCount && withCountQuery,
                 maximumCount != Long.MAX_VALUE,
+                withHasNextPageLookahead,
                 highestOffset,
                 countQuery,
                 idQuery,
@@ -613,6 +647,12 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         return getQuery().getResultList();
     }
 
+    @Override
+    public List<ExplainPlan> getExplainPlan(ExplainOptions explainOptions) {
+        PaginatedTypedQueryImpl<T> query = getQuery();
+        return query.getExplainPlan(new QueryExplainer(this), explainOptions, getPageCountQueryStringWithoutCheck(), getPageIdQueryStringWithoutCheck(), getQueryExecutionRole(QueryExecutionRole.OBJECT), getBaseQueryString(null, null));
+    }
+
     @Override
     public String getCountQueryString() {
         return getPageCountQueryString();
@@ -620,14 +660,15 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
 
     @Override
     public TypedQuery<Long> getCountQuery() {
+        long buildStart = System.nanoTime();
         prepareAndCheck();
         // We can only use the query directly if we have no ctes, entity functions or hibernate bugs
         Set<JoinNode> keyRestrictedLeftJoins = getKeyRestrictedLeftJoins();
         Set<JoinNode> alwaysIncludedNodes = getIdentifierExpressionsToUseNonRootJoinNodes();
-        boolean normalQueryMode = !isMainQuery || (!mainQuery.cteManager.hasCtes() && !joinManager.hasEntityFunctions() && keyRestrictedLeftJoins.isEmpty());
+        boolean normalQueryMode = !isMainQuery || (!mainQuery.cteManager.hasCtes() && !joinManager.hasEntityFunctions() && keyRestrictedLeftJoins.isEmpty() && queryHints.isEmpty());
         String countQueryString = getPageCountQueryStringWithoutCheck();
         List<JoinNode> entityFunctions = joinManager.getEntityFunctions(COUNT_QUERY_GROUP_BY_CLAUSE_EXCLUSIONS, true, alwaysIncludedNodes);
-        return getCountQuery(countQueryString, Long.class, normalQueryMode, keyRestrictedLeftJoins, entityFunctions, null);
+        return applyQueryExecutionListeners(applyDeadline(getCountQuery(countQueryString, Long.class, normalQueryMode, keyRestrictedLeftJoins, entityFunctions, null)), QueryExecutionRole.COUNT, countQueryString, buildStart);
     }
 
     @Override
@@ -925,6 +966,9 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
             if (isCacheable()) {
                 mainQuery.jpaProvider.setCacheable(query);
             }
+            if (getFetchSize() > 0) {
+                mainQuery.jpaProvider.setFetchSize(query, getFetchSize());
+            }
             boolean externalIdQuery = !isWithInlineIdQuery() && (hasCollections || withForceIdQuery);
             if (!externalIdQuery && firstResult < maximumCount && withCountQuery && withInlineCountQuery && maximumCount != Long.MAX_VALUE) {
                 parameterManager.parameterizeQuery(query, getDualNodeAlias());
@@ -934,6 +978,9 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
             }
         } else {
             TypedQuery<T> baseQuery = (TypedQuery<T>) em.createQuery(queryString, expectedResultType);
+            if (getFetchSize() > 0) {
+                mainQuery.jpaProvider.setFetchSize(baseQuery, getFetchSize());
+            }
             Set<String> parameterListNames = parameterManager.getParameterListNames(baseQuery);
 
             List<String> keyRestrictedLeftJoinAliases = getKeyRestrictedLeftJoinAliases(baseQuery, keyRestrictedLeftJoins, clauseExclusions);
@@ -963,7 +1010,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
             }
             QuerySpecification querySpecification = new CustomQuerySpecification(
                     this, baseQuery, parameters, parameterListNames, null, null, keyRestrictedLeftJoinAliases, entityFunctionNodes,
-                    mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null
+                    mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null, getQueryHints(baseQuery)
             );
 
             query = new CustomSQLTypedQuery<T>(
@@ -989,9 +1036,9 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
 
         if (keysetExtraction) {
             if (transformerObjectBuilder == null) {
-                objectBuilder = new KeysetExtractionObjectBuilder<T>(keysetToSelectIndexMapping, keysetMode, maxResults, highestOffset, selectManager.getExpectedQueryResultType() != Object[].class, withExtractAllKeysets, inlinedCountQuery);
+                objectBuilder = new KeysetExtractionObjectBuilder<T>(keysetToSelectIndexMapping, keysetMode, maxResults, highestOffset, selectManager.getExpectedQueryResultType() != Object[].class, withExtractAllKeysets, inlinedCountQuery, withHasNextPageLookahead);
             } else {
-                objectBuilder = new DelegatingKeysetExtractionObjectBuilder<T>(transformerObjectBuilder, keysetToSelectIndexMapping, keysetMode, maxResults, highestOffset, withExtractAllKeysets, inlinedCountQuery);
+                objectBuilder = new DelegatingKeysetExtractionObjectBuilder<T>(transformerObjectBuilder, keysetToSelectIndexMapping, keysetMode, maxResults, highestOffset, withExtractAllKeysets, inlinedCountQuery, withHasNextPageLookahead);
             }
 
             transformerObjectBuilder = objectBuilder;
@@ -1034,7 +1081,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         List<CTENode> ctes = shouldRenderCteNodes ? getCteNodes(false) : Collections.EMPTY_LIST;
         QuerySpecification querySpecification = new CustomQuerySpecification(
                 this, baseQuery, parameterManager.getParameterImpls(), parameterListNames, null, null, keyRestrictedLeftJoinAliases, entityFunctionNodes,
-                mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null
+                mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null, getQueryHints(baseQuery)
         );
 
         CustomSQLTypedQuery<Object[]> idQuery = new CustomSQLTypedQuery<Object[]>(
@@ -1064,11 +1111,17 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
             if (isCacheable()) {
                 mainQuery.jpaProvider.setCacheable(query);
             }
+            if (getFetchSize() > 0) {
+                mainQuery.jpaProvider.setFetchSize(query, getFetchSize());
+            }
             parameterManager.parameterizeQuery(query, skippedParameterPrefix);
             return applyObjectBuilder(query);
         }
 
         TypedQuery<T> baseQuery = (TypedQuery<T>) em.createQuery(getBaseQueryString(null, null), selectManager.getExpectedQueryResultType());
+        if (getFetchSize() > 0) {
+            mainQuery.jpaProvider.setFetchSize(baseQuery, getFetchSize());
+        }
         Set<String> parameterListNames = parameterManager.getParameterListNames(baseQuery, ID_PARAM_NAME);
 
         if (identifierExpressionsToUse.length == 1) {
@@ -1088,7 +1141,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         }
         QuerySpecification querySpecification = new CustomQuerySpecification(
                 this, baseQuery, parameters, parameterListNames, null, null, keyRestrictedLeftJoinAliases, entityFunctionNodes,
-                mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null
+                mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes, mainQuery.getQueryConfiguration().isQueryPlanCacheEnabled(), null, getQueryHints(baseQuery)
         );
 
         TypedQuery<T> query = new CustomSQLTypedQuery<T>(
@@ -1256,7 +1309,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
     private void appendPageIdQueryLimit(StringBuilder sbSelectFrom, boolean externalRepresentation) {
         if ((externalRepresentation || mainQuery.jpaProvider.supportsSubqueryLimitOffset()) && hasLimit()) {
             sbSelectFrom.append(" LIMIT ");
-            sbSelectFrom.append(maxResults);
+            sbSelectFrom.append(getPageQueryMaxResults());
 
             if (firstResult != 0 && (keysetMode == KeysetMode.NONE || keysetManager.getKeysetLink().getKeyset().getTuple() == null)) {
                 sbSelectFrom.append(" OFFSET ");
@@ -1527,7 +1580,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
                 } else {
                     sbSelectFrom.append(mainQuery.jpaProvider.getCustomFunctionInvocation(LimitFunction.FUNCTION_NAME, 1));
                     appendPageIdQueryAsSubquery(sbSelectFrom, externalRepresentation);
-                    sbSelectFrom.append(',').append(maxResults);
+                    sbSelectFrom.append(',').append(getPageQueryMaxResults());
                     if (firstResult != 0 && (keysetMode == KeysetMode.NONE || keysetManager.getKeysetLink().getKeyset().getTuple() == null)) {
                         sbSelectFrom.append(',').append(firstResult);
                     }
@@ -1563,7 +1616,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
                 } else {
                     sbSelectFrom.append(mainQuery.jpaProvider.getCustomFunctionInvocation(LimitFunction.FUNCTION_NAME, 1));
                     appendPageIdQueryAsSubquery(sbSelectFrom, externalRepresentation);
-                    sbSelectFrom.append(',').append(maxResults);
+                    sbSelectFrom.append(',').append(getPageQueryMaxResults());
                     if (firstResult != 0 && (keysetMode == KeysetMode.NONE || keysetManager.getKeysetLink().getKeyset().getTuple() == null)) {
                         sbSelectFrom.append(',').append(firstResult);
                     }
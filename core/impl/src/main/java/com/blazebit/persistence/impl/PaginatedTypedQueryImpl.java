@@ -16,6 +16,8 @@
 
 package com.blazebit.persistence.impl;
 
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.ExplainPlan;
 import com.blazebit.persistence.KeysetPage;
 import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.PagedArrayList;
@@ -26,7 +28,9 @@ import com.blazebit.persistence.impl.builder.object.KeysetExtractionObjectBuilde
 import com.blazebit.persistence.impl.keyset.KeysetMode;
 import com.blazebit.persistence.DefaultKeysetPage;
 import com.blazebit.persistence.impl.keyset.KeysetPaginationHelper;
+import com.blazebit.persistence.impl.query.QueryExplainer;
 import com.blazebit.persistence.impl.util.SetView;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
@@ -60,6 +64,7 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
     private final boolean withExtractAllKeysets;
     private final boolean withCount;
     private final boolean boundedCount;
+    private final boolean withHasNextPageLookahead;
     private final int highestOffset;
     private final TypedQuery<?> countQuery;
     private final TypedQuery<?> idQuery;
@@ -82,11 +87,12 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
     private final boolean inlinedIdQuery;
     private final boolean inlinedCountQuery;
 
-    public PaginatedTypedQueryImpl(boolean withExtractAllKeysets, boolean withCount, boolean boundedCount, int highestOffset, TypedQuery<?> countQuery, TypedQuery<?> idQuery, TypedQuery<X> objectQuery, ObjectBuilder<X> objectBuilder, Collection<ParameterManager.ParameterImpl<?>> parameters, Map<ParameterExpression<?>, String> criteriaNameMapping,
+    public PaginatedTypedQueryImpl(boolean withExtractAllKeysets, boolean withCount, boolean boundedCount, boolean withHasNextPageLookahead, int highestOffset, TypedQuery<?> countQuery, TypedQuery<?> idQuery, TypedQuery<X> objectQuery, ObjectBuilder<X> objectBuilder, Collection<ParameterManager.ParameterImpl<?>> parameters, Map<ParameterExpression<?>, String> criteriaNameMapping,
                                    Object entityId, int firstResult, int pageSize, int identifierCount, boolean needsNewIdList, int[] keysetToSelectIndexMapping, KeysetMode keysetMode, KeysetPage keysetPage, boolean forceFirstResult, boolean inlinedIdQuery, boolean inlinedCountQuery) {
         this.withExtractAllKeysets = withExtractAllKeysets;
         this.withCount = withCount;
         this.boundedCount = boundedCount;
+        this.withHasNextPageLookahead = withHasNextPageLookahead;
         this.highestOffset = highestOffset;
         this.countQuery = countQuery;
         this.idQuery = idQuery;
@@ -220,7 +226,7 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
 
     private PagedList<X> getResultList(int queryFirstResult, int firstRow, long totalSize) {
         if (idQuery != null) {
-            idQuery.setMaxResults(pageSize);
+            idQuery.setMaxResults(withHasNextPageLookahead ? pageSize + 1 : pageSize);
 
             if (forceFirstResult || keysetMode == KeysetMode.NONE) {
                 idQuery.setFirstResult(firstRow);
@@ -252,6 +258,13 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
                 return new PagedArrayList<X>(newKeysetPage, size, queryFirstResult, pageSize);
             }
 
+            boolean lookaheadRowFound = false;
+            if (withHasNextPageLookahead && ids.size() > pageSize) {
+                // The lookahead row is only used to determine that there is a next page
+                ids = new ArrayList<>(ids.subList(0, pageSize));
+                lookaheadRowFound = true;
+            }
+
             Serializable[] lowest = null;
             Serializable[] highest = null;
             Serializable[][] keysets = null;
@@ -315,69 +328,15 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
                     Object[] first = (Object[]) ids.get(0);
                     totalSize = (long) first[first.length - 1];
                 }
-                List<Object> newIds = new ArrayList<Object>(ids.size());
-                if (identifierCount > 1) {
-                    for (int i = 0; i < ids.size(); i++) {
-                        Object[] tuple = (Object[]) ids.get(i);
-                        Object newId = new Object[identifierCount];
-                        System.arraycopy(tuple, 0, newId, 0, identifierCount);
-                        newIds.add(newId);
-                    }
-                } else {
-                    for (int i = 0; i < ids.size(); i++) {
-                        Object o = ids.get(i);
-                        if (o instanceof Object[]) {
-                            newIds.add(((Object[]) o)[0]);
-                        } else {
-                            newIds.add(o);
-                        }
-                    }
-                }
-
-                ids = newIds;
+                ids = extractIds(ids);
             } else if (inlinedCountQuery) {
                 Object[] first = (Object[]) ids.get(0);
-                int newSize = first.length - 1;
                 totalSize = (long) first[first.length - 1];
-                // If this would have been a non-object array type without the count query, we must unwrap the result
-                List<Object> newIds = new ArrayList<>(ids.size());
-                if (newSize == 1) {
-                    for (int i = 0; i < ids.size(); i++) {
-                        newIds.add(((Object[]) ids.get(i))[0]);
-                    }
-                } else {
-                    for (int i = 0; i < ids.size(); i++) {
-                        Object[] tuple = (Object[]) ids.get(i);
-                        Object newId = new Object[newSize];
-                        System.arraycopy(tuple, 0, newId, 0, newSize);
-                        newIds.add(newId);
-                    }
-                }
-                ids = newIds;
-            }
-
-            if (identifierCount > 1) {
-                StringBuilder parameterNameBuilder = new StringBuilder(AbstractCommonQueryBuilder.ID_PARAM_NAME.length() + 10);
-                parameterNameBuilder.append(AbstractCommonQueryBuilder.ID_PARAM_NAME).append('_');
-                int start = parameterNameBuilder.length();
-                Object[] empty = ids.size() < pageSize ? new Object[identifierCount] : null;
-                for (int i = 0; i < pageSize; i++) {
-                    Object[] tuple;
-                    if (ids.size() > i) {
-                        tuple = (Object[]) ids.get(i);
-                    } else {
-                        tuple = empty;
-                    }
-                    for (int j = 0; j < identifierCount; j++) {
-                        parameterNameBuilder.setLength(start);
-                        parameterNameBuilder.append(j).append('_').append(i);
-                        objectQuery.setParameter(parameterNameBuilder.toString(), tuple[j]);
-                    }
-                }
-            } else {
-                objectQuery.setParameter(AbstractCommonQueryBuilder.ID_PARAM_NAME, ids);
+                ids = removeInlinedCount(ids);
             }
 
+            bindIds(ids);
+
             KeysetPage newKeyset = null;
 
             if (keysetToSelectIndexMapping != null) {
@@ -387,11 +346,11 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
             totalSize = Math.max(totalSize, firstRow + ids.size());
             List<X> queryResultList = objectQuery.getResultList();
 
-            PagedList<X> pagedResultList = new PagedArrayList<X>(queryResultList, newKeyset, totalSize, queryFirstResult, pageSize);
+            PagedList<X> pagedResultList = new PagedArrayList<X>(queryResultList, newKeyset, totalSize, queryFirstResult, pageSize, hasNextPage(lookaheadRowFound, totalSize, firstRow, ids.size()));
             return pagedResultList;
         } else {
             if (!inlinedIdQuery) {
-                objectQuery.setMaxResults(pageSize);
+                objectQuery.setMaxResults(withHasNextPageLookahead ? pageSize + 1 : pageSize);
 
                 if (forceFirstResult || keysetMode == KeysetMode.NONE) {
                     objectQuery.setFirstResult(firstRow);
@@ -427,6 +386,13 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
                 return new PagedArrayList<X>(newKeysetPage, totalSize, queryFirstResult, pageSize);
             }
 
+            boolean lookaheadRowFound = false;
+            if (withHasNextPageLookahead && result.size() > pageSize) {
+                // The lookahead row is only used to determine that there is a next page
+                result = new ArrayList<>(result.subList(0, pageSize));
+                lookaheadRowFound = true;
+            }
+
             if (keysetMode == KeysetMode.PREVIOUS) {
                 Collections.reverse(result);
             }
@@ -465,11 +431,132 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
 
             totalSize = Math.max(totalSize, firstRow + result.size());
 
-            PagedList<X> pagedResultList = new PagedArrayList<X>(result, newKeyset, totalSize, queryFirstResult, pageSize);
+            PagedList<X> pagedResultList = new PagedArrayList<X>(result, newKeyset, totalSize, queryFirstResult, pageSize, hasNextPage(lookaheadRowFound, totalSize, firstRow, result.size()));
             return pagedResultList;
         }
     }
 
+    private List<Object> extractIds(List<?> ids) {
+        List<Object> newIds = new ArrayList<Object>(ids.size());
+        if (identifierCount > 1) {
+            for (int i = 0; i < ids.size(); i++) {
+                Object[] tuple = (Object[]) ids.get(i);
+                Object newId = new Object[identifierCount];
+                System.arraycopy(tuple, 0, newId, 0, identifierCount);
+                newIds.add(newId);
+            }
+        } else {
+            for (int i = 0; i < ids.size(); i++) {
+                Object o = ids.get(i);
+                if (o instanceof Object[]) {
+                    newIds.add(((Object[]) o)[0]);
+                } else {
+                    newIds.add(o);
+                }
+            }
+        }
+
+        return newIds;
+    }
+
+    private List<Object> removeInlinedCount(List<?> ids) {
+        Object[] first = (Object[]) ids.get(0);
+        int newSize = first.length - 1;
+        // If this would have been a non-object array type without the count query, we must unwrap the result
+        List<Object> newIds = new ArrayList<>(ids.size());
+        if (newSize == 1) {
+            for (int i = 0; i < ids.size(); i++) {
+                newIds.add(((Object[]) ids.get(i))[0]);
+            }
+        } else {
+            for (int i = 0; i < ids.size(); i++) {
+                Object[] tuple = (Object[]) ids.get(i);
+                Object newId = new Object[newSize];
+                System.arraycopy(tuple, 0, newId, 0, newSize);
+                newIds.add(newId);
+            }
+        }
+        return newIds;
+    }
+
+    private void bindIds(List<?> ids) {
+        if (identifierCount > 1) {
+            StringBuilder parameterNameBuilder = new StringBuilder(AbstractCommonQueryBuilder.ID_PARAM_NAME.length() + 10);
+            parameterNameBuilder.append(AbstractCommonQueryBuilder.ID_PARAM_NAME).append('_');
+            int start = parameterNameBuilder.length();
+            Object[] empty = ids.size() < pageSize ? new Object[identifierCount] : null;
+            for (int i = 0; i < pageSize; i++) {
+                Object[] tuple;
+                if (ids.size() > i) {
+                    tuple = (Object[]) ids.get(i);
+                } else {
+                    tuple = empty;
+                }
+                for (int j = 0; j < identifierCount; j++) {
+                    parameterNameBuilder.setLength(start);
+                    parameterNameBuilder.append(j).append('_').append(i);
+                    objectQuery.setParameter(parameterNameBuilder.toString(), tuple[j]);
+                }
+            }
+        } else {
+            objectQuery.setParameter(AbstractCommonQueryBuilder.ID_PARAM_NAME, ids);
+        }
+    }
+
+    public List<ExplainPlan> getExplainPlan(QueryExplainer queryExplainer, ExplainOptions explainOptions, String countQueryString, String idQueryString, QueryExecutionRole objectQueryRole, String objectQueryString) {
+        List<ExplainPlan> explainPlans = new ArrayList<>(3);
+        if (withCount && !inlinedCountQuery) {
+            explainPlans.add(queryExplainer.explain(countQuery, QueryExecutionRole.COUNT, countQueryString, explainOptions));
+        }
+
+        // When navigating to the page of an entity, the first row depends on the count query result, so we explain the first page
+        int firstRow = entityId == null ? firstResult : 0;
+        if (idQuery != null) {
+            idQuery.setMaxResults(withHasNextPageLookahead ? pageSize + 1 : pageSize);
+            if (forceFirstResult || keysetMode == KeysetMode.NONE) {
+                idQuery.setFirstResult(firstRow);
+            } else {
+                idQuery.setFirstResult(0);
+            }
+            explainPlans.add(queryExplainer.explain(idQuery, QueryExecutionRole.ID, idQueryString, explainOptions));
+
+            // The object query needs the ids of the page, so we have to execute the id query
+            List<?> ids = idQuery.getResultList();
+            if (ids.isEmpty()) {
+                // The object query is not executed if there are no ids
+                return explainPlans;
+            }
+            if (withHasNextPageLookahead && ids.size() > pageSize) {
+                ids = ids.subList(0, pageSize);
+            }
+            if (needsNewIdList) {
+                ids = extractIds(ids);
+            } else if (inlinedCountQuery) {
+                ids = removeInlinedCount(ids);
+            }
+            bindIds(ids);
+        } else if (!inlinedIdQuery) {
+            objectQuery.setMaxResults(withHasNextPageLookahead ? pageSize + 1 : pageSize);
+            if (forceFirstResult || keysetMode == KeysetMode.NONE) {
+                objectQuery.setFirstResult(firstRow);
+            } else {
+                objectQuery.setFirstResult(0);
+            }
+        }
+        explainPlans.add(queryExplainer.explain(objectQuery, objectQueryRole, objectQueryString, explainOptions));
+        return explainPlans;
+    }
+
+    private boolean hasNextPage(boolean lookaheadRowFound, long totalSize, int firstRow, int size) {
+        if (keysetMode == KeysetMode.PREVIOUS) {
+            // We navigated backwards from the next page, so it must exist
+            return true;
+        } else if (withHasNextPageLookahead) {
+            return lookaheadRowFound;
+        }
+        return totalSize > firstRow + size;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public X getSingleResult() {
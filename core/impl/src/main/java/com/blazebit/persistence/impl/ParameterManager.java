@@ -64,6 +64,7 @@ public class ParameterManager {
     }
 
     private int counter;
+    private final MainQuery mainQuery;
     private final JpaProvider jpaProvider;
     private final EntityMetamodel entityMetamodel;
     private final Map<String, ParameterImpl<?>> parameters = new TreeMap<>();
@@ -73,7 +74,8 @@ public class ParameterManager {
     private Map<javax.persistence.criteria.ParameterExpression<?>, String> criteriaNameMapping;
     private int positionalOffset = -1; // Records the last positional parameter index that was used
 
-    public ParameterManager(JpaProvider jpaProvider, EntityMetamodel entityMetamodel) {
+    public ParameterManager(MainQuery mainQuery, JpaProvider jpaProvider, EntityMetamodel entityMetamodel) {
+        this.mainQuery = mainQuery;
         this.jpaProvider = jpaProvider;
         this.entityMetamodel = entityMetamodel;
         this.parameterRegistrationVisitor = new ParameterRegistrationVisitor(this);
@@ -215,6 +217,7 @@ public class ParameterManager {
 
     void parameterizeQuery(Query q, String skippedParameterPrefix) {
         Set<String> requestedValueParameters = new HashSet<String>();
+        boolean inListPadding = mainQuery.getQueryConfiguration().isInListPaddingEnabled();
         for (Parameter<?> p : q.getParameters()) {
             String parameterName = p.getName();
             // In case of positional parameters, we convert the position to a string and look it up instead
@@ -245,7 +248,7 @@ public class ParameterManager {
                     q.setParameter(parameterName, parameter.getValue());
                 }
             } else {
-                parameter.bind(q);
+                parameter.bind(q, inListPadding);
             }
         }
 
@@ -725,6 +728,10 @@ public class ParameterManager {
         }
 
         public void bind(Query q) {
+            bind(q, false);
+        }
+
+        public void bind(Query q, boolean padCollection) {
             if (valueSet) {
                 if (value instanceof ParameterValue) {
                     if (name == null) {
@@ -733,15 +740,39 @@ public class ParameterManager {
                         ((ParameterValue) value).bind(q, name);
                     }
                 } else {
+                    Object bindValue = value;
+                    if (padCollection && collectionValued && value instanceof Collection<?>) {
+                        bindValue = padCollection((Collection<?>) value);
+                    }
                     if (name == null) {
-                        q.setParameter(position, value);
+                        q.setParameter(position, bindValue);
                     } else {
-                        q.setParameter(name, value);
+                        q.setParameter(name, bindValue);
                     }
                 }
             }
         }
 
+        private static Collection<?> padCollection(Collection<?> values) {
+            int size = values.size();
+            // Round up to the next power of two so that only a logarithmic number of distinct IN list sizes is rendered
+            int paddedSize = Integer.highestOneBit(size);
+            if (size < 2 || paddedSize == size) {
+                return values;
+            }
+            paddedSize <<= 1;
+            List<Object> paddedValues = new ArrayList<>(paddedSize);
+            Object lastValue = null;
+            for (Object o : values) {
+                paddedValues.add(o);
+                lastValue = o;
+            }
+            for (int i = size; i < paddedSize; i++) {
+                paddedValues.add(lastValue);
+            }
+            return paddedValues;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) {
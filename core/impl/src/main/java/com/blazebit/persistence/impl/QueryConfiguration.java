@@ -16,6 +16,9 @@
 
 package com.blazebit.persistence.impl;
 
+import com.blazebit.persistence.QueryDeadline;
+import com.blazebit.persistence.spi.QueryExecutionRole;
+
 import java.util.Map;
 
 /**
@@ -65,5 +68,23 @@ public interface QueryConfiguration {
 
     public boolean isCacheable();
 
+    public void setFetchSize(int fetchSize);
+
+    public int getFetchSize();
+
+    public void setDeadline(QueryDeadline deadline);
+
+    public QueryDeadline getDeadline();
+
     public boolean isQueryPlanCacheEnabled();
+
+    public QueryExecutionRole getQueryExecutionRole();
+
+    public boolean isQueryResultCacheEnabled();
+
+    public boolean isLeftJoinEliminationEnabled();
+
+    public boolean isInListPaddingEnabled();
+
+    public boolean isCteReuseEnabled();
 }
@@ -668,6 +668,12 @@ public class SelectManager<T> extends AbstractManager<SelectInfo> {
         return this.distinct;
     }
 
+    @SuppressWarnings("unchecked")
+    void copyObjectBuilder(SelectManager<?> selectManager) {
+        this.distinct = selectManager.distinct;
+        this.objectBuilder = (ObjectBuilder<T>) selectManager.objectBuilder;
+    }
+
     void setDefaultSelect() {
         hasDefaultSelect = true;
     }
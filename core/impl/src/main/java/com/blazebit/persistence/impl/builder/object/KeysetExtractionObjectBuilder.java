@@ -40,20 +40,23 @@ public class KeysetExtractionObjectBuilder<T> implements ObjectBuilder<T> {
     private final int highestPosition;
     private final boolean unwrap;
     private final boolean extractCount;
+    private final int lookaheadSize;
     private final List<Object[]> keysets;
     private Object[] first;
     private Object[] last;
     private Object[] highest;
     private int size;
     private long count = -1;
+    private boolean lookaheadReached;
 
-    public KeysetExtractionObjectBuilder(int[] keysetToSelectIndexMapping, KeysetMode keysetMode, int pageSize, int highestOffset, boolean unwrap, boolean extractAll, boolean extractCount) {
+    public KeysetExtractionObjectBuilder(int[] keysetToSelectIndexMapping, KeysetMode keysetMode, int pageSize, int highestOffset, boolean unwrap, boolean extractAll, boolean extractCount, boolean lookahead) {
         this.keysetToSelectIndexMapping = keysetToSelectIndexMapping;
         this.keysetMode = keysetMode;
         this.keysetSize = pageSize - highestOffset;
         this.highestPosition = keysetMode == KeysetMode.PREVIOUS ? (highestOffset + 1) : (pageSize - highestOffset);
         this.unwrap = unwrap;
         this.extractCount = extractCount;
+        this.lookaheadSize = lookahead ? pageSize : -1;
         if (extractAll) {
             this.keysets = new ArrayList<>(keysetSize == Integer.MAX_VALUE ? 0 : keysetSize);
         } else {
@@ -71,7 +74,10 @@ public class KeysetExtractionObjectBuilder<T> implements ObjectBuilder<T> {
     @SuppressWarnings("unchecked")
     @Override
     public T build(Object[] tuple) {
-        if (keysetMode == KeysetMode.PREVIOUS) {
+        if (lookaheadReached || size == lookaheadSize && !equals(keysetMode == KeysetMode.PREVIOUS ? first : last, tuple)) {
+            // The lookahead row only tells that there are more rows, so it must not be part of the extracted keysets
+            lookaheadReached = true;
+        } else if (keysetMode == KeysetMode.PREVIOUS) {
             if (keysets == null) {
                 if (last == null) {
                     size = 1;
@@ -103,11 +109,19 @@ public class KeysetExtractionObjectBuilder<T> implements ObjectBuilder<T> {
                 } else if (!equals(last, tuple)) {
                     size++;
                 }
-            } else {
+            } else if (lookaheadSize == -1) {
                 size++;
                 if ((keysets.isEmpty() || !equals(keysets.get(keysets.size() - 1), tuple)) && keysets.size() < keysetSize) {
                     keysets.add(tuple);
                 }
+            } else {
+                // The lookahead row is detected by the number of distinct keysets, so only distinct tuples are counted
+                if (last == null || !equals(last, tuple)) {
+                    size++;
+                    if (keysets.size() < keysetSize) {
+                        keysets.add(tuple);
+                    }
+                }
             }
             if (first == null) {
                 first = tuple;
@@ -116,7 +130,7 @@ public class KeysetExtractionObjectBuilder<T> implements ObjectBuilder<T> {
                 last = tuple;
             }
         }
-        if (highestPosition == size) {
+        if (highestPosition == size && !lookaheadReached) {
             highest = tuple;
         }
         if (extractCount) {
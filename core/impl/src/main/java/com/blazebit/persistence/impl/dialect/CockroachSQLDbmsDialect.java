@@ -16,9 +16,15 @@
 
 package com.blazebit.persistence.impl.dialect;
 
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.QueryHint;
+import com.blazebit.persistence.impl.util.SqlUtils;
 import com.blazebit.persistence.spi.OrderByElement;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Christian Beikov
@@ -41,4 +47,32 @@ public class CockroachSQLDbmsDialect extends PostgreSQLDbmsDialect {
             appendEmulatedOrderByElementWithNulls(sqlSb, element, aliases);
         }
     }
+
+    @Override
+    public String getExplainSql(String sql, ExplainOptions explainOptions) {
+        // CockroachDB has no support for the BUFFERS option
+        if (explainOptions.isAnalyze()) {
+            return "EXPLAIN ANALYZE " + sql;
+        }
+        return "EXPLAIN " + sql;
+    }
+
+    @Override
+    public void appendQueryBlockHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        // CockroachDB supports forcing a single index per table by appending it to the table name
+        Set<String> hintedAliases = new HashSet<>();
+        for (QueryHint queryHint : queryHints) {
+            if (queryHint.getType() == QueryHint.Type.INDEX && hintedAliases.add(queryHint.getAlias())) {
+                int aliasEndIndex = SqlUtils.indexOfTableAliasDeclarationEnd(sqlSb, queryHint.getAlias());
+                if (aliasEndIndex != -1) {
+                    sqlSb.insert(aliasEndIndex - queryHint.getAlias().length() - 1, "@{FORCE_INDEX=" + queryHint.getIndexName() + "}");
+                }
+            }
+        }
+    }
+
+    @Override
+    public void appendStatementHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        // CockroachDB doesn't support the pg_hint_plan extension
+    }
 }
@@ -26,6 +26,9 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.*;
 
+import com.blazebit.persistence.CTEMaterialization;
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.impl.util.SqlUtils;
 import com.blazebit.persistence.spi.DbmsDialect;
 import com.blazebit.persistence.spi.DbmsLimitHandler;
@@ -570,6 +573,99 @@ public class DefaultDbmsDialect implements DbmsDialect {
         return ps.getGeneratedKeys();
     }
 
+    @Override
+    public String getExplainSql(String sql, ExplainOptions explainOptions) {
+        return null;
+    }
+
+    @Override
+    public void appendQueryBlockHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        // Ignore hints by default, just like a DBMS ignores hints it can't apply
+    }
+
+    @Override
+    public void appendStatementHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        // Ignore hints by default, just like a DBMS ignores hints it can't apply
+    }
+
+    @Override
+    public void appendCteMaterialization(StringBuilder sqlSb, int cteStartIndex, CTEMaterialization materialization) {
+        // Most DBMS have no syntax for this and decide on their own whether to materialize a CTE
+    }
+
+    /**
+     * Inserts the given table hint right after the declaration of the SQL table alias in the main query.
+     * If the alias is not declared in the main query, nothing is inserted.
+     *
+     * @param sqlSb The SQL of the query block
+     * @param sqlAlias The SQL table alias
+     * @param tableHint The table hint
+     */
+    protected static void insertTableHint(StringBuilder sqlSb, String sqlAlias, String tableHint) {
+        int index = SqlUtils.indexOfTableAliasDeclarationEnd(sqlSb, sqlAlias);
+        if (index != -1) {
+            sqlSb.insert(index, tableHint);
+        }
+    }
+
+    /**
+     * Inserts an optimizer hint comment with the given content right after the SELECT keyword of the main query.
+     *
+     * @param sqlSb The SQL of the query block
+     * @param hints The content of the hint comment
+     */
+    protected static void insertSelectHintComment(StringBuilder sqlSb, String hints) {
+        int selectIndex = SqlUtils.indexOfSelect(sqlSb);
+        if (selectIndex != -1) {
+            sqlSb.insert(selectIndex + SqlUtils.SELECT.length(), "/*+ " + hints + " */ ");
+        }
+    }
+
+    /**
+     * Returns the index names of the hints of the given type, joined with the given separator, by SQL table alias.
+     *
+     * @param queryHints The query hints
+     * @param type The index hint type
+     * @param separator The separator for the index names
+     * @return The index name list by SQL table alias
+     */
+    protected static Map<String, String> getIndexNamesByAlias(List<QueryHint> queryHints, QueryHint.Type type, String separator) {
+        Map<String, String> indexNames = new LinkedHashMap<>();
+        for (QueryHint queryHint : queryHints) {
+            if (queryHint.getType() == type) {
+                String existingIndexNames = indexNames.get(queryHint.getAlias());
+                if (existingIndexNames == null) {
+                    indexNames.put(queryHint.getAlias(), queryHint.getIndexName());
+                } else {
+                    indexNames.put(queryHint.getAlias(), existingIndexNames + separator + queryHint.getIndexName());
+                }
+            }
+        }
+        return indexNames;
+    }
+
+    /**
+     * Returns the directives of the given hints joined with the given separator or <code>null</code> if there are no directive hints.
+     *
+     * @param queryHints The query hints
+     * @param separator The separator for the directives
+     * @return The directives or <code>null</code>
+     */
+    protected static String getDirectives(List<QueryHint> queryHints, String separator) {
+        StringBuilder sb = null;
+        for (QueryHint queryHint : queryHints) {
+            if (queryHint.getType() == QueryHint.Type.DIRECTIVE) {
+                if (sb == null) {
+                    sb = new StringBuilder();
+                } else {
+                    sb.append(separator);
+                }
+                sb.append(queryHint.getDirective());
+            }
+        }
+        return sb == null ? null : sb.toString();
+    }
+
     public void appendLimit(StringBuilder sqlSb, boolean isSubquery, String limit, String offset) {
         createLimitHandler().applySql(sqlSb, isSubquery, limit, offset);
     }
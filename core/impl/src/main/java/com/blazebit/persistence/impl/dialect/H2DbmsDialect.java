@@ -16,8 +16,11 @@
 
 package com.blazebit.persistence.impl.dialect;
 
+import java.util.List;
 import java.util.Map;
 
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.impl.util.SqlUtils;
 import com.blazebit.persistence.spi.DbmsModificationState;
 import com.blazebit.persistence.spi.DbmsStatementType;
@@ -153,4 +156,20 @@ public class H2DbmsDialect extends DefaultDbmsDialect {
     public boolean supportsArbitraryLengthMultiset() {
         return true;
     }
+
+    @Override
+    public String getExplainSql(String sql, ExplainOptions explainOptions) {
+        if (explainOptions.isAnalyze()) {
+            return "EXPLAIN ANALYZE " + sql;
+        }
+        return "EXPLAIN " + sql;
+    }
+
+    @Override
+    public void appendQueryBlockHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        // H2 only supports restricting the indexes that may be used for a table
+        for (Map.Entry<String, String> entry : getIndexNamesByAlias(queryHints, QueryHint.Type.INDEX, ", ").entrySet()) {
+            insertTableHint(sqlSb, entry.getKey(), " USE INDEX (" + entry.getValue() + ")");
+        }
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.impl.dialect;
 
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.impl.util.SqlUtils;
 import com.blazebit.persistence.spi.DbmsLimitHandler;
 import com.blazebit.persistence.spi.DbmsModificationState;
@@ -26,6 +27,7 @@ import com.blazebit.persistence.spi.OrderByElement;
 import com.blazebit.persistence.spi.SetOperationType;
 import com.blazebit.persistence.spi.UpdateJoinStyle;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -218,4 +220,21 @@ public class MSSQLDbmsDialect extends DefaultDbmsDialect {
     public boolean supportsLimitWithoutOrderBy() {
         return false;
     }
+
+    @Override
+    public void appendQueryBlockHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        // MSSQL has no hint to avoid a specific index
+        for (Map.Entry<String, String> entry : getIndexNamesByAlias(queryHints, QueryHint.Type.INDEX, ", ").entrySet()) {
+            insertTableHint(sqlSb, entry.getKey(), " WITH (INDEX(" + entry.getValue() + "))");
+        }
+    }
+
+    @Override
+    public void appendStatementHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        // The OPTION clause is only allowed at the very end of a statement
+        String directives = getDirectives(queryHints, ", ");
+        if (directives != null) {
+            sqlSb.append(" OPTION (").append(directives).append(')');
+        }
+    }
 }
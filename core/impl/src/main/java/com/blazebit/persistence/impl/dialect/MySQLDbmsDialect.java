@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.impl.dialect;
 
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.spi.DbmsLimitHandler;
 import com.blazebit.persistence.spi.DeleteJoinStyle;
 import com.blazebit.persistence.spi.LateralStyle;
@@ -24,6 +25,7 @@ import com.blazebit.persistence.spi.UpdateJoinStyle;
 import com.blazebit.persistence.spi.ValuesStrategy;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -198,4 +200,18 @@ public class MySQLDbmsDialect extends DefaultDbmsDialect {
         return false;
     }
 
+    @Override
+    public void appendQueryBlockHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        for (Map.Entry<String, String> entry : getIndexNamesByAlias(queryHints, QueryHint.Type.INDEX, ", ").entrySet()) {
+            insertTableHint(sqlSb, entry.getKey(), " FORCE INDEX (" + entry.getValue() + ")");
+        }
+        for (Map.Entry<String, String> entry : getIndexNamesByAlias(queryHints, QueryHint.Type.NO_INDEX, ", ").entrySet()) {
+            insertTableHint(sqlSb, entry.getKey(), " IGNORE INDEX (" + entry.getValue() + ")");
+        }
+        // Optimizer hints are supported since MySQL 5.7, older versions treat them as comment
+        String directives = getDirectives(queryHints, " ");
+        if (directives != null) {
+            insertSelectHintComment(sqlSb, directives);
+        }
+    }
 }
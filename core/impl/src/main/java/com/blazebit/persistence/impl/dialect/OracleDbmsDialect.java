@@ -25,8 +25,11 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import com.blazebit.persistence.CTEMaterialization;
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.impl.util.SqlUtils;
 import com.blazebit.persistence.spi.DbmsLimitHandler;
 import com.blazebit.persistence.spi.DbmsModificationState;
@@ -299,4 +302,42 @@ public class OracleDbmsDialect extends DefaultDbmsDialect {
         }
     }
 
+    @Override
+    public void appendQueryBlockHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        StringBuilder hintSb = new StringBuilder();
+        for (QueryHint queryHint : queryHints) {
+            if (hintSb.length() != 0) {
+                hintSb.append(' ');
+            }
+            switch (queryHint.getType()) {
+                case INDEX:
+                    hintSb.append("INDEX(").append(queryHint.getAlias()).append(' ').append(queryHint.getIndexName()).append(')');
+                    break;
+                case NO_INDEX:
+                    hintSb.append("NO_INDEX(").append(queryHint.getAlias()).append(' ').append(queryHint.getIndexName()).append(')');
+                    break;
+                default:
+                    hintSb.append(queryHint.getDirective());
+                    break;
+            }
+        }
+        if (hintSb.length() != 0) {
+            insertSelectHintComment(sqlSb, hintSb.toString());
+        }
+    }
+
+    @Override
+    public void appendCteMaterialization(StringBuilder sqlSb, int cteStartIndex, CTEMaterialization materialization) {
+        int selectIndex = SqlUtils.SELECT_FINDER.indexIn(sqlSb, cteStartIndex);
+        if (selectIndex != -1) {
+            String hint = materialization == CTEMaterialization.MATERIALIZED ? "MATERIALIZE" : "INLINE";
+            int hintIndex = selectIndex + SqlUtils.SELECT.length();
+            // Oracle only considers the first hint comment of a query block, so the hint has to be merged into existing query block hints
+            if (sqlSb.indexOf("/*+ ", hintIndex) == hintIndex) {
+                sqlSb.insert(hintIndex + "/*+ ".length(), hint + " ");
+            } else {
+                sqlSb.insert(hintIndex, "/*+ " + hint + " */ ");
+            }
+        }
+    }
 }
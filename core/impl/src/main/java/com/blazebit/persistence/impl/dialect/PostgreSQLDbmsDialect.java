@@ -22,6 +22,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.blazebit.persistence.CTEMaterialization;
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.impl.util.SqlUtils;
 import com.blazebit.persistence.spi.DbmsLimitHandler;
 import com.blazebit.persistence.spi.DbmsModificationState;
@@ -298,4 +301,41 @@ public class PostgreSQLDbmsDialect extends DefaultDbmsDialect {
     public boolean supportsArbitraryLengthMultiset() {
         return true;
     }
+
+    @Override
+    public String getExplainSql(String sql, ExplainOptions explainOptions) {
+        if (explainOptions.isAnalyze()) {
+            return "EXPLAIN (ANALYZE, BUFFERS) " + sql;
+        }
+        return "EXPLAIN " + sql;
+    }
+
+    @Override
+    public void appendStatementHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        // Hints are only supported through the pg_hint_plan extension which reads them from the leading comment of a statement
+        StringBuilder hintSb = new StringBuilder();
+        for (Map.Entry<String, String> entry : getIndexNamesByAlias(queryHints, QueryHint.Type.INDEX, " ").entrySet()) {
+            hintSb.append("IndexScan(").append(entry.getKey()).append(' ').append(entry.getValue()).append(") ");
+        }
+        // pg_hint_plan can only disable index scans for a table as a whole
+        for (String sqlAlias : getIndexNamesByAlias(queryHints, QueryHint.Type.NO_INDEX, " ").keySet()) {
+            hintSb.append("NoIndexScan(").append(sqlAlias).append(") ");
+        }
+        String directives = getDirectives(queryHints, " ");
+        if (directives != null) {
+            hintSb.append(directives).append(' ');
+        }
+        if (hintSb.length() != 0) {
+            sqlSb.insert(0, "/*+ " + hintSb + "*/ ");
+        }
+    }
+
+    @Override
+    public void appendCteMaterialization(StringBuilder sqlSb, int cteStartIndex, CTEMaterialization materialization) {
+        // Requires PostgreSQL 12+, older versions always materialize CTEs
+        int asIndex = sqlSb.indexOf(" AS(", cteStartIndex);
+        if (asIndex != -1) {
+            sqlSb.insert(asIndex + " AS".length(), materialization == CTEMaterialization.MATERIALIZED ? " MATERIALIZED" : " NOT MATERIALIZED");
+        }
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl.function.stringjsonagg;
+
+import com.blazebit.persistence.impl.function.chr.ChrFunction;
+import com.blazebit.persistence.impl.function.concat.ConcatFunction;
+import com.blazebit.persistence.impl.function.groupconcat.AbstractGroupConcatFunction;
+import com.blazebit.persistence.impl.function.replace.ReplaceFunction;
+import com.blazebit.persistence.spi.FunctionRenderContext;
+import com.blazebit.persistence.spi.JpqlFunction;
+import com.blazebit.persistence.spi.JpqlFunctionGroup;
+
+/**
+ * A string_json_agg function that resolves the group_concat, chr, replace and concat functions it is based on when it is first rendered,
+ * so that the DBMS specific implementations of these functions are only loaded for the DBMS that is actually used.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class LazyGroupConcatBasedStringJsonAggFunction extends AbstractStringJsonAggFunction {
+
+    private final String dbms;
+    private final boolean oracle;
+    private final JpqlFunctionGroup groupConcatFunctionGroup;
+    private final JpqlFunctionGroup chrFunctionGroup;
+    private final JpqlFunctionGroup replaceFunctionGroup;
+    private final JpqlFunctionGroup concatFunctionGroup;
+    private volatile GroupConcatBasedStringJsonAggFunction function;
+
+    public LazyGroupConcatBasedStringJsonAggFunction(String dbms, boolean oracle, JpqlFunctionGroup groupConcatFunctionGroup, JpqlFunctionGroup chrFunctionGroup, JpqlFunctionGroup replaceFunctionGroup, JpqlFunctionGroup concatFunctionGroup) {
+        this.dbms = dbms;
+        this.oracle = oracle;
+        this.groupConcatFunctionGroup = groupConcatFunctionGroup;
+        this.chrFunctionGroup = chrFunctionGroup;
+        this.replaceFunctionGroup = replaceFunctionGroup;
+        this.concatFunctionGroup = concatFunctionGroup;
+    }
+
+    @Override
+    public void render(FunctionRenderContext context) {
+        getFunction().render(context);
+    }
+
+    private GroupConcatBasedStringJsonAggFunction getFunction() {
+        GroupConcatBasedStringJsonAggFunction function = this.function;
+        if (function == null) {
+            // Creating the function more than once on concurrent access is harmless as it is stateless
+            AbstractGroupConcatFunction groupConcatFunction = (AbstractGroupConcatFunction) groupConcatFunctionGroup.get(dbms);
+            ChrFunction chrFunction = get(chrFunctionGroup);
+            ReplaceFunction replaceFunction = get(replaceFunctionGroup);
+            ConcatFunction concatFunction = get(concatFunctionGroup);
+            if (oracle) {
+                function = new OracleStringJsonAggFunction(groupConcatFunction, chrFunction, replaceFunction, concatFunction);
+            } else {
+                function = new GroupConcatBasedStringJsonAggFunction(groupConcatFunction, chrFunction, replaceFunction, concatFunction);
+            }
+            this.function = function;
+        }
+        return function;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends JpqlFunction> T get(JpqlFunctionGroup functionGroup) {
+        JpqlFunction jpqlFunction = functionGroup.get(dbms);
+        if (jpqlFunction == null) {
+            jpqlFunction = functionGroup.get(null);
+        }
+        return (T) jpqlFunction;
+    }
+}
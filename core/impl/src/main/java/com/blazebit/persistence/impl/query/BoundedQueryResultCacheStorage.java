@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl.query;
+
+import com.blazebit.persistence.spi.QueryResultCacheStorage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The default query result cache storage which keeps a bounded number of entries in memory and evicts the least recently used entry.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class BoundedQueryResultCacheStorage implements QueryResultCacheStorage {
+
+    private static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final Map<Object, Object> entries;
+
+    public BoundedQueryResultCacheStorage() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public BoundedQueryResultCacheStorage(final int maxSize) {
+        this.entries = new LinkedHashMap<Object, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Object get(Object key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public synchronized void put(Object key, Object value) {
+        entries.put(key, value);
+    }
+
+    @Override
+    public synchronized void remove(Object key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.blazebit.persistence.impl.query;
 
+import com.blazebit.persistence.CTEMaterialization;
+
 import java.util.Map;
 
 /**
@@ -35,8 +37,10 @@ public class CTENode {
     private final Map<String, String> nonRecursiveTableNameRemappings;
     private final Map<String, String> recursiveTableNameRemappings;
     private final String nonRecursiveWithClauseSuffix;
+    private final CTEMaterialization materialization;
+    private final String reusingQuery;
 
-    public CTENode(String name, String entityName, String head, String[] aliases, boolean unionAll, QuerySpecification nonRecursiveQuerySpecification, QuerySpecification recursiveQuerySpecification, Map<String, String> nonRecursiveTableNameRemappings, Map<String, String> recursiveTableNameRemappings, String nonRecursiveWithClauseSuffix) {
+    public CTENode(String name, String entityName, String head, String[] aliases, boolean unionAll, QuerySpecification nonRecursiveQuerySpecification, QuerySpecification recursiveQuerySpecification, Map<String, String> nonRecursiveTableNameRemappings, Map<String, String> recursiveTableNameRemappings, String nonRecursiveWithClauseSuffix, CTEMaterialization materialization) {
         this.name = name;
         this.entityName = entityName;
         this.head = head;
@@ -47,6 +51,33 @@ public class CTENode {
         this.nonRecursiveTableNameRemappings = nonRecursiveTableNameRemappings;
         this.recursiveTableNameRemappings = recursiveTableNameRemappings;
         this.nonRecursiveWithClauseSuffix = nonRecursiveWithClauseSuffix;
+        this.materialization = materialization;
+        this.reusingQuery = null;
+    }
+
+    /**
+     * Creates a node for a CTE that selects the rows of a structurally identical CTE through the given query instead of computing them again.
+     *
+     * @param name The CTE name
+     * @param entityName The CTE entity name
+     * @param head The CTE head
+     * @param reusingQuery The query that selects all columns of the structurally identical CTE
+     * @param materialization The requested materialization or <code>null</code>
+     * @since 1.6.9
+     */
+    public CTENode(String name, String entityName, String head, String reusingQuery, CTEMaterialization materialization) {
+        this.name = name;
+        this.entityName = entityName;
+        this.head = head;
+        this.aliases = null;
+        this.unionAll = false;
+        this.nonRecursiveQuerySpecification = null;
+        this.recursiveQuerySpecification = null;
+        this.nonRecursiveTableNameRemappings = null;
+        this.recursiveTableNameRemappings = null;
+        this.nonRecursiveWithClauseSuffix = null;
+        this.materialization = materialization;
+        this.reusingQuery = reusingQuery;
     }
 
     public String getName() {
@@ -92,4 +123,16 @@ public class CTENode {
     public String getNonRecursiveWithClauseSuffix() {
         return nonRecursiveWithClauseSuffix;
     }
+
+    public CTEMaterialization getMaterialization() {
+        return materialization;
+    }
+
+    public String getReusingQuery() {
+        return reusingQuery;
+    }
+
+    public boolean isReusing() {
+        return reusingQuery != null;
+    }
 }
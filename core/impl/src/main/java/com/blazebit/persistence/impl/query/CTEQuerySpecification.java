@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.impl.query;
 
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.impl.AbstractCommonQueryBuilder;
 import com.blazebit.persistence.impl.plan.SelectQueryPlan;
 
@@ -36,8 +37,8 @@ import java.util.Set;
 public class CTEQuerySpecification extends CustomQuerySpecification<Object> {
 
     public CTEQuerySpecification(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> commonQueryBuilder, Query baseQuery, Collection<? extends Parameter<?>> parameters, Set<String> parameterListNames, String limit, String offset,
-                                 List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes) {
-        super(commonQueryBuilder, baseQuery, parameters, parameterListNames, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes, false, Collections.EMPTY_LIST, false, true, null);
+                                 List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, List<QueryHint> queryHints) {
+        super(commonQueryBuilder, baseQuery, parameters, parameterListNames, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes, false, Collections.EMPTY_LIST, false, true, null, queryHints);
     }
 
     @Override
@@ -53,12 +54,29 @@ public class CTEQuerySpecification extends CustomQuerySpecification<Object> {
         }
 
         String sqlQuery = extendedQuerySupport.getSql(em, baseQuery);
-        StringBuilder sqlSb = applySqlTransformations(sqlQuery);
-        // Need to inline LIMIT and OFFSET
-        dbmsDialect.appendExtendedSql(sqlSb, statementType, false, true, null, limit, offset, null, null, null);
         participatingQueries.add(baseQuery);
+        List<Object> templateKey = null;
+        SqlTemplateCache.SqlTemplate template = null;
+        if (sqlTemplateCache != null) {
+            templateKey = createSqlTemplateKey(sqlQuery, participatingQueries);
+            template = sqlTemplateCache.get(templateKey);
+        }
+
+        if (template == null) {
+            StringBuilder sqlSb = applySqlTransformations(sqlQuery);
+            if (!queryHints.isEmpty()) {
+                dbmsDialect.appendQueryBlockHints(sqlSb, queryHints);
+            }
+            // Need to inline LIMIT and OFFSET
+            dbmsDialect.appendExtendedSql(sqlSb, statementType, false, true, null, limit, offset, null, null, null);
+            this.sql = sqlSb.toString();
+            if (templateKey != null) {
+                sqlTemplateCache.put(templateKey, new SqlTemplateCache.SqlTemplate(sql, null, false));
+            }
+        } else {
+            this.sql = template.getSql();
+        }
 
-        this.sql = sqlSb.toString();
         this.participatingQueries = participatingQueries;
         this.dirty = false;
     }
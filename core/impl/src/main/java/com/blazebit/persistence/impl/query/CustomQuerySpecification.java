@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.impl.query;
 
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.impl.AbstractCommonQueryBuilder;
 import com.blazebit.persistence.impl.function.entity.EntityFunction;
 import com.blazebit.persistence.impl.plan.CustomSelectQueryPlan;
@@ -33,6 +34,7 @@ import javax.persistence.EntityManager;
 import javax.persistence.Parameter;
 import javax.persistence.Query;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -69,6 +71,9 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
     protected final boolean queryPlanCacheEnabled;
     protected final Query countWrapperExampleQuery;
     protected final String countPrefix;
+    protected final SqlTemplateCache sqlTemplateCache;
+    protected final List<QueryHint> queryHints;
+    protected final boolean renderStatementHints;
 
     protected boolean dirty;
     protected String sql;
@@ -77,7 +82,7 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
 
     public CustomQuerySpecification(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> commonQueryBuilder, Query baseQuery, Collection<? extends Parameter<?>> parameters, Set<String> listParameters, String limit, String offset,
                                     List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, boolean recursive, List<CTENode> ctes, boolean shouldRenderCtes,
-                                    boolean queryPlanCacheEnabled, Query countWrapperExampleQuery) {
+                                    boolean queryPlanCacheEnabled, Query countWrapperExampleQuery, List<QueryHint> queryHints) {
         this.em = commonQueryBuilder.getEntityManager();
         this.dbmsDialect = commonQueryBuilder.getService(DbmsDialect.class);
         this.serviceProvider = commonQueryBuilder;
@@ -101,6 +106,10 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
         this.dirty = true;
         this.queryPlanCacheEnabled = queryPlanCacheEnabled;
         this.countWrapperExampleQuery = countWrapperExampleQuery;
+        this.sqlTemplateCache = queryPlanCacheEnabled ? commonQueryBuilder.getService(SqlTemplateCache.class) : null;
+        this.queryHints = queryHints;
+        // Only the main query is not embedded into another statement
+        this.renderStatementHints = commonQueryBuilder.isMainQuery();
         if (countWrapperExampleQuery == null) {
             this.countPrefix = null;
         } else {
@@ -154,6 +163,38 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
         return baseQuery;
     }
 
+    /**
+     * Returns the query hints of this query with resolved SQL table aliases.
+     *
+     * @return The query hints
+     */
+    public List<QueryHint> getQueryHints() {
+        return queryHints;
+    }
+
+    /**
+     * Returns the query hints of this query and the queries embedded into the statement of this query.
+     *
+     * @return The query hints for the statement
+     */
+    protected List<QueryHint> getStatementHints() {
+        if (!shouldRenderCtes || ctes.isEmpty()) {
+            return queryHints;
+        }
+        List<QueryHint> statementHints = new ArrayList<>(queryHints);
+        for (CTENode cteInfo : ctes) {
+            addQueryHints(statementHints, cteInfo.getNonRecursiveQuerySpecification());
+            addQueryHints(statementHints, cteInfo.getRecursiveQuerySpecification());
+        }
+        return statementHints;
+    }
+
+    protected static void addQueryHints(List<QueryHint> queryHints, QuerySpecification<?> querySpecification) {
+        if (querySpecification instanceof CustomQuerySpecification<?>) {
+            queryHints.addAll(((CustomQuerySpecification<?>) querySpecification).getStatementHints());
+        }
+    }
+
     @Override
     public void onCollectionParameterChange(String parameterName, Collection<?> value) {
         Collection<?> listParameterValue = listParameters.get(parameterName);
@@ -171,7 +212,26 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
         }
 
         String sqlQuery = extendedQuerySupport.getSql(em, baseQuery);
+        List<Object> templateKey = null;
+        if (sqlTemplateCache != null) {
+            templateKey = createSqlTemplateKey(sqlQuery, participatingQueries);
+            SqlTemplateCache.SqlTemplate template = sqlTemplateCache.get(templateKey);
+            if (template != null) {
+                participatingQueries.add(baseQuery);
+                this.sql = template.getSql();
+                this.participatingQueries = participatingQueries;
+                this.addedCtes = template.getAddedCtes();
+                this.dirty = false;
+                return;
+            }
+            // The CTE queries are collected again when applying the CTEs
+            participatingQueries.clear();
+        }
+
         StringBuilder sqlSb = applySqlTransformations(sqlQuery);
+        if (!queryHints.isEmpty()) {
+            dbmsDialect.appendQueryBlockHints(sqlSb, queryHints);
+        }
         StringBuilder withClause = applyCtes(sqlSb, baseQuery, participatingQueries);
         Map<String, String> addedCtes = applyExtendedSql(sqlSb, false, false, withClause, null, null, null);
         participatingQueries.add(baseQuery);
@@ -180,11 +240,135 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
             sqlSb.insert(0, countPrefix);
             sqlSb.append(") tmp");
         }
+        applyStatementHints(sqlSb);
 
         this.sql = sqlSb.toString();
         this.participatingQueries = participatingQueries;
         this.addedCtes = addedCtes;
         this.dirty = false;
+        if (templateKey != null) {
+            sqlTemplateCache.put(templateKey, new SqlTemplateCache.SqlTemplate(sql, addedCtes, withClause != null));
+        }
+    }
+
+    protected void applyStatementHints(StringBuilder sqlSb) {
+        if (renderStatementHints) {
+            List<QueryHint> statementHints = getStatementHints();
+            if (!statementHints.isEmpty()) {
+                dbmsDialect.appendStatementHints(sqlSb, statementHints);
+            }
+        }
+    }
+
+    /**
+     * Creates the key under which the post-processed SQL of this specification is cached.
+     * The key contains the SQL of all participating queries and all options that influence the SQL rewriting.
+     * While doing so, the participating queries of the CTEs are collected in the same order as {@link #applyCtes(StringBuilder, Query, List)} does.
+     *
+     * @param sqlQuery The SQL of the base query
+     * @param participatingQueries The list to which to add the participating queries of the CTEs
+     * @return The key for the SQL template cache
+     */
+    protected List<Object> createSqlTemplateKey(String sqlQuery, List<Query> participatingQueries) {
+        List<Object> key = new ArrayList<>();
+        key.add(getClass());
+        key.add(statementType);
+        key.add(dbmsDialect);
+        key.add(sqlQuery);
+        key.add(limit);
+        key.add(offset);
+        key.add(countPrefix);
+        key.add(keyRestrictedLeftJoinAliases);
+        key.add(queryHints);
+        key.add(renderStatementHints ? getStatementHints() : null);
+        key.add(entityFunctionNodes.size());
+        for (EntityFunctionNode node : entityFunctionNodes) {
+            key.add(node.getSubquery());
+            key.add(node.getAliases());
+            key.add(node.getEntityName());
+            addSqlFromInfoKey(key, node.getTableAlias());
+            addSqlFromInfoKey(key, node.getPluralCollectionTableAlias());
+            addSqlFromInfoKey(key, node.getPluralTableAlias());
+            key.add(node.getPluralTableJoin());
+            key.add(node.getSyntheticPredicate());
+            key.add(node.isLateral());
+        }
+
+        // Mirrors the participating query collection of applyCtes
+        if (!shouldRenderCtes || (ctes.isEmpty() && (statementType != DbmsStatementType.DELETE || !dbmsDialect.supportsModificationQueryInWithClause()))) {
+            return key;
+        }
+        key.add(recursive);
+        key.add(ctes.size());
+        for (CTENode cteInfo : ctes) {
+            if (cteInfo.isReusing()) {
+                key.add(cteInfo.getName());
+                key.add(cteInfo.getHead());
+                key.add(cteInfo.getReusingQuery());
+                key.add(cteInfo.getMaterialization());
+                continue;
+            }
+            QuerySpecification<?> nonRecursiveQuerySpecification = cteInfo.getNonRecursiveQuerySpecification();
+            participatingQueries.addAll(nonRecursiveQuerySpecification.getParticipatingQueries());
+            key.add(cteInfo.getName());
+            key.add(cteInfo.getEntityName());
+            key.add(cteInfo.getHead());
+            key.add(cteInfo.getAliases() == null ? null : Arrays.asList(cteInfo.getAliases()));
+            key.add(cteInfo.isUnionAll());
+            key.add(cteInfo.getNonRecursiveWithClauseSuffix());
+            key.add(cteInfo.getMaterialization());
+            addMapKey(key, cteInfo.getNonRecursiveTableNameRemappings());
+            key.add(nonRecursiveQuerySpecification.getSql());
+            addMapKey(key, nonRecursiveQuerySpecification.getAddedCtes());
+
+            key.add(cteInfo.isRecursive());
+            if (cteInfo.isRecursive()) {
+                QuerySpecification<?> recursiveQuerySpecification = cteInfo.getRecursiveQuerySpecification();
+                participatingQueries.addAll(recursiveQuerySpecification.getParticipatingQueries());
+                addMapKey(key, cteInfo.getRecursiveTableNameRemappings());
+                key.add(recursiveQuerySpecification.getSql());
+                addMapKey(key, recursiveQuerySpecification.getAddedCtes());
+            }
+
+            if (dbmsDialect.supportsModificationQueryInWithClause()) {
+                addCascadingDeleteQueries(nonRecursiveQuerySpecification.getBaseQuery(), participatingQueries);
+            }
+        }
+
+        if (dbmsDialect.supportsModificationQueryInWithClause()) {
+            addCascadingDeleteQueries(baseQuery, participatingQueries);
+        }
+        return key;
+    }
+
+    private void addCascadingDeleteQueries(Query baseQuery, List<Query> participatingQueries) {
+        // The cascading delete SQL is determined by the SQL of the query which is already part of the key
+        for (int i = extendedQuerySupport.getCascadingDeleteSql(em, baseQuery).size(); i > 0; i--) {
+            participatingQueries.add(baseQuery);
+        }
+    }
+
+    private static void addSqlFromInfoKey(List<Object> key, ExtendedQuerySupport.SqlFromInfo sqlFromInfo) {
+        if (sqlFromInfo == null) {
+            key.add(null);
+        } else {
+            key.add(sqlFromInfo.getAlias());
+            key.add(sqlFromInfo.getFromStartIndex());
+            key.add(sqlFromInfo.getFromEndIndex());
+        }
+    }
+
+    protected static void addMapKey(List<Object> key, Map<?, ?> map) {
+        if (map == null) {
+            key.add(null);
+        } else {
+            // Copy the entries in iteration order as the order matters for the rendered SQL
+            key.add(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                key.add(entry.getKey());
+                key.add(entry.getValue());
+            }
+        }
     }
 
     protected Map<String, String> applyExtendedSql(StringBuilder sqlSb, boolean isSubquery, boolean isEmbedded, StringBuilder withClause, String dmlAffectedTable, String[] returningColumns, Map<DbmsModificationState, String> includedModificationStates) {
@@ -207,6 +391,23 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
 
         boolean firstCte = true;
         for (CTENode cteInfo : ctes) {
+            if (cteInfo.isReusing()) {
+                if (firstCte) {
+                    firstCte = false;
+                } else {
+                    sb.append(", ");
+                }
+                // Selects the rows of a structurally identical CTE, so there are no participating queries
+                int cteStartIndex = sb.length();
+                sb.append(cteInfo.getHead());
+                sb.append(" AS( ");
+                sb.append(cteInfo.getReusingQuery());
+                sb.append(" )");
+                if (cteInfo.getMaterialization() != null) {
+                    dbmsDialect.appendCteMaterialization(sb, cteStartIndex, cteInfo.getMaterialization());
+                }
+                continue;
+            }
             // Build queries and add as participating queries
             QuerySpecification<?> nonRecursiveQuerySpecification = cteInfo.getNonRecursiveQuerySpecification();
             Query nonRecursiveQuery = nonRecursiveQuerySpecification.getBaseQuery();
@@ -232,6 +433,7 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
                 sb.append(", ");
             }
 
+            int cteStartIndex = sb.length();
             sb.append(cteInfo.getHead());
             sb.append(" AS( ");
 
@@ -285,6 +487,9 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
             }
 
             sb.append(" )");
+            if (cteInfo.getMaterialization() != null) {
+                dbmsDialect.appendCteMaterialization(sb, cteStartIndex, cteInfo.getMaterialization());
+            }
         }
 
         if (dbmsDialect.supportsModificationQueryInWithClause()) {
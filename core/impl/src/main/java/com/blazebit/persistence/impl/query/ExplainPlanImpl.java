@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl.query;
+
+import com.blazebit.persistence.ExplainPlan;
+import com.blazebit.persistence.spi.QueryExecutionRole;
+
+import java.util.List;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public final class ExplainPlanImpl implements ExplainPlan {
+
+    private final QueryExecutionRole role;
+    private final String queryString;
+    private final String sql;
+    private final List<String> planLines;
+
+    public ExplainPlanImpl(QueryExecutionRole role, String queryString, String sql, List<String> planLines) {
+        this.role = role;
+        this.queryString = queryString;
+        this.sql = sql;
+        this.planLines = planLines;
+    }
+
+    @Override
+    public QueryExecutionRole getRole() {
+        return role;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getSql() {
+        return sql;
+    }
+
+    @Override
+    public List<String> getPlanLines() {
+        return planLines;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("ExplainPlan[role=").append(role).append(", sql=").append(sql).append(']');
+        for (int i = 0; i < planLines.size(); i++) {
+            sb.append('\n').append(planLines.get(i));
+        }
+        return sb.toString();
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.impl.query;
 
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.ReturningObjectBuilder;
 import com.blazebit.persistence.impl.AbstractCommonQueryBuilder;
 import com.blazebit.persistence.impl.plan.CustomModificationQueryPlan;
@@ -30,7 +31,9 @@ import com.blazebit.persistence.spi.DbmsStatementType;
 import javax.persistence.Parameter;
 import javax.persistence.Query;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,7 +59,7 @@ public class ModificationQuerySpecification<T> extends CustomQuerySpecification<
                                           List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, boolean recursive, List<CTENode> ctes, boolean shouldRenderCteNodes,
                                           boolean isEmbedded, String[] returningColumns, ReturningObjectBuilder<T> objectBuilder, Map<DbmsModificationState, String> includedModificationStates, Map<String, String> returningAttributeBindingMap,
                                           boolean queryPlanCacheEnabled) {
-        super(commonQueryBuilder, baseQuery, parameters, parameterListNames, null, null, keyRestrictedLeftJoinAliases, entityFunctionNodes, recursive, ctes, shouldRenderCteNodes, queryPlanCacheEnabled, null);
+        super(commonQueryBuilder, baseQuery, parameters, parameterListNames, null, null, keyRestrictedLeftJoinAliases, entityFunctionNodes, recursive, ctes, shouldRenderCteNodes, queryPlanCacheEnabled, null, Collections.<QueryHint>emptyList());
         this.exampleQuery = exampleQuery;
         this.isEmbedded = isEmbedded;
         this.returningColumns = returningColumns;
@@ -109,6 +112,20 @@ public class ModificationQuerySpecification<T> extends CustomQuerySpecification<
         }
 
         String sqlQuery = extendedQuerySupport.getSql(em, baseQuery);
+        List<Object> templateKey = null;
+        if (sqlTemplateCache != null) {
+            templateKey = createSqlTemplateKey(sqlQuery, participatingQueries);
+            SqlTemplateCache.SqlTemplate template = sqlTemplateCache.get(templateKey);
+            if (template != null) {
+                participatingQueries.add(baseQuery);
+                participatingQueries.add(exampleQuery);
+                initialize(template.getSql(), participatingQueries, template.getAddedCtes(), template.hasWithClause());
+                return;
+            }
+            // The CTE queries are collected again when applying the CTEs
+            participatingQueries.clear();
+        }
+
         String affectedDmlTable;
         if (statementType == DbmsStatementType.UPDATE) {
             affectedDmlTable = sqlQuery.substring(sqlQuery.indexOf(' ') + 1, sqlQuery.indexOf(' ', sqlQuery.indexOf(' ') + 1));
@@ -129,18 +146,36 @@ public class ModificationQuerySpecification<T> extends CustomQuerySpecification<
         participatingQueries.add(baseQuery);
         participatingQueries.add(exampleQuery);
 
+        String sql = sqlSb.toString();
+        boolean hasWithClause = withClause != null && withClause.length() != 0;
+        initialize(sql, participatingQueries, addedCtes, hasWithClause);
+        if (templateKey != null) {
+            sqlTemplateCache.put(templateKey, new SqlTemplateCache.SqlTemplate(sql, addedCtes, hasWithClause));
+        }
+    }
+
+    private void initialize(String sql, List<Query> participatingQueries, Map<String, String> addedCtes, boolean hasWithClause) {
         // Some dbms like DB2 will need to wrap modification queries in select queries when using CTEs
-        boolean hasCtes = withClause != null && withClause.length() != 0 || addedCtes != null && !addedCtes.isEmpty();
+        boolean hasCtes = hasWithClause || addedCtes != null && !addedCtes.isEmpty();
         if (hasCtes && returningAttributeBindingMap.isEmpty() && !dbmsDialect.usesExecuteUpdateWhenWithClauseInModificationQuery()) {
             query = exampleQuery;
         } else {
             query = baseQuery;
         }
 
-        this.sql = sqlSb.toString();
+        this.sql = sql;
         this.participatingQueries = participatingQueries;
         this.addedCtes = addedCtes;
         this.dirty = false;
     }
 
+    @Override
+    protected List<Object> createSqlTemplateKey(String sqlQuery, List<Query> participatingQueries) {
+        List<Object> key = super.createSqlTemplateKey(sqlQuery, participatingQueries);
+        key.add(isEmbedded);
+        key.add(returningColumns == null ? null : Arrays.asList(returningColumns));
+        addMapKey(key, includedModificationStates);
+        return key;
+    }
+
 }
@@ -60,7 +60,14 @@ public class ObjectBuilderTypedQuery<X> extends TypedQueryWrapper<X> {
 
     @Override
     public List<X> getResultList() {
-        List<X> list = super.getResultList();
+        return transformResultList(super.getResultList());
+    }
+
+    public List<?> getRawResultList() {
+        return super.getResultList();
+    }
+
+    public List<X> transformResultList(List<?> list) {
         int size = list.size();
         List<X> newList = new ArrayList<X>(size);
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.impl.query;
+
+import com.blazebit.persistence.QueryDeadline;
+import com.blazebit.persistence.spi.JpaProvider;
+
+import javax.persistence.TypedQuery;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A typed query wrapper that applies the time that is left of a {@link QueryDeadline} as query timeout right before every execution.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class QueryDeadlineTypedQuery<X> extends TypedQueryWrapper<X> {
+
+    private final QueryDeadline deadline;
+    private final JpaProvider jpaProvider;
+
+    public QueryDeadlineTypedQuery(TypedQuery<X> delegate, QueryDeadline deadline, JpaProvider jpaProvider) {
+        super(delegate, null);
+        this.deadline = deadline;
+        this.jpaProvider = jpaProvider;
+    }
+
+    @Override
+    public List<X> getResultList() {
+        applyRemainingTimeout();
+        return delegate.getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public X getSingleResult() {
+        applyRemainingTimeout();
+        return (X) delegate.getSingleResult();
+    }
+
+    @Override
+    public Stream<X> getResultStream() {
+        applyRemainingTimeout();
+        return delegate.getResultStream();
+    }
+
+    private void applyRemainingTimeout() {
+        // Fails if the deadline expired or was cancelled, so no further query is run
+        jpaProvider.setQueryTimeout(delegate, deadline.checkRemainingMillis());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.impl.query;
+
+import com.blazebit.persistence.spi.ExtendedQuerySupport;
+import com.blazebit.persistence.spi.QueryExecution;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryExecutionRole;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Parameter;
+import javax.persistence.Query;
+import java.util.Collection;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public final class QueryExecutionImpl implements QueryExecution {
+
+    private final QueryExecutionRole role;
+    private final String queryString;
+    private final int queryShapeHash;
+    private final int bindCount;
+    private final int rowCount;
+    private final long buildTimeNanos;
+    private final long executionTimeNanos;
+    private final long transformTimeNanos;
+
+    public QueryExecutionImpl(QueryExecutionRole role, String queryString, int queryShapeHash, int bindCount, int rowCount, long buildTimeNanos, long executionTimeNanos, long transformTimeNanos) {
+        this.role = role;
+        this.queryString = queryString;
+        this.queryShapeHash = queryShapeHash;
+        this.bindCount = bindCount;
+        this.rowCount = rowCount;
+        this.buildTimeNanos = buildTimeNanos;
+        this.executionTimeNanos = executionTimeNanos;
+        this.transformTimeNanos = transformTimeNanos;
+    }
+
+    public static void notify(QueryExecutionListener[] listeners, QueryExecution queryExecution) {
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onQueryExecuted(queryExecution);
+        }
+    }
+
+    public static int getQueryShapeHash(ExtendedQuerySupport extendedQuerySupport, EntityManager em, Query query, String queryString) {
+        Query physicalQuery = query;
+        while (physicalQuery instanceof QueryWrapper) {
+            physicalQuery = ((QueryWrapper) physicalQuery).getDelegate();
+        }
+        String sql = null;
+        if (physicalQuery instanceof AbstractCustomQuery<?>) {
+            sql = ((AbstractCustomQuery<?>) physicalQuery).getSql();
+        } else if (extendedQuerySupport != null && extendedQuerySupport.supportsAdvancedSql()) {
+            try {
+                sql = extendedQuerySupport.getSql(em, physicalQuery);
+            } catch (RuntimeException ex) {
+                // Not every query can be rendered to a single SQL statement, so we fall back to the query string
+            }
+        }
+        if (sql == null) {
+            sql = queryString;
+        }
+        return sql == null ? 0 : sql.hashCode();
+    }
+
+    public static int getBindCount(Query query) {
+        int bindCount = 0;
+        for (Parameter<?> parameter : query.getParameters()) {
+            Object value;
+            try {
+                // Some providers don't report collection valued parameters as bound, so we rely on the exception instead
+                value = query.getParameterValue(parameter);
+            } catch (IllegalStateException ex) {
+                continue;
+            }
+            if (value instanceof Collection<?>) {
+                bindCount += ((Collection<?>) value).size();
+            } else {
+                bindCount++;
+            }
+        }
+        return bindCount;
+    }
+
+    @Override
+    public QueryExecutionRole getRole() {
+        return role;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public int getQueryShapeHash() {
+        return queryShapeHash;
+    }
+
+    @Override
+    public int getBindCount() {
+        return bindCount;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public long getBuildTimeNanos() {
+        return buildTimeNanos;
+    }
+
+    @Override
+    public long getExecutionTimeNanos() {
+        return executionTimeNanos;
+    }
+
+    @Override
+    public long getTransformTimeNanos() {
+        return transformTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryExecution[role=" + role + ", rows=" + rowCount + ", binds=" + bindCount + ", build=" + buildTimeNanos + "ns, execution=" + executionTimeNanos + "ns, transform=" + transformTimeNanos + "ns, query=" + queryString + "]";
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.impl.query;
+
+import com.blazebit.persistence.spi.ExtendedQuerySupport;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryExecutionRole;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.List;
+
+/**
+ * A query wrapper for modification queries that reports every execution to the registered {@link QueryExecutionListener}s.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class QueryExecutionListenerQuery extends QueryWrapper {
+
+    private final QueryExecutionListener[] listeners;
+    private final QueryExecutionRole role;
+    private final String queryString;
+    private final ExtendedQuerySupport extendedQuerySupport;
+    private final EntityManager em;
+    private long buildTimeNanos;
+
+    public QueryExecutionListenerQuery(Query delegate, QueryExecutionListener[] listeners, QueryExecutionRole role, String queryString, ExtendedQuerySupport extendedQuerySupport, EntityManager em, long buildTimeNanos) {
+        super(delegate, null);
+        this.listeners = listeners;
+        this.role = role;
+        this.queryString = queryString;
+        this.extendedQuerySupport = extendedQuerySupport;
+        this.em = em;
+        this.buildTimeNanos = buildTimeNanos;
+    }
+
+    @Override
+    public List getResultList() {
+        long start = System.nanoTime();
+        List result = delegate.getResultList();
+        notifyListeners(result.size(), System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Object getSingleResult() {
+        long start = System.nanoTime();
+        Object result = delegate.getSingleResult();
+        notifyListeners(1, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public int executeUpdate() {
+        long start = System.nanoTime();
+        int updateCount = delegate.executeUpdate();
+        notifyListeners(updateCount, System.nanoTime() - start);
+        return updateCount;
+    }
+
+    private void notifyListeners(int rowCount, long executionTimeNanos) {
+        long buildTime = buildTimeNanos;
+        buildTimeNanos = 0L;
+        QueryExecutionImpl.notify(listeners, new QueryExecutionImpl(role, queryString, QueryExecutionImpl.getQueryShapeHash(extendedQuerySupport, em, delegate, queryString), QueryExecutionImpl.getBindCount(delegate), rowCount, buildTime, executionTimeNanos, 0L));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.impl.query;
+
+import com.blazebit.persistence.spi.ExtendedQuerySupport;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryExecutionRole;
+
+import javax.persistence.EntityManager;
+import javax.persistence.NoResultException;
+import javax.persistence.NonUniqueResultException;
+import javax.persistence.TypedQuery;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A query wrapper that reports every execution to the registered {@link QueryExecutionListener}s
+ * and logs the execution plan of executions that exceed the slow query explain threshold.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class QueryExecutionListenerTypedQuery<X> extends TypedQueryWrapper<X> {
+
+    private final QueryExecutionListener[] listeners;
+    private final QueryExecutionRole role;
+    private final String queryString;
+    private final ExtendedQuerySupport extendedQuerySupport;
+    private final EntityManager em;
+    private final QueryExplainer slowQueryExplainer;
+    private final long slowQueryExplainThresholdNanos;
+    private long buildTimeNanos;
+
+    public QueryExecutionListenerTypedQuery(TypedQuery<X> delegate, QueryExecutionListener[] listeners, QueryExecutionRole role, String queryString, ExtendedQuerySupport extendedQuerySupport, EntityManager em, long buildTimeNanos, QueryExplainer slowQueryExplainer, long slowQueryExplainThresholdNanos) {
+        super(delegate, null);
+        this.listeners = listeners;
+        this.role = role;
+        this.queryString = queryString;
+        this.extendedQuerySupport = extendedQuerySupport;
+        this.em = em;
+        this.buildTimeNanos = buildTimeNanos;
+        this.slowQueryExplainer = slowQueryExplainer;
+        this.slowQueryExplainThresholdNanos = slowQueryExplainThresholdNanos;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<X> getResultList() {
+        long start = System.nanoTime();
+        List<X> result;
+        long executionTime;
+        long transformTime;
+        if (delegate instanceof ObjectBuilderTypedQuery<?>) {
+            ObjectBuilderTypedQuery<X> objectBuilderQuery = (ObjectBuilderTypedQuery<X>) delegate;
+            List<?> rawResult = objectBuilderQuery.getRawResultList();
+            long executed = System.nanoTime();
+            result = objectBuilderQuery.transformResultList(rawResult);
+            executionTime = executed - start;
+            transformTime = System.nanoTime() - executed;
+        } else {
+            result = delegate.getResultList();
+            executionTime = System.nanoTime() - start;
+            transformTime = 0L;
+        }
+        notifyListeners(result.size(), executionTime, transformTime);
+        return result;
+    }
+
+    @Override
+    public X getSingleResult() {
+        if (delegate instanceof ObjectBuilderTypedQuery<?>) {
+            List<X> list = getResultList();
+
+            switch (list.size()) {
+                case 0:
+                    throw new NoResultException("No results for query: " + delegate);
+                case 1:
+                    return list.get(0);
+                default:
+                    throw new NonUniqueResultException("Expected a single result for query: " + delegate);
+            }
+        }
+        long start = System.nanoTime();
+        X result = (X) delegate.getSingleResult();
+        notifyListeners(1, System.nanoTime() - start, 0L);
+        return result;
+    }
+
+    @Override
+    public Stream<X> getResultStream() {
+        final long start = System.nanoTime();
+        final Stream<X> resultStream = delegate.getResultStream();
+        final long executionTime = System.nanoTime() - start;
+        final int[] rowCount = new int[1];
+        return resultStream.map(new Function<X, X>() {
+            @Override
+            public X apply(X x) {
+                rowCount[0]++;
+                return x;
+            }
+        }).onClose(new Runnable() {
+            @Override
+            public void run() {
+                resultStream.close();
+                notifyListeners(rowCount[0], executionTime, 0L);
+            }
+        });
+    }
+
+    @Override
+    public int executeUpdate() {
+        long start = System.nanoTime();
+        int updateCount = delegate.executeUpdate();
+        notifyListeners(updateCount, System.nanoTime() - start, 0L);
+        return updateCount;
+    }
+
+    private void notifyListeners(int rowCount, long executionTimeNanos, long transformTimeNanos) {
+        long buildTime = buildTimeNanos;
+        buildTimeNanos = 0L;
+        QueryExecutionImpl.notify(listeners, new QueryExecutionImpl(role, queryString, QueryExecutionImpl.getQueryShapeHash(extendedQuerySupport, em, delegate, queryString), QueryExecutionImpl.getBindCount(delegate), rowCount, buildTime, executionTimeNanos, transformTimeNanos));
+        if (slowQueryExplainer != null && executionTimeNanos > slowQueryExplainThresholdNanos) {
+            slowQueryExplainer.logSlowQuery(delegate, role, queryString, executionTimeNanos);
+        }
+    }
+}
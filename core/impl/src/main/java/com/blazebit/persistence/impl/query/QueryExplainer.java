@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl.query;
+
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.ExplainPlan;
+import com.blazebit.persistence.spi.DbmsDialect;
+import com.blazebit.persistence.spi.ExtendedQuerySupport;
+import com.blazebit.persistence.spi.QueryExecutionRole;
+import com.blazebit.persistence.spi.ServiceProvider;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Retrieves the execution plan for the SQL of a query through the {@link DbmsDialect} and {@link ExtendedQuerySupport}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public final class QueryExplainer {
+
+    private static final Logger LOG = Logger.getLogger(QueryExplainer.class.getName());
+    private static final ExplainOptions SLOW_QUERY_EXPLAIN_OPTIONS = new ExplainOptions(false);
+
+    private final ServiceProvider serviceProvider;
+    private final EntityManager em;
+    private final ExtendedQuerySupport extendedQuerySupport;
+    private final DbmsDialect dbmsDialect;
+
+    public QueryExplainer(ServiceProvider serviceProvider) {
+        this.serviceProvider = serviceProvider;
+        this.em = serviceProvider.getService(EntityManager.class);
+        this.extendedQuerySupport = serviceProvider.getService(ExtendedQuerySupport.class);
+        this.dbmsDialect = serviceProvider.getService(DbmsDialect.class);
+    }
+
+    public ExplainPlan explain(Query query, QueryExecutionRole role, String queryString, ExplainOptions explainOptions) {
+        if (extendedQuerySupport == null || !extendedQuerySupport.supportsAdvancedSql() || !extendedQuerySupport.supportsExplainPlan()) {
+            throw new UnsupportedOperationException("Explaining queries is not supported by the JPA provider!");
+        }
+        Query physicalQuery = query;
+        while (physicalQuery instanceof QueryWrapper) {
+            physicalQuery = ((QueryWrapper) physicalQuery).getDelegate();
+        }
+
+        List<Query> participatingQueries;
+        Query baseQuery;
+        String sql;
+        if (physicalQuery instanceof AbstractCustomQuery<?>) {
+            AbstractCustomQuery<?> customQuery = (AbstractCustomQuery<?>) physicalQuery;
+            customQuery.bindParameters();
+            participatingQueries = customQuery.getParticipatingQueries();
+            baseQuery = customQuery.getQuerySpecification().getBaseQuery();
+            sql = customQuery.getSql();
+        } else {
+            participatingQueries = Collections.singletonList(physicalQuery);
+            baseQuery = physicalQuery;
+            sql = extendedQuerySupport.getSql(em, physicalQuery);
+        }
+
+        if (!extendedQuerySupport.getSqlContainsLimit()) {
+            // The JPA provider applies the limit and offset when executing the query, so we have to render them for the explain statement
+            int firstResult = physicalQuery.getFirstResult();
+            int maxResults = physicalQuery.getMaxResults();
+            sql = dbmsDialect.createLimitHandler().applySqlInlined(sql, false, maxResults == Integer.MAX_VALUE ? null : maxResults, firstResult == 0 ? null : firstResult);
+        }
+
+        String explainSql = dbmsDialect.getExplainSql(sql, explainOptions);
+        if (explainSql == null) {
+            throw new UnsupportedOperationException("Explaining queries is not supported by the DBMS dialect " + dbmsDialect.getClass().getName());
+        }
+
+        List<String> rows = extendedQuerySupport.getExplainPlan(serviceProvider, participatingQueries, baseQuery, explainSql);
+        List<String> planLines = new ArrayList<>(rows.size());
+        for (String row : rows) {
+            // Some DBMS like H2 report the whole plan in a single row
+            Collections.addAll(planLines, row.split("\r?\n"));
+        }
+        return new ExplainPlanImpl(role, queryString, sql, Collections.unmodifiableList(planLines));
+    }
+
+    public void logSlowQuery(Query query, QueryExecutionRole role, String queryString, long executionTimeNanos) {
+        try {
+            ExplainPlan explainPlan = explain(query, role, queryString, SLOW_QUERY_EXPLAIN_OPTIONS);
+            StringBuilder sb = new StringBuilder();
+            sb.append("Slow ").append(role).append(" query took ").append(TimeUnit.NANOSECONDS.toMillis(executionTimeNanos)).append("ms: ").append(queryString);
+            sb.append("\nSQL: ").append(explainPlan.getSql());
+            for (String planLine : explainPlan.getPlanLines()) {
+                sb.append('\n').append(planLine);
+            }
+            LOG.warning(sb.toString());
+        } catch (RuntimeException ex) {
+            LOG.log(Level.WARNING, "Could not explain slow query: " + queryString, ex);
+        }
+    }
+}
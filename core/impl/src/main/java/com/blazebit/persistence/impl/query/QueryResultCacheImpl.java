@@ -0,0 +1,365 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl.query;
+
+import com.blazebit.persistence.parser.EntityMetamodel;
+import com.blazebit.persistence.spi.ExtendedQuerySupport;
+import com.blazebit.persistence.spi.QueryResultCache;
+import com.blazebit.persistence.spi.QueryResultCacheStorage;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.IdentifiableType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches query results along with the versions of the entity types a query reads.
+ * Every invalidation of an entity type increments the version, which makes all results that were cached before stale.
+ *
+ * Entity types are tracked by their root entity type so that writing to a subtype invalidates results that read the super type and vice versa.
+ * While an entity type is being written, i.e. between {@link #beginInvalidation(Class)} and {@link #endInvalidation(Class)},
+ * results that read the entity type are not cached, as they might reflect a state that is about to change or is not committed yet.
+ * Writes done through modification queries end the invalidation when the surrounding transaction completes.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class QueryResultCacheImpl implements QueryResultCache {
+
+    private static final EntityTypeState[] EMPTY = new EntityTypeState[0];
+
+    private final EntityMetamodel metamodel;
+    private final QueryResultCacheStorage storage;
+    private final ExtendedQuerySupport extendedQuerySupport;
+    private final ConcurrentMap<Class<?>, EntityTypeState> entityTypeStates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Boolean> entityClasses = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong putCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public QueryResultCacheImpl(EntityMetamodel metamodel, QueryResultCacheStorage storage, ExtendedQuerySupport extendedQuerySupport) {
+        this.metamodel = metamodel;
+        this.storage = storage;
+        this.extendedQuerySupport = extendedQuerySupport;
+    }
+
+    public EntityTypeState[] getEntityTypeStates(Collection<Class<?>> entityClasses) {
+        if (entityClasses.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Class<?>, EntityTypeState> states = new LinkedHashMap<>(entityClasses.size());
+        for (Class<?> entityClass : entityClasses) {
+            EntityTypeState state = getEntityTypeState(entityClass);
+            if (state != null) {
+                states.put(state.rootEntityClass, state);
+            }
+        }
+        return states.values().toArray(new EntityTypeState[states.size()]);
+    }
+
+    /**
+     * Returns the current versions of the given entity types or <code>null</code> if a result for the entity types must not be cached right now.
+     *
+     * @param states The entity type states
+     * @return The versions or <code>null</code>
+     */
+    public long[] getVersions(EntityTypeState[] states) {
+        long[] versions = new long[states.length];
+        for (int i = 0; i < states.length; i++) {
+            EntityTypeState state = states[i];
+            if (state.pendingInvalidations.get() > 0) {
+                return null;
+            }
+            versions[i] = state.version.get();
+        }
+        return versions;
+    }
+
+    public List<Object> get(Object key, EntityTypeState[] states) {
+        Object value = storage.get(key);
+        if (value instanceof CachedResult) {
+            CachedResult cachedResult = (CachedResult) value;
+            if (isCurrent(cachedResult.versions, states)) {
+                hitCount.incrementAndGet();
+                return copy(cachedResult.result);
+            }
+            storage.remove(key);
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    public void put(Object key, EntityTypeState[] states, long[] versions, List<?> result) {
+        // Results with entities are attached to a persistence context and can't be shared
+        if (containsEntities(result)) {
+            return;
+        }
+        // Don't bother storing a result that is already stale, a get would reject it anyway
+        if (Arrays.equals(versions, getVersions(states))) {
+            storage.put(key, new CachedResult(versions, copy(result)));
+            putCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void invalidate(Class<?> entityClass) {
+        EntityTypeState state = getEntityTypeState(entityClass);
+        if (state != null) {
+            state.version.incrementAndGet();
+            invalidationCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the state of the given entity manager that influences query results, like the tenant identifier or enabled filters.
+     *
+     * @param em The entity manager that executes the query
+     * @return The state that has to be part of the cache key or <code>null</code>
+     */
+    public Object getQueryResultInfluencingState(EntityManager em) {
+        return extendedQuerySupport.getQueryResultInfluencingState(em);
+    }
+
+    /**
+     * Begins the invalidation of the given entity types for a write that is executed through the given entity manager.
+     * If a transaction is active, the invalidation ends when the transaction completes.
+     * Otherwise the write is committed right away and the caller has to end the invalidation via {@link #endInvalidation(Class[])} after the write.
+     *
+     * @param em The entity manager that executes the write
+     * @param entityClasses The entity types to invalidate
+     * @return Whether the invalidation ends with the transaction
+     */
+    public boolean beginInvalidation(EntityManager em, final Class<?>[] entityClasses) {
+        for (Class<?> entityClass : entityClasses) {
+            beginInvalidation(entityClass);
+        }
+        try {
+            return extendedQuerySupport.registerTransactionCompletionCallback(em, new Runnable() {
+                @Override
+                public void run() {
+                    endInvalidation(entityClasses);
+                }
+            });
+        } catch (RuntimeException ex) {
+            endInvalidation(entityClasses);
+            throw ex;
+        }
+    }
+
+    /**
+     * Ends the invalidation of all of the given entity types.
+     *
+     * @param entityClasses The entity types to end the invalidation for
+     */
+    public void endInvalidation(Class<?>[] entityClasses) {
+        for (Class<?> entityClass : entityClasses) {
+            endInvalidation(entityClass);
+        }
+    }
+
+    @Override
+    public void beginInvalidation(Class<?> entityClass) {
+        EntityTypeState state = getEntityTypeState(entityClass);
+        if (state != null) {
+            state.pendingInvalidations.incrementAndGet();
+            state.version.incrementAndGet();
+            invalidationCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void endInvalidation(Class<?> entityClass) {
+        EntityTypeState state = getEntityTypeState(entityClass);
+        if (state != null) {
+            // Increment before ending the suspension so that nothing read during the invalidation can be cached
+            state.version.incrementAndGet();
+            state.pendingInvalidations.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void clear() {
+        storage.clear();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public long getPutCount() {
+        return putCount.get();
+    }
+
+    @Override
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    @Override
+    public int getSize() {
+        return storage.size();
+    }
+
+    private EntityTypeState getEntityTypeState(Class<?> entityClass) {
+        EntityTypeState state = entityTypeStates.get(entityClass);
+        if (state == null) {
+            EntityType<?> entityType = metamodel.getEntity(entityClass);
+            if (entityType == null) {
+                return null;
+            }
+            Class<?> rootEntityClass = getRootEntityType(entityType).getJavaType();
+            state = entityTypeStates.get(rootEntityClass);
+            if (state == null) {
+                state = new EntityTypeState(rootEntityClass);
+                EntityTypeState existing = entityTypeStates.putIfAbsent(rootEntityClass, state);
+                if (existing != null) {
+                    state = existing;
+                }
+            }
+            entityTypeStates.putIfAbsent(entityClass, state);
+        }
+        return state;
+    }
+
+    private static EntityType<?> getRootEntityType(EntityType<?> entityType) {
+        EntityType<?> rootEntityType = entityType;
+        IdentifiableType<?> type = entityType.getSupertype();
+        while (type != null) {
+            if (type instanceof EntityType<?>) {
+                rootEntityType = (EntityType<?>) type;
+            }
+            type = type.getSupertype();
+        }
+        return rootEntityType;
+    }
+
+    private static boolean isCurrent(long[] versions, EntityTypeState[] states) {
+        if (versions.length != states.length) {
+            return false;
+        }
+        for (int i = 0; i < states.length; i++) {
+            if (versions[i] != states[i].version.get()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean containsEntities(List<?> result) {
+        for (Object row : result) {
+            if (row instanceof Object[]) {
+                for (Object element : (Object[]) row) {
+                    if (isEntity(element)) {
+                        return true;
+                    }
+                }
+            } else if (row instanceof Tuple) {
+                for (Object element : ((Tuple) row).toArray()) {
+                    if (isEntity(element)) {
+                        return true;
+                    }
+                }
+            } else if (isEntity(row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isEntity(Object object) {
+        if (object == null) {
+            return false;
+        }
+        Class<?> objectClass = object.getClass();
+        Boolean entity = entityClasses.get(objectClass);
+        if (entity == null) {
+            entity = Boolean.FALSE;
+            // Walk up the hierarchy to detect proxies
+            for (Class<?> c = objectClass; c != null && c != Object.class; c = c.getSuperclass()) {
+                if (metamodel.getEntity(c) != null) {
+                    entity = Boolean.TRUE;
+                    break;
+                }
+            }
+            entityClasses.put(objectClass, entity);
+        }
+        return entity;
+    }
+
+    private static List<Object> copy(List<?> result) {
+        // Object builders transform tuples in place, so every consumer needs its own tuple arrays
+        List<Object> copy = new ArrayList<>(result.size());
+        for (Object row : result) {
+            if (row instanceof Object[]) {
+                copy.add(((Object[]) row).clone());
+            } else {
+                copy.add(row);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * The invalidation state of a root entity type.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    public static final class EntityTypeState {
+        private final Class<?> rootEntityClass;
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicInteger pendingInvalidations = new AtomicInteger();
+
+        EntityTypeState(Class<?> rootEntityClass) {
+            this.rootEntityClass = rootEntityClass;
+        }
+    }
+
+    /**
+     * A cached result along with the entity type versions it was read with.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    private static final class CachedResult {
+        private final long[] versions;
+        private final List<Object> result;
+
+        CachedResult(long[] versions, List<Object> result) {
+            this.versions = versions;
+            this.result = result;
+        }
+    }
+}
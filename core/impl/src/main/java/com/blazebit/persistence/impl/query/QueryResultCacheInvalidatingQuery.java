@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.impl.query;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A query wrapper for queries that write data, which invalidates the written entity types in the {@link QueryResultCacheImpl}
+ * right before every execution. The invalidation ends when the transaction of the write completes.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class QueryResultCacheInvalidatingQuery extends QueryWrapper {
+
+    private final QueryResultCacheImpl cache;
+    private final EntityManager em;
+    private final Class<?>[] entityClasses;
+
+    public QueryResultCacheInvalidatingQuery(Query delegate, QueryResultCacheImpl cache, EntityManager em, Class<?>[] entityClasses) {
+        super(delegate, null);
+        this.cache = cache;
+        this.em = em;
+        this.entityClasses = entityClasses;
+    }
+
+    @Override
+    public List getResultList() {
+        boolean transactional = cache.beginInvalidation(em, entityClasses);
+        try {
+            return delegate.getResultList();
+        } finally {
+            if (!transactional) {
+                cache.endInvalidation(entityClasses);
+            }
+        }
+    }
+
+    @Override
+    public Object getSingleResult() {
+        boolean transactional = cache.beginInvalidation(em, entityClasses);
+        try {
+            return delegate.getSingleResult();
+        } finally {
+            if (!transactional) {
+                cache.endInvalidation(entityClasses);
+            }
+        }
+    }
+
+    @Override
+    public Stream getResultStream() {
+        boolean transactional = cache.beginInvalidation(em, entityClasses);
+        try {
+            return delegate.getResultStream();
+        } finally {
+            if (!transactional) {
+                cache.endInvalidation(entityClasses);
+            }
+        }
+    }
+
+    @Override
+    public int executeUpdate() {
+        boolean transactional = cache.beginInvalidation(em, entityClasses);
+        try {
+            return delegate.executeUpdate();
+        } finally {
+            if (!transactional) {
+                cache.endInvalidation(entityClasses);
+            }
+        }
+    }
+}
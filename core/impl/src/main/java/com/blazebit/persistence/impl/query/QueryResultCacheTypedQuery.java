@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl.query;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.NoResultException;
+import javax.persistence.NonUniqueResultException;
+import javax.persistence.Parameter;
+import javax.persistence.TypedQuery;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A query wrapper that serves the result list from the {@link QueryResultCacheImpl} if possible.
+ * The cache key consists of the query string, the bound parameter values, the limit/offset of the query
+ * and the state of the entity manager that influences query results, like the tenant identifier or enabled filters.
+ * Queries that use an entity graph are not cached.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class QueryResultCacheTypedQuery<X> extends TypedQueryWrapper<X> {
+
+    private final QueryResultCacheImpl cache;
+    private final EntityManager em;
+    private final String queryString;
+    private final QueryResultCacheImpl.EntityTypeState[] entityTypeStates;
+    private boolean locking;
+
+    public QueryResultCacheTypedQuery(TypedQuery<X> delegate, QueryResultCacheImpl cache, EntityManager em, String queryString, QueryResultCacheImpl.EntityTypeState[] entityTypeStates) {
+        super(delegate, null);
+        this.cache = cache;
+        this.em = em;
+        this.queryString = queryString;
+        this.entityTypeStates = entityTypeStates;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<X> getResultList() {
+        Object key = locking ? null : createKey();
+        if (key == null) {
+            return delegate.getResultList();
+        }
+        List<Object> cachedResult = cache.get(key, entityTypeStates);
+        if (cachedResult != null) {
+            return (List<X>) cachedResult;
+        }
+        long[] versions = cache.getVersions(entityTypeStates);
+        List<X> result = delegate.getResultList();
+        if (versions != null) {
+            cache.put(key, entityTypeStates, versions, result);
+        }
+        return result;
+    }
+
+    @Override
+    public X getSingleResult() {
+        List<X> list = getResultList();
+        switch (list.size()) {
+            case 0:
+                throw new NoResultException("No results for query: " + queryString);
+            case 1:
+                return list.get(0);
+            default:
+                throw new NonUniqueResultException("Expected a single result for query: " + queryString);
+        }
+    }
+
+    @Override
+    public TypedQuery<X> setLockMode(LockModeType lmt) {
+        locking = lmt != null && lmt != LockModeType.NONE;
+        return super.setLockMode(lmt);
+    }
+
+    private Object createKey() {
+        for (String hint : delegate.getHints().keySet()) {
+            // Entity graphs don't implement equals, but affect the results, so we can't cache the query
+            if (hint.endsWith(".fetchgraph") || hint.endsWith(".loadgraph")) {
+                return null;
+            }
+        }
+        Map<String, Object> parameterValues = new TreeMap<>();
+        for (Parameter<?> parameter : delegate.getParameters()) {
+            Object value;
+            try {
+                // Some JPA providers don't report parameter lists as bound, so we just try to access the value
+                value = delegate.getParameterValue(parameter);
+            } catch (IllegalStateException ex) {
+                // Let the query report the unbound parameter
+                return null;
+            }
+            String name = parameter.getName() == null ? "?" + parameter.getPosition() : parameter.getName();
+            parameterValues.put(name, toKeyValue(value));
+        }
+        List<Object> key = new ArrayList<>(5);
+        key.add(queryString);
+        key.add(delegate.getFirstResult());
+        key.add(delegate.getMaxResults());
+        key.add(parameterValues);
+        key.add(cache.getQueryResultInfluencingState(em));
+        return key;
+    }
+
+    private static Object toKeyValue(Object value) {
+        // Arrays don't implement equals, so we compare their elements
+        if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<Object> list = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                list.add(toKeyValue(Array.get(value, i)));
+            }
+            return list;
+        }
+        return value;
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.impl.query;
 
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.impl.AbstractCommonQueryBuilder;
 import com.blazebit.persistence.impl.plan.CustomSelectQueryPlan;
 import com.blazebit.persistence.impl.plan.SelectQueryPlan;
@@ -26,6 +27,7 @@ import javax.persistence.Parameter;
 import javax.persistence.Query;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,12 +44,13 @@ public class SetOperationQuerySpecification<T> extends CustomQuerySpecification<
     private final SetOperationType operator;
     private final List<? extends OrderByElement> orderByElements;
     private final boolean nested;
+    private List<QueryHint> operandHints = Collections.emptyList();
 
     public SetOperationQuerySpecification(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> commonQueryBuilder, Query leftMostQuery, Query baseQuery, List<Query> setOperands, SetOperationType operator,
                                           List<? extends OrderByElement> orderByElements, boolean nested, Collection<? extends Parameter<?>> parameters, Set<String> parameterListNames, String limit, String offset,
                                           List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, boolean recursive, List<CTENode> ctes, boolean shouldRenderCteNodes,
                                           boolean queryPlanCacheEnabled) {
-        super(commonQueryBuilder, baseQuery, parameters, parameterListNames, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes, recursive, ctes, shouldRenderCteNodes, queryPlanCacheEnabled, null);
+        super(commonQueryBuilder, baseQuery, parameters, parameterListNames, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes, recursive, ctes, shouldRenderCteNodes, queryPlanCacheEnabled, null, Collections.<QueryHint>emptyList());
         this.leftMostQuery = leftMostQuery;
         this.setOperands = setOperands;
         this.operator = operator;
@@ -60,11 +63,23 @@ public class SetOperationQuerySpecification<T> extends CustomQuerySpecification<
         return baseQuery;
     }
 
+    @Override
+    protected List<QueryHint> getStatementHints() {
+        List<QueryHint> statementHints = super.getStatementHints();
+        if (operandHints.isEmpty()) {
+            return statementHints;
+        }
+        List<QueryHint> hints = new ArrayList<>(statementHints);
+        hints.addAll(operandHints);
+        return hints;
+    }
+
     @Override
     protected void initialize() {
         String sqlQuery;
         List<Query> participatingQueries = new ArrayList<Query>();
         List<Query> cteQueries = new ArrayList<Query>();
+        List<QueryHint> operandHints = new ArrayList<>();
 
         bindListParameters(baseQuery);
         Query q = leftMostQuery;
@@ -77,6 +92,7 @@ public class SetOperationQuerySpecification<T> extends CustomQuerySpecification<
             List<Query> customQueryParticipants = customQuery.getParticipatingQueries();
             participatingQueries.addAll(customQueryParticipants);
             sqlQuery = customQuery.getSql();
+            addQueryHints(operandHints, customQuery.getQuerySpecification());
         } else {
             participatingQueries.add(baseQuery);
             sqlQuery = extendedQuerySupport.getSql(em, baseQuery);
@@ -100,6 +116,7 @@ public class SetOperationQuerySpecification<T> extends CustomQuerySpecification<
                 participatingQueries.addAll(customQueryParticipants);
 
                 setOperandSql = customQuery.getSql();
+                addQueryHints(operandHints, customQuery.getQuerySpecification());
             } else {
                 setOperandSql = extendedQuerySupport.getSql(em, q);
                 participatingQueries.add(q);
@@ -117,6 +134,8 @@ public class SetOperationQuerySpecification<T> extends CustomQuerySpecification<
         Map<String, String> addedCtes = dbmsDialect.appendExtendedSql(sqlSb, statementType, false, false, withClause, null, null, null, null, null);
         cteQueries.addAll(participatingQueries);
         participatingQueries = cteQueries;
+        this.operandHints = operandHints;
+        applyStatementHints(sqlSb);
 
         this.sql = sqlSb.toString();
         this.participatingQueries = participatingQueries;
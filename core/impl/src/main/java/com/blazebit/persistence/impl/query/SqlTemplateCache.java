@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.impl.query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the post-processed SQL of custom query specifications so that builders which produce the same
+ * underlying SQL can skip the string based rewriting for CTEs, entity functions and DML extensions.
+ *
+ * The key is made up of the SQL of all participating queries and every option that influences the rewriting.
+ * Since parameters are still bound on the participating queries, a cached template can be reused for any parameter values.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class SqlTemplateCache {
+
+    private static final int DEFAULT_MAX_SIZE = 2048;
+
+    private final ConcurrentMap<List<Object>, SqlTemplate> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public SqlTemplateCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public SqlTemplateCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public SqlTemplate get(List<Object> key) {
+        return cache.get(key);
+    }
+
+    public void put(List<Object> key, SqlTemplate template) {
+        // Rather stop caching than evicting, the templates are cheap to rebuild
+        if (cache.size() < maxSize) {
+            cache.putIfAbsent(key, template);
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * The post-processed SQL along with the CTEs that have to be added by an enclosing query.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    public static final class SqlTemplate {
+
+        private final String sql;
+        private final Map<String, String> addedCtes;
+        private final boolean withClause;
+
+        public SqlTemplate(String sql, Map<String, String> addedCtes, boolean withClause) {
+            this.sql = sql;
+            this.addedCtes = addedCtes;
+            this.withClause = withClause;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public Map<String, String> getAddedCtes() {
+            return addedCtes;
+        }
+
+        public boolean hasWithClause() {
+            return withClause;
+        }
+    }
+}
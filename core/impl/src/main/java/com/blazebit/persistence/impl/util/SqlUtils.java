@@ -287,6 +287,31 @@ public class SqlUtils {
         return endIndex;
     }
 
+    /**
+     * Finds the end of the declaration of the given SQL table alias in the FROM clause of the main query.
+     * Table level hints like index hints are usually rendered right after the alias declaration.
+     *
+     * @param sb The SQL query
+     * @param sqlAlias The SQL table alias
+     * @return The index right after the alias declaration or -1 if the alias isn't declared in the main query
+     */
+    public static int indexOfTableAliasDeclarationEnd(StringBuilder sb, String sqlAlias) {
+        int searchIndex = indexOfFrom(sb);
+        if (searchIndex == -1) {
+            return -1;
+        }
+        final String searchAlias = " " + sqlAlias;
+        while ((searchIndex = sb.indexOf(searchAlias, searchIndex)) > -1) {
+            int idx = searchIndex + searchAlias.length();
+            // Dereferences of the alias and aliases that just share the prefix are followed by different characters
+            if ((idx == sb.length() || Character.isWhitespace(sb.charAt(idx)) || sb.charAt(idx) == ',') && isInMainQuery(sb, searchIndex)) {
+                return idx;
+            }
+            searchIndex = idx;
+        }
+        return -1;
+    }
+
     private static boolean isInMainQuery(StringBuilder sb, int tableNameIndex) {
         int parenthesis = 0;
         QuoteMode mode = QuoteMode.NONE;
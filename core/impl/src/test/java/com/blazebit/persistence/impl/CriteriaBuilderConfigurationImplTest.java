@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import com.blazebit.persistence.spi.JpqlFunctionGroup;
+import com.blazebit.persistence.spi.PackageOpener;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CriteriaBuilderConfigurationImplTest {
+
+    @Test
+    public void lazilyRegisteredFunctionsCanBeResolvedForAllDialects() {
+        CriteriaBuilderConfigurationImpl config = new CriteriaBuilderConfigurationImpl(PackageOpener.NOOP);
+        for (String functionName : config.getFunctionNames()) {
+            JpqlFunctionGroup functionGroup = config.getFunction(functionName);
+            for (String dbms : config.getDbmsDialects().keySet()) {
+                // Fails if a lazily registered function class can't be loaded or instantiated
+                functionGroup.get(dbms);
+            }
+        }
+    }
+
+    @Test
+    public void lazilyRegisteredFunctionIsInstantiatedOnce() {
+        JpqlFunctionGroup functionGroup = new JpqlFunctionGroup("test", false);
+        functionGroup.addLazy("h2", "com.blazebit.persistence.impl.function.count.CountTupleFunction", getClass().getClassLoader());
+        Assert.assertTrue(functionGroup.contains("h2"));
+        Assert.assertFalse(functionGroup.contains("mysql"));
+        Assert.assertSame(functionGroup.get("h2"), functionGroup.get("h2"));
+        Assert.assertNull(functionGroup.get("mysql"));
+    }
+}
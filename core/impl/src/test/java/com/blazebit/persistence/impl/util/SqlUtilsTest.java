@@ -50,6 +50,17 @@ public class SqlUtilsTest {
         Assert.assertEquals(30, SqlUtils.indexOfSelect("with a AS (select `)select `) select 1"));
     }
 
+    @Test
+    public void indexOfTableAliasDeclarationEnd() {
+        Assert.assertEquals(22, SqlUtils.indexOfTableAliasDeclarationEnd(new StringBuilder("select d.id from doc d"), "d"));
+        Assert.assertEquals(22, SqlUtils.indexOfTableAliasDeclarationEnd(new StringBuilder("select d.id from doc d where d.id = 1"), "d"));
+        Assert.assertEquals(32, SqlUtils.indexOfTableAliasDeclarationEnd(new StringBuilder("select d.id from doc d, person p"), "p"));
+        Assert.assertEquals(41, SqlUtils.indexOfTableAliasDeclarationEnd(new StringBuilder("select d.id from doc d left join person p on p.id = d.owner"), "p"));
+        Assert.assertEquals(-1, SqlUtils.indexOfTableAliasDeclarationEnd(new StringBuilder("select d.id from doc d"), "p"));
+        Assert.assertEquals(-1, SqlUtils.indexOfTableAliasDeclarationEnd(new StringBuilder("select d.id from doc d2"), "d"));
+        Assert.assertEquals(-1, SqlUtils.indexOfTableAliasDeclarationEnd(new StringBuilder("select d.id from doc d where exists (select 1 from person p)"), "p"));
+    }
+
     @Test
     public void selectItemAliases() {
         assertAliases("select 1 as one", "one");
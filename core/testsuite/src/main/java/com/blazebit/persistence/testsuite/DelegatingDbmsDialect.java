@@ -16,6 +16,9 @@
 
 package com.blazebit.persistence.testsuite;
 
+import com.blazebit.persistence.CTEMaterialization;
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.QueryHint;
 import com.blazebit.persistence.spi.DbmsDialect;
 import com.blazebit.persistence.spi.DbmsLimitHandler;
 import com.blazebit.persistence.spi.DbmsModificationState;
@@ -301,4 +304,24 @@ public class DelegatingDbmsDialect implements DbmsDialect {
     public ResultSet extractReturningResult(PreparedStatement ps) throws SQLException {
         return delegate.extractReturningResult(ps);
     }
+
+    @Override
+    public String getExplainSql(String sql, ExplainOptions explainOptions) {
+        return delegate.getExplainSql(sql, explainOptions);
+    }
+
+    @Override
+    public void appendQueryBlockHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        delegate.appendQueryBlockHints(sqlSb, queryHints);
+    }
+
+    @Override
+    public void appendStatementHints(StringBuilder sqlSb, List<QueryHint> queryHints) {
+        delegate.appendStatementHints(sqlSb, queryHints);
+    }
+
+    @Override
+    public void appendCteMaterialization(StringBuilder sqlSb, int cteStartIndex, CTEMaterialization materialization) {
+        delegate.appendCteMaterialization(sqlSb, cteStartIndex, materialization);
+    }
 }
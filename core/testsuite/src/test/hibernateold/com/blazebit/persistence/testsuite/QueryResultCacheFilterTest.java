@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.QueryResultCache;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.hibernate.Session;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.Id;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class QueryResultCacheFilterTest extends AbstractCoreTest {
+
+    private QueryResultCache cache;
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { FilteredEntity.class };
+    }
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.setProperty(ConfigurationProperties.QUERY_RESULT_CACHE, "true");
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                em.persist(new FilteredEntity(1L, "A", true));
+                em.persist(new FilteredEntity(2L, "B", false));
+            }
+        });
+    }
+
+    @Before
+    public void clearCache() {
+        cache = cbf.getService(QueryResultCache.class);
+        cache.clear();
+    }
+
+    @Test
+    public void testEnabledFilterIsPartOfCacheKey() {
+        assertEquals(Arrays.asList("A", "B"), createQuery().getResultList());
+
+        em.unwrap(Session.class).enableFilter("activeFilter").setParameter("active", true);
+        long hits = cache.getHitCount();
+        assertEquals(Collections.singletonList("A"), createQuery().getResultList());
+        assertEquals(hits, cache.getHitCount());
+
+        em.unwrap(Session.class).enableFilter("activeFilter").setParameter("active", false);
+        assertEquals(Collections.singletonList("B"), createQuery().getResultList());
+        assertEquals(hits, cache.getHitCount());
+
+        em.unwrap(Session.class).disableFilter("activeFilter");
+        assertEquals(Arrays.asList("A", "B"), createQuery().getResultList());
+        assertEquals(hits + 1, cache.getHitCount());
+    }
+
+    private CriteriaBuilder<String> createQuery() {
+        return cbf.create(em, String.class)
+                .from(FilteredEntity.class, "e")
+                .select("e.name")
+                .orderByAsc("e.id")
+                .setProperty(ConfigurationProperties.QUERY_RESULT_CACHE_ENABLED, "true");
+    }
+
+    @Entity(name = "FilteredEntity")
+    @FilterDef(name = "activeFilter", defaultCondition = "active_flag = :active", parameters = {
+            @ParamDef(name = "active", type = "boolean")
+    })
+    @Filter(name = "activeFilter")
+    public static class FilteredEntity {
+
+        @Id
+        private Long id;
+
+        private String name;
+
+        @Column(name = "active_flag")
+        private boolean active;
+
+        public FilteredEntity() {
+        }
+
+        public FilteredEntity(Long id, String name, boolean active) {
+            this.id = id;
+            this.name = name;
+            this.active = active;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.CTEMaterialization;
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.impl.query.CustomSQLTypedQuery;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDB2;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoFirebird;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoH2;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMSSQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMySQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOracle;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoSQLite;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.IdHolderCTE;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.entity.SecondIdHolderCTE;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+// NOTE: Only PostgreSQL renders the materialization and supports non-recursive CTEs that can be reused
+@Category({ NoH2.class, NoMySQL.class, NoOracle.class, NoMSSQL.class, NoDB2.class, NoFirebird.class, NoSQLite.class, NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+public class CTEMaterializationTest extends AbstractCoreTest {
+
+    private static final String REUSING_CTE = "SecondIdHolderCTE(id) AS( select id from IdHolderCTE )";
+    private static final String MATERIALIZED_REUSING_CTE = "SecondIdHolderCTE(id) AS MATERIALIZED( select id from IdHolderCTE )";
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return concat(super.getEntityClasses(), IdHolderCTE.class, SecondIdHolderCTE.class);
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person o1 = new Person("Karl1");
+                em.persist(o1);
+
+                em.persist(new Document("doc1", o1));
+                em.persist(new Document("doc2", o1));
+                em.persist(new Document("doc3", o1));
+            }
+        });
+    }
+
+    @Test
+    public void testStructurallyIdenticalCtesAreReused() {
+        CriteriaBuilder<Document> criteria = createCriteria(":docName", ":docName");
+        criteria.setParameter("docName", "doc1");
+
+        assertEquals(1, criteria.getResultList().size());
+        String sql = getSql(criteria);
+        assertTrue(sql, sql.contains(REUSING_CTE));
+    }
+
+    @Test
+    public void testCtesAreNotReusedWhenDisabled() {
+        CriteriaBuilder<Document> criteria = createCriteria(":docName", ":docName")
+                .setProperty(ConfigurationProperties.CTE_REUSE, "false");
+        criteria.setParameter("docName", "doc1");
+
+        assertEquals(1, criteria.getResultList().size());
+        String sql = getSql(criteria);
+        assertFalse(sql, sql.contains(REUSING_CTE));
+    }
+
+    @Test
+    public void testDifferentCtesAreNotReused() {
+        CriteriaBuilder<Document> criteria = createCriteria(":docName", ":otherDocName");
+        criteria.setParameter("docName", "doc1");
+        criteria.setParameter("otherDocName", "doc2");
+
+        assertEquals(0, criteria.getResultList().size());
+        String sql = getSql(criteria);
+        assertFalse(sql, sql.contains(REUSING_CTE));
+    }
+
+    @Test
+    public void testCtesWithDifferentMaterializationAreNotReused() {
+        CriteriaBuilder<Document> criteria = createCriteria(":docName", ":docName")
+                .setCteMaterialization(IdHolderCTE.class, CTEMaterialization.MATERIALIZED);
+        criteria.setParameter("docName", "doc1");
+
+        assertEquals(1, criteria.getResultList().size());
+        String sql = getSql(criteria);
+        assertTrue(sql, sql.contains("IdHolderCTE(id) AS MATERIALIZED( select"));
+        assertTrue(sql, sql.contains("SecondIdHolderCTE(id) AS( select"));
+        assertFalse(sql, sql.contains(REUSING_CTE));
+    }
+
+    @Test
+    public void testMaterializationIsKeptByWithCtesFrom() {
+        CriteriaBuilder<Document> source = createCriteria(":docName", ":docName")
+                .setCteMaterialization(IdHolderCTE.class, CTEMaterialization.NOT_MATERIALIZED)
+                .setCteMaterialization(SecondIdHolderCTE.class, CTEMaterialization.NOT_MATERIALIZED);
+        CriteriaBuilder<Document> criteria = restrictToCtes(createCriteriaBuilder().withCtesFrom(source));
+        criteria.setParameter("docName", "doc1");
+
+        assertEquals(1, criteria.getResultList().size());
+        String sql = getSql(criteria);
+        assertTrue(sql, sql.contains("IdHolderCTE(id) AS NOT MATERIALIZED( select"));
+        assertTrue(sql, sql.contains("SecondIdHolderCTE(id) AS NOT MATERIALIZED( select id from IdHolderCTE )"));
+    }
+
+    @Test
+    public void testMaterializationCanBeSetBeforeCteIsDefined() {
+        CriteriaBuilder<Document> criteria = restrictToCtes(createCriteriaBuilder()
+                .setCteMaterialization(IdHolderCTE.class, CTEMaterialization.MATERIALIZED)
+                .setCteMaterialization(SecondIdHolderCTE.class, CTEMaterialization.MATERIALIZED)
+                .with(IdHolderCTE.class, false)
+                    .from(Document.class, "sub")
+                    .bind("id").select("sub.id")
+                    .where("sub.name").eqExpression(":docName")
+                .end()
+                .with(SecondIdHolderCTE.class, false)
+                    .from(Document.class, "sub")
+                    .bind("id").select("sub.id")
+                    .where("sub.name").eqExpression(":docName")
+                .end());
+        criteria.setParameter("docName", "doc1");
+
+        assertEquals(1, criteria.getResultList().size());
+        String sql = getSql(criteria);
+        assertTrue(sql, sql.contains(MATERIALIZED_REUSING_CTE));
+    }
+
+    private static String getSql(CriteriaBuilder<Document> criteria) {
+        return ((CustomSQLTypedQuery<?>) criteria.getQuery()).getQuerySpecification().getSql();
+    }
+
+    private CriteriaBuilder<Document> createCriteriaBuilder() {
+        return cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.CTE_REUSE, "true");
+    }
+
+    private CriteriaBuilder<Document> createCriteria(String firstDocName, String secondDocName) {
+        return restrictToCtes(createCriteriaBuilder()
+                .with(IdHolderCTE.class, false)
+                    .from(Document.class, "sub")
+                    .bind("id").select("sub.id")
+                    .where("sub.name").eqExpression(firstDocName)
+                .end()
+                .with(SecondIdHolderCTE.class, false)
+                    .from(Document.class, "sub")
+                    .bind("id").select("sub.id")
+                    .where("sub.name").eqExpression(secondDocName)
+                .end());
+    }
+
+    private CriteriaBuilder<Document> restrictToCtes(CriteriaBuilder<Document> criteria) {
+        return criteria
+                .where("d.id").in()
+                    .from(IdHolderCTE.class, "cte")
+                    .select("cte.id")
+                .end()
+                .where("d.id").in()
+                    .from(SecondIdHolderCTE.class, "cte")
+                    .select("cte.id")
+                .end();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.ExplainPlan;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+import com.blazebit.persistence.spi.ExtendedQuerySupport;
+import com.blazebit.persistence.spi.QueryExecutionRole;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDB2;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoFirebird;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate60;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMSSQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMySQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOracle;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoSQLite;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import javax.persistence.Query;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+// NOTE: Explain is only supported for H2 and PostgreSQL and needs advanced SQL support
+@Category({ NoMySQL.class, NoOracle.class, NoMSSQL.class, NoDB2.class, NoFirebird.class, NoSQLite.class, NoHibernate60.class, NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+public class ExplainPlanTest extends AbstractCoreTest {
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person o1 = new Person("Karl1");
+                Person o2 = new Person("Karl2");
+                em.persist(o1);
+                em.persist(o2);
+
+                Document doc1 = new Document("doc1", o1);
+                Document doc2 = new Document("doc2", o1);
+                Document doc3 = new Document("doc3", o2);
+                doc1.getContacts().put(1, o1);
+                doc1.getContacts().put(2, o2);
+                em.persist(doc1);
+                em.persist(doc2);
+                em.persist(doc3);
+            }
+        });
+    }
+
+    @Test
+    public void testExplainQuery() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .where("d.name").eq("doc1");
+
+        List<ExplainPlan> plans = criteria.getExplainPlan(new ExplainOptions(false));
+
+        assertEquals(1, plans.size());
+        assertExplainPlan(plans.get(0), QueryExecutionRole.OBJECT);
+    }
+
+    @Test
+    public void testExplainAnalyzeQuery() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .where("d.name").eq("doc1");
+
+        List<ExplainPlan> plans = criteria.getExplainPlan(new ExplainOptions(true));
+
+        assertEquals(1, plans.size());
+        assertExplainPlan(plans.get(0), QueryExecutionRole.OBJECT);
+    }
+
+    @Test
+    public void testExplainPaginatedQuery() {
+        PaginatedCriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .leftJoinFetch("d.contacts", "c")
+                .orderByAsc("d.id")
+                .page(0, 2)
+                .withInlineIdQuery(false)
+                .withInlineCountQuery(false);
+
+        List<ExplainPlan> plans = criteria.getExplainPlan(new ExplainOptions(false));
+
+        assertEquals(3, plans.size());
+        assertExplainPlan(plans.get(0), QueryExecutionRole.COUNT);
+        assertExplainPlan(plans.get(1), QueryExecutionRole.ID);
+        assertExplainPlan(plans.get(2), QueryExecutionRole.OBJECT);
+        assertEquals(criteria.getPageCountQueryString(), plans.get(0).getQueryString());
+        assertEquals(criteria.getPageIdQueryString(), plans.get(1).getQueryString());
+        assertEquals(criteria.getQueryString(), plans.get(2).getQueryString());
+    }
+
+    @Test
+    public void testFailingExplainKeepsTransactionUsable() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .where("d.name").eq("doc1");
+        Query query = em.createQuery("SELECT d FROM Document d");
+        try {
+            cbf.getService(ExtendedQuerySupport.class).getExplainPlan(criteria, Collections.singletonList(query), query, "EXPLAIN SELECT * FROM non_existing_table");
+            fail("Expected the explain statement to fail");
+        } catch (PersistenceException ex) {
+            // Expected
+        }
+
+        assertFalse(em.getTransaction().getRollbackOnly());
+        assertEquals(1, criteria.getResultList().size());
+    }
+
+    private static void assertExplainPlan(ExplainPlan plan, QueryExecutionRole role) {
+        assertEquals(role, plan.getRole());
+        assertFalse(plan.getSql().isEmpty());
+        assertFalse(plan.getPlanLines().isEmpty());
+    }
+}
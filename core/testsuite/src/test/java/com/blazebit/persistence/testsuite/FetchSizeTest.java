@@ -0,0 +1,166 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMySQLOld;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.IdHolderCTE;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+// NOTE: The fetch size is verified through the Hibernate specific query hint
+@Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+public class FetchSizeTest extends AbstractCoreTest {
+
+    private static final int DOCUMENT_COUNT = 500;
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return concat(super.getEntityClasses(), IdHolderCTE.class);
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person p = new Person("Karl1");
+                em.persist(p);
+                for (int i = 0; i < DOCUMENT_COUNT; i++) {
+                    em.persist(new Document("doc" + i, p));
+                    if (i % 100 == 0) {
+                        em.flush();
+                        em.clear();
+                        p = em.getReference(Person.class, p.getId());
+                    }
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testFetchSizeHint() {
+        CriteriaBuilder<Long> criteria = cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .setFetchSize(100);
+
+        assertEquals(100, criteria.getFetchSize());
+        assertEquals(100, criteria.getQuery().getHints().get("org.hibernate.fetchSize"));
+    }
+
+    @Test
+    public void testFetchSizeIsCopied() {
+        CriteriaBuilder<Long> criteria = cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .setFetchSize(100);
+
+        assertEquals(100, criteria.copy(Long.class).getFetchSize());
+    }
+
+    @Test
+    public void testNegativeFetchSize() {
+        try {
+            cbf.create(em, Document.class).setFetchSize(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testStreamWithFetchSize() {
+        CriteriaBuilder<Long> criteria = cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .orderByAsc("d.id")
+                .setFetchSize(50);
+
+        assertStreamedInOrder(criteria.getResultStream());
+    }
+
+    @Test
+    @Category({ NoMySQLOld.class })
+    public void testStreamWithFetchSizeCustomSql() {
+        CriteriaBuilder<Long> criteria = cbf.create(em, Long.class)
+                .with(IdHolderCTE.class, false)
+                    .from(Document.class, "d")
+                    .bind("id").select("d.id")
+                .end()
+                .from(IdHolderCTE.class, "cte")
+                .select("cte.id")
+                .orderByAsc("cte.id")
+                .setFetchSize(50);
+
+        assertEquals(50, criteria.getQuery().getHints().get("org.hibernate.fetchSize"));
+        assertStreamedInOrder(criteria.getResultStream());
+    }
+
+    @Test
+    public void testPaginatedFetchSize() {
+        PagedList<Long> result = cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .orderByAsc("d.id")
+                .setFetchSize(5)
+                .page(0, 10)
+                .getResultList();
+
+        assertEquals(10, result.size());
+        assertEquals(DOCUMENT_COUNT, result.getTotalSize());
+    }
+
+    private void assertStreamedInOrder(Stream<Long> stream) {
+        try {
+            Iterator<Long> iterator = stream.iterator();
+            long count = 0;
+            Long last = null;
+            while (iterator.hasNext()) {
+                Long id = iterator.next();
+                assertFalse(last != null && last >= id);
+                last = id;
+                count++;
+            }
+            assertEquals(DOCUMENT_COUNT, count);
+        } finally {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class InListPaddingTest extends AbstractCoreTest {
+
+    private final List<Long> documentIds = new ArrayList<>();
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person p = new Person("Karl1");
+                em.persist(p);
+                for (int i = 0; i < 20; i++) {
+                    em.persist(new Document("doc" + i, p));
+                }
+            }
+        });
+    }
+
+    @Before
+    public void loadDocumentIds() {
+        documentIds.clear();
+        documentIds.addAll(cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .orderByAsc("d.id")
+                .getResultList());
+    }
+
+    @Test
+    public void testNoPaddingByDefault() {
+        List<Long> ids = documentIds.subList(0, 3);
+        CriteriaBuilder<Long> criteria = createCriteria(ids);
+
+        assertEquals(ids, criteria.getQuery().getParameterValue("documentIds"));
+        assertEquals(ids, criteria.getResultList());
+    }
+
+    @Test
+    public void testPadToNextPowerOfTwo() {
+        List<Long> ids = documentIds.subList(0, 3);
+        CriteriaBuilder<Long> criteria = createCriteria(ids)
+                .setProperty(ConfigurationProperties.IN_LIST_PADDING, "true");
+
+        List<Long> expectedBoundValue = Arrays.asList(ids.get(0), ids.get(1), ids.get(2), ids.get(2));
+        assertEquals(expectedBoundValue, criteria.getQuery().getParameterValue("documentIds"));
+        assertEquals(ids, criteria.getResultList());
+        // The builder still reports the original value
+        assertEquals(ids, criteria.getParameterValue("documentIds"));
+    }
+
+    @Test
+    public void testPowerOfTwoSizeIsNotPadded() {
+        List<Long> ids = documentIds.subList(0, 4);
+        CriteriaBuilder<Long> criteria = createCriteria(ids)
+                .setProperty(ConfigurationProperties.IN_LIST_PADDING, "true");
+
+        assertEquals(ids, criteria.getQuery().getParameterValue("documentIds"));
+        assertEquals(ids, criteria.getResultList());
+    }
+
+    @Test
+    public void testDistinctListSizes() {
+        Set<Integer> boundSizes = new HashSet<>();
+        for (int i = 1; i <= documentIds.size(); i++) {
+            List<Long> ids = documentIds.subList(0, i);
+            CriteriaBuilder<Long> criteria = createCriteria(ids)
+                    .setProperty(ConfigurationProperties.IN_LIST_PADDING, "true");
+
+            boundSizes.add(((Collection<?>) criteria.getQuery().getParameterValue("documentIds")).size());
+            assertEquals(ids, criteria.getResultList());
+        }
+
+        // Only one SQL shape per power of two instead of one per list size
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 4, 8, 16, 32)), boundSizes);
+    }
+
+    private CriteriaBuilder<Long> createCriteria(List<Long> ids) {
+        return cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .whereExpression("d.id IN :documentIds")
+                .setParameter("documentIds", ids)
+                .orderByAsc("d.id");
+    }
+}
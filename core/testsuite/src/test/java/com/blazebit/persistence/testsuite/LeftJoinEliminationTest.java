@@ -0,0 +1,192 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import org.junit.Test;
+
+import javax.persistence.Tuple;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class LeftJoinEliminationTest extends AbstractCoreTest {
+
+    @Test
+    public void testDisabledByDefault() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .leftJoin("d.owner", "o");
+
+        assertEquals("SELECT d FROM Document d LEFT JOIN d.owner o", criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testEliminateUnusedToOneLeftJoin() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoin("d.owner", "o");
+
+        assertEquals("SELECT d FROM Document d", criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testEliminateUnusedToOneLeftJoinChain() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoin("d.owner", "o")
+                .leftJoin("o.partnerDocument", "pd");
+
+        assertEquals("SELECT d FROM Document d", criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testKeepParentOfUsedLeftJoin() {
+        CriteriaBuilder<Tuple> criteria = cbf.create(em, Tuple.class)
+                .from(Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoin("d.owner", "o")
+                .leftJoin("o.partnerDocument", "pd")
+                .leftJoin("d.responsiblePerson", "r")
+                .select("pd.name");
+
+        assertEquals("SELECT pd.name FROM Document d LEFT JOIN d.owner o LEFT JOIN o.partnerDocument pd", criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testKeepLeftJoinUsedInWhere() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoin("d.owner", "o")
+                .where("o.name").isNull();
+
+        assertEquals("SELECT d FROM Document d LEFT JOIN d.owner o WHERE o.name IS NULL", criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testKeepLeftJoinUsedInOrderBy() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoin("d.owner", "o")
+                .orderByAsc("o.name")
+                .orderByAsc("d.id");
+
+        assertEquals("SELECT d FROM Document d LEFT JOIN d.owner o ORDER BY " + renderNullPrecedence("o.name", "ASC", "LAST") + ", d.id ASC", criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testKeepLeftJoinUsedInOtherJoin() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoin("d.owner", "o")
+                .leftJoinOn("d.responsiblePerson", "r")
+                    .on("r.name").eqExpression("o.name")
+                .end()
+                .where("r.id").isNull();
+
+        assertEquals("SELECT d FROM Document d LEFT JOIN d.owner o LEFT JOIN d.responsiblePerson r"
+                + onClause("r.name = o.name") + " WHERE r.id IS NULL", criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testKeepLeftJoinUsedOnlyInOtherJoinOnClause() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoin("d.owner", "o")
+                .innerJoinOn(Person.class, "p")
+                    .on("p.id").eqExpression("o.id")
+                .end();
+
+        assertEquals("SELECT d FROM Document d LEFT JOIN d.owner o JOIN Person p"
+                + onClause("p.id = o.id"), criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testKeepLeftJoinUsedOnlyInCorrelatedSubquery() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoin("d.owner", "o")
+                .whereExists()
+                    .from(Person.class, "p")
+                    .where("p.name").eqExpression("o.name")
+                .end();
+
+        assertEquals("SELECT d FROM Document d LEFT JOIN d.owner o WHERE EXISTS (SELECT 1 FROM Person p WHERE p.name = o.name)", criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testKeepLeftJoinWithOnCondition() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoinOn("d.owner", "o")
+                    .on("o.name").eq("Karl")
+                .end();
+
+        assertEquals("SELECT d FROM Document d LEFT JOIN d.owner o" + onClause("o.name = :param_0"), criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testKeepCollectionLeftJoin() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoin("d.versions", "v");
+
+        assertEquals("SELECT d FROM Document d LEFT JOIN d.versions v", criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testKeepFetchJoin() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoinFetch("d.owner", "o");
+
+        assertEquals("SELECT d FROM Document d LEFT JOIN FETCH d.owner o", criteria.getQueryString());
+        criteria.getResultList();
+    }
+
+    @Test
+    public void testEliminateInPaginatedQuery() {
+        PaginatedCriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.LEFT_JOIN_ELIMINATION, "true")
+                .leftJoin("d.owner", "o")
+                .orderByAsc("d.id")
+                .page(0, 10)
+                .withInlineCountQuery(false);
+
+        assertEquals("SELECT " + countPaginated("d.id", false) + " FROM Document d", criteria.getPageCountQueryString());
+        assertEquals("SELECT d FROM Document d ORDER BY d.id ASC", criteria.getQueryString());
+        criteria.getResultList();
+    }
+}
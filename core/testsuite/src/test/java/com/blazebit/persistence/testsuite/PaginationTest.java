@@ -20,6 +20,7 @@ import com.blazebit.persistence.ConfigurationProperties;
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.DefaultKeyset;
 import com.blazebit.persistence.DefaultKeysetPage;
+import com.blazebit.persistence.PagedArrayList;
 import com.blazebit.persistence.PagedList;
 import com.blazebit.persistence.PaginatedCriteriaBuilder;
 import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
@@ -1268,6 +1269,91 @@ public class PaginationTest extends AbstractCoreTest {
         assertEquals(2, result.getTotalSize());
     }
 
+    @Test
+    public void testHasNextPageLookahead() {
+        CriteriaBuilder<Document> crit = cbf.create(em, Document.class, "d")
+                .where("owner.name").eq("Karl1")
+                .orderByAsc("id");
+        PagedList<Document> result = crit.page(0, 2)
+                .withCountQuery(false)
+                .withHasNextPageLookahead(true)
+                .getResultList();
+        assertEquals(2, result.size());
+        assertEquals("doc1", result.get(0).getName());
+        assertEquals("Doc2", result.get(1).getName());
+        assertTrue(hasNextPage(result));
+
+        result = crit.page(2, 2)
+                .withCountQuery(false)
+                .withHasNextPageLookahead(true)
+                .getResultList();
+        assertEquals(1, result.size());
+        assertEquals("doC3", result.get(0).getName());
+        assertFalse(hasNextPage(result));
+    }
+
+    @Test
+    public void testHasNextPageLookaheadIdQuery() {
+        CriteriaBuilder<Document> crit = cbf.create(em, Document.class, "d")
+                .where("owner.name").eq("Karl1")
+                .orderByAsc("id");
+        PagedList<Document> result = crit.page(0, 2)
+                .withForceIdQuery(true)
+                .withCountQuery(false)
+                .withHasNextPageLookahead(true)
+                .getResultList();
+        assertEquals(2, result.size());
+        assertEquals("doc1", result.get(0).getName());
+        assertEquals("Doc2", result.get(1).getName());
+        assertTrue(hasNextPage(result));
+
+        result = crit.page(2, 2)
+                .withForceIdQuery(true)
+                .withCountQuery(false)
+                .withHasNextPageLookahead(true)
+                .getResultList();
+        assertEquals(1, result.size());
+        assertEquals("doC3", result.get(0).getName());
+        assertFalse(hasNextPage(result));
+    }
+
+    @Test
+    public void testHasNextPageLookaheadKeysetExtraction() {
+        CriteriaBuilder<Document> crit = cbf.create(em, Document.class, "d")
+                .where("owner.name").eq("Karl1")
+                .orderByAsc("id");
+        PagedList<Document> result = crit.page(null, 0, 2)
+                .withKeysetExtraction(true)
+                .withCountQuery(false)
+                .withHasNextPageLookahead(true)
+                .getResultList();
+        assertEquals(2, result.size());
+        assertTrue(hasNextPage(result));
+        assertEquals(result.get(0).getId(), result.getKeysetPage().getLowest().getTuple()[0]);
+        assertEquals(result.get(1).getId(), result.getKeysetPage().getHighest().getTuple()[0]);
+
+        result = crit.page(result.getKeysetPage(), 2, 2)
+                .withKeysetExtraction(true)
+                .withCountQuery(false)
+                .withHasNextPageLookahead(true)
+                .getResultList();
+        assertEquals(1, result.size());
+        assertEquals("doC3", result.get(0).getName());
+        assertFalse(hasNextPage(result));
+
+        result = crit.page(result.getKeysetPage(), 0, 2)
+                .withKeysetExtraction(true)
+                .withCountQuery(false)
+                .withHasNextPageLookahead(true)
+                .getResultList();
+        assertEquals(2, result.size());
+        assertEquals("doc1", result.get(0).getName());
+        assertEquals("Doc2", result.get(1).getName());
+        assertTrue(hasNextPage(result));
+        assertEquals(result.get(0).getId(), result.getKeysetPage().getLowest().getTuple()[0]);
+        assertEquals(result.get(1).getId(), result.getKeysetPage().getHighest().getTuple()[0]);
+    }
+
     // Test for #1209
     // NOTE: DataNucleus renders the literal `(1)` for the byte array parameter on PostgreSQL which is wrong
     @Test
@@ -1320,4 +1406,8 @@ public class PaginationTest extends AbstractCoreTest {
         assertTrue(resultList.isEmpty());
         assertEquals(7L, resultList.getTotalSize());
     }
+
+    private static boolean hasNextPage(PagedList<?> list) {
+        return ((PagedArrayList<?>) list).hasNextPage();
+    }
 }
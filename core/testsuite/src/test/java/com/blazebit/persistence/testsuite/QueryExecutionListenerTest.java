@@ -0,0 +1,236 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+import com.blazebit.persistence.UpdateCriteriaBuilder;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.ExtendedQuerySupport;
+import com.blazebit.persistence.spi.QueryExecution;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryExecutionRole;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Parameter;
+import javax.persistence.Query;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class QueryExecutionListenerTest extends AbstractCoreTest {
+
+    private static final List<QueryExecution> EXECUTIONS = new ArrayList<>();
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.registerQueryExecutionListener(new RecordingQueryExecutionListener());
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person p1 = new Person("P1");
+                Person p2 = new Person("P2");
+                em.persist(p1);
+                em.persist(p2);
+
+                for (int i = 0; i < 3; i++) {
+                    Document document = new Document("D" + i);
+                    document.setOwner(p1);
+                    document.getPartners().add(p1);
+                    document.getPartners().add(p2);
+                    em.persist(document);
+                }
+            }
+        });
+    }
+
+    @Before
+    public void clearExecutions() {
+        EXECUTIONS.clear();
+    }
+
+    private int getSqlHash(CriteriaBuilder<?> cb) {
+        ExtendedQuerySupport extendedQuerySupport = cbf.getService(ExtendedQuerySupport.class);
+        if (extendedQuerySupport == null || !extendedQuerySupport.supportsAdvancedSql()) {
+            return cb.getQueryString().hashCode();
+        }
+        Query query = em.createQuery(cb.getQueryString());
+        for (Parameter<?> parameter : cb.getParameters()) {
+            query.setParameter(parameter.getName(), cb.getParameterValue(parameter.getName()));
+        }
+        // The SQL is rendered for the bound collection values
+        query.getResultList();
+        return extendedQuerySupport.getSql(em, query).hashCode();
+    }
+
+    @Test
+    public void testObjectQuery() {
+        CriteriaBuilder<String> cb = cbf.create(em, String.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .where("d.name").in("D0", "D1")
+                .orderByAsc("d.name");
+        List<String> result = cb.getResultList();
+
+        assertEquals(Arrays.asList("D0", "D1"), result);
+        assertEquals(1, EXECUTIONS.size());
+        QueryExecution execution = EXECUTIONS.get(0);
+        assertEquals(QueryExecutionRole.OBJECT, execution.getRole());
+        assertEquals(cb.getQueryString(), execution.getQueryString());
+        assertEquals(getSqlHash(cb), execution.getQueryShapeHash());
+        assertEquals(2, execution.getRowCount());
+        assertEquals(2, execution.getBindCount());
+        assertTrue(execution.getBuildTimeNanos() > 0);
+        assertTrue(execution.getExecutionTimeNanos() > 0);
+        assertEquals(0L, execution.getTransformTimeNanos());
+    }
+
+    @Test
+    public void testObjectBuilderTransformTime() {
+        List<Tuple> result = cbf.create(em, Tuple.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .select("d.owner.name")
+                .getResultList();
+
+        assertEquals(3, result.size());
+        assertEquals(1, EXECUTIONS.size());
+        assertEquals(3, EXECUTIONS.get(0).getRowCount());
+        assertTrue(EXECUTIONS.get(0).getTransformTimeNanos() > 0);
+    }
+
+    @Test
+    public void testBuildTimeIsOnlyReportedOnce() {
+        TypedQuery<Document> query = cbf.create(em, Document.class, "d").getQuery();
+        query.getResultList();
+        query.getResultList();
+
+        assertEquals(2, EXECUTIONS.size());
+        assertTrue(EXECUTIONS.get(0).getBuildTimeNanos() > 0);
+        assertEquals(0L, EXECUTIONS.get(1).getBuildTimeNanos());
+    }
+
+    @Test
+    public void testPaginatedQueryReportsAllQueries() {
+        PaginatedCriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
+                .fetch("partners")
+                .orderByAsc("d.id")
+                .page(0, 2)
+                .withInlineCountQuery(false)
+                .withInlineIdQuery(false);
+        PagedList<Document> result = cb.getResultList();
+
+        assertEquals(2, result.size());
+        assertEquals(3L, result.getTotalSize());
+        assertEquals(3, EXECUTIONS.size());
+        assertEquals(QueryExecutionRole.COUNT, EXECUTIONS.get(0).getRole());
+        assertEquals(cb.getPageCountQueryString(), EXECUTIONS.get(0).getQueryString());
+        assertEquals(1, EXECUTIONS.get(0).getRowCount());
+        assertEquals(QueryExecutionRole.ID, EXECUTIONS.get(1).getRole());
+        assertEquals(cb.getPageIdQueryString(), EXECUTIONS.get(1).getQueryString());
+        assertEquals(2, EXECUTIONS.get(1).getRowCount());
+        assertEquals(QueryExecutionRole.OBJECT, EXECUTIONS.get(2).getRole());
+        assertEquals(2, EXECUTIONS.get(2).getBindCount());
+    }
+
+    @Test
+    public void testConfiguredRole() {
+        cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.QUERY_EXECUTION_ROLE, QueryExecutionRole.CORRELATION.name())
+                .getResultList();
+
+        assertEquals(1, EXECUTIONS.size());
+        assertEquals(QueryExecutionRole.CORRELATION, EXECUTIONS.get(0).getRole());
+    }
+
+    @Test
+    public void testConfiguredRoleKeepsQueryPlanCacheSetting() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d");
+        String queryPlanCacheEnabled = criteria.getProperty(ConfigurationProperties.QUERY_PLAN_CACHE_ENABLED);
+        criteria.setProperty(ConfigurationProperties.QUERY_EXECUTION_ROLE, QueryExecutionRole.CORRELATION.name());
+
+        assertEquals(queryPlanCacheEnabled, criteria.getProperty(ConfigurationProperties.QUERY_PLAN_CACHE_ENABLED));
+    }
+
+    @Test
+    public void testRegisteredListenersAreAvailableAsService() {
+        QueryExecutionListener[] listeners = cbf.getService(QueryExecutionListener[].class);
+
+        assertEquals(1, listeners.length);
+    }
+
+    @Test
+    public void testSubqueriesAreNotReportedSeparately() {
+        cbf.create(em, Document.class, "d")
+                .where("d.owner.id").in()
+                    .from(Person.class, "p")
+                    .select("p.id")
+                .end()
+                .getResultList();
+
+        assertEquals(1, EXECUTIONS.size());
+        assertEquals(QueryExecutionRole.OBJECT, EXECUTIONS.get(0).getRole());
+    }
+
+    @Test
+    public void testModificationQuery() {
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                UpdateCriteriaBuilder<Document> cb = cbf.update(em, Document.class, "d")
+                        .set("name", "D0")
+                        .where("name").eq("D0");
+                int updateCount = cb.executeUpdate();
+
+                assertEquals(1, updateCount);
+                assertEquals(1, EXECUTIONS.size());
+                assertEquals(QueryExecutionRole.MODIFICATION, EXECUTIONS.get(0).getRole());
+                assertEquals(cb.getQueryString(), EXECUTIONS.get(0).getQueryString());
+                assertEquals(1, EXECUTIONS.get(0).getRowCount());
+                assertEquals(2, EXECUTIONS.get(0).getBindCount());
+            }
+        });
+    }
+
+    private static class RecordingQueryExecutionListener implements QueryExecutionListener {
+        @Override
+        public void onQueryExecuted(QueryExecution queryExecution) {
+            EXECUTIONS.add(queryExecution);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.ExplainOptions;
+import com.blazebit.persistence.ExplainPlan;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+import com.blazebit.persistence.QueryHint;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDB2;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoFirebird;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate60;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMSSQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMySQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOracle;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoPostgreSQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoSQLite;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.IdHolderCTE;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+// NOTE: We verify the rendered index hints through the explain plan which is only supported for H2 and PostgreSQL
+@Category({ NoMySQL.class, NoOracle.class, NoMSSQL.class, NoDB2.class, NoFirebird.class, NoSQLite.class, NoPostgreSQL.class, NoHibernate60.class, NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+public class QueryHintTest extends AbstractCoreTest {
+
+    private static final String INDEX_NAME = "document_name_idx";
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return concat(super.getEntityClasses(), IdHolderCTE.class);
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                em.createNativeQuery("CREATE INDEX IF NOT EXISTS " + INDEX_NAME + " ON document(name)").executeUpdate();
+                Person o1 = new Person("Karl1");
+                em.persist(o1);
+
+                em.persist(new Document("doc1", o1));
+                em.persist(new Document("doc2", o1));
+                em.persist(new Document("doc3", o1));
+            }
+        });
+    }
+
+    @Test
+    public void testIndexHint() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .where("d.name").eq("doc1")
+                .hint(QueryHint.index("d", INDEX_NAME));
+
+        assertEquals(1, criteria.getResultList().size());
+        List<ExplainPlan> plans = criteria.getExplainPlan(new ExplainOptions(false));
+        assertEquals(1, plans.size());
+        assertIndexHint(plans.get(0));
+    }
+
+    @Test
+    public void testIndexHintInCte() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .with(IdHolderCTE.class, false)
+                    .from(Document.class, "sub")
+                    .bind("id").select("sub.id")
+                    .where("sub.name").eq("doc1")
+                    .hint(QueryHint.index("sub", INDEX_NAME))
+                .end()
+                .where("d.id").in()
+                    .from(IdHolderCTE.class, "cte")
+                    .select("cte.id")
+                .end();
+
+        assertEquals(1, criteria.getResultList().size());
+        List<ExplainPlan> plans = criteria.getExplainPlan(new ExplainOptions(false));
+        assertEquals(1, plans.size());
+        assertIndexHint(plans.get(0));
+    }
+
+    @Test
+    public void testIndexHintPaginatedQuery() {
+        PaginatedCriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .leftJoinFetch("d.contacts", "c")
+                .where("d.name").notEq("doc3")
+                .hint(QueryHint.index("d", INDEX_NAME))
+                .orderByAsc("d.id")
+                .page(0, 1)
+                .withInlineIdQuery(false)
+                .withInlineCountQuery(false);
+
+        assertEquals(2, criteria.getResultList().getTotalSize());
+        List<ExplainPlan> plans = criteria.getExplainPlan(new ExplainOptions(false));
+        assertEquals(3, plans.size());
+        for (ExplainPlan plan : plans) {
+            assertIndexHint(plan);
+        }
+    }
+
+    @Test
+    public void testDirectiveHintIgnoredByDialect() {
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d")
+                .where("d.name").eq("doc1")
+                .hint(QueryHint.directive("SOME_DIRECTIVE"));
+
+        assertEquals(1, criteria.getResultList().size());
+        List<ExplainPlan> plans = criteria.getExplainPlan(new ExplainOptions(false));
+        assertFalse(plans.get(0).getSql().contains("SOME_DIRECTIVE"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIndexHintForUnknownAlias() {
+        cbf.create(em, Document.class, "d")
+                .hint(QueryHint.index("x", INDEX_NAME))
+                .getResultList();
+    }
+
+    private static void assertIndexHint(ExplainPlan plan) {
+        assertTrue(plan.getSql(), plan.getSql().contains("USE INDEX (" + INDEX_NAME + ")"));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.QueryResultCache;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class QueryResultCacheTest extends AbstractCoreTest {
+
+    private QueryResultCache cache;
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.setProperty(ConfigurationProperties.QUERY_RESULT_CACHE, "true");
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person p1 = new Person("P1");
+                Person p2 = new Person("P2");
+                em.persist(p1);
+                em.persist(p2);
+
+                for (int i = 0; i < 3; i++) {
+                    Document document = new Document("D" + i);
+                    document.setOwner(i == 0 ? p1 : p2);
+                    em.persist(document);
+                }
+            }
+        });
+    }
+
+    @Before
+    public void clearCache() {
+        cache = cbf.getService(QueryResultCache.class);
+        cache.clear();
+    }
+
+    @Test
+    public void testResultIsCachedPerParameterValues() {
+        long hits = cache.getHitCount();
+        long misses = cache.getMissCount();
+
+        assertEquals(Arrays.asList("D1", "D2"), documentNames("D1", "D2"));
+        assertEquals(Arrays.asList("D1", "D2"), documentNames("D1", "D2"));
+        assertEquals(Arrays.asList("D0"), documentNames("D0"));
+
+        assertEquals(hits + 1, cache.getHitCount());
+        assertEquals(misses + 2, cache.getMissCount());
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        long misses = cache.getMissCount();
+        cbf.create(em, String.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .getResultList();
+
+        assertEquals(misses, cache.getMissCount());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testEntityResultsAreNotCached() {
+        long puts = cache.getPutCount();
+        CriteriaBuilder<Document> cb = cbf.create(em, Document.class)
+                .from(Document.class, "d")
+                .setProperty(ConfigurationProperties.QUERY_RESULT_CACHE_ENABLED, "true");
+        assertEquals(3, cb.getResultList().size());
+
+        assertEquals(puts, cache.getPutCount());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testModificationQueryInvalidatesResults() {
+        assertEquals(Arrays.asList("P1", "P2"), personNames());
+        long puts = cache.getPutCount();
+        long invalidations = cache.getInvalidationCount();
+
+        cbf.update(em, Person.class, "p")
+                .set("name", "P3")
+                .where("p.name").eq("P2")
+                .executeUpdate();
+        assertEquals(Arrays.asList("P1", "P3"), personNames());
+        // Caching is suspended until the transaction of the modification query completes
+        assertEquals(Arrays.asList("P1", "P3"), personNames());
+        assertEquals(invalidations + 1, cache.getInvalidationCount());
+        assertEquals(puts, cache.getPutCount());
+    }
+
+    @Test
+    public void testCachingResumesAfterModificationTransactionCompleted() {
+        cbf.update(em, Person.class, "p")
+                .set("name", "P3")
+                .where("p.name").eq("P2")
+                .executeUpdate();
+        long puts = cache.getPutCount();
+        assertEquals(Arrays.asList("P1", "P3"), personNames());
+        assertEquals(puts, cache.getPutCount());
+
+        em.getTransaction().rollback();
+        em.getTransaction().begin();
+        long hits = cache.getHitCount();
+        assertEquals(Arrays.asList("P1", "P2"), personNames());
+        assertEquals(Arrays.asList("P1", "P2"), personNames());
+        assertEquals(hits + 1, cache.getHitCount());
+        assertEquals(puts + 1, cache.getPutCount());
+    }
+
+    @Test
+    public void testBuildingModificationQueryDoesNotInvalidateResults() {
+        List<String> names = personNames();
+        long hits = cache.getHitCount();
+        long invalidations = cache.getInvalidationCount();
+
+        cbf.update(em, Person.class, "p")
+                .set("name", "P3")
+                .where("p.name").eq("P2")
+                .getQuery();
+        assertEquals(names, personNames());
+        assertEquals(invalidations, cache.getInvalidationCount());
+        assertEquals(hits + 1, cache.getHitCount());
+    }
+
+    @Test
+    public void testInvalidationSuspendsCaching() {
+        assertEquals(Arrays.asList("D1", "D2"), documentNames("D1", "D2"));
+        long hits = cache.getHitCount();
+        long puts = cache.getPutCount();
+
+        cache.beginInvalidation(Document.class);
+        assertEquals(Arrays.asList("D1", "D2"), documentNames("D1", "D2"));
+        assertEquals(puts, cache.getPutCount());
+        cache.endInvalidation(Document.class);
+
+        assertEquals(Arrays.asList("D1", "D2"), documentNames("D1", "D2"));
+        assertEquals(Arrays.asList("D1", "D2"), documentNames("D1", "D2"));
+        assertEquals(hits + 1, cache.getHitCount());
+        assertEquals(puts + 1, cache.getPutCount());
+    }
+
+    private List<String> documentNames(String... names) {
+        return cbf.create(em, String.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .where("d.name").in(Arrays.asList(names))
+                .orderByAsc("d.name")
+                .setProperty(ConfigurationProperties.QUERY_RESULT_CACHE_ENABLED, "true")
+                .getResultList();
+    }
+
+    private List<String> personNames() {
+        return cbf.create(em, String.class)
+                .from(Person.class, "p")
+                .select("p.name")
+                .orderByAsc("p.name")
+                .setProperty(ConfigurationProperties.QUERY_RESULT_CACHE_ENABLED, "true")
+                .getResultList();
+    }
+}
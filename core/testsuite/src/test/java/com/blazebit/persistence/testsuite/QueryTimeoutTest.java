@@ -0,0 +1,195 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.QueryDeadline;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import javax.persistence.QueryTimeoutException;
+import javax.persistence.TypedQuery;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+// NOTE: The timeout is verified through the Hibernate specific query hint
+@Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+public class QueryTimeoutTest extends AbstractCoreTest {
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person p = new Person("Karl1");
+                em.persist(p);
+                for (int i = 0; i < 20; i++) {
+                    em.persist(new Document("doc" + i, p));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testTimeoutHint() {
+        CriteriaBuilder<Long> criteria = cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .withTimeout(10, TimeUnit.SECONDS);
+
+        TypedQuery<Long> query = criteria.getQuery();
+        // The timeout is only applied when the query is executed
+        query.getResultList();
+        Object timeout = query.getHints().get("org.hibernate.timeout");
+        // The remaining time is rounded up to whole seconds
+        assertEquals(10, timeout);
+    }
+
+    @Test
+    public void testDeadlineIsCopied() {
+        QueryDeadline deadline = QueryDeadline.after(10, TimeUnit.SECONDS);
+        CriteriaBuilder<Long> criteria = cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .withDeadline(deadline);
+
+        assertSame(deadline, criteria.copy(Long.class).getDeadline());
+    }
+
+    @Test
+    public void testNegativeTimeout() {
+        try {
+            cbf.create(em, Document.class).withTimeout(-1, TimeUnit.SECONDS);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testExpiredDeadline() {
+        CriteriaBuilder<Long> criteria = cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .withTimeout(0, TimeUnit.MILLISECONDS);
+
+        try {
+            criteria.getResultList();
+            fail("Expected QueryTimeoutException");
+        } catch (QueryTimeoutException ex) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testCancelFromOtherThread() throws Exception {
+        final QueryDeadline deadline = QueryDeadline.after(1, TimeUnit.MINUTES);
+        CriteriaBuilder<Long> criteria = cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .withDeadline(deadline);
+
+        assertEquals(20, criteria.getResultList().size());
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                deadline.cancel();
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertTrue(deadline.isCancelled());
+        try {
+            criteria.getResultList();
+            fail("Expected QueryTimeoutException");
+        } catch (QueryTimeoutException ex) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testCancelAfterQueryCreation() {
+        QueryDeadline deadline = QueryDeadline.after(1, TimeUnit.MINUTES);
+        TypedQuery<Long> query = cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .withDeadline(deadline)
+                .getQuery();
+
+        deadline.cancel();
+        try {
+            query.getResultList();
+            fail("Expected QueryTimeoutException");
+        } catch (QueryTimeoutException ex) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testPaginatedWithDeadline() {
+        PagedList<Long> result = cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .orderByAsc("d.id")
+                .withTimeout(1, TimeUnit.MINUTES)
+                .page(0, 5)
+                .getResultList();
+
+        assertEquals(5, result.size());
+        assertEquals(20, result.getTotalSize());
+    }
+
+    @Test
+    public void testPaginatedCancelAfterQueryCreation() {
+        QueryDeadline deadline = QueryDeadline.after(1, TimeUnit.MINUTES);
+        TypedQuery<Long> query = cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .orderByAsc("d.id")
+                .withDeadline(deadline)
+                .page(0, 5)
+                .getQuery();
+
+        deadline.cancel();
+        try {
+            query.getResultList();
+            fail("Expected QueryTimeoutException");
+        } catch (QueryTimeoutException ex) {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.ReadOnlyEntityManagerProvider;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDB2;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoFirebird;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate60;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMSSQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMySQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOracle;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoPostgreSQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoSQLite;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+// NOTE: The replica is simulated by a second in-memory H2 database
+@Category({ NoMySQL.class, NoOracle.class, NoMSSQL.class, NoDB2.class, NoFirebird.class, NoSQLite.class, NoPostgreSQL.class, NoHibernate60.class, NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+public class ReadOnlyRoutingTest extends AbstractCoreTest {
+
+    private static EntityManagerFactory replicaEmf;
+    private static EntityManager replicaEm;
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.setReadOnlyEntityManagerProvider(new ReplicaEntityManagerProvider());
+    }
+
+    @Override
+    protected boolean runTestInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person p = new Person("Karl1");
+                em.persist(p);
+                em.persist(new Document("doc1", p));
+                em.persist(new Document("doc2", p));
+            }
+        });
+
+        if (replicaEmf == null) {
+            replicaEmf = createSecondaryEntityManagerFactory("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1");
+        }
+        EntityManager em = replicaEmf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createQuery("DELETE FROM Document").executeUpdate();
+            em.createQuery("DELETE FROM Person").executeUpdate();
+            Person p = new Person("Replica1");
+            em.persist(p);
+            em.persist(new Document("replica1", p));
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @After
+    public void closeReplicaEntityManager() {
+        if (replicaEm != null) {
+            replicaEm.close();
+            replicaEm = null;
+        }
+    }
+
+    @AfterClass
+    public static void closeReplicaEntityManagerFactory() {
+        if (replicaEmf != null) {
+            replicaEmf.close();
+            replicaEmf = null;
+        }
+    }
+
+    @Test
+    public void testCreateUsesGivenEntityManager() {
+        CriteriaBuilder<String> criteria = cbf.create(em, String.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .orderByAsc("d.name");
+
+        assertFalse(criteria.isReadOnly());
+        assertEquals(Arrays.asList("doc1", "doc2"), criteria.getResultList());
+    }
+
+    @Test
+    public void testCreateReadOnlyUsesReplica() {
+        CriteriaBuilder<String> criteria = cbf.createReadOnly(em, String.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .orderByAsc("d.name");
+
+        assertTrue(criteria.isReadOnly());
+        assertEquals(Collections.singletonList("replica1"), criteria.getResultList());
+    }
+
+    @Test
+    public void testCreateReadOnlyStaysOnEntityManagerInTransaction() {
+        em.getTransaction().begin();
+        CriteriaBuilder<String> criteria = cbf.createReadOnly(em, String.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .orderByAsc("d.name");
+
+        assertTrue(criteria.isReadOnly());
+        assertEquals(Arrays.asList("doc1", "doc2"), criteria.getResultList());
+    }
+
+    @Test
+    public void testReadOnlyPaginatedCountUsesReplica() {
+        PagedList<String> result = cbf.createReadOnly(em, String.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .orderByAsc("d.id")
+                .page(0, 1)
+                .getResultList();
+
+        assertEquals(1, result.getTotalSize());
+        assertEquals(Collections.singletonList("replica1"), result);
+    }
+
+    @Test
+    public void testCopyReadOnly() {
+        CriteriaBuilder<String> criteria = cbf.create(em, String.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .orderByAsc("d.name");
+        CriteriaBuilder<String> readOnlyCriteria = criteria.copyReadOnly();
+
+        assertFalse(criteria.isReadOnly());
+        assertTrue(readOnlyCriteria.isReadOnly());
+        assertEquals(Arrays.asList("doc1", "doc2"), criteria.getResultList());
+        assertEquals(Collections.singletonList("replica1"), readOnlyCriteria.getResultList());
+    }
+
+    @Test
+    public void testCopyReadOnlyKeepsRouting() {
+        CriteriaBuilder<String> criteria = cbf.createReadOnly(em, String.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .orderByAsc("d.name");
+        CriteriaBuilder<String> copy = criteria.copyReadOnly();
+
+        assertEquals(criteria.getEntityManager(), copy.getEntityManager());
+        assertEquals(Collections.singletonList("replica1"), copy.getResultList());
+    }
+
+    @Test
+    public void testReadOnlyFunctionsOnReplica() {
+        List<String> result = cbf.createReadOnly(em, String.class)
+                .from(Document.class, "d")
+                .select("CONCATENATE(d.name, '-', d.owner.name)")
+                .getResultList();
+
+        assertEquals(Collections.singletonList("replica1-Replica1"), result);
+    }
+
+    /**
+     * Routes read-only queries to the replica database.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    public static class ReplicaEntityManagerProvider implements ReadOnlyEntityManagerProvider {
+
+        @Override
+        public EntityManager getReadOnlyEntityManager(EntityManager entityManager) {
+            if (replicaEm == null) {
+                replicaEm = replicaEmf.createEntityManager();
+            }
+            return replicaEm;
+        }
+    }
+}
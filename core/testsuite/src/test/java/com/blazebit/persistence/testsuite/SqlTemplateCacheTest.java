@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.impl.query.SqlTemplateCache;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMySQLOld;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.entity.RecursiveEntity;
+import com.blazebit.persistence.testsuite.entity.TestCTE;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class SqlTemplateCacheTest extends AbstractCoreTest {
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] {
+            RecursiveEntity.class,
+            TestCTE.class
+        };
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                RecursiveEntity root1 = new RecursiveEntity("root1");
+                RecursiveEntity child1_1 = new RecursiveEntity("child1_1", root1);
+                RecursiveEntity child1_2 = new RecursiveEntity("child1_2", root1);
+                RecursiveEntity child1_1_1 = new RecursiveEntity("child1_1_1", child1_1);
+
+                em.persist(root1);
+                em.persist(child1_1);
+                em.persist(child1_2);
+                em.persist(child1_1_1);
+            }
+        });
+    }
+
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class, NoMySQLOld.class })
+    public void testRecursiveCteReusesTemplate() {
+        SqlTemplateCache cache = cbf.getService(SqlTemplateCache.class);
+        cache.clear();
+        List<String> first = subtreeNames("root1");
+        int size = cache.size();
+        List<String> second = subtreeNames("child1_1");
+
+        assertEquals(Arrays.asList("child1_1", "child1_1_1", "child1_2", "root1"), first);
+        assertEquals(Arrays.asList("child1_1", "child1_1_1"), second);
+        assertTrue(size > 0);
+        assertEquals(size, cache.size());
+    }
+
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+    public void testValuesEntityFunctionReusesTemplate() {
+        SqlTemplateCache cache = cbf.getService(SqlTemplateCache.class);
+        cache.clear();
+        List<String> first = namesFromValues("child1_2");
+        int size = cache.size();
+        List<String> second = namesFromValues("root1");
+
+        assertEquals(Collections.singletonList("child1_2"), first);
+        assertEquals(Collections.singletonList("root1"), second);
+        assertTrue(size > 0);
+        assertEquals(size, cache.size());
+    }
+
+    private List<String> subtreeNames(String rootName) {
+        CriteriaBuilder<String> cb = cbf.create(em, String.class)
+            .from(TestCTE.class, "t")
+            .select("t.name")
+            .orderByAsc("t.name");
+        cb.withRecursive(TestCTE.class)
+            .from(RecursiveEntity.class, "e")
+            .bind("id").select("e.id")
+            .bind("name").select("e.name")
+            .bind("level").select("0")
+            .where("e.name").eq(rootName)
+        .unionAll()
+            .from(TestCTE.class, "t")
+            .innerJoinOn(RecursiveEntity.class, "e")
+                .on("t.id").eqExpression("e.parent.id")
+            .end()
+            .bind("id").select("e.id")
+            .bind("name").select("e.name")
+            .bind("level").select("t.level + 1")
+        .end();
+        return cb.getResultList();
+    }
+
+    private List<String> namesFromValues(String name) {
+        CriteriaBuilder<String> cb = cbf.create(em, String.class);
+        cb.fromValues(String.class, "allowedName", Collections.singleton(name));
+        cb.from(RecursiveEntity.class, "e");
+        cb.where("e.name").eqExpression("allowedName");
+        cb.select("e.name");
+        return cb.getResultList();
+    }
+}
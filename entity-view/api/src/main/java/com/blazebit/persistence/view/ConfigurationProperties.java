@@ -257,6 +257,72 @@ public final class ConfigurationProperties {
      */
     public static final String CREATE_EMPTY_FLAT_VIEWS = "com.blazebit.persistence.view.create_empty_flat_views";
 
+    /**
+     * A boolean flag to enable the adaptive batching of correlated attributes that use the {@link FetchStrategy#SELECT} strategy.
+     * When enabled, the observed number of correlation keys, the rows per key and the used batch mode are tracked per attribute
+     * and are used to choose the batch size and the expected batch mode of later executions.
+     * Explicitly configured values via {@link #DEFAULT_BATCH_SIZE}, {@link #EXPECT_BATCH_MODE} or {@link #EXPECT_BATCH_CORRELATION_VALUES}
+     * for a query always take precedence. The collected statistics can be accessed through the {@link CorrelationStatisticsService}.
+     * By default the adaptive batching is disabled i.e. the default value is <code>false</code>.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     *
+     * @since 1.6.9
+     */
+    public static final String ADAPTIVE_CORRELATION = "com.blazebit.persistence.view.adaptive_correlation";
+
+    /**
+     * An integer value that defines the upper bound for batch sizes chosen by the adaptive batching, see {@link #ADAPTIVE_CORRELATION}.
+     * By default the value is <code>64</code>.
+     *
+     * @since 1.6.9
+     */
+    public static final String ADAPTIVE_CORRELATION_MAX_BATCH_SIZE = "com.blazebit.persistence.view.adaptive_correlation.max_batch_size";
+
+    /**
+     * A boolean flag to enable caching of the query results of an {@link EntityViewSetting}, see {@link com.blazebit.persistence.ConfigurationProperties#QUERY_RESULT_CACHE_ENABLED}.
+     * Cached results are invalidated when an entity type read by the query is written by an entity view flush or a modification query.
+     * The entity views are still constructed for every execution, only the raw query results are cached.
+     * Paginated settings are never cached.
+     * By default the result caching is disabled i.e. the default value is <code>false</code>.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     * The property can be set via {@linkplain com.blazebit.persistence.view.EntityViewSetting#setProperty}.
+     *
+     * @since 1.6.9
+     */
+    public static final String RESULT_CACHE = "com.blazebit.persistence.view.result_cache";
+
+    /**
+     * The name of a call site for which the fetch graph should be learned by recording the attributes that are accessed on the results.
+     * For the first executions, all attributes are fetched and the getter invocations on the entity view objects are recorded.
+     * Subsequent executions for the same name only fetch the recorded attributes as if they were specified via {@link EntityViewSetting#fetch(String)}.
+     * If an attribute that wasn't fetched is accessed, the fetch graph is learned again, though the access itself will see no value.
+     * The recording is skipped if fetches are specified explicitly and it is not supported for updatable entity views.
+     * The recording requires {@link #FETCH_GRAPH_RECORDING_ENABLED} to be enabled.
+     * The property can be set via {@linkplain com.blazebit.persistence.view.EntityViewSetting#setProperty}.
+     *
+     * @since 1.6.9
+     * @see #FETCH_GRAPH_RECORDING_EXECUTIONS
+     */
+    public static final String FETCH_GRAPH_RECORDING = "com.blazebit.persistence.view.fetch_graph_recording";
+
+    /**
+     * An integer value that defines how many executions of a call site are recorded before the fetch graph is applied, see {@link #FETCH_GRAPH_RECORDING}.
+     * By default the value is <code>10</code>.
+     *
+     * @since 1.6.9
+     */
+    public static final String FETCH_GRAPH_RECORDING_EXECUTIONS = "com.blazebit.persistence.view.fetch_graph_recording.executions";
+
+    /**
+     * A boolean flag to enable the instrumentation of entity view proxies that is required for {@link #FETCH_GRAPH_RECORDING}.
+     * When enabled, the getters of entity view proxies report accesses to an access recorder, if one is assigned.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     * By default the value is <code>false</code>.
+     *
+     * @since 1.6.9
+     */
+    public static final String FETCH_GRAPH_RECORDING_ENABLED = "com.blazebit.persistence.view.fetch_graph_recording.enabled";
+
     private ConfigurationProperties() {
     }
 }
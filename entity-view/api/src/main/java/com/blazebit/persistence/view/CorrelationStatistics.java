@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view;
+
+/**
+ * Runtime statistics about a correlated attribute that is fetched with the {@link FetchStrategy#SELECT} strategy
+ * along with the batching decisions taken for the next executions.
+ * Statistics are only collected when {@link ConfigurationProperties#ADAPTIVE_CORRELATION} is enabled.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public interface CorrelationStatistics {
+
+    /**
+     * Returns the entity view root type for which the correlated attribute is fetched.
+     *
+     * @return The entity view root type
+     */
+    public Class<?> getViewRootType();
+
+    /**
+     * Returns the attribute path relative to the entity view root.
+     *
+     * @return The attribute path
+     */
+    public String getAttributePath();
+
+    /**
+     * Returns the number of times the correlation was executed for a result list.
+     *
+     * @return The number of executions
+     */
+    public long getExecutionCount();
+
+    /**
+     * Returns the number of correlation queries that were executed.
+     *
+     * @return The number of correlation queries
+     */
+    public long getQueryCount();
+
+    /**
+     * Returns the average number of correlated rows per correlation key.
+     *
+     * @return The average number of rows per parent
+     */
+    public double getRowsPerParent();
+
+    /**
+     * Returns the ratio of filled to available batch slots of the executed correlation queries.
+     * A value close to 1 means that batches were mostly full.
+     *
+     * @return The batch hit ratio
+     */
+    public double getBatchHitRatio();
+
+    /**
+     * Returns the average execution time of a correlation query in nanoseconds.
+     *
+     * @return The average query time in nanoseconds
+     */
+    public long getAverageQueryTimeNanos();
+
+    /**
+     * Returns the batch size that will be used for the next execution unless a batch size is set explicitly via {@link EntityViewSetting#setProperty(String, Object)}.
+     *
+     * @return The batch size for the next execution
+     */
+    public int getBatchSize();
+
+    /**
+     * Returns the batch mode that is expected for the next execution unless it is set explicitly via {@link EntityViewSetting#setProperty(String, Object)}.
+     * The value is one of the values allowed for {@link ConfigurationProperties#EXPECT_BATCH_MODE}.
+     *
+     * @return The expected batch mode for the next execution
+     */
+    public String getBatchMode();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view;
+
+import java.util.Collection;
+
+/**
+ * A service to access the {@link CorrelationStatistics} collected by an {@link EntityViewManager} when
+ * {@link ConfigurationProperties#ADAPTIVE_CORRELATION} is enabled. It can be retrieved via {@link EntityViewManager#getService(Class)}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public interface CorrelationStatisticsService {
+
+    /**
+     * Returns the statistics of all correlated attributes that were executed so far.
+     *
+     * @return The correlation statistics
+     */
+    public Collection<CorrelationStatistics> getStatistics();
+
+    /**
+     * Returns the statistics of the correlated attribute with the given path relative to the given entity view root type,
+     * or <code>null</code> if the correlation was not executed yet.
+     *
+     * @param viewRootType The entity view root type
+     * @param attributePath The attribute path relative to the entity view root
+     * @return The correlation statistics or <code>null</code>
+     */
+    public CorrelationStatistics getStatistics(Class<?> viewRootType, String attributePath);
+
+    /**
+     * Discards all collected statistics, which also resets the adaptive batching decisions.
+     */
+    public void clear();
+}
@@ -20,6 +20,7 @@ import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.KeysetPage;
 import com.blazebit.persistence.PaginatedCriteriaBuilder;
 import com.blazebit.persistence.FullQueryBuilder;
+import com.blazebit.persistence.QueryDeadline;
 import com.blazebit.persistence.view.metamodel.AttributeFilterMapping;
 import com.blazebit.persistence.view.metamodel.AttributeFilterMappingPath;
 import com.blazebit.persistence.view.metamodel.AttributePath;
@@ -29,6 +30,7 @@ import com.blazebit.persistence.view.metamodel.MethodSingularAttribute;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A {@linkplain EntityViewSetting} is a set of filters and sorters that can be
@@ -60,6 +62,9 @@ public final class EntityViewSetting<T, Q extends FullQueryBuilder<T, Q>> implem
     
     private KeysetPage keysetPage;
     private boolean keysetPaginated;
+    private boolean readOnly;
+    private long timeoutMillis = -1L;
+    private QueryDeadline deadline;
 
     private EntityViewSetting(Class<T> entityViewClass, Object entityId, int maxResults, boolean paginate, String viewConstructorName) {
         this.entityViewClass = entityViewClass;
@@ -104,6 +109,9 @@ public final class EntityViewSetting<T, Q extends FullQueryBuilder<T, Q>> implem
         this.paginated = original.paginated;
         this.keysetPage = original.keysetPage;
         this.keysetPaginated = original.keysetPaginated;
+        this.readOnly = original.readOnly;
+        this.timeoutMillis = original.timeoutMillis;
+        this.deadline = original.deadline;
         this.viewNamedFilters = new LinkedHashSet<>(original.viewNamedFilters);
         this.attributeSorters = new LinkedHashMap<>(original.attributeSorters);
         this.attributeFilters = new LinkedHashMap<>(original.attributeFilters);
@@ -295,6 +303,87 @@ public final class EntityViewSetting<T, Q extends FullQueryBuilder<T, Q>> implem
         return keysetPaginated;
     }
 
+    /**
+     * Marks this setting as read-only, which will make the entity view query and the queries for correlations
+     * run on the entity manager as provided by the {@link com.blazebit.persistence.spi.ReadOnlyEntityManagerProvider}.
+     * A criteria builder that isn't read-only yet is copied via {@link com.blazebit.persistence.CriteriaBuilder#copyReadOnly()}
+     * when applying this setting.
+     *
+     * @param readOnly Whether the setting is read-only
+     * @return this setting for chaining
+     * @since 1.6.9
+     */
+    public EntityViewSetting<T, Q> withReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+        return this;
+    }
+
+    /**
+     * Returns true if this setting is read-only.
+     *
+     * @return true if this setting is read-only
+     * @since 1.6.9
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Sets a time budget for the entity view query and all queries that are run for it, like the count and id queries
+     * of a paginated query or the batched correlation queries. The budget starts when this setting is applied to a criteria builder
+     * and the remaining time is applied as query timeout to every single query.
+     * A deadline set through {@link #withDeadline(QueryDeadline)} is replaced.
+     *
+     * @param timeout The timeout
+     * @param unit The unit of the timeout
+     * @return this setting for chaining
+     * @since 1.6.9
+     */
+    public EntityViewSetting<T, Q> withTimeout(long timeout, TimeUnit unit) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("Invalid negative timeout: " + timeout);
+        }
+        this.timeoutMillis = unit.toMillis(timeout);
+        this.deadline = null;
+        return this;
+    }
+
+    /**
+     * Returns the timeout in milliseconds as set via {@link #withTimeout(long, TimeUnit)} or <code>-1</code> if there is none.
+     *
+     * @return The timeout in milliseconds or <code>-1</code>
+     * @since 1.6.9
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Sets the deadline for the entity view query and all queries that are run for it.
+     * Contrary to {@link #withTimeout(long, TimeUnit)}, the budget of the deadline is already running,
+     * and the deadline can be {@link QueryDeadline#cancel() cancelled} from another thread.
+     * A timeout set through {@link #withTimeout(long, TimeUnit)} is replaced.
+     *
+     * @param deadline The deadline or <code>null</code>
+     * @return this setting for chaining
+     * @since 1.6.9
+     */
+    public EntityViewSetting<T, Q> withDeadline(QueryDeadline deadline) {
+        this.deadline = deadline;
+        this.timeoutMillis = -1L;
+        return this;
+    }
+
+    /**
+     * Returns the deadline as set via {@link #withDeadline(QueryDeadline)} or <code>null</code> if there is none.
+     *
+     * @return The deadline or <code>null</code>
+     * @since 1.6.9
+     */
+    public QueryDeadline getDeadline() {
+        return deadline;
+    }
+
     /**
      * Adds the given attribute sorters to the attribute sorters of this
      * setting. Note that the attribute sorter order is retained.
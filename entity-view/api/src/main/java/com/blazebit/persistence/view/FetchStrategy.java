@@ -41,5 +41,16 @@ public enum FetchStrategy {
      *
      * @since 1.5.0
      */
-    MULTISET;
+    MULTISET,
+    /**
+     * A strategy that defines that the target elements are selected in separate queries like with {@link #SELECT}, but only on first access of the attribute.
+     * When the attribute is accessed on one of the entity views of a result, the attribute is loaded for all entity views of that result
+     * in batches of the defined {@link BatchFetch#size()}. The entity manager that was used for querying must still be open at that time.
+     * Serializing an entity view also accesses its lazy attributes.
+     *
+     * This strategy is only supported for attributes of read-only entity views with an {@link IdMapping}.
+     *
+     * @since 1.6.9
+     */
+    LAZY;
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.view;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies whether subview instances of a read-only entity view with an id should be interned within a query result.
+ *
+ * When interning is enabled, all occurrences of a subview with the same view type and id of an attribute within the result of a query share one object
+ * instead of creating a new object per result row. Subviews of different attributes are not shared, as they may be built from different mappings or fetches. This reduces the memory footprint of results that reference the same subviews many times.
+ * The annotation can be applied on the entity view class level which makes interning the default for all subview attributes of that type,
+ * or on an attribute which overrides the default of the subview type.
+ * Interning is only applied to subviews of {@link Mapping} attributes that are fetched with {@link FetchStrategy#JOIN}
+ * and to subviews that are fetched with {@link FetchStrategy#MULTISET}.
+ * Since interned subviews are shared across different parent objects, the state of an interned subview must only depend on its id,
+ * so it must not refer to the <code>EMBEDDING_VIEW</code> of the parent.
+ * Updatable and creatable subviews are always deduplicated within a result.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+@Target({ ElementType.METHOD, ElementType.PARAMETER, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Interned {
+
+    /**
+     * Returns whether subview instances should be interned.
+     *
+     * @return whether subview instances should be interned
+     */
+    boolean value() default true;
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl;
+
+import com.blazebit.persistence.view.CorrelationStatistics;
+import com.blazebit.persistence.view.CorrelationStatisticsService;
+import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.CorrelationStatisticsImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public final class CorrelationStatisticsServiceImpl implements CorrelationStatisticsService {
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final ConcurrentMap<Key, CorrelationStatisticsImpl> statistics = new ConcurrentHashMap<>();
+
+    public CorrelationStatisticsServiceImpl(boolean enabled, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Invalid adaptive correlation max batch size " + maxBatchSize + "!");
+        }
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Returns the statistics for the correlated attribute or <code>null</code> if adaptive correlation is disabled.
+     *
+     * @param viewRootType The entity view root type
+     * @param attributePath The attribute path relative to the entity view root
+     * @param initialBatchSize The batch size to use until statistics are available
+     * @return The statistics or <code>null</code>
+     */
+    public CorrelationStatisticsImpl getOrCreateStatistics(Class<?> viewRootType, String attributePath, int initialBatchSize) {
+        if (!enabled) {
+            return null;
+        }
+        Key key = new Key(viewRootType, attributePath);
+        CorrelationStatisticsImpl correlationStatistics = statistics.get(key);
+        if (correlationStatistics == null) {
+            correlationStatistics = new CorrelationStatisticsImpl(viewRootType, attributePath, initialBatchSize, maxBatchSize);
+            CorrelationStatisticsImpl existing = statistics.putIfAbsent(key, correlationStatistics);
+            if (existing != null) {
+                correlationStatistics = existing;
+            }
+        }
+        return correlationStatistics;
+    }
+
+    @Override
+    public Collection<CorrelationStatistics> getStatistics() {
+        return Collections.unmodifiableList(new ArrayList<CorrelationStatistics>(statistics.values()));
+    }
+
+    @Override
+    public CorrelationStatistics getStatistics(Class<?> viewRootType, String attributePath) {
+        return statistics.get(new Key(viewRootType, attributePath));
+    }
+
+    @Override
+    public void clear() {
+        statistics.clear();
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    private static final class Key {
+        private final Class<?> viewRootType;
+        private final String attributePath;
+
+        public Key(Class<?> viewRootType, String attributePath) {
+            this.viewRootType = viewRootType;
+            this.attributePath = attributePath;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return viewRootType.equals(key.viewRootType) && attributePath.equals(key.attributePath);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(viewRootType, attributePath);
+        }
+    }
+}
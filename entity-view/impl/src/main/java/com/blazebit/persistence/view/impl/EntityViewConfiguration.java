@@ -300,7 +300,7 @@ public final class EntityViewConfiguration {
         return getExpectBatchCorrelationValues(attributePath, BatchCorrelationMode.VALUES);
     }
 
-    private BatchCorrelationMode getExpectBatchCorrelationValues(String attributePath, BatchCorrelationMode defaultValue) {
+    public BatchCorrelationMode getExpectBatchCorrelationValues(String attributePath, BatchCorrelationMode defaultValue) {
         BatchCorrelationMode value = expectBatchCorrelationValuesConfiguration.get(attributePath);
         if (value == null) {
             value = expectBatchCorrelationValuesConfiguration.get("");
@@ -76,6 +76,10 @@ public class EntityViewConfigurationImpl implements EntityViewConfiguration {
         properties.put(ConfigurationProperties.STATIC_IMPLEMENTATION_SCANNING_DISABLED, "false");
         properties.put(ConfigurationProperties.STATIC_METAMODEL_SCANNING_DISABLED, "false");
         properties.put(ConfigurationProperties.CREATE_EMPTY_FLAT_VIEWS, "true");
+        properties.put(ConfigurationProperties.ADAPTIVE_CORRELATION, "false");
+        properties.put(ConfigurationProperties.ADAPTIVE_CORRELATION_MAX_BATCH_SIZE, "64");
+        properties.put(ConfigurationProperties.FETCH_GRAPH_RECORDING_EXECUTIONS, "10");
+        properties.put(ConfigurationProperties.FETCH_GRAPH_RECORDING_ENABLED, "false");
 
         typeTestValues.put(boolean.class, true);
         typeTestValues.put(byte.class, Byte.MAX_VALUE);
@@ -34,10 +34,12 @@ import com.blazebit.persistence.spi.JpaProvider;
 import com.blazebit.persistence.spi.JpqlFunction;
 import com.blazebit.persistence.spi.JpqlMacro;
 import com.blazebit.persistence.spi.PackageOpener;
+import com.blazebit.persistence.spi.QueryResultCache;
 import com.blazebit.persistence.view.AttributeFilterProvider;
 import com.blazebit.persistence.view.ConfigurationProperties;
 import com.blazebit.persistence.view.ConvertOperationBuilder;
 import com.blazebit.persistence.view.ConvertOption;
+import com.blazebit.persistence.view.CorrelationStatisticsService;
 import com.blazebit.persistence.view.EntityViewBuilder;
 import com.blazebit.persistence.view.EntityViewManager;
 import com.blazebit.persistence.view.EntityViewSetting;
@@ -133,6 +135,7 @@ import com.blazebit.persistence.view.metamodel.MethodPluralAttribute;
 import com.blazebit.persistence.view.metamodel.MethodSingularAttribute;
 import com.blazebit.persistence.view.metamodel.PluralAttribute;
 import com.blazebit.persistence.view.metamodel.SingularAttribute;
+import com.blazebit.persistence.view.metamodel.Type;
 import com.blazebit.persistence.view.metamodel.ViewType;
 import com.blazebit.persistence.view.spi.EmbeddingViewJpqlMacro;
 import com.blazebit.persistence.view.spi.TransactionSupport;
@@ -194,13 +197,19 @@ public class EntityViewManagerImpl implements EntityViewManager {
     private final ViewMetamodelImpl metamodel;
     private final ProxyFactory proxyFactory;
     private final TransactionSupport transactionSupport;
+    private final CorrelationStatisticsServiceImpl correlationStatisticsService;
+    private final QueryResultCache queryResultCache;
     private final Map<String, Object> optionalParameters;
     private final boolean supportsTransientReference;
     private final ConcurrentMap<ViewTypeObjectBuilderTemplate.Key, ViewTypeObjectBuilderTemplate<?>> objectBuilderCache;
+    private final ConcurrentMap<String, FetchGraphRecording> fetchGraphRecordings;
+    private final int fetchGraphRecordingExecutions;
+    private final boolean fetchGraphRecordingEnabled;
     private final ConcurrentMap<ManagedViewType<?>, EntityViewUpdaterImpl> entityViewUpdaterCache;
     private final ConcurrentMap<ContextAwareUpdaterKey, EntityViewUpdaterImpl> contextAwareEntityViewUpdaterCache;
     private final ConcurrentMap<ViewMapper.Key<?, ?>, ViewMapper<?, ?>> entityViewMappers;
     private final ConcurrentMap<ViewMapperConfigKey, ViewMapper<?, ?>> configuredEntityViewMappers;
+    private final ConcurrentMap<Class<?>, Class<?>[]> writtenEntityClasses;
     private final ConcurrentMap<Class<?>, Constructor<?>> createConstructorCache;
     private final ConcurrentMap<Class<?>, Constructor<?>> referenceConstructorCache;
     private final ConcurrentMap<Class<?>, ListenerTypeInfo> listenerClassTypeInfo;
@@ -223,8 +232,17 @@ public class EntityViewManagerImpl implements EntityViewManager {
         this.entityIdAccessor = new EntityIdAttributeAccessor(jpaProvider);
         this.unsafeDisabled = !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.PROXY_UNSAFE_ALLOWED)));
         this.strictCascadingCheck = Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.UPDATER_STRICT_CASCADING_CHECK)));
-        this.proxyFactory = new ProxyFactory(unsafeDisabled, strictCascadingCheck, packageOpener);
+        this.fetchGraphRecordingEnabled = Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.FETCH_GRAPH_RECORDING_ENABLED)));
+        this.proxyFactory = new ProxyFactory(unsafeDisabled, strictCascadingCheck, fetchGraphRecordingEnabled, packageOpener);
         this.transactionSupport = config.getTransactionSupport();
+        this.correlationStatisticsService = new CorrelationStatisticsServiceImpl(
+                Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.ADAPTIVE_CORRELATION))),
+                Integer.parseInt(String.valueOf(config.getProperty(ConfigurationProperties.ADAPTIVE_CORRELATION_MAX_BATCH_SIZE)))
+        );
+        this.queryResultCache = cbf.getService(QueryResultCache.class);
+        this.fetchGraphRecordings = new ConcurrentHashMap<>();
+        this.fetchGraphRecordingExecutions = Integer.parseInt(String.valueOf(config.getProperty(ConfigurationProperties.FETCH_GRAPH_RECORDING_EXECUTIONS)));
+        this.writtenEntityClasses = new ConcurrentHashMap<>();
         this.optionalParameters = Collections.unmodifiableMap(new HashMap<>(config.getOptionalParameters()));
         this.serializableDelegates = new ClassValue<EntityViewManager>() {
             @Override
@@ -760,6 +778,8 @@ public class EntityViewManagerImpl implements EntityViewManager {
             return (T) transactionSupport;
         } else if (CriteriaBuilderFactory.class.isAssignableFrom(serviceClass)) {
             return (T) cbf;
+        } else if (CorrelationStatisticsService.class.isAssignableFrom(serviceClass)) {
+            return (T) correlationStatisticsService;
         }
         return cbf.getService(serviceClass);
     }
@@ -786,6 +806,85 @@ public class EntityViewManagerImpl implements EntityViewManager {
         return entityIdAccessor;
     }
 
+    public CorrelationStatisticsServiceImpl getCorrelationStatisticsService() {
+        return correlationStatisticsService;
+    }
+
+    public QueryResultCache getQueryResultCache() {
+        return queryResultCache;
+    }
+
+    public boolean isFetchGraphRecordingEnabled() {
+        return fetchGraphRecordingEnabled;
+    }
+
+    public FetchGraphRecording getFetchGraphRecording(String name, ManagedViewTypeImplementor<?> viewType) {
+        FetchGraphRecording fetchGraphRecording = fetchGraphRecordings.get(name);
+        if (fetchGraphRecording == null) {
+            fetchGraphRecording = new FetchGraphRecording(viewType, fetchGraphRecordingExecutions);
+            FetchGraphRecording existing = fetchGraphRecordings.putIfAbsent(name, fetchGraphRecording);
+            if (existing != null) {
+                fetchGraphRecording = existing;
+            }
+        }
+        if (fetchGraphRecording.getViewType() != viewType) {
+            throw new IllegalArgumentException("The fetch graph recording '" + name + "' is already used for the entity view '" + fetchGraphRecording.getViewType().getJavaType().getName()
+                    + "' and can't be used for the entity view '" + viewType.getJavaType().getName() + "'!");
+        }
+        return fetchGraphRecording;
+    }
+
+    /**
+     * Returns the entity classes that might be written when flushing an entity view of the given type.
+     * Since it's not known up front which subviews will be flushed, this conservatively includes the entity classes of all reachable subviews.
+     *
+     * @param entityViewClass The entity view class
+     * @return The entity classes that might be written
+     */
+    public Class<?>[] getWrittenEntityClasses(Class<?> entityViewClass) {
+        Class<?>[] entityClasses = writtenEntityClasses.get(entityViewClass);
+        if (entityClasses == null) {
+            Set<Class<?>> classes = new HashSet<>();
+            ManagedViewType<?> viewType = metamodel.managedView(entityViewClass);
+            if (viewType != null) {
+                collectWrittenEntityClasses(viewType, classes, new HashSet<ManagedViewType<?>>());
+            }
+            entityClasses = classes.toArray(new Class<?>[classes.size()]);
+            writtenEntityClasses.putIfAbsent(entityViewClass, entityClasses);
+        }
+        return entityClasses;
+    }
+
+    private static void collectWrittenEntityClasses(Type<?> type, Set<Class<?>> entityClasses, Set<ManagedViewType<?>> visited) {
+        if (!(type instanceof ManagedViewType<?>)) {
+            return;
+        }
+        ManagedViewType<?> viewType = (ManagedViewType<?>) type;
+        if (!visited.add(viewType)) {
+            return;
+        }
+        entityClasses.add(viewType.getEntityClass());
+        for (ManagedViewType<?> subtype : viewType.getInheritanceSubtypes()) {
+            collectWrittenEntityClasses(subtype, entityClasses, visited);
+        }
+        for (MethodAttribute<?, ?> attribute : viewType.getAttributes()) {
+            if (attribute instanceof SingularAttribute<?, ?>) {
+                collectWrittenEntityClasses(((SingularAttribute<?, ?>) attribute).getType(), entityClasses, visited);
+            } else {
+                collectWrittenEntityClasses(((PluralAttribute<?, ?, ?>) attribute).getElementType(), entityClasses, visited);
+                if (attribute instanceof MapAttribute<?, ?, ?>) {
+                    collectWrittenEntityClasses(((MapAttribute<?, ?, ?>) attribute).getKeyType(), entityClasses, visited);
+                }
+            }
+            for (Type<?> subtype : attribute.getPersistCascadeAllowedSubtypes()) {
+                collectWrittenEntityClasses(subtype, entityClasses, visited);
+            }
+            for (Type<?> subtype : attribute.getUpdateCascadeAllowedSubtypes()) {
+                collectWrittenEntityClasses(subtype, entityClasses, visited);
+            }
+        }
+    }
+
     public ProxyFactory getProxyFactory() {
         return proxyFactory;
     }
@@ -800,8 +899,13 @@ public class EntityViewManagerImpl implements EntityViewManager {
         ViewTypeImpl<T> managedViewType = metamodel.viewOrError(entityViewSetting.getEntityViewClass());
         EntityType<?> entityType = (EntityType<?>) managedViewType.getJpaManagedType();
         javax.persistence.metamodel.SingularAttribute<?, ?> idAttribute = JpaMetamodelUtils.getSingleIdAttribute(entityType);
-        CriteriaBuilder<?> cb = cbf.create(entityManager, managedViewType.getEntityClass())
-                .where(idAttribute.getName()).eq(entityId);
+        CriteriaBuilder<?> cb;
+        if (entityViewSetting.isReadOnly()) {
+            cb = cbf.createReadOnly(entityManager, managedViewType.getEntityClass());
+        } else {
+            cb = cbf.create(entityManager, managedViewType.getEntityClass());
+        }
+        cb.where(idAttribute.getName()).eq(entityId);
         List<T> resultList = applySetting(entityViewSetting, cb).getResultList();
         return resultList.isEmpty() ? null : resultList.get(0);
     }
@@ -20,6 +20,7 @@ import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.HavingBuilder;
 import com.blazebit.persistence.KeysetPage;
+import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.PaginatedCriteriaBuilder;
 import com.blazebit.persistence.Path;
 import com.blazebit.persistence.PredicateBuilder;
@@ -37,6 +38,7 @@ import com.blazebit.persistence.view.impl.metamodel.AbstractMethodAttribute;
 import com.blazebit.persistence.view.impl.metamodel.ManagedViewTypeImplementor;
 import com.blazebit.persistence.view.impl.metamodel.MappingConstructorImpl;
 import com.blazebit.persistence.view.impl.metamodel.ViewTypeImplementor;
+import com.blazebit.persistence.view.impl.objectbuilder.FetchGraphRecordingObjectBuilder;
 import com.blazebit.persistence.view.metamodel.AttributeFilterMapping;
 import com.blazebit.persistence.view.metamodel.FlatViewType;
 import com.blazebit.persistence.view.metamodel.MappingAttribute;
@@ -56,6 +58,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Christian Beikov
@@ -94,6 +97,30 @@ public final class EntityViewSettingHelper {
         if (managedView.isUpdatable() && !setting.getFetches().isEmpty()) {
             throw new IllegalArgumentException("Specifying fetches for @UpdatableEntityViews is currently disallowed. Remove the fetches!");
         }
+        FetchGraphRecording fetchGraphRecording = null;
+        Collection<String> settingFetches = setting.getFetches();
+        Object fetchGraphRecordingName = setting.getProperties().get(ConfigurationProperties.FETCH_GRAPH_RECORDING);
+        // Explicitly specified fetches take precedence over the recorded fetch graph
+        if (fetchGraphRecordingName != null && settingFetches.isEmpty()) {
+            if (!evm.isFetchGraphRecordingEnabled()) {
+                throw new IllegalArgumentException("Fetch graph recording requires the configuration property " + ConfigurationProperties.FETCH_GRAPH_RECORDING_ENABLED + " to be enabled!");
+            }
+            if (managedView.isUpdatable()) {
+                throw new IllegalArgumentException("Fetch graph recording for @UpdatableEntityViews is currently disallowed. Remove the property " + ConfigurationProperties.FETCH_GRAPH_RECORDING + "!");
+            }
+            fetchGraphRecording = evm.getFetchGraphRecording(fetchGraphRecordingName.toString(), managedView);
+            settingFetches = fetchGraphRecording.getFetches();
+        }
+
+        // The entity manager is fixed for a builder, so we route through a copy, which also makes correlations run on the same entity manager
+        if (setting.isReadOnly() && !criteriaBuilder.isReadOnly()) {
+            criteriaBuilder = criteriaBuilder.copyReadOnly();
+        }
+        if (setting.getDeadline() != null) {
+            criteriaBuilder.withDeadline(setting.getDeadline());
+        } else if (setting.getTimeoutMillis() >= 0) {
+            criteriaBuilder.withTimeout(setting.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        }
 
         ExpressionFactory ef = criteriaBuilder.getService(ExpressionFactory.class);
         Map<String, Object> optionalParameters;
@@ -105,10 +132,10 @@ public final class EntityViewSettingHelper {
             optionalParameters = Collections.unmodifiableMap(optionalParameters);
         }
         Collection<String> requestedFetches;
-        if (setting.getFetches().isEmpty() || !setting.hasAttributeFilters() && !setting.hasAttributeSorters()) {
-            requestedFetches = setting.getFetches();
+        if (settingFetches.isEmpty() || !setting.hasAttributeFilters() && !setting.hasAttributeSorters()) {
+            requestedFetches = settingFetches;
         } else {
-            requestedFetches = new HashSet<>(setting.getFetches());
+            requestedFetches = new HashSet<>(settingFetches);
             addFetchesForNonMappingAttributes(setting.getAttributeFilterActivations().keySet(), managedView, requestedFetches);
             addFetchesForNonMappingAttributes(setting.getAttributeSorters().keySet(), managedView, requestedFetches);
         }
@@ -116,7 +143,11 @@ public final class EntityViewSettingHelper {
         entityViewRoot = root.getPath();
         Q queryBuilder = getQueryBuilder(setting, criteriaBuilder, entityViewRoot, managedView, setting.getProperties());
         EntityViewConfiguration configuration = new EntityViewConfiguration(queryBuilder, ef, new MutableViewJpqlMacro(), new MutableEmbeddingViewJpqlMacro(), optionalParameters, setting.getProperties(), requestedFetches, managedView);
-        queryBuilder.selectNew(evm.createObjectBuilder(managedView, mappingConstructor, root.getJavaType(), entityViewRoot, null, criteriaBuilder, configuration, 0, 0, false));
+        ObjectBuilder<?> objectBuilder = evm.createObjectBuilder(managedView, mappingConstructor, root.getJavaType(), entityViewRoot, null, criteriaBuilder, configuration, 0, 0, false);
+        if (fetchGraphRecording != null) {
+            objectBuilder = new FetchGraphRecordingObjectBuilder<>((ObjectBuilder<Object>) objectBuilder, fetchGraphRecording);
+        }
+        queryBuilder.selectNew(objectBuilder);
         Set<String> fetches = configuration.getFetches();
         applyAttributeFilters(setting, evm, queryBuilder, entityViewRoot, fetches, managedView);
         applyViewFilters(setting, evm, queryBuilder, managedView);
@@ -233,6 +264,9 @@ public final class EntityViewSettingHelper {
 
             return (Q) builder;
         } else {
+            if (getBooleanProperty(properties, ConfigurationProperties.RESULT_CACHE, false)) {
+                criteriaBuilder.setProperty(com.blazebit.persistence.ConfigurationProperties.QUERY_RESULT_CACHE_ENABLED, "true");
+            }
             return (Q) criteriaBuilder;
         }
     }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl;
+
+import com.blazebit.persistence.view.impl.metamodel.ManagedViewTypeImplementor;
+import com.blazebit.persistence.view.impl.proxy.AttributeAccessRecorder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The fetch graph that is learned for a call site by recording the attributes accessed on the results of the first executions.
+ * Once learned, only the accessed attributes are fetched. If an attribute is accessed that wasn't fetched, the recording starts over.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public final class FetchGraphRecording implements AttributeAccessRecorder.Listener {
+
+    private final ManagedViewTypeImplementor<?> viewType;
+    private final int recordingExecutions;
+    private final Set<String> accessedPaths = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final AtomicInteger executions = new AtomicInteger();
+    private volatile NavigableSet<String> fetches;
+
+    public FetchGraphRecording(ManagedViewTypeImplementor<?> viewType, int recordingExecutions) {
+        this.viewType = viewType;
+        this.recordingExecutions = recordingExecutions;
+    }
+
+    public ManagedViewTypeImplementor<?> getViewType() {
+        return viewType;
+    }
+
+    /**
+     * Returns the attribute paths to fetch for the next execution or an empty collection if all attributes should be fetched.
+     *
+     * @return the attribute paths to fetch
+     */
+    public Collection<String> getFetches() {
+        NavigableSet<String> fetches = this.fetches;
+        if (fetches == null) {
+            if (executions.getAndIncrement() < recordingExecutions) {
+                return Collections.emptySet();
+            }
+            fetches = computeFetches();
+            if (!fetches.isEmpty()) {
+                this.fetches = fetches;
+            }
+        }
+        return fetches;
+    }
+
+    @Override
+    public void onAccess(String attributePath) {
+        accessedPaths.add(attributePath);
+        NavigableSet<String> fetches = this.fetches;
+        if (fetches != null && !isFetched(fetches, attributePath)) {
+            // The attribute was pruned, so fetch everything again to learn the new fetch graph
+            executions.set(0);
+            this.fetches = null;
+        }
+    }
+
+    private NavigableSet<String> computeFetches() {
+        NavigableSet<String> paths = new TreeSet<>(accessedPaths);
+        NavigableSet<String> fetches = new TreeSet<>();
+        for (String path : paths) {
+            // Only the leaf paths are fetched as fetching a subview attribute would fetch the whole subtree
+            String subPathPrefix = path + ".";
+            String subPath = paths.ceiling(subPathPrefix);
+            if (subPath == null || !subPath.startsWith(subPathPrefix)) {
+                fetches.add(path);
+            }
+        }
+        return fetches;
+    }
+
+    private static boolean isFetched(NavigableSet<String> fetches, String attributePath) {
+        if (fetches.contains(attributePath)) {
+            return true;
+        }
+        String subPathPrefix = attributePath + ".";
+        String subPath = fetches.ceiling(subPathPrefix);
+        if (subPath != null && subPath.startsWith(subPathPrefix)) {
+            return true;
+        }
+        int dotIndex = attributePath.lastIndexOf('.');
+        while (dotIndex != -1) {
+            if (fetches.contains(attributePath.substring(0, dotIndex))) {
+                return true;
+            }
+            dotIndex = attributePath.lastIndexOf('.', dotIndex - 1);
+        }
+        return false;
+    }
+}
@@ -272,6 +272,10 @@ public final class Accessors {
         } else if (member instanceof Method) {
             Method getter = ReflectionUtils.getGetter(entityClass, attribute.getName());
             Method setter = ReflectionUtils.getSetter(entityClass, attribute.getName());
+            AttributeAccessor accessor = evm.getProxyFactory().getEntityMethodAccessor(entityClass, getter, setter, targetType);
+            if (accessor != null) {
+                return accessor;
+            }
             return new EntityMethodAttributeAccessor(getter, setter, targetType);
         } else {
             throw new IllegalArgumentException("Unsupported java member for id attribute: " + member);
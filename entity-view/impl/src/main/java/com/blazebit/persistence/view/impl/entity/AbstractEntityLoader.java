@@ -31,8 +31,10 @@ import javax.persistence.metamodel.SingularAttribute;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  *
@@ -171,6 +173,11 @@ public abstract class AbstractEntityLoader implements EntityLoader {
             }
         }
         if (idsToQuery != null && !idsToQuery.isEmpty()) {
+            // The same entity might be referenced multiple times, but must only be queried once
+            Set<Object> distinctIds = new LinkedHashSet<>(idsToQuery);
+            if (distinctIds.size() != idsToQuery.size()) {
+                idsToQuery = new ArrayList<>(distinctIds);
+            }
             List<Object> entities = queryEntities(context.getEntityManager(), idsToQuery);
             Map<Object, Object> entityIndex = new HashMap<>(entities.size());
             for (Object e : entities) {
@@ -32,6 +32,7 @@ import com.blazebit.persistence.view.metamodel.SingularAttribute;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityNotFoundException;
 import javax.persistence.metamodel.EntityType;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -67,10 +68,14 @@ public class FullEntityLoader extends AbstractEntityLoader {
         addFetchJoinableRelations(fetchJoinableRelations, "", subviewType);
 
         CriteriaBuilderFactory cbf = evm.getCriteriaBuilderFactory();
-        if (fetchJoinableRelations.isEmpty()) {
+        // A single entity without fetches is loaded via EntityManager.find, but multiple entities should still be loaded with a single query
+        if (fetchJoinableRelations.isEmpty() && !multiple) {
             return null;
         } else {
-            CriteriaBuilder<?> criteriaBuilder = cbf.create(null, entityClass).fetch(fetchJoinableRelations.toArray(new String[fetchJoinableRelations.size()]));
+            CriteriaBuilder<?> criteriaBuilder = cbf.create(null, entityClass);
+            if (!fetchJoinableRelations.isEmpty()) {
+                criteriaBuilder.fetch(fetchJoinableRelations.toArray(new String[fetchJoinableRelations.size()]));
+            }
             if (multiple) {
                 criteriaBuilder.where(JpaMetamodelUtils.getSingleIdAttribute(entityType).getName()).inExpressions(":entityIds");
             } else {
@@ -151,6 +156,13 @@ public class FullEntityLoader extends AbstractEntityLoader {
 
     @Override
     protected List<Object> queryEntities(EntityManager em, List<Object> ids) {
+        if (queryStringMultiple == null) {
+            List<Object> entities = new ArrayList<>(ids.size());
+            for (Object id : ids) {
+                entities.add(queryEntity(em, id));
+            }
+            return entities;
+        }
         List<Object> list = em.createQuery(queryStringMultiple)
             .setParameter("entityIds", ids)
             .getResultList();
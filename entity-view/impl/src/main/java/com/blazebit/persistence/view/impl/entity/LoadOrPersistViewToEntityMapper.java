@@ -23,6 +23,8 @@ import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 import com.blazebit.persistence.view.impl.update.UpdateContext;
 import com.blazebit.persistence.view.metamodel.Type;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -48,6 +50,33 @@ public class LoadOrPersistViewToEntityMapper extends AbstractViewToEntityMapper
         return object;
     }
 
+    @Override
+    public void applyAll(UpdateContext context, List<Object> elements) {
+        List<Object> viewsToLoad = null;
+        int[] loadIndexes = null;
+        for (int i = 0; i < elements.size(); i++) {
+            Object view = elements.get(i);
+            Object object = flushToEntity(context, null, view);
+            if (object == null && view != null) {
+                if (viewsToLoad == null) {
+                    viewsToLoad = new ArrayList<>(elements.size() - i);
+                    loadIndexes = new int[elements.size() - i];
+                }
+                loadIndexes[viewsToLoad.size()] = i;
+                viewsToLoad.add(view);
+            } else {
+                elements.set(i, object);
+            }
+        }
+        if (viewsToLoad != null) {
+            // Load the entities for all elements at once rather than one by one
+            loadEntities(context, viewsToLoad);
+            for (int i = 0; i < viewsToLoad.size(); i++) {
+                elements.set(loadIndexes[i], viewsToLoad.get(i));
+            }
+        }
+    }
+
     @Override
     public Object flushToEntity(UpdateContext context, Object entity, Object view) {
         if (view == null) {
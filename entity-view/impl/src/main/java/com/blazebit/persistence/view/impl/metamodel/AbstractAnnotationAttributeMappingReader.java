@@ -19,6 +19,7 @@ package com.blazebit.persistence.view.impl.metamodel;
 import com.blazebit.persistence.view.BatchFetch;
 import com.blazebit.persistence.view.CollectionMapping;
 import com.blazebit.persistence.view.EmptyFlatViewCreation;
+import com.blazebit.persistence.view.Interned;
 import com.blazebit.persistence.view.Limit;
 import com.blazebit.persistence.view.MultiCollectionMapping;
 import com.blazebit.persistence.view.metamodel.PluralAttribute;
@@ -132,6 +133,11 @@ public class AbstractAnnotationAttributeMappingReader {
             attributeMapping.setCreateEmptyFlatViews(emptyFlatViewCreation.value());
         }
 
+        Interned interned = annotatedElement.getAnnotation(Interned.class);
+        if (interned != null) {
+            attributeMapping.setInterned(interned.value());
+        }
+
         Limit limit = annotatedElement.getAnnotation(Limit.class);
         if (limit != null) {
             attributeMapping.setLimit(limit.limit(), limit.offset(), Arrays.asList(limit.order()));
@@ -82,6 +82,7 @@ import com.blazebit.persistence.view.impl.objectbuilder.NullFilteringCollectionA
 import com.blazebit.persistence.view.impl.objectbuilder.SimpleCollectionAccumulator;
 import com.blazebit.persistence.view.metamodel.Attribute;
 import com.blazebit.persistence.view.metamodel.ManagedViewType;
+import com.blazebit.persistence.view.metamodel.MethodAttribute;
 import com.blazebit.persistence.view.metamodel.OrderByItem;
 import com.blazebit.persistence.view.metamodel.PluralAttribute;
 import com.blazebit.persistence.view.metamodel.Type;
@@ -126,6 +127,8 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
     protected final Expression mappingExpression;
     protected final String[] fetches;
     protected final FetchStrategy fetchStrategy;
+    protected final boolean lazy;
+    protected final Boolean interned;
     protected final int batchSize;
     protected final List<OrderByItem> orderByItems;
     protected final String limitExpression;
@@ -202,6 +205,7 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         Expression mappingExpression = null;
         String[] fetches = EMPTY;
         FetchStrategy fetchStrategy = FetchStrategy.JOIN;
+        boolean lazy = false;
         SubqueryProviderFactory subqueryProviderFactory = null;
         Class<? extends SubqueryProvider> subqueryProvider = null;
         boolean id = false;
@@ -236,7 +240,8 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
             mappingString = m.value();
             mappingExpression = createSimpleExpression(mappingString, mapping, context, ExpressionLocation.MAPPING);
             fetches = m.fetches();
-            fetchStrategy = m.fetch();
+            fetchStrategy = getEagerFetchStrategy(m.fetch());
+            lazy = m.fetch() == FetchStrategy.LAZY;
             updateMappableAttribute = getUpdateMappableAttribute(context, mappingExpression);
             this.mappingType = MappingType.BASIC;
             this.isAggregate = isAggregate(mappingExpression);
@@ -352,7 +357,8 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         } else if (mappingAnnotation instanceof MappingCorrelated) {
             MappingCorrelated mappingCorrelated = (MappingCorrelated) mappingAnnotation;
             fetches = mappingCorrelated.fetches();
-            fetchStrategy = mappingCorrelated.fetch();
+            fetchStrategy = getEagerFetchStrategy(mappingCorrelated.fetch());
+            lazy = mappingCorrelated.fetch() == FetchStrategy.LAZY;
 
             if (fetchStrategy != FetchStrategy.SELECT) {
                 batchSize = -1;
@@ -375,7 +381,8 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         } else if (mappingAnnotation instanceof MappingCorrelatedSimple) {
             MappingCorrelatedSimple mappingCorrelated = (MappingCorrelatedSimple) mappingAnnotation;
             fetches = mappingCorrelated.fetches();
-            fetchStrategy = mappingCorrelated.fetch();
+            fetchStrategy = getEagerFetchStrategy(mappingCorrelated.fetch());
+            lazy = mappingCorrelated.fetch() == FetchStrategy.LAZY;
 
             if (fetchStrategy != FetchStrategy.SELECT) {
                 batchSize = -1;
@@ -414,6 +421,8 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         this.mappingExpression = mappingExpression;
         this.fetches = fetches;
         this.fetchStrategy = fetchStrategy;
+        this.lazy = lazy;
+        this.interned = mapping.getInterned();
         this.batchSize = batchSize;
         this.orderByItems = orderByItems;
         this.limitExpression = limitExpression;
@@ -436,6 +445,14 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         this.correlationResultExpression = correlationResultExpression;
     }
 
+    private static FetchStrategy getEagerFetchStrategy(FetchStrategy fetchStrategy) {
+        // Lazy attributes are fetched just like SELECT fetched attributes, only deferred until first access
+        if (fetchStrategy == FetchStrategy.LAZY) {
+            return FetchStrategy.SELECT;
+        }
+        return fetchStrategy;
+    }
+
     private static boolean isAggregate(Expression expression) {
         return expression != null && Boolean.TRUE.equals(expression.accept(AggregateDetectionVisitor.INSTANCE));
     }
@@ -1028,6 +1045,22 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
             }
         }
 
+        if (lazy) {
+            if (!(this instanceof MethodAttribute<?, ?>) || !Modifier.isAbstract(((MethodAttribute<?, ?>) this).getJavaMethod().getModifiers())) {
+                context.addError("The LAZY fetch strategy is only allowed for abstract getter attributes. LAZY at the " + getLocation() + " is not allowed!");
+            } else if (!(declaringType instanceof ViewType<?>)) {
+                context.addError("The LAZY fetch strategy requires the declaring entity view type '" + declaringType.getJavaType().getName() + "' to declare a @IdMapping. LAZY at the " + getLocation() + " is not allowed!");
+            } else if (declaringType.isUpdatable() || declaringType.isCreatable()) {
+                context.addError("The LAZY fetch strategy is only allowed for attributes of read-only entity view types. LAZY at the " + getLocation() + " is not allowed!");
+            } else if (javaType != null && (convertedJavaType != javaType || javaType.isPrimitive())) {
+                context.addError("The LAZY fetch strategy is not allowed for attributes with a primitive or converted type. LAZY at the " + getLocation() + " is not allowed!");
+            }
+        }
+
+        if (Boolean.TRUE.equals(interned) && !(getElementType() instanceof ViewType<?>)) {
+            context.addError("Interning is only allowed for subview attributes of entity view types with an @IdMapping. @Interned at the " + getLocation() + " is not allowed!");
+        }
+
         Expression indexExpression = null;
         if (isCollection()) {
             elementType = getElementType().getJavaType();
@@ -1504,6 +1537,14 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         return fetchStrategy;
     }
 
+    public final boolean isLazy() {
+        return lazy;
+    }
+
+    public final Boolean getInterned() {
+        return interned;
+    }
+
     public final int getBatchSize() {
         return batchSize;
     }
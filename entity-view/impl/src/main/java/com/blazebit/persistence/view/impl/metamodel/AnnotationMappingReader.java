@@ -30,6 +30,7 @@ import com.blazebit.persistence.view.EntityViewManager;
 import com.blazebit.persistence.view.EntityViewRoot;
 import com.blazebit.persistence.view.EntityViewRoots;
 import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.Interned;
 import com.blazebit.persistence.view.LockMode;
 import com.blazebit.persistence.view.LockOwner;
 import com.blazebit.persistence.view.Mapping;
@@ -230,6 +231,11 @@ public class AnnotationMappingReader implements MappingReader {
             viewMapping.setDefaultBatchSize(batchFetch.size());
         }
 
+        Interned interned = AnnotationUtils.findAnnotation(entityViewClass, Interned.class);
+        if (interned != null) {
+            viewMapping.setInterned(interned.value());
+        }
+
         Set<Class<? extends CTEProvider>> cteProviders = new LinkedHashSet<>();
         Map<String, Class<? extends ViewFilterProvider>> viewFilterProviders = new HashMap<>();
         Map<String, EntityViewRootMapping> viewRootMappings = new LinkedHashMap<>();
@@ -83,6 +83,7 @@ public abstract class AttributeMapping implements EntityViewAttributeMapping {
     // Other configs
     protected Integer defaultBatchSize;
     protected Boolean createEmptyFlatViews;
+    protected Boolean interned;
     protected String limitExpression;
     protected String offsetExpression;
     protected List<String> orderByItems;
@@ -299,6 +300,14 @@ public abstract class AttributeMapping implements EntityViewAttributeMapping {
         this.createEmptyFlatViews = createEmptyFlatViews;
     }
 
+    public Boolean getInterned() {
+        return interned;
+    }
+
+    public void setInterned(Boolean interned) {
+        this.interned = interned;
+    }
+
     public abstract String getErrorLocation();
 
     public abstract String getMappedBy();
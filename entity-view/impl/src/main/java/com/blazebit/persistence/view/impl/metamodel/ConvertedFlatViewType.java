@@ -137,6 +137,11 @@ public class ConvertedFlatViewType<X> implements FlatViewTypeImplementor<X> {
         return delegate.hasSubtypes();
     }
 
+    @Override
+    public boolean isInterned() {
+        return delegate.isInterned();
+    }
+
     @Override
     public boolean supportsInterfaceEquals() {
         return delegate.supportsInterfaceEquals();
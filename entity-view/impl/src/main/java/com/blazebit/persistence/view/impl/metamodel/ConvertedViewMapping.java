@@ -94,6 +94,16 @@ public class ConvertedViewMapping implements ViewMapping {
         delegate.setDefaultBatchSize(defaultBatchSize);
     }
 
+    @Override
+    public boolean isInterned() {
+        return delegate.isInterned();
+    }
+
+    @Override
+    public void setInterned(boolean interned) {
+        delegate.setInterned(interned);
+    }
+
     @Override
     public boolean isCreatable() {
         return delegate.isCreatable();
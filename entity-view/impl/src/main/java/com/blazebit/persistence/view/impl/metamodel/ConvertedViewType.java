@@ -134,6 +134,11 @@ public class ConvertedViewType<X> implements ViewTypeImplementor<X> {
         return delegate.hasSubtypes();
     }
 
+    @Override
+    public boolean isInterned() {
+        return delegate.isInterned();
+    }
+
     @Override
     public boolean supportsInterfaceEquals() {
         return delegate.supportsInterfaceEquals();
@@ -144,6 +144,7 @@ public abstract class ManagedViewTypeImpl<X> implements ManagedViewTypeImplement
     private final FlushMode flushMode;
     private final FlushStrategy flushStrategy;
     private final int defaultBatchSize;
+    private final boolean interned;
     private final Map<String, AbstractMethodAttribute<? super X, ?>> attributes;
     private final NavigableMap<String, AbstractMethodAttribute<? super X, ?>> recursiveAttributes;
     private final NavigableMap<String, AbstractMethodAttribute<? super X, ?>> recursiveSubviewAttributes;
@@ -236,6 +237,7 @@ public abstract class ManagedViewTypeImpl<X> implements ManagedViewTypeImplement
         } else {
             this.defaultBatchSize = batchSize;
         }
+        this.interned = viewMapping.isInterned();
 
         if (viewMapping.getEntityViewRoots().isEmpty()) {
             this.viewRootTypes = Collections.emptyMap();
@@ -1343,6 +1345,11 @@ public abstract class ManagedViewTypeImpl<X> implements ManagedViewTypeImplement
         return defaultInheritanceSubtypeConfiguration.inheritanceSubtypes.size() > 1 || !defaultInheritanceSubtypeConfiguration.inheritanceSubtypes.contains(this);
     }
 
+    @Override
+    public boolean isInterned() {
+        return interned;
+    }
+
     @Override
     public int getSubtypeIndex(ManagedViewTypeImplementor<? super X> inheritanceBase) {
         int subtypeIndex = 0;
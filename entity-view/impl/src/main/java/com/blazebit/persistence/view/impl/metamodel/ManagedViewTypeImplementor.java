@@ -68,6 +68,8 @@ public interface ManagedViewTypeImplementor<X> extends ManagedViewType<X> {
 
     boolean supportsInterfaceEquals();
 
+    boolean isInterned();
+
     ManagedViewTypeImpl.InheritanceSubtypeConfiguration<X> getOverallInheritanceSubtypeConfiguration();
 
     ManagedViewTypeImpl.InheritanceSubtypeConfiguration<X> getInheritanceSubtypeConfiguration(Map<ManagedViewType<? extends X>, String> inheritanceSubtypeMapping);
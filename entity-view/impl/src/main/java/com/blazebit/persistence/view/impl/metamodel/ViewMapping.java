@@ -42,6 +42,10 @@ public interface ViewMapping extends Comparable<ViewMapping>, EntityViewMapping
 
     void setDefaultBatchSize(Integer defaultBatchSize);
 
+    boolean isInterned();
+
+    void setInterned(boolean interned);
+
     Set<String> getExcludedAttributes();
 
     void setIdAttributeMapping(MethodAttributeMapping idAttribute);
@@ -74,6 +74,7 @@ public class ViewMappingImpl implements ViewMapping {
 
     // Other configs
     private Integer defaultBatchSize;
+    private boolean interned;
 
     // Updatable entity view configs
     private boolean updatable;
@@ -171,6 +172,16 @@ public class ViewMappingImpl implements ViewMapping {
         this.defaultBatchSize = defaultBatchSize;
     }
 
+    @Override
+    public boolean isInterned() {
+        return interned;
+    }
+
+    @Override
+    public void setInterned(boolean interned) {
+        this.interned = interned;
+    }
+
     @Override
     public boolean isUpdatable() {
         return updatable;
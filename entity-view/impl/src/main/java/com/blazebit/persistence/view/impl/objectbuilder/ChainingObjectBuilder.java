@@ -22,6 +22,7 @@ import com.blazebit.persistence.SelectBuilder;
 import com.blazebit.persistence.view.impl.EntityViewConfiguration;
 import com.blazebit.persistence.view.impl.objectbuilder.transformator.TupleTransformator;
 import com.blazebit.persistence.view.impl.objectbuilder.transformator.TupleTransformatorFactory;
+import com.blazebit.persistence.view.impl.objectbuilder.transformator.UpdatableViewMap;
 
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ public class ChainingObjectBuilder<T> implements ObjectBuilder<T> {
 
     private final TupleTransformator transformator;
     private final ObjectBuilder<T> objectBuilder;
+    private UpdatableViewMap resultViewMap = new UpdatableViewMap();
 
     public ChainingObjectBuilder(TupleTransformatorFactory transformatorFactory, ObjectBuilder<T> objectBuilder, ParameterHolder<?> parameterHolder, Map<String, Object> optionalParameters, EntityViewConfiguration entityViewConfiguration) {
         this.transformator = transformatorFactory.create(parameterHolder, optionalParameters, entityViewConfiguration);
@@ -48,11 +50,12 @@ public class ChainingObjectBuilder<T> implements ObjectBuilder<T> {
 
     @Override
     public T build(Object[] tuple) {
-        return objectBuilder.build(transformator.transform(tuple));
+        return objectBuilder.build(transformator.transform(tuple, resultViewMap));
     }
 
     @Override
     public List<T> buildList(List<T> list) {
+        resultViewMap = new UpdatableViewMap();
         return objectBuilder.buildList(list);
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder;
+
+import com.blazebit.persistence.ObjectBuilder;
+import com.blazebit.persistence.view.impl.FetchGraphRecording;
+import com.blazebit.persistence.view.impl.proxy.AttributeAccessRecorder;
+
+import java.util.List;
+
+/**
+ * Assigns an {@link AttributeAccessRecorder} to the results so that attribute accesses are reported to the {@link FetchGraphRecording}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class FetchGraphRecordingObjectBuilder<T> extends DelegatingObjectBuilder<T> {
+
+    private final FetchGraphRecording fetchGraphRecording;
+
+    public FetchGraphRecordingObjectBuilder(ObjectBuilder<T> delegate, FetchGraphRecording fetchGraphRecording) {
+        super(delegate);
+        this.fetchGraphRecording = fetchGraphRecording;
+    }
+
+    @Override
+    public List<T> buildList(List<T> list) {
+        List<T> result = delegate.buildList(list);
+        AttributeAccessRecorder accessRecorder = new AttributeAccessRecorder(fetchGraphRecording, "");
+        for (T object : result) {
+            accessRecorder.attach(object);
+        }
+        return result;
+    }
+}
@@ -48,6 +48,15 @@ public class TupleIdDescriptor {
         return positions;
     }
 
+    public int[] createOwnIdPositions() {
+        int[] positions = new int[idPositions.size()];
+        int i = 0;
+        for (Integer idPosition : idPositions) {
+            positions[i++] = idPosition;
+        }
+        return positions;
+    }
+
     private Set<Integer> computeIdPositions() {
         if (parent == null) {
             return idPositions;
@@ -70,6 +70,8 @@ import com.blazebit.persistence.view.impl.objectbuilder.transformer.IndexedTuple
 import com.blazebit.persistence.view.impl.objectbuilder.transformer.NonIndexedTupleListTransformer;
 import com.blazebit.persistence.view.impl.objectbuilder.transformer.SingularMultisetTupleTransformerFactory;
 import com.blazebit.persistence.view.impl.objectbuilder.transformer.SubviewTupleTransformerFactory;
+import com.blazebit.persistence.view.impl.objectbuilder.transformer.TupleListTransformerFactory;
+import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.AbstractCorrelatedBatchTupleListTransformerFactory;
 import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.BasicCorrelator;
 import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.CorrelatedCollectionBatchTupleListTransformerFactory;
 import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.CorrelatedCollectionSubselectTupleTransformerFactory;
@@ -79,6 +81,7 @@ import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.
 import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.CorrelatedSingularSubselectTupleTransformerFactory;
 import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.CorrelatedSubviewJoinTupleTransformerFactory;
 import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.Correlator;
+import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.LazyCorrelatedBatchTupleListTransformerFactory;
 import com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation.SubviewCorrelator;
 import com.blazebit.persistence.view.impl.proxy.AbstractReflectionInstantiator;
 import com.blazebit.persistence.view.impl.proxy.AssignmentConstructorReflectionInstantiator;
@@ -149,6 +152,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
     private final String viewRootAlias;
     private final Class<?> managedTypeClass;
     private final int[] idPositions;
+    private final int[] ownIdPositions;
     private final int tupleOffset;
     private final EntityViewManagerImpl evm;
     private final ProxyFactory proxyFactory;
@@ -365,6 +369,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
         }
 
         this.idPositions = viewIdDescriptor.createIdPositions();
+        this.ownIdPositions = viewIdDescriptor.createOwnIdPositions();
         this.hasParameters = features.contains(Feature.PARAMETERS);
         this.hasIndexedCollections = features.contains(Feature.INDEXED_COLLECTIONS);
         this.hasSubviews = features.contains(Feature.SUBVIEWS);
@@ -490,14 +495,14 @@ public class ViewTypeObjectBuilderTemplate<T> {
                             BasicUserTypeStringSupport<?> indexBasicTypeSupport = null;
                             if (indexTemplate != null) {
                                 boolean updatableKeyObjectCache = indexTemplate.viewType.isUpdatable() || indexTemplate.viewType.isCreatable();
-                                indexTransformerFactory = new SubviewTupleTransformerFactory(attributePath, indexTemplate, updatableKeyObjectCache, true);
+                                indexTransformerFactory = new SubviewTupleTransformerFactory(attributePath, indexTemplate, updatableKeyObjectCache, false, true);
                             } else if (mapKey) {
                                 indexBasicTypeSupport = TypeUtils.forType(((MapAttribute<?, ?, ?>) attribute).getKeyType());
                             } else if (listKey) {
                                 indexBasicTypeSupport = IntegerBasicUserType.INSTANCE;
                             }
                             mapperBuilder.addTupleTransformerFactory(new CollectionMultisetTupleTransformerFactory(startIndex, null, attributePath, getMultisetResultAlias(attributePath), valueConverter, attribute.getContainerAccumulator(), dirtyTracking,
-                                    subviewTemplate, indexTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, nullIfEmpty), indexTransformerFactory, null, indexBasicTypeSupport));
+                                    subviewTemplate, indexTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, isInterned(attribute, managedViewType), nullIfEmpty), indexTransformerFactory, null, indexBasicTypeSupport));
                         } else {
                             applyCorrelatedSubviewMapping(attribute, attributePath, newTupleIdDescriptor, (ManagedViewTypeImplementor<Object[]>) (ManagedViewTypeImplementor<?>) managedViewType, mapperBuilder, features, viewJpqlMacro, embeddingViewJpqlMacro, ef, batchSize, dirtyTracking);
                         }
@@ -515,26 +520,26 @@ public class ViewTypeObjectBuilderTemplate<T> {
                             BasicUserTypeStringSupport<?> indexBasicTypeSupport = null;
                             if (indexTemplate != null) {
                                 boolean updatableKeyObjectCache = indexTemplate.viewType.isUpdatable() || indexTemplate.viewType.isCreatable();
-                                indexTransformerFactory = new SubviewTupleTransformerFactory(attributePath, indexTemplate, updatableKeyObjectCache, true);
+                                indexTransformerFactory = new SubviewTupleTransformerFactory(attributePath, indexTemplate, updatableKeyObjectCache, false, true);
                             } else if (mapKey) {
                                 indexBasicTypeSupport = TypeUtils.forType(((MapAttribute<?, ?, ?>) attribute).getKeyType());
                             } else if (listKey) {
                                 indexBasicTypeSupport = IntegerBasicUserType.INSTANCE;
                             }
                             mapperBuilder.addTupleTransformerFactory(new CollectionMultisetTupleTransformerFactory(startIndex, mapping, attributePath, getMultisetResultAlias(attributePath), valueConverter, attribute.getContainerAccumulator(), dirtyTracking,
-                                    subviewTemplate, indexTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, nullIfEmpty), indexTransformerFactory, null, indexBasicTypeSupport));
+                                    subviewTemplate, indexTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, isInterned(attribute, managedViewType), nullIfEmpty), indexTransformerFactory, null, indexBasicTypeSupport));
                         } else {
                             // Obviously, we produce null if the object type is identifiable i.e. a ViewType and it is empty = null id
                             // Additionally, we also consider empty embeddables as null when we have a non-indexed collection so we can filter out these elements
                             applySubviewMapping(mappingAttribute, attributePath, newTupleIdDescriptor, managedViewType, mapperBuilder, viewJpqlMacro, embeddingViewJpqlMacro, ef, false, nullIfEmpty);
                         }
                     }
-                } else if (mapKey) {
+                } else if (mapKey && (pluralAttribute.getFetchStrategy() != FetchStrategy.MULTISET || ((MapAttribute<?, ?, ?>) pluralAttribute).isKeySubview())) {
                     MappingAttribute<? super T, ?> mappingAttribute = (MappingAttribute<? super T, ?>) attribute;
                     applyCollectionFunctionMapping(TypeUtils.forType(getType(mappingAttribute)), mappingAttribute, attributePath, mapperBuilder, mappingAttribute.getFetches(), embeddingViewJpqlMacro);
                 } else {
-                    // TODO: Multiset basic fetching?
-                    if (pluralAttribute.isCorrelated() || attribute.getFetchStrategy() == FetchStrategy.JOIN && !attribute.getOrderByItems().isEmpty() || pluralAttribute.getFetchStrategy() != FetchStrategy.JOIN && pluralAttribute.getFetchStrategy() != FetchStrategy.MULTISET) {
+                    // Multiset fetched basic collections are aggregated through the correlation that is also used for select fetching
+                    if (pluralAttribute.isCorrelated() || attribute.getFetchStrategy() == FetchStrategy.JOIN && !attribute.getOrderByItems().isEmpty() || pluralAttribute.getFetchStrategy() != FetchStrategy.JOIN) {
                         applyBasicCorrelatedMapping(attribute, attributePath, mapperBuilder, features, ef, batchSize, dirtyTracking, embeddingViewJpqlMacro);
                     } else {
                         MappingAttribute<? super T, ?> mappingAttribute = (MappingAttribute<? super T, ?>) attribute;
@@ -587,7 +592,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
                         boolean updatableObjectCache = managedViewType.isUpdatable() || managedViewType.isCreatable();
                         ViewTypeObjectBuilderTemplate<Object[]> subviewTemplate = applyCorrelatedSubviewMapping(attribute, attributePath, tupleIdDescriptor, (ManagedViewTypeImplementor<Object[]>) (ManagedViewTypeImplementor<?>) managedViewType, mapperBuilder, features, viewJpqlMacro, embeddingViewJpqlMacro, ef, batchSize, false)[0];
                         TypeConverter<Object, Object> elementConverter = (TypeConverter<Object, Object>) (TypeConverter<?, ?>) managedViewType.getConverter();
-                        mapperBuilder.addTupleTransformerFactory(new SingularMultisetTupleTransformerFactory(startIndex, null, attributePath, getMultisetResultAlias(attributePath), elementConverter, subviewTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, nullIfEmpty)));
+                        mapperBuilder.addTupleTransformerFactory(new SingularMultisetTupleTransformerFactory(startIndex, null, attributePath, getMultisetResultAlias(attributePath), elementConverter, subviewTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, isInterned(attribute, managedViewType), nullIfEmpty)));
                     } else {
                         applyCorrelatedSubviewMapping(attribute, attributePath, tupleIdDescriptor, (ManagedViewTypeImplementor<Object[]>) (ManagedViewTypeImplementor<?>) managedViewType, mapperBuilder, features, viewJpqlMacro, embeddingViewJpqlMacro, ef, batchSize, false);
                     }
@@ -600,7 +605,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
                         String mapping = mapperBuilder.getMapping(mappingAttribute);
                         ViewTypeObjectBuilderTemplate<Object[]> subviewTemplate = applySubviewMapping(mappingAttribute, attributePath, tupleIdDescriptor, managedViewType, mapperBuilder, viewJpqlMacro, embeddingViewJpqlMacro, ef, false, nullIfEmpty)[0];
                         TypeConverter<Object, Object> elementConverter = (TypeConverter<Object, Object>) (TypeConverter<?, ?>) managedViewType.getConverter();
-                        mapperBuilder.addTupleTransformerFactory(new SingularMultisetTupleTransformerFactory(startIndex, mapping, attributePath, getMultisetResultAlias(attributePath), elementConverter, subviewTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, nullIfEmpty)));
+                        mapperBuilder.addTupleTransformerFactory(new SingularMultisetTupleTransformerFactory(startIndex, mapping, attributePath, getMultisetResultAlias(attributePath), elementConverter, subviewTemplate, managedViewType.hasSelectOrSubselectFetchedAttributes(), new SubviewTupleTransformerFactory(attributePath, subviewTemplate, updatableObjectCache, isInterned(attribute, managedViewType), nullIfEmpty)));
                     } else {
                         applySubviewMapping(mappingAttribute, attributePath, tupleIdDescriptor, managedViewType, mapperBuilder, viewJpqlMacro, embeddingViewJpqlMacro, ef, false, nullIfEmpty);
                     }
@@ -670,12 +675,28 @@ public class ViewTypeObjectBuilderTemplate<T> {
         mapperBuilder.addMapper(mapper);
     }
 
+    private static boolean isInterned(AbstractAttribute<?, ?> attribute, ManagedViewTypeImplementor<?> managedViewType) {
+        // Only subviews with an id can be interned, the per-result map is keyed by view type and id
+        if (!(managedViewType instanceof ViewType<?>)) {
+            return false;
+        }
+        Boolean interned = attribute.getInterned();
+        return interned == null ? managedViewType.isInterned() : interned;
+    }
+
+    private TupleListTransformerFactory lazyIfNeeded(AbstractAttribute<?, ?> attribute, AbstractCorrelatedBatchTupleListTransformerFactory tupleListTransformerFactory) {
+        if (attribute.isLazy()) {
+            return new LazyCorrelatedBatchTupleListTransformerFactory(tupleListTransformerFactory);
+        }
+        return tupleListTransformerFactory;
+    }
+
     private void applyBasicCorrelatedMapping(AbstractAttribute<?, ?> attribute, String attributePath, TupleElementMapperBuilder mapperBuilder, Set<Feature> features, ExpressionFactory ef, int batchSize, boolean dirtyTracking, EmbeddingViewJpqlMacro embeddingViewJpqlMacro) {
         Expression correlationResult = attribute.getCorrelationResultExpression();
         CorrelationProviderFactory factory = attribute.getCorrelationProviderFactory();
         String correlationBasis = attribute.getCorrelationBasis();
         String correlationAlias = CorrelationProviderHelper.getDefaultCorrelationAlias(attributePath);
-        if (attribute.getFetchStrategy() == FetchStrategy.JOIN) {
+        if (attribute.getFetchStrategy() == FetchStrategy.JOIN || attribute.getFetchStrategy() == FetchStrategy.MULTISET && !attribute.isCollection()) {
             String alias = mapperBuilder.getAlias(attribute, false);
             correlationBasis = mapperBuilder.getMapping(attribute.getCorrelationBasisExpression());
 
@@ -689,6 +710,37 @@ public class ViewTypeObjectBuilderTemplate<T> {
                 mapper = new ExpressionCorrelationJoinTupleElementMapper(factory.create(null, null), ef, joinBase, correlationBasis, attribute.getCorrelationResultExpression(), alias, joinCorrelationAttributePath, embeddingViewPath, attribute.getFetches(), createLimiter(mapperBuilder, correlationAlias, attribute), viewRoot.getEntityViewRootTypes().keySet());
             }
             mapperBuilder.addMapper(mapper);
+        } else if (attribute.getFetchStrategy() == FetchStrategy.MULTISET) {
+            PluralAttribute<?, ?, ?> pluralAttribute = (PluralAttribute<?, ?, ?>) attribute;
+            int startIndex = tupleOffset + mapperBuilder.mapperIndex();
+            correlationBasis = mapperBuilder.getMapping(attribute.getCorrelationBasisExpression());
+            Limiter limiter = createLimiter(mapperBuilder, correlationAlias, attribute);
+            String correlationExternalAlias;
+            if (limiter == null) {
+                correlationExternalAlias = correlationAlias;
+            } else {
+                correlationExternalAlias = CorrelationProviderHelper.getDefaultExternalCorrelationAlias(attributePath);
+            }
+            String valueExpression = correlationExternalAlias;
+            if (!ExpressionUtils.isEmptyOrThis(correlationResult)) {
+                valueExpression = PrefixingQueryGenerator.prefix(ef, correlationResult, correlationExternalAlias, viewRoot.getEntityViewRootTypes().keySet(), true);
+            }
+            String indexExpression = null;
+            BasicUserTypeStringSupport<?> indexBasicTypeSupport = null;
+            if (attribute.getKeyMappingExpression() != null) {
+                MapAttribute<?, ?, ?> mapAttribute = (MapAttribute<?, ?, ?>) attribute;
+                indexExpression = mapperBuilder.getKeyMapping(valueExpression, mapAttribute);
+                indexBasicTypeSupport = TypeUtils.forType(mapAttribute.getKeyType());
+            } else if (attribute.getMappingIndexExpression() != null) {
+                indexExpression = mapperBuilder.getIndexMapping(valueExpression, (ListAttribute<?, ?>) attribute);
+                indexBasicTypeSupport = IntegerBasicUserType.INSTANCE;
+            }
+            BasicUserTypeStringSupport<?> valueBasicTypeSupport = TypeUtils.forType(pluralAttribute.getElementType());
+            String embeddingViewPath = mapperBuilder.getMapping();
+            TupleElementMapper valueMapper = createMapper(valueBasicTypeSupport, valueExpression, null, attributePath, embeddingViewPath, embeddingViewJpqlMacro.getEmbeddingViewPath(), attribute.getFetches());
+            mapperBuilder.addMapper(new CorrelationMultisetTupleElementMapper(valueMapper, factory, correlationBasis, correlationExternalAlias, attributePath, embeddingViewPath, indexExpression, limiter));
+            mapperBuilder.addTupleTransformerFactory(new CollectionMultisetTupleTransformerFactory(startIndex, null, attributePath, getMultisetResultAlias(attributePath), (TypeConverter<Object, Object>) pluralAttribute.getElementType().getConverter(), attribute.getContainerAccumulator(), dirtyTracking,
+                    null, null, false, null, null, valueBasicTypeSupport, indexBasicTypeSupport));
         } else if (attribute.getFetchStrategy() == FetchStrategy.SELECT) {
             String subviewAliasPrefix = mapperBuilder.getAlias(attribute, false);
             int viewRootIndex = viewRoot.hasSubtypes() ? 1 : 0;
@@ -741,29 +793,31 @@ public class ViewTypeObjectBuilderTemplate<T> {
                         } else {
                             indexCorrelator = new BasicCorrelator();
                         }
-                        mapperBuilder.addTupleListTransformerFactory(new CorrelatedMapBatchTupleListTransformerFactory(
+                        mapperBuilder.addTupleListTransformerFactory(lazyIfNeeded(attribute, new CorrelatedMapBatchTupleListTransformerFactory(
                                 new BasicCorrelator(),
                                 viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
                                 createLimiter(mapperBuilder, correlationAlias, attribute),
                                 indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                                dirtyTracking
-                        ));
+                                dirtyTracking,
+                                evm.getCorrelationStatisticsService()
+                        )));
                         return;
                     default:
                         throw new IllegalArgumentException("Unknown collection type: " + pluralAttribute.getCollectionType());
                 }
-                mapperBuilder.addTupleListTransformerFactory(new CorrelatedCollectionBatchTupleListTransformerFactory(
+                mapperBuilder.addTupleListTransformerFactory(lazyIfNeeded(attribute, new CorrelatedCollectionBatchTupleListTransformerFactory(
                         new BasicCorrelator(),
                         viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
                         createLimiter(mapperBuilder, correlationAlias, attribute),
                         indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                        dirtyTracking
-                ));
+                        dirtyTracking,
+                        evm.getCorrelationStatisticsService()
+                )));
             } else {
-                mapperBuilder.addTupleListTransformerFactory(new CorrelatedSingularBatchTupleListTransformerFactory(
+                mapperBuilder.addTupleListTransformerFactory(lazyIfNeeded(attribute, new CorrelatedSingularBatchTupleListTransformerFactory(
                         new BasicCorrelator(),
                         viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
-                        createLimiter(mapperBuilder, correlationAlias, attribute)));
+                        createLimiter(mapperBuilder, correlationAlias, attribute), evm.getCorrelationStatisticsService())));
             }
         } else if (attribute.getFetchStrategy() == FetchStrategy.SUBSELECT) {
             String subviewAliasPrefix = mapperBuilder.getAlias(attribute, false);
@@ -959,7 +1013,7 @@ public class ViewTypeObjectBuilderTemplate<T> {
             mapperBuilder.addMappers(template.mappers);
             mapperBuilder.addSecondaryMappers(template.secondaryMappers);
             mapperBuilder.addTupleTransformatorFactory(template.tupleTransformatorFactory);
-            mapperBuilder.addTupleTransformerFactory(new SubviewTupleTransformerFactory(subviewAttributePath, template, updatableObjectCache, nullIfEmpty));
+            mapperBuilder.addTupleTransformerFactory(new SubviewTupleTransformerFactory(subviewAttributePath, template, updatableObjectCache, !isKey && isInterned(attribute, managedViewType), nullIfEmpty));
         }
         embeddingViewJpqlMacro.setEmbeddingViewPath(oldEmbeddingViewPath);
         viewJpqlMacro.setViewPath(oldViewPath);
@@ -1115,29 +1169,31 @@ public class ViewTypeObjectBuilderTemplate<T> {
                         } else {
                             indexCorrelator = new BasicCorrelator();
                         }
-                        mapperBuilder.addTupleListTransformerFactory(new CorrelatedMapBatchTupleListTransformerFactory(
+                        mapperBuilder.addTupleListTransformerFactory(lazyIfNeeded(attribute, new CorrelatedMapBatchTupleListTransformerFactory(
                                 new SubviewCorrelator(managedViewType, null, evm, subviewAliasPrefix, attributePath),
                                 viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
                                 createLimiter(mapperBuilder, correlationAlias, attribute),
                                 indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                                dirtyTracking
-                        ));
+                                dirtyTracking,
+                                evm.getCorrelationStatisticsService()
+                        )));
                         return null;
                     default:
                         throw new IllegalArgumentException("Unknown collection type: " + pluralAttribute.getCollectionType());
                 }
-                mapperBuilder.addTupleListTransformerFactory(new CorrelatedCollectionBatchTupleListTransformerFactory(
+                mapperBuilder.addTupleListTransformerFactory(lazyIfNeeded(attribute, new CorrelatedCollectionBatchTupleListTransformerFactory(
                         new SubviewCorrelator(managedViewType, null, evm, subviewAliasPrefix, attributePath),
                         viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
                         createLimiter(mapperBuilder, correlationAlias, attribute),
                         indexFetches, indexExpression, indexCorrelator, attribute.getContainerAccumulator(),
-                        dirtyTracking
-                ));
+                        dirtyTracking,
+                        evm.getCorrelationStatisticsService()
+                )));
             } else {
-                mapperBuilder.addTupleListTransformerFactory(new CorrelatedSingularBatchTupleListTransformerFactory(
+                mapperBuilder.addTupleListTransformerFactory(lazyIfNeeded(attribute, new CorrelatedSingularBatchTupleListTransformerFactory(
                         new SubviewCorrelator(managedViewType, null, evm, subviewAliasPrefix, attributePath),
                         viewRoot, viewType, correlationResult, factory, attributePath, attribute.getFetches(), correlatesThis, viewRootIndex, embeddingViewIndex, startIndex, batchSize, correlationBasisType, correlationBasisEntity,
-                        createLimiter(mapperBuilder, correlationAlias, attribute)));
+                        createLimiter(mapperBuilder, correlationAlias, attribute), evm.getCorrelationStatisticsService())));
             }
         } else if (attribute.getFetchStrategy() == FetchStrategy.SUBSELECT) {
             String subviewAliasPrefix = mapperBuilder.getAlias(attribute, false);
@@ -1482,6 +1538,10 @@ public class ViewTypeObjectBuilderTemplate<T> {
         return idPositions;
     }
 
+    public int[] getOwnIdPositions() {
+        return ownIdPositions;
+    }
+
     public boolean hasParameters() {
         return hasParameters;
     }
@@ -40,6 +40,7 @@ import java.util.Map;
 public class CorrelationMultisetTupleElementMapper implements TupleElementMapper {
 
     private final ViewTypeObjectBuilderTemplate<Object[]> subviewTemplate;
+    private final TupleElementMapper valueMapper;
     private final CorrelationProviderFactory correlationProviderFactory;
     private final String correlationBasis;
     private final String correlationAlias;
@@ -50,7 +51,16 @@ public class CorrelationMultisetTupleElementMapper implements TupleElementMapper
     private final Limiter limiter;
 
     public CorrelationMultisetTupleElementMapper(ViewTypeObjectBuilderTemplate<Object[]> subviewTemplate, CorrelationProviderFactory correlationProviderFactory, String correlationBasis, String correlationAlias, String attributePath, String embeddingViewPath, String indexExpression, ViewTypeObjectBuilderTemplate<Object[]> indexTemplate, Limiter limiter) {
+        this(subviewTemplate, null, correlationProviderFactory, correlationBasis, correlationAlias, attributePath, embeddingViewPath, indexExpression, indexTemplate, limiter);
+    }
+
+    public CorrelationMultisetTupleElementMapper(TupleElementMapper valueMapper, CorrelationProviderFactory correlationProviderFactory, String correlationBasis, String correlationAlias, String attributePath, String embeddingViewPath, String indexExpression, Limiter limiter) {
+        this(null, valueMapper, correlationProviderFactory, correlationBasis, correlationAlias, attributePath, embeddingViewPath, indexExpression, null, limiter);
+    }
+
+    private CorrelationMultisetTupleElementMapper(ViewTypeObjectBuilderTemplate<Object[]> subviewTemplate, TupleElementMapper valueMapper, CorrelationProviderFactory correlationProviderFactory, String correlationBasis, String correlationAlias, String attributePath, String embeddingViewPath, String indexExpression, ViewTypeObjectBuilderTemplate<Object[]> indexTemplate, Limiter limiter) {
         this.subviewTemplate = subviewTemplate;
+        this.valueMapper = valueMapper;
         this.correlationProviderFactory = correlationProviderFactory;
         this.correlationBasis = correlationBasis;
         this.correlationAlias = correlationAlias;
@@ -70,8 +80,12 @@ public class CorrelationMultisetTupleElementMapper implements TupleElementMapper
         MultisetCorrelationBuilder correlationBuilder = new MultisetCorrelationBuilder(subqueryInitiator, (ServiceProvider) queryBuilder, correlationAlias);
         correlationProvider.applyCorrelation(correlationBuilder, correlationBasis);
         SubqueryBuilder<?> subqueryBuilder = correlationBuilder.getSubqueryBuilder();
-        for (TupleElementMapper mapper : subviewTemplate.getMappers()) {
-            mapper.applyMapping(subqueryBuilder, parameterHolder, optionalParameters, viewJpqlMacro, embeddingViewJpqlMacro, true);
+        if (subviewTemplate == null) {
+            valueMapper.applyMapping(subqueryBuilder, parameterHolder, optionalParameters, viewJpqlMacro, embeddingViewJpqlMacro, true);
+        } else {
+            for (TupleElementMapper mapper : subviewTemplate.getMappers()) {
+                mapper.applyMapping(subqueryBuilder, parameterHolder, optionalParameters, viewJpqlMacro, embeddingViewJpqlMacro, true);
+            }
         }
         if (indexTemplate != null) {
             for (TupleElementMapper mapper : indexTemplate.getMappers()) {
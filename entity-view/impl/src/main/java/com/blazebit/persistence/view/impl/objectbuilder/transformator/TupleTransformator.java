@@ -57,23 +57,50 @@ public class TupleTransformator {
         if (transformatorLevels.size() > 1) {
             Set<TupleRest> tupleSet = new HashSet<>(tupleList.size());
 
-            Iterator<Object[]> tupleListIter = tupleList.iterator();
+            ListIterator<Object[]> tupleListIter = tupleList.listIterator();
 
             while (tupleListIter.hasNext()) {
-                if (!tupleSet.add(new TupleRest(tupleListIter.next(), 0, 0))) {
-                    tupleListIter.remove();
+                Object[] tuple = tupleListIter.next();
+                if (!tupleSet.add(new TupleRest(tuple, 0, 0))) {
+                    tupleListIter.set(null);
                 }
             }
+            removeMarkedTuples(tupleList);
         }
 
         return tupleList;
     }
 
-    public Object[] transform(Object[] tuple) {
+    /**
+     * Removes the tuples that were marked for removal by setting them to <code>null</code> from the given list.
+     * Removing tuples one by one from an array based list is quadratic, so the list is compacted in place instead.
+     *
+     * @param tupleList The tuple list to compact
+     */
+    public static void removeMarkedTuples(List<Object[]> tupleList) {
+        Iterator<Object[]> tupleListIter = tupleList.iterator();
+        ListIterator<Object[]> retainedTupleListIter = tupleList.listIterator();
+        int retainedTuples = 0;
+
+        while (tupleListIter.hasNext()) {
+            Object[] tuple = tupleListIter.next();
+            if (tuple != null) {
+                retainedTupleListIter.next();
+                retainedTupleListIter.set(tuple);
+                retainedTuples++;
+            }
+        }
+        if (retainedTuples != tupleList.size()) {
+            tupleList.subList(retainedTuples, tupleList.size()).clear();
+        }
+    }
+
+    public Object[] transform(Object[] tuple, UpdatableViewMap resultViewMap) {
         if (transformatorLevels.size() != 1) {
             throw new IllegalStateException("Can only do single transformations if there is only a single level");
         }
-        UpdatableViewMap updatableViewMap = new UpdatableViewMap();
+        // Interned objects are shared across the whole result, other objects only within the tuple
+        UpdatableViewMap updatableViewMap = new UpdatableViewMap(resultViewMap);
         return transform(0, tuple, updatableViewMap);
     }
 
@@ -26,13 +26,32 @@ import java.util.Map;
 public class UpdatableViewMap {
 
     private final Map<UpdatableViewKey, Object> objectMap = new HashMap<>();
+    private final Map<UpdatableViewKey, Object> scopedObjectMap;
+
+    public UpdatableViewMap() {
+        this.scopedObjectMap = new HashMap<>();
+    }
+
+    /**
+     * Creates a map that shares the objects of keys with a scope with the given map.
+     *
+     * @param resultViewMap The map that holds the objects with a scope for the whole result
+     * @since 1.6.9
+     */
+    public UpdatableViewMap(UpdatableViewMap resultViewMap) {
+        this.scopedObjectMap = resultViewMap.scopedObjectMap;
+    }
 
     public Object get(UpdatableViewKey key) {
-        return objectMap.get(key);
+        return key.scope == null ? objectMap.get(key) : scopedObjectMap.get(key);
     }
 
     public void put(UpdatableViewKey key, Object object) {
-        objectMap.put(key, object);
+        if (key.scope == null) {
+            objectMap.put(key, object);
+        } else {
+            scopedObjectMap.put(key, object);
+        }
     }
 
     /**
@@ -42,10 +61,25 @@ public class UpdatableViewMap {
     public static class UpdatableViewKey {
         private final Class<?> clazz;
         private final Object identifier;
+        private final Object scope;
 
         public UpdatableViewKey(Class<?> clazz, Object identifier) {
+            this(clazz, identifier, null);
+        }
+
+        /**
+         * Creates a key for an object that may only be shared with objects of the same scope.
+         * The scope is compared by identity.
+         *
+         * @param clazz The view class
+         * @param identifier The identifier of the object
+         * @param scope The scope of the object or <code>null</code>
+         * @since 1.6.9
+         */
+        public UpdatableViewKey(Class<?> clazz, Object identifier, Object scope) {
             this.clazz = clazz;
             this.identifier = identifier;
+            this.scope = scope;
         }
 
         @Override
@@ -62,6 +96,9 @@ public class UpdatableViewMap {
             if (!clazz.equals(that.clazz)) {
                 return false;
             }
+            if (scope != that.scope) {
+                return false;
+            }
             return identifier.equals(that.identifier);
         }
 
@@ -69,6 +106,7 @@ public class UpdatableViewMap {
         public int hashCode() {
             int result = clazz.hashCode();
             result = 31 * result + identifier.hashCode();
+            result = 31 * result + System.identityHashCode(scope);
             return result;
         }
     }
@@ -105,7 +105,7 @@ public class CollectionMultisetTupleTransformerFactory implements TupleTransform
     @Override
     public TupleTransformer create(ParameterHolder<?> parameterHolder, Map<String, Object> optionalParameters, EntityViewConfiguration entityViewConfiguration) {
         if (!entityViewConfiguration.hasSubFetches(attributePath)) {
-            return new NullTupleTransformer(template, startIndex);
+            return template == null ? new NullTupleTransformer(startIndex, 1) : new NullTupleTransformer(template, startIndex);
         }
         if (mapping != null) {
             if (parameterHolder instanceof FullQueryBuilder<?, ?>) {
@@ -20,11 +20,12 @@ import com.blazebit.persistence.view.impl.objectbuilder.ContainerAccumulator;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleId;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleIndexValue;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleReuse;
+import com.blazebit.persistence.view.impl.objectbuilder.transformator.TupleTransformator;
 import com.blazebit.persistence.view.spi.type.TypeConverter;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 
 /**
@@ -61,10 +62,11 @@ public class IndexedTupleListTransformer extends TupleListTransformer {
     @Override
     public List<Object[]> transform(List<Object[]> tuples) {
         Map<TupleId, TupleIndexValue> tupleIndex = new HashMap<TupleId, TupleIndexValue>(tuples.size());
-        Iterator<Object[]> tupleListIter = tuples.iterator();
+        ListIterator<Object[]> tupleListIter = tuples.listIterator();
 
         while (tupleListIter.hasNext()) {
             Object[] tuple = tupleListIter.next();
+            boolean retain = true;
             TupleId id = new TupleId(parentIdPositions, tuple);
             // Skip constructing the collection and removing tuples when the parent is empty i.e. null
             if (!id.isEmpty()) {
@@ -88,16 +90,20 @@ public class IndexedTupleListTransformer extends TupleListTransformer {
                     tuple[valueStartIndex] = TupleReuse.CONSUMED;
                     // Check if the tuple after the offset is contained
                     if (tupleIndexValue.containsRestTuple(tuple, startIndex, valueOffset + 1)) {
-                        tupleListIter.remove();
+                        retain = false;
                     }
                 } else {
                     Object key = tuple[startIndex];
                     add(tupleIndexValue.getTupleValue(), key, tuple[valueStartIndex]);
                     tuple[valueStartIndex] = TupleReuse.CONSUMED;
-                    tupleListIter.remove();
+                    retain = false;
                 }
             }
+            if (!retain) {
+                tupleListIter.set(null);
+            }
         }
+        TupleTransformator.removeMarkedTuples(tuples);
 
         return tuples;
     }
@@ -91,7 +91,7 @@ public class MultisetTupleTransformer implements TupleTransformer {
                     indexObject = objects.get(i)[indexStartIndex];
                 }
                 if (subviewTupleTransformer == null) {
-                    add(collection, indexObject, objects.get(i)[startIndex]);
+                    add(collection, indexObject, objects.get(i)[0]);
                 } else {
                     Object[] transformedTuple = subviewTupleTransformer.transform(objects.get(i), updatableViewMap);
                     add(collection, indexObject, transformedTuple[0]);
@@ -19,14 +19,15 @@ package com.blazebit.persistence.view.impl.objectbuilder.transformer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
-import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 
 import com.blazebit.persistence.view.impl.collection.CollectionInstantiatorImplementor;
 import com.blazebit.persistence.view.impl.collection.RecordingCollection;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleId;
 import com.blazebit.persistence.view.impl.objectbuilder.TupleIndexValue;
+import com.blazebit.persistence.view.impl.objectbuilder.transformator.TupleTransformator;
 import com.blazebit.persistence.view.spi.type.TypeConverter;
 
 /**
@@ -57,10 +58,11 @@ public class NonIndexedTupleListTransformer extends TupleListTransformer {
     @Override
     public List<Object[]> transform(List<Object[]> tuples) {
         Map<TupleId, TupleIndexValue> tupleIndex = new HashMap<>(tuples.size());
-        Iterator<Object[]> tupleListIter = tuples.iterator();
+        ListIterator<Object[]> tupleListIter = tuples.listIterator();
 
         while (tupleListIter.hasNext()) {
             Object[] tuple = tupleListIter.next();
+            boolean retain = true;
             TupleId id = new TupleId(parentIdPositions, tuple);
             // Skip constructing the collection and removing tuples when the parent is empty i.e. null
             if (!id.isEmpty()) {
@@ -78,14 +80,18 @@ public class NonIndexedTupleListTransformer extends TupleListTransformer {
                     tuple[startIndex] = collection;
                     // Check if the tuple after the offset is contained
                     if (tupleIndexValue.containsRestTuple(tuple, startIndex, 1)) {
-                        tupleListIter.remove();
+                        retain = false;
                     }
                 } else {
                     add(tupleIndexValue.getTupleValue(), tuple[startIndex]);
-                    tupleListIter.remove();
+                    retain = false;
                 }
             }
+            if (!retain) {
+                tupleListIter.set(null);
+            }
         }
+        TupleTransformator.removeMarkedTuples(tuples);
         if (collectionInstantiator.requiresPostConstruct()) {
             IdentityHashMap<Collection<?>, Boolean> handledCollections = new IdentityHashMap<>(tuples.size());
             for (Object[] tuple : tuples) {
@@ -31,8 +31,12 @@ public class NullTupleTransformer implements TupleTransformer {
     private final int consumeEndIndex;
 
     public NullTupleTransformer(ViewTypeObjectBuilderTemplate<Object[]> template, int startIndex) {
+        this(startIndex, template.getMappers().length);
+    }
+
+    public NullTupleTransformer(int startIndex, int mapperCount) {
         this.consumeStartIndex = startIndex + 1;
-        this.consumeEndIndex = startIndex + template.getMappers().length;
+        this.consumeEndIndex = startIndex + mapperCount;
     }
 
     @Override
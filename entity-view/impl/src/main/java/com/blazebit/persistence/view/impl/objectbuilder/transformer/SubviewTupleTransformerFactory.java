@@ -33,12 +33,14 @@ public class SubviewTupleTransformerFactory implements TupleTransformerFactory {
     private final String attributePath;
     private final ViewTypeObjectBuilderTemplate<Object[]> template;
     private final boolean updatable;
+    private final boolean interned;
     private final boolean nullIfEmpty;
 
-    public SubviewTupleTransformerFactory(String attributePath, ViewTypeObjectBuilderTemplate<Object[]> template, boolean updatable, boolean nullIfEmpty) {
+    public SubviewTupleTransformerFactory(String attributePath, ViewTypeObjectBuilderTemplate<Object[]> template, boolean updatable, boolean interned, boolean nullIfEmpty) {
         this.attributePath = attributePath;
         this.template = template;
         this.updatable = updatable;
+        this.interned = interned;
         this.nullIfEmpty = nullIfEmpty;
     }
 
@@ -56,7 +58,9 @@ public class SubviewTupleTransformerFactory implements TupleTransformerFactory {
     public TupleTransformer create(ParameterHolder<?> parameterHolder, Map<String, Object> optionalParameters, EntityViewConfiguration entityViewConfiguration) {
         ObjectBuilder<Object[]> objectBuilder = template.createObjectBuilder(parameterHolder, optionalParameters, entityViewConfiguration, 0, true, nullIfEmpty);
         if (updatable) {
-            return new UpdatableSubviewTupleTransformer(template, objectBuilder, nullIfEmpty);
+            return new UpdatableSubviewTupleTransformer(template, objectBuilder, false, nullIfEmpty);
+        } else if (interned) {
+            return new UpdatableSubviewTupleTransformer(template, objectBuilder, true, nullIfEmpty);
         } else {
             return new SubviewTupleTransformer(template, objectBuilder);
         }
@@ -30,25 +30,36 @@ import com.blazebit.persistence.view.impl.objectbuilder.transformator.UpdatableV
 public class UpdatableSubviewTupleTransformer implements TupleTransformer {
 
     private final ViewTypeObjectBuilderTemplate<Object[]> template;
+    private final int[] idPositions;
+    private final Object keyScope;
     private final int nullCheckObjectIndex;
     private final int consumeStartIndex;
     private final int consumeEndIndex;
     private final ObjectBuilder<Object[]> objectBuilder;
 
-    public UpdatableSubviewTupleTransformer(ViewTypeObjectBuilderTemplate<Object[]> template, ObjectBuilder<Object[]> objectBuilder, boolean nullIfEmpty) {
+    public UpdatableSubviewTupleTransformer(ViewTypeObjectBuilderTemplate<Object[]> template, ObjectBuilder<Object[]> objectBuilder, boolean interned, boolean nullIfEmpty) {
         this.template = template;
+        if (interned) {
+            // Read-only subviews only depend on their own id, so we can share them across different parents.
+            // The template is part of the key though, as subviews of the same type may be built from different mappings or fetches
+            this.idPositions = template.getOwnIdPositions();
+            this.keyScope = template;
+        } else {
+            this.idPositions = template.getIdPositions();
+            this.keyScope = null;
+        }
         this.consumeStartIndex = template.getTupleOffset() + 1;
         this.consumeEndIndex = template.getTupleOffset() + template.getMappers().length;
         this.objectBuilder = objectBuilder;
         if (nullIfEmpty) {
-            int[] idPositions = template.getIdPositions();
+            int[] templateIdPositions = template.getIdPositions();
             int i;
-            for (i = idPositions.length - 1; i >= 0; i--) {
-                if (idPositions[i] >= 0) {
+            for (i = templateIdPositions.length - 1; i >= 0; i--) {
+                if (templateIdPositions[i] >= 0) {
                     break;
                 }
             }
-            this.nullCheckObjectIndex = idPositions[i];
+            this.nullCheckObjectIndex = templateIdPositions[i];
         } else {
             this.nullCheckObjectIndex = -1;
         }
@@ -67,8 +78,8 @@ public class UpdatableSubviewTupleTransformer implements TupleTransformer {
     @Override
     public Object[] transform(Object[] tuple, UpdatableViewMap updatableViewMap) {
         if (nullCheckObjectIndex == -1 || tuple[nullCheckObjectIndex] != null) {
-            Object id = new TupleId(template.getIdPositions(), tuple);
-            UpdatableViewMap.UpdatableViewKey key = new UpdatableViewMap.UpdatableViewKey(template.getViewClass(), id);
+            Object id = new TupleId(idPositions, tuple);
+            UpdatableViewMap.UpdatableViewKey key = new UpdatableViewMap.UpdatableViewKey(template.getViewClass(), id, keyScope);
             Object o = updatableViewMap.get(key);
             if (o != null) {
                 tuple[template.getTupleOffset()] = o;
@@ -17,11 +17,14 @@
 package com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation;
 
 import com.blazebit.persistence.CTEBuilder;
+import com.blazebit.persistence.ConfigurationProperties;
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.parser.expression.Expression;
 import com.blazebit.persistence.parser.expression.ExpressionFactory;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 import com.blazebit.persistence.view.CorrelationProvider;
 import com.blazebit.persistence.view.impl.BatchCorrelationMode;
 import com.blazebit.persistence.view.CorrelationProviderFactory;
@@ -61,6 +64,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
     protected final BatchCorrelationMode expectBatchCorrelationMode;
     protected final int valueIndex;
     protected final int keyIndex;
+    protected final CorrelationStatisticsImpl statistics;
 
     protected String correlationParamName;
     protected String correlationSelectExpression;
@@ -68,13 +72,29 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
     protected CorrelatedSubqueryViewRootJpqlMacro viewRootJpqlMacro;
     protected CorrelatedSubqueryEmbeddingViewJpqlMacro embeddingViewJpqlMacro;
     protected Query query;
+    private int loadedKeys;
+    private int executedQueries;
+    private long loadedRows;
+    private long queryNanos;
 
     public AbstractCorrelatedBatchTupleListTransformer(ExpressionFactory ef, Correlator correlator, ContainerAccumulator<?> containerAccumulator, ManagedViewTypeImplementor<?> viewRootType, ManagedViewTypeImplementor<?> embeddingViewType, Expression correlationResult, CorrelationProviderFactory correlationProviderFactory, String attributePath, String[] fetches, String[] indexFetches,
-                                                       Expression indexExpression, Correlator indexCorrelator, boolean correlatesThis, int viewRootIndex, int embeddingViewIndex, int tupleIndex, int defaultBatchSize, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter, EntityViewConfiguration entityViewConfiguration) {
+                                                       Expression indexExpression, Correlator indexCorrelator, boolean correlatesThis, int viewRootIndex, int embeddingViewIndex, int tupleIndex, int defaultBatchSize, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter, EntityViewConfiguration entityViewConfiguration,
+                                                       CorrelationStatisticsImpl statistics) {
         super(ef, correlator, containerAccumulator, viewRootType, embeddingViewType, correlationResult, correlationProviderFactory, attributePath, fetches, indexFetches, indexExpression, indexCorrelator, viewRootIndex, embeddingViewIndex, tupleIndex, correlationBasisType, correlationBasisEntity, limiter, entityViewConfiguration);
-        this.batchSize = entityViewConfiguration.getBatchSize(attributePath, defaultBatchSize);
+        int batchSize = entityViewConfiguration.getBatchSize(attributePath, -1);
+        BatchCorrelationMode expectBatchCorrelationMode = entityViewConfiguration.getExpectBatchCorrelationValues(attributePath, null);
+        // Explicit configuration for the query always wins over the adaptive decisions
+        if (statistics != null && batchSize == -1) {
+            batchSize = statistics.getBatchSize();
+        }
+        this.batchSize = batchSize == -1 ? defaultBatchSize : batchSize;
+        // The batch mode expectation is only relevant when batching
+        if (statistics != null && expectBatchCorrelationMode == null && this.batchSize > 1) {
+            expectBatchCorrelationMode = statistics.getBatchCorrelationMode();
+        }
         this.correlatesThis = correlatesThis;
-        this.expectBatchCorrelationMode = entityViewConfiguration.getExpectBatchCorrelationValues(attributePath);
+        this.expectBatchCorrelationMode = expectBatchCorrelationMode == null ? BatchCorrelationMode.VALUES : expectBatchCorrelationMode;
+        this.statistics = statistics;
         this.valueIndex = correlator.getElementOffset();
         this.keyIndex = valueIndex + 1;
     }
@@ -125,6 +145,14 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
         }
 
         this.criteriaBuilder = queryBuilder.getCriteriaBuilderFactory().create(queryBuilder.getEntityManager(), Object[].class);
+        // Setting the role requires a mutable query configuration, so only do that when there is a listener to observe it
+        if (this.criteriaBuilder.getService(QueryExecutionListener[].class).length != 0) {
+            this.criteriaBuilder.setProperty(ConfigurationProperties.QUERY_EXECUTION_ROLE, QueryExecutionRole.CORRELATION.name());
+        }
+        // The correlation queries are part of the same logical fetch, so they share the deadline of the main query
+        if (queryBuilder.getDeadline() != null) {
+            this.criteriaBuilder.withDeadline(queryBuilder.getDeadline());
+        }
         if (queryBuilder instanceof CTEBuilder<?>) {
             this.criteriaBuilder.withCtesFrom((CTEBuilder<?>) queryBuilder);
         }
@@ -279,6 +307,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
             }
 
             fillDefaultValues(Collections.singletonMap(null, correlationValues));
+            recordStatistics(BatchCorrelationMode.VALUES);
         }
 
         consumeTupleMacroViewValues(tuples);
@@ -414,6 +443,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
             }
 
             fillDefaultValues(viewRoots);
+            recordStatistics(BatchCorrelationMode.VALUES);
         } else {
             if (batchSize > 1) {
                 // If the expectation was wrong, we have to create a new criteria builder
@@ -464,6 +494,13 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
             }
 
             fillDefaultValues(correlationValues);
+            recordStatistics(correlationMode);
+        }
+    }
+
+    private void recordStatistics(BatchCorrelationMode usedBatchCorrelationMode) {
+        if (statistics != null) {
+            statistics.record(loadedKeys, executedQueries, loadedRows, batchSize, queryNanos, batchSize > 1 ? usedBatchCorrelationMode : null);
         }
     }
 
@@ -488,7 +525,17 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
             }
         }
 
-        populateResult(correlationValues, defaultKey, (List<Object>) query.getResultList());
+        if (statistics == null) {
+            populateResult(correlationValues, defaultKey, (List<Object>) query.getResultList());
+        } else {
+            long start = System.nanoTime();
+            List<Object> resultList = (List<Object>) query.getResultList();
+            queryNanos += System.nanoTime() - start;
+            executedQueries++;
+            loadedRows += resultList.size();
+            loadedKeys += viewRootIds == null ? batchParameters.realSize() : Math.max(batchParameters.realSize(), viewRootIds.realSize());
+            populateResult(correlationValues, defaultKey, resultList);
+        }
 
         batchParameters.reset();
         if (viewRootIds != null) {
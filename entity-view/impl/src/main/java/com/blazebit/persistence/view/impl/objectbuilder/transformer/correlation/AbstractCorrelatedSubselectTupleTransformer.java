@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation;
 
+import com.blazebit.persistence.ConfigurationProperties;
 import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.LimitBuilder;
 import com.blazebit.persistence.ObjectBuilder;
@@ -24,6 +25,8 @@ import com.blazebit.persistence.parser.expression.Expression;
 import com.blazebit.persistence.parser.expression.ExpressionFactory;
 import com.blazebit.persistence.parser.util.JpaMetamodelUtils;
 import com.blazebit.persistence.spi.JpaProvider;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryExecutionRole;
 import com.blazebit.persistence.view.CorrelationProvider;
 import com.blazebit.persistence.view.CorrelationProviderFactory;
 import com.blazebit.persistence.view.impl.CorrelationProviderHelper;
@@ -294,6 +297,10 @@ public class AbstractCorrelatedSubselectTupleTransformer implements TupleTransfo
         }
 
         populateParameters(entityViewConfiguration, criteriaBuilder);
+        // Setting the role requires a mutable query configuration, so only do that when there is a listener to observe it
+        if (criteriaBuilder.getService(QueryExecutionListener[].class).length != 0) {
+            criteriaBuilder.setProperty(ConfigurationProperties.QUERY_EXECUTION_ROLE, QueryExecutionRole.CORRELATION.name());
+        }
         viewJpqlMacro.setViewPath(oldViewPath);
         embeddingViewJpqlMacro.setEmbeddingViewPath(oldEmbeddingViewPath);
 
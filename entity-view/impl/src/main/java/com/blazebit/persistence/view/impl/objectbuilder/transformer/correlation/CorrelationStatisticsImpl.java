@@ -0,0 +1,178 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation;
+
+import com.blazebit.persistence.view.CorrelationStatistics;
+import com.blazebit.persistence.view.impl.BatchCorrelationMode;
+
+import java.util.Locale;
+
+/**
+ * Collects statistics about the executions of a batched correlation and derives the batch size and batch mode for later executions.
+ *
+ * The batch size is chosen as the next power of two of the smoothed number of correlation keys per execution, so that
+ * a typical execution needs a single query while keeping the number of distinct query shapes low.
+ * It is capped so that a single correlation query is not expected to return more than {@link #MAX_EXPECTED_ROWS_PER_QUERY} rows.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public final class CorrelationStatisticsImpl implements CorrelationStatistics {
+
+    static final int MAX_EXPECTED_ROWS_PER_QUERY = 4096;
+    // The weight of a new observation for the exponential moving averages
+    private static final double SMOOTHING_FACTOR = 0.25d;
+
+    private final Class<?> viewRootType;
+    private final String attributePath;
+    private final int maxBatchSize;
+
+    private long executionCount;
+    private long queryCount;
+    private long keyCount;
+    private long rowCount;
+    private long batchSlotCount;
+    private long queryTimeNanos;
+    private double keysPerExecution;
+    private double rowsPerKey;
+    private volatile int batchSize;
+    private volatile BatchCorrelationMode batchCorrelationMode;
+
+    public CorrelationStatisticsImpl(Class<?> viewRootType, String attributePath, int initialBatchSize, int maxBatchSize) {
+        this.viewRootType = viewRootType;
+        this.attributePath = attributePath;
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = Math.max(1, Math.min(initialBatchSize, maxBatchSize));
+    }
+
+    /**
+     * Records the execution of a batched correlation for a result list and recomputes the batching decisions.
+     *
+     * @param keys The number of correlation keys that were loaded
+     * @param queries The number of correlation queries that were executed
+     * @param rows The number of rows returned by the correlation queries
+     * @param usedBatchSize The batch size that was used
+     * @param queryNanos The time spent executing the correlation queries
+     * @param usedBatchCorrelationMode The batch mode that was actually used
+     */
+    public synchronized void record(int keys, int queries, long rows, int usedBatchSize, long queryNanos, BatchCorrelationMode usedBatchCorrelationMode) {
+        if (executionCount == 0) {
+            keysPerExecution = keys;
+        } else {
+            keysPerExecution += (keys - keysPerExecution) * SMOOTHING_FACTOR;
+        }
+        if (keys > 0) {
+            double sampleRowsPerKey = (double) rows / keys;
+            if (keyCount == 0) {
+                rowsPerKey = sampleRowsPerKey;
+            } else {
+                rowsPerKey += (sampleRowsPerKey - rowsPerKey) * SMOOTHING_FACTOR;
+            }
+        }
+        executionCount++;
+        queryCount += queries;
+        keyCount += keys;
+        rowCount += rows;
+        batchSlotCount += (long) queries * usedBatchSize;
+        queryTimeNanos += queryNanos;
+
+        int newBatchSize = nextPowerOfTwo((int) Math.ceil(keysPerExecution));
+        if (rowsPerKey > 1d) {
+            newBatchSize = Math.min(newBatchSize, Integer.highestOneBit(Math.max(1, (int) (MAX_EXPECTED_ROWS_PER_QUERY / rowsPerKey))));
+        }
+        this.batchSize = Math.max(1, Math.min(newBatchSize, maxBatchSize));
+        if (usedBatchCorrelationMode != null) {
+            this.batchCorrelationMode = usedBatchCorrelationMode;
+        }
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        int highestOneBit = Integer.highestOneBit(value);
+        if (highestOneBit == value || highestOneBit == 1 << 30) {
+            return highestOneBit;
+        }
+        return highestOneBit << 1;
+    }
+
+    public BatchCorrelationMode getBatchCorrelationMode() {
+        return batchCorrelationMode;
+    }
+
+    @Override
+    public Class<?> getViewRootType() {
+        return viewRootType;
+    }
+
+    @Override
+    public String getAttributePath() {
+        return attributePath;
+    }
+
+    @Override
+    public synchronized long getExecutionCount() {
+        return executionCount;
+    }
+
+    @Override
+    public synchronized long getQueryCount() {
+        return queryCount;
+    }
+
+    @Override
+    public synchronized double getRowsPerParent() {
+        return keyCount == 0 ? 0d : (double) rowCount / keyCount;
+    }
+
+    @Override
+    public synchronized double getBatchHitRatio() {
+        return batchSlotCount == 0 ? 0d : (double) keyCount / batchSlotCount;
+    }
+
+    @Override
+    public synchronized long getAverageQueryTimeNanos() {
+        return queryCount == 0 ? 0L : queryTimeNanos / queryCount;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public String getBatchMode() {
+        BatchCorrelationMode mode = batchCorrelationMode;
+        return mode == null ? null : mode.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CorrelationStatistics{" +
+                "viewRootType=" + viewRootType.getName() +
+                ", attributePath='" + attributePath + '\'' +
+                ", executionCount=" + executionCount +
+                ", queryCount=" + queryCount +
+                ", rowsPerParent=" + getRowsPerParent() +
+                ", batchHitRatio=" + getBatchHitRatio() +
+                ", averageQueryTimeNanos=" + getAverageQueryTimeNanos() +
+                ", batchSize=" + batchSize +
+                ", batchMode=" + getBatchMode() +
+                '}';
+    }
+}
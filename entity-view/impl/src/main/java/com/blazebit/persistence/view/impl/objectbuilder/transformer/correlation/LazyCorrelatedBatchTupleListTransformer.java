@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation;
+
+import com.blazebit.persistence.view.impl.objectbuilder.TupleReuse;
+import com.blazebit.persistence.view.impl.objectbuilder.transformer.TupleListTransformer;
+import com.blazebit.persistence.view.impl.proxy.LazyAttributeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Defers the batch correlation of an attribute with the LAZY fetch strategy until the attribute is first accessed.
+ * The correlation basis of every tuple is retained, so that the first access loads the attribute for all views of the result.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class LazyCorrelatedBatchTupleListTransformer extends TupleListTransformer {
+
+    private final AbstractCorrelatedBatchTupleListTransformer delegate;
+
+    public LazyCorrelatedBatchTupleListTransformer(int startIndex, AbstractCorrelatedBatchTupleListTransformer delegate) {
+        super(startIndex);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public int getConsumableIndex() {
+        return delegate.getConsumableIndex();
+    }
+
+    @Override
+    public List<Object[]> transform(List<Object[]> tuples) {
+        int viewRootIndex = delegate.viewRootIndex;
+        int embeddingViewIndex = delegate.embeddingViewIndex;
+        int totalSize = tuples.size();
+        List<Object[]> correlationTuples = new ArrayList<>(totalSize);
+        LazyBatch batch = new LazyBatch(delegate, correlationTuples);
+        for (int i = 0; i < totalSize; i++) {
+            Object[] tuple = tuples.get(i);
+            // Only retain the parts of the tuple that are needed for the correlation
+            Object[] correlationTuple = new Object[tuple.length];
+            correlationTuple[startIndex] = tuple[startIndex];
+            correlationTuple[viewRootIndex] = tuple[viewRootIndex];
+            correlationTuple[embeddingViewIndex] = tuple[embeddingViewIndex];
+            correlationTuples.add(correlationTuple);
+
+            tuple[startIndex] = new LazyAttributeValue(batch, correlationTuple, startIndex);
+            if (viewRootIndex > startIndex) {
+                tuple[viewRootIndex] = TupleReuse.CONSUMED;
+            }
+            if (embeddingViewIndex > startIndex) {
+                tuple[embeddingViewIndex] = TupleReuse.CONSUMED;
+            }
+        }
+        return tuples;
+    }
+
+    /**
+     * The lazy attribute values of one result that are loaded together.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    private static final class LazyBatch implements LazyAttributeValue.Loader {
+
+        private AbstractCorrelatedBatchTupleListTransformer delegate;
+        private List<Object[]> correlationTuples;
+
+        public LazyBatch(AbstractCorrelatedBatchTupleListTransformer delegate, List<Object[]> correlationTuples) {
+            this.delegate = delegate;
+            this.correlationTuples = correlationTuples;
+        }
+
+        @Override
+        public synchronized void load() {
+            if (delegate != null) {
+                delegate.transform(correlationTuples);
+                // Release the transformer and the query state, the values are now held by the correlation tuples
+                delegate = null;
+                correlationTuples = null;
+            }
+        }
+    }
+}
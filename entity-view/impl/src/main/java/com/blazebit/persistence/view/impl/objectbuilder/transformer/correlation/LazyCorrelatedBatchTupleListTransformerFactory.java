@@ -0,0 +1,52 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation;
+
+import com.blazebit.persistence.ParameterHolder;
+import com.blazebit.persistence.view.impl.EntityViewConfiguration;
+import com.blazebit.persistence.view.impl.objectbuilder.transformer.TupleListTransformer;
+import com.blazebit.persistence.view.impl.objectbuilder.transformer.TupleListTransformerFactory;
+
+import java.util.Map;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class LazyCorrelatedBatchTupleListTransformerFactory implements TupleListTransformerFactory {
+
+    private final AbstractCorrelatedBatchTupleListTransformerFactory delegate;
+
+    public LazyCorrelatedBatchTupleListTransformerFactory(AbstractCorrelatedBatchTupleListTransformerFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public int getConsumableIndex() {
+        return delegate.getConsumableIndex();
+    }
+
+    @Override
+    public TupleListTransformer create(ParameterHolder<?> parameterHolder, Map<String, Object> optionalParameters, EntityViewConfiguration entityViewConfiguration) {
+        TupleListTransformer tupleListTransformer = delegate.create(parameterHolder, optionalParameters, entityViewConfiguration);
+        if (tupleListTransformer instanceof AbstractCorrelatedBatchTupleListTransformer) {
+            return new LazyCorrelatedBatchTupleListTransformer(delegate.tupleIndex, (AbstractCorrelatedBatchTupleListTransformer) tupleListTransformer);
+        }
+        return tupleListTransformer;
+    }
+}
@@ -32,6 +32,7 @@ import java.util.Arrays;
 public class AssignmentConstructorReflectionInstantiator<T> extends AbstractReflectionInstantiator<T> {
 
     private final Constructor<T> constructor;
+    private final ObjectInstantiator<T> constructorInvoker;
     private final Object[] defaultObject;
 
     public AssignmentConstructorReflectionInstantiator(MappingConstructorImpl<T> mappingConstructor, ProxyFactory proxyFactory, ManagedViewTypeImplementor<T> viewType, Class<?>[] parameterTypes,
@@ -80,6 +81,7 @@ public class AssignmentConstructorReflectionInstantiator<T> extends AbstractRefl
         }
 
         this.constructor = javaConstructor;
+        this.constructorInvoker = proxyFactory.getConstructorInvoker(javaConstructor);
         this.defaultObject = defaultObject;
     }
 
@@ -89,7 +91,7 @@ public class AssignmentConstructorReflectionInstantiator<T> extends AbstractRefl
             prepareTuple(tuple);
             Object[] array = Arrays.copyOf(defaultObject, defaultObject.length);
             array[3] = tuple;
-            T instance = constructor.newInstance(array);
+            T instance = constructorInvoker.newInstance(array);
             finalizeInstance(instance);
             return instance;
         } catch (Exception ex) {
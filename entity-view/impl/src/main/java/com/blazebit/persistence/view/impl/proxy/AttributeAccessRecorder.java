@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.proxy;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the attributes of entity view objects that are accessed through their getters.
+ * A recorder is shared by all objects of a query result that are reachable through the same attribute path.
+ * Subview objects returned by a getter are assigned a recorder for the sub path on the first access of the getter.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public final class AttributeAccessRecorder {
+
+    private final Listener listener;
+    private final String pathPrefix;
+    private final ConcurrentMap<String, AttributeAccessRecorder> subRecorders = new ConcurrentHashMap<>();
+
+    public AttributeAccessRecorder(Listener listener, String pathPrefix) {
+        this.listener = listener;
+        this.pathPrefix = pathPrefix;
+    }
+
+    public void record(String attributeName) {
+        getSubRecorder(attributeName);
+    }
+
+    public void record(String attributeName, Object value) {
+        if (value == null) {
+            getSubRecorder(attributeName);
+            return;
+        }
+        AttributeAccessRecorder subRecorder = getSubRecorder(attributeName);
+        if (value instanceof Recordable) {
+            subRecorder.attach(value);
+        } else if (value instanceof Map<?, ?>) {
+            for (Object element : ((Map<?, ?>) value).values()) {
+                subRecorder.attach(element);
+            }
+        } else if (value instanceof Collection<?>) {
+            for (Object element : (Collection<?>) value) {
+                subRecorder.attach(element);
+            }
+        }
+    }
+
+    public void attach(Object object) {
+        if (object instanceof Recordable) {
+            Recordable recordable = (Recordable) object;
+            if (recordable.$$_getAccessRecorder() == null) {
+                recordable.$$_setAccessRecorder(this);
+            }
+        }
+    }
+
+    private AttributeAccessRecorder getSubRecorder(String attributeName) {
+        AttributeAccessRecorder subRecorder = subRecorders.get(attributeName);
+        if (subRecorder == null) {
+            String path = pathPrefix + attributeName;
+            subRecorder = new AttributeAccessRecorder(listener, path + ".");
+            AttributeAccessRecorder existing = subRecorders.putIfAbsent(attributeName, subRecorder);
+            if (existing != null) {
+                return existing;
+            }
+            listener.onAccess(path);
+        }
+        return subRecorder;
+    }
+
+    /**
+     * An entity view object which reports attribute accesses to an {@link AttributeAccessRecorder} if one is assigned.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    @SuppressWarnings("checkstyle:methodname")
+    public interface Recordable {
+
+        public AttributeAccessRecorder $$_getAccessRecorder();
+
+        public void $$_setAccessRecorder(AttributeAccessRecorder accessRecorder);
+    }
+
+    /**
+     * Receives the attribute paths that are accessed for the first time by the objects of a query result.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    public interface Listener {
+
+        public void onAccess(String attributePath);
+    }
+}
@@ -33,6 +33,7 @@ public class ConvertReflectionInstantiator<T> implements ObjectInstantiator<T> {
 
     private static final boolean TUPLE_STYLE = true;
     private final Constructor<T> constructor;
+    private final ObjectInstantiator<T> constructorInvoker;
     private final Object[] defaultObject;
     private final AbstractReflectionInstantiator.TypeConverterEntry[] typeConverterEntries;
 
@@ -61,6 +62,7 @@ public class ConvertReflectionInstantiator<T> implements ObjectInstantiator<T> {
         }
 
         this.constructor = javaConstructor;
+        this.constructorInvoker = proxyFactory.getConstructorInvoker(javaConstructor);
         this.defaultObject = defaultObject;
         this.typeConverterEntries = AbstractReflectionInstantiator.withPrimitiveConverters(Collections.<AbstractReflectionInstantiator.TypeConverterEntry>emptyList(), parameterTypes);
     }
@@ -78,9 +80,9 @@ public class ConvertReflectionInstantiator<T> implements ObjectInstantiator<T> {
             if (TUPLE_STYLE) {
                 Object[] array = Arrays.copyOf(defaultObject, defaultObject.length);
                 array[2] = tuple;
-                t = constructor.newInstance(array);
+                t = constructorInvoker.newInstance(array);
             } else {
-                t = constructor.newInstance(tuple);
+                t = constructorInvoker.newInstance(tuple);
             }
             return t;
         } catch (Exception ex) {
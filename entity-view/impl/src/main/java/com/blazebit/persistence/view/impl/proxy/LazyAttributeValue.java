@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.proxy;
+
+/**
+ * A placeholder for the value of a lazy attribute that is passed to the tuple constructor of a proxy
+ * and resolved on first access of the attribute.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public final class LazyAttributeValue {
+
+    private final Loader loader;
+    private final Object[] tuple;
+    private final int index;
+
+    public LazyAttributeValue(Loader loader, Object[] tuple, int index) {
+        this.loader = loader;
+        this.tuple = tuple;
+        this.index = index;
+    }
+
+    public Object getValue() {
+        loader.load();
+        return tuple[index];
+    }
+
+    /**
+     * Loads the values of all lazy attribute values that share the loader.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    public interface Loader {
+
+        public void load();
+    }
+}
@@ -23,6 +23,7 @@ import com.blazebit.persistence.view.EntityViewManager;
 import com.blazebit.persistence.view.FlushMode;
 import com.blazebit.persistence.view.SerializableEntityViewManager;
 import com.blazebit.persistence.view.StaticImplementation;
+import com.blazebit.persistence.view.impl.accessor.AttributeAccessor;
 import com.blazebit.persistence.view.impl.collection.RecordingCollection;
 import com.blazebit.persistence.view.impl.collection.RecordingList;
 import com.blazebit.persistence.view.impl.collection.RecordingMap;
@@ -62,6 +63,7 @@ import javassist.CtClass;
 import javassist.CtConstructor;
 import javassist.CtField;
 import javassist.CtMethod;
+import javassist.CtNewConstructor;
 import javassist.CtPrimitiveType;
 import javassist.Modifier;
 import javassist.NotFoundException;
@@ -98,6 +100,7 @@ import java.io.ObjectStreamField;
 import java.io.PrintWriter;
 import java.io.Serializable;
 import java.io.StringWriter;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -116,6 +119,7 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 /**
@@ -126,18 +130,24 @@ import java.util.logging.Logger;
 public class ProxyFactory {
 
     private static final String IMPL_CLASS_NAME_SUFFIX = "Impl";
+    private static final String ACCESS_RECORDER_FIELD_NAME = "$$_accessRecorder";
     private static final char[] HEX_ARRAY = "0123456789ABCDEF".toCharArray();
     private static final Logger LOG = Logger.getLogger(ProxyFactory.class.getName());
+    // JVM wide because an invoker class of another proxy factory with the same name would be reused by defineOrGetClass
+    private static final AtomicInteger INVOKER_COUNTER = new AtomicInteger();
     private static final Path DEBUG_DUMP_DIRECTORY;
     private static final boolean NEEDS_READS_INJECTOR;
     private final ConcurrentMap<Class<?>, Class<?>> baseClasses = new ConcurrentHashMap<>();
     private final ConcurrentMap<Class<?>, Class<?>> proxyClasses = new ConcurrentHashMap<>();
     private final ConcurrentMap<Class<?>, Class<?>> unsafeProxyClasses = new ConcurrentHashMap<>();
     private final ConcurrentMap<Class<?>, Class<?>> proxyClassesToViewClasses = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> generatedInvokers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Constructor<?>, ObjectInstantiator<?>> constructorInvokers = new ConcurrentHashMap<>();
     private final Object proxyLock = new Object();
     private final ClassPool pool;
     private final boolean unsafeDisabled;
     private final boolean strictCascadingCheck;
+    private final boolean accessRecordingEnabled;
     private final PackageOpener packageOpener;
 
     static {
@@ -167,11 +177,16 @@ public class ProxyFactory {
     }
 
     public ProxyFactory(boolean unsafeDisabled, boolean strictCascadingCheck, PackageOpener packageOpener) {
+        this(unsafeDisabled, strictCascadingCheck, false, packageOpener);
+    }
+
+    public ProxyFactory(boolean unsafeDisabled, boolean strictCascadingCheck, boolean accessRecordingEnabled, PackageOpener packageOpener) {
         ClassPool pool = new ClassPool((ClassPool) null);
         pool.appendSystemPath();
         this.pool = pool;
         this.unsafeDisabled = unsafeDisabled;
         this.strictCascadingCheck = strictCascadingCheck;
+        this.accessRecordingEnabled = accessRecordingEnabled;
         this.packageOpener = packageOpener;
     }
 
@@ -213,6 +228,13 @@ public class ProxyFactory {
 
     public void loadImplementation(Set<String> errors, ManagedViewType<?> managedView, EntityViewManager entityViewManager) {
         Class<?> javaType = managedView.getJavaType();
+        for (MethodAttribute<?, ?> attribute : managedView.getAttributes()) {
+            if (((AbstractMethodAttribute<?, ?>) attribute).isLazy()) {
+                // Lazy attributes are only supported by the runtime generated proxy
+                LOG.fine("Skipping static implementation for entity view type '" + javaType.getName() + "' because it contains lazy attributes");
+                return;
+            }
+        }
         Class<?> entityViewImplementationClass;
         String implementationClassName = getImplementationClassName(javaType, managedView.getJavaType());
         try {
@@ -249,6 +271,184 @@ public class ProxyFactory {
         proxyClassesToViewClasses.put(entityViewImplementationClass, entityViewImplementationClass);
     }
 
+    /**
+     * Returns an instantiator that invokes the given constructor through generated bytecode with the arguments passed to {@link ObjectInstantiator#newInstance(Object[])}.
+     * Falls back to reflection if no class can be generated for the constructor, e.g. because it is private.
+     *
+     * @param constructor The constructor to invoke
+     * @param <T> The type of the constructed object
+     * @return The constructor invoker
+     * @since 1.6.9
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ObjectInstantiator<T> getConstructorInvoker(Constructor<T> constructor) {
+        ObjectInstantiator<T> invoker = (ObjectInstantiator<T>) constructorInvokers.get(constructor);
+        if (invoker == null) {
+            synchronized (proxyLock) {
+                invoker = (ObjectInstantiator<T>) constructorInvokers.get(constructor);
+                if (invoker == null) {
+                    invoker = createConstructorInvoker(constructor);
+                    constructorInvokers.put(constructor, invoker);
+                }
+            }
+        }
+        return invoker;
+    }
+
+    private <T> ObjectInstantiator<T> createConstructorInvoker(Constructor<T> constructor) {
+        Class<T> clazz = constructor.getDeclaringClass();
+        if (java.lang.reflect.Modifier.isPrivate(constructor.getModifiers())) {
+            return new ReflectionConstructorInvoker<>(constructor);
+        }
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        ClassPath classPath = new ClassClassPath(clazz);
+        pool.insertClassPath(classPath);
+
+        try {
+            CtClass cc = pool.makeClass(clazz.getName() + "_$$_javassist_invoker_" + INVOKER_COUNTER.incrementAndGet());
+            cc.setModifiers(Modifier.PUBLIC | Modifier.FINAL);
+            cc.addInterface(pool.get(ObjectInstantiator.class.getName()));
+            cc.addConstructor(CtNewConstructor.defaultConstructor(cc));
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("public Object newInstance(Object[] args) {\n");
+            sb.append("\treturn new ").append(clazz.getName()).append('(');
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (i != 0) {
+                    sb.append(", ");
+                }
+                appendCast(sb, parameterTypes[i], "$1[" + i + "]");
+            }
+            sb.append(");\n");
+            sb.append("}");
+            cc.addMethod(CtMethod.make(sb.toString(), cc));
+
+            Class<? extends ObjectInstantiator<T>> invokerClass = defineOrGetClass(clazz, clazz, cc);
+            return invokerClass.getDeclaredConstructor().newInstance();
+        } catch (Exception | LinkageError ex) {
+            LOG.fine("Falling back to reflection for invoking the constructor '" + constructor + "' because no invoker could be generated: " + ex.getMessage());
+            return new ReflectionConstructorInvoker<>(constructor);
+        } finally {
+            pool.removeClassPath(classPath);
+        }
+    }
+
+    /**
+     * Returns an accessor that invokes the given entity getter and setter through generated bytecode.
+     * Returns <code>null</code> if the methods can't be invoked from generated code, in which case reflection should be used.
+     *
+     * @param entityClass The entity class
+     * @param getter The getter of the entity attribute
+     * @param setter The setter of the entity attribute
+     * @param targetType The type to instantiate in {@link AttributeAccessor#getOrCreateValue(Object)} if the value is <code>null</code> or <code>null</code>
+     * @return The accessor or <code>null</code>
+     * @since 1.6.9
+     */
+    public AttributeAccessor getEntityMethodAccessor(Class<?> entityClass, Method getter, Method setter, Class<?> targetType) {
+        if (getter == null || setter == null || !java.lang.reflect.Modifier.isPublic(getter.getModifiers()) || !java.lang.reflect.Modifier.isPublic(setter.getModifiers())) {
+            return null;
+        }
+        if (targetType != null) {
+            try {
+                if (!java.lang.reflect.Modifier.isPublic(targetType.getModifiers()) || !java.lang.reflect.Modifier.isPublic(targetType.getConstructor().getModifiers())) {
+                    return null;
+                }
+            } catch (NoSuchMethodException ex) {
+                return null;
+            }
+        }
+        String accessorClassName = entityClass.getName() + "_$$_javassist_accessor_" + getter.getName() + (targetType == null ? "" : "_" + targetType.getName().replace('.', '_'));
+        Object accessor = generatedInvokers.get(accessorClassName);
+        if (accessor == null) {
+            synchronized (proxyLock) {
+                accessor = generatedInvokers.get(accessorClassName);
+                if (accessor == null) {
+                    accessor = createEntityMethodAccessor(accessorClassName, entityClass, getter, setter, targetType);
+                    if (accessor == null) {
+                        accessor = Boolean.FALSE;
+                    }
+                    generatedInvokers.put(accessorClassName, accessor);
+                }
+            }
+        }
+        return accessor instanceof AttributeAccessor ? (AttributeAccessor) accessor : null;
+    }
+
+    private AttributeAccessor createEntityMethodAccessor(String accessorClassName, Class<?> entityClass, Method getter, Method setter, Class<?> targetType) {
+        ClassPath classPath = new ClassClassPath(entityClass);
+        pool.insertClassPath(classPath);
+
+        try {
+            CtClass cc = pool.makeClass(accessorClassName);
+            cc.setModifiers(Modifier.PUBLIC | Modifier.FINAL);
+            cc.addInterface(pool.get(AttributeAccessor.class.getName()));
+            cc.addConstructor(CtNewConstructor.defaultConstructor(cc));
+            String entity = "((" + entityClass.getName() + ") $1)";
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("public Object getValue(Object entity) {\n");
+            sb.append("\tif ($1 == null) {\n");
+            sb.append("\t\treturn null;\n");
+            sb.append("\t}\n");
+            sb.append("\treturn ($w) ").append(entity).append('.').append(getter.getName()).append("();\n");
+            sb.append("}");
+            cc.addMethod(CtMethod.make(sb.toString(), cc));
+
+            sb.setLength(0);
+            sb.append("public Object getOrCreateValue(Object entity) {\n");
+            sb.append("\tif ($1 == null) {\n");
+            sb.append("\t\treturn null;\n");
+            sb.append("\t}\n");
+            sb.append("\tObject result = ($w) ").append(entity).append('.').append(getter.getName()).append("();\n");
+            if (targetType != null) {
+                sb.append("\tif (result == null) {\n");
+                sb.append("\t\tresult = new ").append(targetType.getName()).append("();\n");
+                sb.append("\t\tsetValue($1, result);\n");
+                sb.append("\t}\n");
+            }
+            sb.append("\treturn result;\n");
+            sb.append("}");
+            cc.addMethod(CtMethod.make(sb.toString(), cc));
+
+            sb.setLength(0);
+            sb.append("public void setValue(Object entity, Object value) {\n");
+            sb.append("\t").append(entity).append('.').append(setter.getName()).append('(');
+            appendCast(sb, setter.getParameterTypes()[0], "$2");
+            sb.append(");\n");
+            sb.append("}");
+            cc.addMethod(CtMethod.make(sb.toString(), cc));
+
+            Class<? extends AttributeAccessor> accessorClass = defineOrGetClass(entityClass, entityClass, cc);
+            return accessorClass.getDeclaredConstructor().newInstance();
+        } catch (Exception | LinkageError ex) {
+            LOG.fine("Falling back to reflection for accessing the entity attribute '" + getter + "' because no accessor could be generated: " + ex.getMessage());
+            return null;
+        } finally {
+            pool.removeClassPath(classPath);
+        }
+    }
+
+    private void appendCast(StringBuilder sb, Class<?> type, String input) {
+        if (type.isPrimitive()) {
+            appendUnwrap(sb, type, input);
+        } else if (type == Object.class) {
+            sb.append(input);
+        } else {
+            sb.append("((");
+            int dimensions = 0;
+            Class<?> componentType = type;
+            while (componentType.isArray()) {
+                componentType = componentType.getComponentType();
+                dimensions++;
+            }
+            sb.append(componentType.getName());
+            for (int i = 0; i < dimensions; i++) {
+                sb.append("[]");
+            }
+            sb.append(") ").append(input).append(')');
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private <T> Class<? extends T> getProxy(EntityViewManager entityViewManager, ManagedViewTypeImplementor<T> viewType, boolean unsafe) {
         Class<T> clazz = viewType.getJavaType();
@@ -378,6 +578,10 @@ public class ProxyFactory {
         ViewType<T> viewType = managedViewType instanceof ViewType<?> ? (ViewType<T>) managedViewType : null;
         Class<?> clazz = managedViewType.getJavaType();
         String suffix = unsafe ? "unsafe_" : "";
+        // Proxy classes are shared between entity view managers of a class loader, so the instrumented variant needs a separate name
+        if (accessRecordingEnabled) {
+            suffix += "recording_";
+        }
         String baseName = clazz.getName();
         String proxyClassName = baseName + "_$$_javassist_entityview_" + suffix;
         CtClass cc = pool.makeClass(proxyClassName);
@@ -410,6 +614,9 @@ public class ProxyFactory {
             addGetJpaManagedBaseClass(cc, getJpaManagedBaseClass(managedViewType));
             addGetEntityViewClass(cc, clazz);
             addIsNewAndReferenceMembers(managedViewType, cc, clazz);
+            if (accessRecordingEnabled) {
+                addAccessRecorderMembers(cc);
+            }
 
             CtField evmField = new CtField(pool.get(EntityViewManager.class.getName()), SerializableEntityViewManager.EVM_FIELD_NAME, cc);
             evmField.setModifiers(Modifier.PUBLIC | Modifier.STATIC | Modifier.VOLATILE);
@@ -579,6 +786,9 @@ public class ProxyFactory {
             cc.addMethod(createToString(managedViewType, cc, viewType != null, attributeFields));
             createSpecialMethods(managedViewType, cc, cc);
             createSerializationSubclass(managedViewType, cc);
+            if (Serializable.class.isAssignableFrom(clazz)) {
+                addLazyAttributeResolvingWriteObject(cc, methodAttributes, attributeFields);
+            }
 
             Set<MappingConstructorImpl<T>> constructors = (Set<MappingConstructorImpl<T>>) (Set<?>) managedViewType.getConstructors();
             boolean hasEmptyConstructor = managedViewType.hasEmptyConstructor();
@@ -1174,6 +1384,29 @@ public class ProxyFactory {
         }
     }
     
+    private void addAccessRecorderMembers(CtClass cc) throws CannotCompileException, NotFoundException {
+        cc.addInterface(pool.get(AttributeAccessRecorder.Recordable.class.getName()));
+        CtField accessRecorderField = new CtField(pool.get(AttributeAccessRecorder.class.getName()), ACCESS_RECORDER_FIELD_NAME, cc);
+        accessRecorderField.setModifiers(Modifier.PRIVATE | Modifier.TRANSIENT);
+        cc.addField(accessRecorderField);
+        addGetter(cc, accessRecorderField, "$$_getAccessRecorder");
+        cc.addMethod(CtMethod.make("public void $$_setAccessRecorder(" + AttributeAccessRecorder.class.getName() + " accessRecorder) { $0." + ACCESS_RECORDER_FIELD_NAME + " = accessRecorder; }", cc));
+    }
+
+    private void addAccessRecording(CtClass cc, AbstractMethodAttribute<?, ?> attribute, CtMethod attributeGetter) throws CannotCompileException {
+        // Subview objects returned by the getter are passed along so that the recorder can be propagated to them
+        // This only has to happen on the first access, so we remember that in a flag to avoid iterating collections on every access
+        if (attribute.isSubview()) {
+            String recordedFieldName = "$$_" + attribute.getName() + "_accessRecorded";
+            CtField recordedField = new CtField(CtClass.booleanType, recordedFieldName, cc);
+            recordedField.setModifiers(Modifier.PRIVATE | Modifier.TRANSIENT);
+            cc.addField(recordedField);
+            attributeGetter.insertAfter("if ($0." + ACCESS_RECORDER_FIELD_NAME + " != null && !$0." + recordedFieldName + ") { $0." + recordedFieldName + " = true; $0." + ACCESS_RECORDER_FIELD_NAME + ".record(\"" + attribute.getName() + "\", $_); }");
+        } else {
+            attributeGetter.insertBefore("if ($0." + ACCESS_RECORDER_FIELD_NAME + " != null) { $0." + ACCESS_RECORDER_FIELD_NAME + ".record(\"" + attribute.getName() + "\"); }");
+        }
+    }
+
     private CtMethod addGetter(CtClass cc, CtField field, String methodName) throws CannotCompileException {
         return addGetter(cc, field, methodName, field.getFieldInfo().getDescriptor(), false);
     }
@@ -1227,35 +1460,98 @@ public class ProxyFactory {
         return method;
     }
 
+    private CtMethod addLazyGetter(CtClass cc, CtField field, CtField lazyValueField, String methodName) throws CannotCompileException, NotFoundException {
+        String fieldType = field.getType().getName();
+        StringBuilder sb = new StringBuilder();
+        sb.append("public ").append(fieldType).append(' ').append(methodName).append("() {\n");
+        // The lazy value field is read only once, because it could be reset concurrently
+        sb.append("\t").append(LazyAttributeValue.class.getName()).append(" lazyValue = $0.").append(lazyValueField.getName()).append(";\n");
+        sb.append("\tif (lazyValue != null) {\n");
+        sb.append("\t\t").append(fieldType).append(" value = (").append(fieldType).append(") lazyValue.getValue();\n");
+        // Resetting the volatile lazy value field after assigning the value publishes the value to readers that see the reset
+        sb.append("\t\t$0.").append(field.getName()).append(" = value;\n");
+        sb.append("\t\t$0.").append(lazyValueField.getName()).append(" = null;\n");
+        sb.append("\t\treturn value;\n");
+        sb.append("\t}\n");
+        sb.append("\treturn $0.").append(field.getName()).append(";\n");
+        sb.append("}");
+        CtMethod method = CtMethod.make(sb.toString(), cc);
+        cc.addMethod(method);
+        return method;
+    }
+
+    private void addLazyAttributeResolvingWriteObject(CtClass cc, AbstractMethodAttribute<?, ?>[] methodAttributes, CtField[] attributeFields) throws CannotCompileException, NotFoundException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {\n");
+        boolean hasLazyAttributes = false;
+        for (int i = 0; i < methodAttributes.length; i++) {
+            if (methodAttributes[i] != null && methodAttributes[i].isLazy()) {
+                String lazyValueFieldName = getLazyValueFieldName(methodAttributes[i]);
+                sb.append("\tif ($0.").append(lazyValueFieldName).append(" != null) {\n");
+                sb.append("\t\t$0.").append(attributeFields[i].getName()).append(" = (").append(attributeFields[i].getType().getName()).append(") $0.").append(lazyValueFieldName).append(".getValue();\n");
+                sb.append("\t\t$0.").append(lazyValueFieldName).append(" = null;\n");
+                sb.append("\t}\n");
+                hasLazyAttributes = true;
+            }
+        }
+        if (!hasLazyAttributes) {
+            return;
+        }
+        sb.append("\tout.defaultWriteObject();\n");
+        sb.append("}");
+        cc.addMethod(CtMethod.make(sb.toString(), cc));
+    }
+
+    private static String getLazyValueFieldName(AbstractMethodAttribute<?, ?> attribute) {
+        return "$$_lazy_" + attribute.getName();
+    }
+
     private CtField addMembersForAttribute(AbstractMethodAttribute<?, ?> attribute, Class<?> clazz, CtClass cc, CtField mutableStateField, boolean dirtyChecking, boolean isId, boolean forceMutable) throws CannotCompileException, NotFoundException {
         Method getter = attribute.getJavaMethod();
         Method setter = ReflectionUtils.getSetter(clazz, attribute.getName());
         
         // Create the field from the attribute
         CtField attributeField = new CtField(getType(attribute), attribute.getName(), cc);
-        attributeField.setModifiers(getModifiers(forceMutable || setter != null));
+        // The field of a lazy attribute is assigned on first access
+        attributeField.setModifiers(getModifiers(forceMutable || setter != null || attribute.isLazy()));
         String genericSignature = getGenericSignature(attribute, attributeField);
         if (genericSignature != null) {
             setGenericSignature(attributeField, genericSignature);
         }
         cc.addField(attributeField);
+
+        CtField lazyValueField = null;
+        if (attribute.isLazy()) {
+            lazyValueField = new CtField(pool.get(LazyAttributeValue.class.getName()), getLazyValueFieldName(attribute), cc);
+            // The lazy value refers to the loading context, so it is resolved before serialization instead of being serialized
+            lazyValueField.setModifiers(getModifiers(true) | Modifier.TRANSIENT | Modifier.VOLATILE);
+            cc.addField(lazyValueField);
+        }
         
-        createGettersAndSetters(attribute, clazz, cc, getter, setter, mutableStateField, attributeField, dirtyChecking, isId);
+        createGettersAndSetters(attribute, clazz, cc, getter, setter, mutableStateField, attributeField, lazyValueField, dirtyChecking, isId);
         
         return attributeField;
     }
 
-    private void createGettersAndSetters(AbstractMethodAttribute<?, ?> attribute, Class<?> clazz, CtClass cc, Method getter, Method setter, CtField mutableStateField, CtField attributeField, boolean dirtyChecking, boolean isId) throws CannotCompileException, NotFoundException {
+    private void createGettersAndSetters(AbstractMethodAttribute<?, ?> attribute, Class<?> clazz, CtClass cc, Method getter, Method setter, CtField mutableStateField, CtField attributeField, CtField lazyValueField, boolean dirtyChecking, boolean isId) throws CannotCompileException, NotFoundException {
         SignatureAttribute sa = (SignatureAttribute)attributeField.getFieldInfo2().getAttribute(SignatureAttribute.tag);
         String genericSignature = sa == null ? null : sa.getSignature();
         List<Method> bridgeGetters = getBridgeGetters(clazz, attribute, getter);
         
-        CtMethod attributeGetter = addGetter(cc, attributeField, getter.getName());
+        CtMethod attributeGetter;
+        if (lazyValueField == null) {
+            attributeGetter = addGetter(cc, attributeField, getter.getName());
+        } else {
+            attributeGetter = addLazyGetter(cc, attributeField, lazyValueField, getter.getName());
+        }
         
         if (genericSignature != null) {
             String getterGenericSignature = "()" + genericSignature;
             setGenericSignature(attributeGetter, getterGenericSignature);
         }
+        if (cc.subtypeOf(pool.get(AttributeAccessRecorder.Recordable.class.getName()))) {
+            addAccessRecording(cc, attribute, attributeGetter);
+        }
         
         for (Method m : bridgeGetters) {
             CtMethod getterBridge = createGetterBridge(cc, m, attributeGetter);
@@ -2910,7 +3206,22 @@ public class ProxyFactory {
                 if (possiblyInitialized) {
                     sb.append('\t');
                 }
-                if (methodAttribute.getConvertedJavaType().isPrimitive()) {
+                if (methodAttribute.isLazy()) {
+                    // The tuple contains a placeholder for the lazy attribute value unless the attribute was excluded from lazy fetching
+                    String lazyValueVariable = "lazyValue" + i;
+                    sb.append("\tObject ").append(lazyValueVariable).append(" = ");
+                    if (assignment) {
+                        sb.append("$4[$2 + $3[").append(methodAttribute.getAttributeIndex()).append("]");
+                    } else {
+                        sb.append("$3[$2 + ").append(methodAttribute.getAttributeIndex());
+                    }
+                    sb.append("];\n");
+                    sb.append("\tif (").append(lazyValueVariable).append(" instanceof ").append(LazyAttributeValue.class.getName()).append(") {\n");
+                    sb.append("\t\t$0.").append(getLazyValueFieldName(methodAttribute)).append(" = (").append(LazyAttributeValue.class.getName()).append(") ").append(lazyValueVariable).append(";\n");
+                    sb.append("\t} else {\n");
+                    sb.append("\t\t$0.").append(attributeFields[i].getName()).append(" = (").append(attributeFields[i].getType().getName()).append(") ").append(lazyValueVariable).append(";\n");
+                    sb.append("\t}\n");
+                } else if (methodAttribute.getConvertedJavaType().isPrimitive()) {
                     sb.append("\t$0.").append(attributeFields[i].getName()).append(" = ");
                     if (assignment) {
                         appendUnwrap(sb, methodAttribute.getConvertedJavaType(),"$4[$2 + $3[" + methodAttribute.getAttributeIndex() + "]]");
@@ -33,22 +33,33 @@ import java.util.concurrent.ConcurrentMap;
  */
 public class SynchronizationRegistry implements Synchronization, TransactionAccess {
 
-    // We don't use a thread local because a TX could be rolled back from a different thread
-    private static final ConcurrentMap<Thread, SynchronizationRegistry> REGISTRY = new ConcurrentHashMap<>();
+    // We don't key by thread because a TX could be rolled back from a different thread
+    // and virtual threads or reactive code might flush on different threads within the same TX
+    private static final ConcurrentMap<Object, SynchronizationRegistry> REGISTRY = new ConcurrentHashMap<>();
     private final TransactionAccess transactionAccess;
     private final List<Synchronization> synchronizations;
-    private final Thread key;
+    private final Object key;
 
-    public SynchronizationRegistry(TransactionAccess transactionAccess) {
+    /**
+     * Creates a registry for the transaction of the given persistence context and registers it as synchronization.
+     *
+     * @param transactionAccess The transaction access
+     * @param key The persistence context i.e. the underlying provider object of the entity manager
+     */
+    public SynchronizationRegistry(TransactionAccess transactionAccess, Object key) {
         this.transactionAccess = transactionAccess;
         this.synchronizations = new ArrayList<>(1);
-        this.key = Thread.currentThread();
+        this.key = key;
         transactionAccess.registerSynchronization(this);
         REGISTRY.put(key, this);
     }
 
-    public static SynchronizationRegistry getRegistry() {
-        return REGISTRY.get(Thread.currentThread());
+    public static SynchronizationRegistry getRegistry(Object key) {
+        return REGISTRY.get(key);
+    }
+
+    static int getRegistrySize() {
+        return REGISTRY.size();
     }
 
     public TransactionAccess getTransactionAccess() {
@@ -112,7 +123,7 @@ public class SynchronizationRegistry implements Synchronization, TransactionAcce
             case Status.STATUS_PREPARING:
                 break;
             case Status.STATUS_COMMITTED:
-                REGISTRY.remove(key);
+                REGISTRY.remove(key, this);
                 for (int i = 0; i < synchronizations.size(); i++) {
                     Synchronization synchronization = synchronizations.get(i);
                     try {
@@ -130,7 +141,7 @@ public class SynchronizationRegistry implements Synchronization, TransactionAcce
             // We assume unknown means rolled back as Hibernate behaves this way with a local transaction coordinator
             case Status.STATUS_UNKNOWN:
             default:
-                if (REGISTRY.remove(key) != null) {
+                if (REGISTRY.remove(key, this)) {
                     for (int i = synchronizations.size() - 1; i >= 0; i--) {
                         Synchronization synchronization = synchronizations.get(i);
                         try {
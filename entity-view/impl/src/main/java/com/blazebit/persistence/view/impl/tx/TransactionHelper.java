@@ -44,17 +44,31 @@ public class TransactionHelper {
     }
 
     public static TransactionAccess getTransactionAccess(EntityManager em) {
-        SynchronizationRegistry registry = SynchronizationRegistry.getRegistry();
+        Object persistenceContext = getPersistenceContext(em);
+        SynchronizationRegistry registry = SynchronizationRegistry.getRegistry(persistenceContext);
         if (registry == null) {
             TransactionAccess transactionAccess = getTransactionAccessInternal(em);
             if (!transactionAccess.isActive()) {
                 return transactionAccess;
             }
-            registry = new SynchronizationRegistry(transactionAccess);
+            registry = new SynchronizationRegistry(transactionAccess, persistenceContext);
         }
         return registry;
     }
 
+    private static Object getPersistenceContext(EntityManager em) {
+        // Container managed entity managers are usually proxies shared between transactions, so we use the underlying transaction bound object
+        try {
+            Object delegate = em.getDelegate();
+            if (delegate != null) {
+                return delegate;
+            }
+        } catch (RuntimeException ex) {
+            // Some providers throw when no delegate is available
+        }
+        return em;
+    }
+
     private static TransactionAccess getTransactionAccessInternal(EntityManager em) {
         TransactionAccessFactory factory = TransactionHelper.factory;
         if (factory != null) {
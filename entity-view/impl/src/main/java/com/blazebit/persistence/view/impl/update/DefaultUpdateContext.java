@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.view.impl.update;
 
+import com.blazebit.persistence.spi.QueryResultCache;
 import com.blazebit.persistence.view.FlushOperationBuilder;
 import com.blazebit.persistence.view.OptimisticLockException;
 import com.blazebit.persistence.view.PostCommitListener;
@@ -107,6 +108,26 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
         this.listenerManager = new ListenerManager(evm);
         this.initialStateResetter = new ResetInitialStateSynchronization(this, listenerManager);
         transactionAccess.registerSynchronization((Synchronization) initialStateResetter);
+        beginQueryResultCacheInvalidation();
+    }
+
+    private void beginQueryResultCacheInvalidation() {
+        QueryResultCache queryResultCache = evm.getQueryResultCache();
+        Class<?> viewClass = entityViewClass;
+        if (viewClass == null && object instanceof EntityViewProxy) {
+            viewClass = ((EntityViewProxy) object).$$_getEntityViewClass();
+        }
+        if (queryResultCache == null || viewClass == null) {
+            return;
+        }
+        Class<?>[] entityClasses = evm.getWrittenEntityClasses(viewClass);
+        if (entityClasses.length != 0) {
+            // Cached results are invalidated right away and caching is suspended until the transaction completed
+            for (Class<?> entityClass : entityClasses) {
+                queryResultCache.beginInvalidation(entityClass);
+            }
+            transactionAccess.registerSynchronization(new QueryResultCacheInvalidationSynchronization(queryResultCache, entityClasses));
+        }
     }
 
     @Override
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.update;
+
+import com.blazebit.persistence.spi.QueryResultCache;
+
+import javax.transaction.Synchronization;
+
+/**
+ * Ends the invalidation of the query result cache for the entity classes written by a flush after transaction completion.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class QueryResultCacheInvalidationSynchronization implements Synchronization {
+
+    private final QueryResultCache queryResultCache;
+    private final Class<?>[] entityClasses;
+
+    public QueryResultCacheInvalidationSynchronization(QueryResultCache queryResultCache, Class<?>[] entityClasses) {
+        this.queryResultCache = queryResultCache;
+        this.entityClasses = entityClasses;
+    }
+
+    @Override
+    public void beforeCompletion() {
+        // No-op
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        for (Class<?> entityClass : entityClasses) {
+            queryResultCache.endInvalidation(entityClass);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.tx;
+
+import com.blazebit.persistence.view.spi.TransactionAccess;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class SynchronizationRegistryTest {
+
+    @Test
+    public void testRegistryIsBoundToPersistenceContextInsteadOfThread() throws Exception {
+        final Object persistenceContext = new Object();
+        MockTransactionAccess transactionAccess = new MockTransactionAccess();
+        final SynchronizationRegistry registry = new SynchronizationRegistry(transactionAccess, persistenceContext);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            SynchronizationRegistry otherThreadRegistry = executorService.submit(new Callable<SynchronizationRegistry>() {
+                @Override
+                public SynchronizationRegistry call() {
+                    return SynchronizationRegistry.getRegistry(persistenceContext);
+                }
+            }).get();
+            Assert.assertSame(registry, otherThreadRegistry);
+            Assert.assertNull(SynchronizationRegistry.getRegistry(new Object()));
+
+            // Completion from a different thread must unregister the registry
+            executorService.submit(new Runnable() {
+                @Override
+                public void run() {
+                    registry.afterCompletion(Status.STATUS_COMMITTED);
+                }
+            }).get();
+            Assert.assertNull(SynchronizationRegistry.getRegistry(persistenceContext));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testStaleRegistryDoesNotUnregisterNewRegistry() {
+        Object persistenceContext = new Object();
+        SynchronizationRegistry oldRegistry = new SynchronizationRegistry(new MockTransactionAccess(), persistenceContext);
+        oldRegistry.afterCompletion(Status.STATUS_COMMITTED);
+        SynchronizationRegistry newRegistry = new SynchronizationRegistry(new MockTransactionAccess(), persistenceContext);
+
+        oldRegistry.afterCompletion(Status.STATUS_ROLLEDBACK);
+        Assert.assertSame(newRegistry, SynchronizationRegistry.getRegistry(persistenceContext));
+        newRegistry.afterCompletion(Status.STATUS_ROLLEDBACK);
+        Assert.assertNull(SynchronizationRegistry.getRegistry(persistenceContext));
+    }
+
+    @Test
+    public void testConcurrentTransactionsCompletingOnDifferentThreads() throws Exception {
+        final int transactionCount = 20_000;
+        final int initialSize = SynchronizationRegistry.getRegistrySize();
+        final ExecutorService flushExecutor = Executors.newFixedThreadPool(32);
+        final ExecutorService completionExecutor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<List<Integer>>> futures = new ArrayList<>(transactionCount);
+            for (int i = 0; i < transactionCount; i++) {
+                final boolean commit = i % 2 == 0;
+                futures.add(flushExecutor.submit(new Callable<List<Integer>>() {
+                    @Override
+                    public List<Integer> call() throws Exception {
+                        final Object persistenceContext = new Object();
+                        final List<Integer> invocations = Collections.synchronizedList(new ArrayList<Integer>());
+                        final SynchronizationRegistry registry = new SynchronizationRegistry(new MockTransactionAccess(), persistenceContext);
+                        for (int j = 0; j < 3; j++) {
+                            // Every flush of the same persistence context must see the same registry
+                            Assert.assertSame(registry, SynchronizationRegistry.getRegistry(persistenceContext));
+                            registry.registerSynchronization(new RecordingSynchronization(j, invocations));
+                        }
+                        // Simulate a continuation that completes the transaction on another thread
+                        completionExecutor.submit(new Runnable() {
+                            @Override
+                            public void run() {
+                                registry.beforeCompletion();
+                                registry.afterCompletion(commit ? Status.STATUS_COMMITTED : Status.STATUS_ROLLEDBACK);
+                            }
+                        }).get();
+                        Assert.assertNull(SynchronizationRegistry.getRegistry(persistenceContext));
+                        return invocations;
+                    }
+                }));
+            }
+            for (int i = 0; i < transactionCount; i++) {
+                List<Integer> invocations = futures.get(i).get();
+                if (i % 2 == 0) {
+                    Assert.assertEquals(Arrays.asList(0, 1, 2), invocations);
+                } else {
+                    Assert.assertEquals(Arrays.asList(2, 1, 0), invocations);
+                }
+            }
+            Assert.assertEquals(initialSize, SynchronizationRegistry.getRegistrySize());
+        } finally {
+            flushExecutor.shutdown();
+            completionExecutor.shutdown();
+            flushExecutor.awaitTermination(1, TimeUnit.MINUTES);
+            completionExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    private static class MockTransactionAccess implements TransactionAccess {
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public void markRollbackOnly() {
+        }
+
+        @Override
+        public void registerSynchronization(Synchronization synchronization) {
+        }
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    private static class RecordingSynchronization implements Synchronization {
+
+        private final int index;
+        private final List<Integer> invocations;
+
+        public RecordingSynchronization(int index, List<Integer> invocations) {
+            this.index = index;
+            this.invocations = invocations;
+        }
+
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            invocations.add(index);
+        }
+    }
+}
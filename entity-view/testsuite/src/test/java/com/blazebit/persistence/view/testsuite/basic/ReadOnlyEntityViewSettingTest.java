@@ -0,0 +1,185 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.view.testsuite.basic;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.ReadOnlyEntityManagerProvider;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDB2;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoFirebird;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoHibernate60;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMSSQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMySQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOracle;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoPostgreSQL;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoSQLite;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.FetchStrategy;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.MappingCorrelatedSimple;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+// NOTE: The replica is simulated by a second in-memory H2 database
+@Category({ NoMySQL.class, NoOracle.class, NoMSSQL.class, NoDB2.class, NoFirebird.class, NoSQLite.class, NoPostgreSQL.class, NoHibernate60.class, NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+public class ReadOnlyEntityViewSettingTest extends AbstractEntityViewTest {
+
+    private static EntityManagerFactory replicaEmf;
+    private static EntityManager replicaEm;
+    private static Long replicaDocumentId;
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.setReadOnlyEntityManagerProvider(new ReadOnlyEntityManagerProvider() {
+            @Override
+            public EntityManager getReadOnlyEntityManager(EntityManager entityManager) {
+                if (replicaEm == null) {
+                    replicaEm = replicaEmf.createEntityManager();
+                }
+                return replicaEm;
+            }
+        });
+    }
+
+    @Override
+    protected boolean runTestInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person p = new Person("Karl1");
+                em.persist(p);
+                em.persist(new Document("doc1", p));
+            }
+        });
+
+        if (replicaEmf == null) {
+            replicaEmf = createSecondaryEntityManagerFactory("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1");
+        }
+        EntityManager em = replicaEmf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createQuery("DELETE FROM Document").executeUpdate();
+            em.createQuery("DELETE FROM Person").executeUpdate();
+            Person p = new Person("Replica1");
+            em.persist(p);
+            Document d = new Document("replica1", p);
+            em.persist(d);
+            em.getTransaction().commit();
+            replicaDocumentId = d.getId();
+        } finally {
+            em.close();
+        }
+    }
+
+    @After
+    public void closeReplicaEntityManager() {
+        if (replicaEm != null) {
+            replicaEm.close();
+            replicaEm = null;
+        }
+    }
+
+    @AfterClass
+    public static void closeReplicaEntityManagerFactory() {
+        if (replicaEmf != null) {
+            replicaEmf.close();
+            replicaEmf = null;
+        }
+    }
+
+    @Test
+    public void testReadOnlySettingRoutesCorrelations() {
+        EntityViewManager evm = build(DocumentOwnerNameView.class);
+        EntityViewSetting<DocumentOwnerNameView, CriteriaBuilder<DocumentOwnerNameView>> setting = EntityViewSetting.create(DocumentOwnerNameView.class)
+                .withReadOnly(true);
+
+        List<DocumentOwnerNameView> result = evm.applySetting(setting, cbf.create(em, Document.class)).getResultList();
+
+        assertEquals(1, result.size());
+        assertEquals("replica1", result.get(0).getName());
+        assertEquals("Replica1", result.get(0).getOwnerName());
+    }
+
+    @Test
+    public void testSettingWithoutReadOnly() {
+        EntityViewManager evm = build(DocumentOwnerNameView.class);
+        EntityViewSetting<DocumentOwnerNameView, CriteriaBuilder<DocumentOwnerNameView>> setting = EntityViewSetting.create(DocumentOwnerNameView.class);
+
+        List<DocumentOwnerNameView> result = evm.applySetting(setting, cbf.create(em, Document.class)).getResultList();
+
+        assertEquals(1, result.size());
+        assertEquals("doc1", result.get(0).getName());
+        assertEquals("Karl1", result.get(0).getOwnerName());
+    }
+
+    @Test
+    public void testFindReadOnly() {
+        EntityViewManager evm = build(DocumentOwnerNameView.class);
+        EntityViewSetting<DocumentOwnerNameView, CriteriaBuilder<DocumentOwnerNameView>> setting = EntityViewSetting.create(DocumentOwnerNameView.class)
+                .withReadOnly(true);
+
+        DocumentOwnerNameView view = evm.find(em, setting, replicaDocumentId);
+
+        assertEquals("replica1", view.getName());
+        assertEquals("Replica1", view.getOwnerName());
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    @EntityView(Document.class)
+    public interface DocumentOwnerNameView {
+        @IdMapping
+        Long getId();
+
+        String getName();
+
+        @MappingCorrelatedSimple(correlated = Person.class, correlationBasis = "owner.id", correlationExpression = "id IN correlationKey", correlationResult = "name", fetch = FetchStrategy.SELECT)
+        String getOwnerName();
+    }
+}
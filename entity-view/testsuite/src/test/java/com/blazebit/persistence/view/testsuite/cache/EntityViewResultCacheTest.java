@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.cache;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.QueryResultCache;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.cache.model.PersonView;
+import com.blazebit.persistence.view.testsuite.cache.model.UpdatableDocumentNameView;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class EntityViewResultCacheTest extends AbstractEntityViewTest {
+
+    private EntityViewManager evm;
+    private QueryResultCache cache;
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.setProperty(com.blazebit.persistence.ConfigurationProperties.QUERY_RESULT_CACHE, "true");
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+
+            @Override
+            public void work(EntityManager em) {
+                Person o1 = new Person("pers1");
+                Document doc1 = new Document("doc1", o1);
+                Document doc2 = new Document("doc2", o1);
+
+                em.persist(o1);
+                em.persist(doc1);
+                em.persist(doc2);
+            }
+        });
+    }
+
+    @Before
+    public void setUp() {
+        evm = build(UpdatableDocumentNameView.class, PersonView.class);
+        cache = cbf.getService(QueryResultCache.class);
+        cache.clear();
+    }
+
+    @Test
+    public void testViewsAreBuiltFromCachedResult() {
+        long hits = cache.getHitCount();
+        List<UpdatableDocumentNameView> first = getDocuments();
+        List<UpdatableDocumentNameView> second = getDocuments();
+
+        assertEquals(hits + 1, cache.getHitCount());
+        assertEquals(2, second.size());
+        assertEquals("doc1", second.get(0).getName());
+        assertEquals("pers1", second.get(0).getOwner().getName());
+        // Views are mutable, so every execution must produce new instances
+        assertNotSame(first.get(0), second.get(0));
+    }
+
+    @Test
+    public void testFlushInvalidatesCachedResult() {
+        UpdatableDocumentNameView document = getDocuments().get(0);
+        long invalidations = cache.getInvalidationCount();
+        long puts = cache.getPutCount();
+
+        document.setName("newDoc1");
+        evm.save(em, document);
+
+        List<UpdatableDocumentNameView> documents = getDocuments();
+        assertEquals("newDoc1", documents.get(0).getName());
+        assertTrue(cache.getInvalidationCount() > invalidations);
+        // Caching stays suspended until the transaction completed
+        assertEquals(puts, cache.getPutCount());
+    }
+
+    private List<UpdatableDocumentNameView> getDocuments() {
+        CriteriaBuilder<Document> cb = cbf.create(em, Document.class).orderByAsc("id");
+        EntityViewSetting<UpdatableDocumentNameView, CriteriaBuilder<UpdatableDocumentNameView>> setting = EntityViewSetting.create(UpdatableDocumentNameView.class);
+        setting.setProperty(ConfigurationProperties.RESULT_CACHE, true);
+        return evm.applySetting(setting, cb).getResultList();
+    }
+}
@@ -20,7 +20,9 @@ import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.testsuite.tx.TxVoidWork;
 import com.blazebit.persistence.view.EntityViewManager;
 import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.EntityViews;
 import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
 import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
 import com.blazebit.persistence.view.testsuite.correlation.model.DocumentCorrelationView;
 import com.blazebit.persistence.view.testsuite.correlation.model.SimpleDocumentCorrelatedView;
@@ -90,7 +92,12 @@ public abstract class AbstractCorrelationTest extends AbstractEntityViewTest {
     }
 
     protected <T extends DocumentCorrelationView> void testCorrelation(Class<T> entityView, Integer batchSize) {
+        testCorrelation(EntityViews.createDefaultConfiguration(), entityView, batchSize);
+    }
+
+    protected <T extends DocumentCorrelationView> void testCorrelation(EntityViewConfiguration cfg, Class<T> entityView, Integer batchSize) {
         EntityViewManager evm = build(
+                cfg,
                 entityView,
                 SimpleDocumentCorrelatedView.class,
                 SimplePersonCorrelatedSubView.class,
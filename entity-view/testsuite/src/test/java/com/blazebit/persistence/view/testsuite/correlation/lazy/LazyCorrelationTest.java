@@ -0,0 +1,181 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.correlation.lazy;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.QueryExecution;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryExecutionRole;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus4;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.view.BatchFetch;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.FetchStrategy;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.Mapping;
+import com.blazebit.persistence.view.UpdatableEntityView;
+import com.blazebit.persistence.view.testsuite.correlation.AbstractCorrelationTest;
+import com.blazebit.persistence.view.testsuite.correlation.lazy.model.LazyDocumentView;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+// NOTE: Requires values clause which currently is only available for Hibernate
+@Category({ NoDatanucleus4.class, NoDatanucleus.class, NoOpenJPA.class, NoEclipselink.class})
+public class LazyCorrelationTest extends AbstractCorrelationTest {
+
+    private static final List<QueryExecution> EXECUTIONS = new ArrayList<>();
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.registerQueryExecutionListener(new RecordingQueryExecutionListener());
+    }
+
+    @Test
+    public void testLazyAttributeIsLoadedForAllViewsOnFirstAccess() {
+        List<LazyDocumentView> results = executeView();
+        assertEquals(0, correlationQueryCount());
+
+        assertEquals("pers1", results.get(0).getOwnerName());
+        assertEquals(1, correlationQueryCount());
+
+        assertEquals("pers2", results.get(1).getOwnerName());
+        assertEquals("pers2", results.get(2).getOwnerName());
+        assertEquals("pers2", results.get(3).getOwnerName());
+        assertEquals(1, correlationQueryCount());
+    }
+
+    @Test
+    public void testLazyCorrelatedCollectionIsLoadedOnFirstAccess() {
+        List<LazyDocumentView> results = executeView();
+
+        assertEquals(new HashSet<>(Arrays.asList(doc2.getId(), doc3.getId(), doc4.getId())), results.get(3).getOwnerRelatedDocumentIds());
+        assertEquals(1, correlationQueryCount());
+        assertEquals(new HashSet<>(Arrays.asList(doc1.getId())), results.get(0).getOwnerRelatedDocumentIds());
+        assertEquals(1, correlationQueryCount());
+
+        // The other lazy attribute is loaded independently
+        assertEquals("pers1", results.get(0).getOwnerName());
+        assertEquals(2, correlationQueryCount());
+    }
+
+    @EntityView(Document.class)
+    public interface SerializableLazyDocumentView extends Serializable {
+        @IdMapping
+        Long getId();
+
+        @BatchFetch(size = 10)
+        @Mapping(value = "owner.name", fetch = FetchStrategy.LAZY)
+        String getOwnerName();
+    }
+
+    @Test
+    public void testLazyAttributeIsLoadedBeforeSerialization() throws Exception {
+        List<SerializableLazyDocumentView> results = executeView(SerializableLazyDocumentView.class);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(results.get(0));
+        }
+        assertEquals(1, correlationQueryCount());
+
+        SerializableLazyDocumentView view;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            view = (SerializableLazyDocumentView) ois.readObject();
+        }
+        assertEquals("pers1", view.getOwnerName());
+        assertEquals(1, correlationQueryCount());
+    }
+
+    @UpdatableEntityView
+    @EntityView(Document.class)
+    interface UpdatableLazyDocumentView {
+        @IdMapping
+        Long getId();
+
+        @Mapping(value = "owner.name", fetch = FetchStrategy.LAZY)
+        String getOwnerName();
+    }
+
+    @Test
+    public void testLazyAttributeInUpdatableViewIsRejected() {
+        try {
+            build(UpdatableLazyDocumentView.class);
+            fail("Expected the metamodel validation to fail!");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage().contains("LAZY"));
+            assertTrue(ex.getMessage().contains("read-only"));
+        }
+    }
+
+    private List<LazyDocumentView> executeView() {
+        return executeView(LazyDocumentView.class);
+    }
+
+    private <T> List<T> executeView(Class<T> entityViewClass) {
+        EntityViewManager evm = build(entityViewClass);
+
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d").orderByAsc("id");
+        CriteriaBuilder<T> cb = evm.applySetting(EntityViewSetting.create(entityViewClass), criteria);
+        List<T> results = cb.getResultList();
+        assertEquals(4, results.size());
+        EXECUTIONS.clear();
+        return results;
+    }
+
+    private static int correlationQueryCount() {
+        int count = 0;
+        for (QueryExecution execution : EXECUTIONS) {
+            if (execution.getRole() == QueryExecutionRole.CORRELATION) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static class RecordingQueryExecutionListener implements QueryExecutionListener {
+        @Override
+        public void onQueryExecuted(QueryExecution queryExecution) {
+            EXECUTIONS.add(queryExecution);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.correlation.simple;
+
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus4;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.CorrelationStatistics;
+import com.blazebit.persistence.view.CorrelationStatisticsService;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.correlation.AbstractCorrelationTest;
+import com.blazebit.persistence.view.testsuite.correlation.simple.model.DocumentSimpleCorrelationViewSubqueryId;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class AdaptiveCorrelationTest extends AbstractCorrelationTest {
+
+    @Test
+    public void testStatisticsAreNotCollectedByDefault() {
+        testCorrelation(DocumentSimpleCorrelationViewSubqueryId.class, null);
+
+        assertTrue(evm.getService(CorrelationStatisticsService.class).getStatistics().isEmpty());
+    }
+
+    @Test
+    // NOTE: Requires values clause which currently is only available for Hibernate
+    @Category({ NoDatanucleus4.class, NoDatanucleus.class, NoOpenJPA.class, NoEclipselink.class})
+    public void testBatchSizeAdaptsToObservedCorrelationKeys() {
+        EntityViewConfiguration cfg = adaptiveConfiguration();
+        testCorrelation(cfg, DocumentSimpleCorrelationViewSubqueryId.class, null);
+        CorrelationStatisticsService statisticsService = evm.getService(CorrelationStatisticsService.class);
+        statisticsService.clear();
+
+        // The documents have two distinct owners, so the first execution with the default batch size of 1 needs two queries
+        testCorrelation(cfg, DocumentSimpleCorrelationViewSubqueryId.class, null);
+        CorrelationStatistics statistics = statisticsService.getStatistics(DocumentSimpleCorrelationViewSubqueryId.class, "ownerOnlyRelatedDocumentIds");
+        assertNotNull(statistics);
+        assertEquals(1, statistics.getExecutionCount());
+        assertEquals(2, statistics.getQueryCount());
+        assertEquals(1.0d, statistics.getBatchHitRatio(), 0.0001d);
+        assertEquals(2.0d, statistics.getRowsPerParent(), 0.0001d);
+        assertEquals(2, statistics.getBatchSize());
+
+        // The next execution loads both owners in a single batch and still produces correct results
+        testCorrelation(cfg, DocumentSimpleCorrelationViewSubqueryId.class, null);
+        assertEquals(2, statistics.getExecutionCount());
+        assertEquals(3, statistics.getQueryCount());
+        assertEquals(1.0d, statistics.getBatchHitRatio(), 0.0001d);
+        assertEquals(2, statistics.getBatchSize());
+        assertEquals("values", statistics.getBatchMode());
+    }
+
+    @Test
+    // NOTE: Requires values clause which currently is only available for Hibernate
+    @Category({ NoDatanucleus4.class, NoDatanucleus.class, NoOpenJPA.class, NoEclipselink.class})
+    public void testExplicitBatchSizeTakesPrecedence() {
+        EntityViewConfiguration cfg = adaptiveConfiguration();
+        testCorrelation(cfg, DocumentSimpleCorrelationViewSubqueryId.class, null);
+        CorrelationStatisticsService statisticsService = evm.getService(CorrelationStatisticsService.class);
+        statisticsService.clear();
+
+        testCorrelation(cfg, DocumentSimpleCorrelationViewSubqueryId.class, 4);
+        testCorrelation(cfg, DocumentSimpleCorrelationViewSubqueryId.class, 4);
+        CorrelationStatistics statistics = statisticsService.getStatistics(DocumentSimpleCorrelationViewSubqueryId.class, "ownerRelatedDocumentIds");
+        assertNotNull(statistics);
+        assertEquals(2, statistics.getExecutionCount());
+        assertEquals(4, statistics.getQueryCount());
+        // Two view roots per query with the explicit batch size of 4 fill half of the batch slots
+        assertEquals(0.5d, statistics.getBatchHitRatio(), 0.0001d);
+        // The correlation uses VIEW_ROOT, so the view root batch mode is learned for later executions
+        assertEquals("view_roots", statistics.getBatchMode());
+    }
+
+    @Test
+    // NOTE: Requires values clause which currently is only available for Hibernate
+    @Category({ NoDatanucleus4.class, NoDatanucleus.class, NoOpenJPA.class, NoEclipselink.class})
+    public void testBatchSizeIsBoundedByMaxBatchSize() {
+        EntityViewConfiguration cfg = adaptiveConfiguration();
+        cfg.setProperty(ConfigurationProperties.ADAPTIVE_CORRELATION_MAX_BATCH_SIZE, "1");
+        testCorrelation(cfg, DocumentSimpleCorrelationViewSubqueryId.class, null);
+        testCorrelation(cfg, DocumentSimpleCorrelationViewSubqueryId.class, null);
+
+        CorrelationStatistics statistics = evm.getService(CorrelationStatisticsService.class).getStatistics(DocumentSimpleCorrelationViewSubqueryId.class, "ownerOnlyRelatedDocumentIds");
+        assertEquals(1, statistics.getBatchSize());
+        assertEquals(0.5d, (double) statistics.getExecutionCount() / statistics.getQueryCount(), 0.0001d);
+    }
+
+    private static EntityViewConfiguration adaptiveConfiguration() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.ADAPTIVE_CORRELATION, "true");
+        return cfg;
+    }
+}
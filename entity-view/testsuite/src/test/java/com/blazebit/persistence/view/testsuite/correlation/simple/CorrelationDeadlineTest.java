@@ -0,0 +1,133 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.view.testsuite.correlation.simple;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.QueryDeadline;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.QueryExecution;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryExecutionRole;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus4;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.testsuite.correlation.AbstractCorrelationTest;
+import com.blazebit.persistence.view.testsuite.correlation.model.SimpleDocumentCorrelatedView;
+import com.blazebit.persistence.view.testsuite.correlation.model.SimplePersonCorrelatedSubView;
+import com.blazebit.persistence.view.testsuite.correlation.model.SimpleVersionCorrelatedView;
+import com.blazebit.persistence.view.testsuite.correlation.simple.model.DocumentSimpleCorrelationViewSubqueryId;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.QueryTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+// NOTE: Requires values clause which currently is only available for Hibernate
+@Category({ NoDatanucleus4.class, NoDatanucleus.class, NoOpenJPA.class, NoEclipselink.class})
+public class CorrelationDeadlineTest extends AbstractCorrelationTest {
+
+    private static QueryDeadline cancelOnCorrelation;
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.registerQueryExecutionListener(new CancellingQueryExecutionListener());
+    }
+
+    @After
+    public void resetDeadline() {
+        cancelOnCorrelation = null;
+    }
+
+    @Test
+    public void testBatchedCorrelationWithTimeout() {
+        EntityViewSetting<DocumentSimpleCorrelationViewSubqueryId, CriteriaBuilder<DocumentSimpleCorrelationViewSubqueryId>> setting = createSetting();
+        setting.withTimeout(1, TimeUnit.MINUTES);
+
+        assertEquals(4, applySetting(setting).getResultList().size());
+    }
+
+    @Test
+    public void testCancelledDeadline() {
+        QueryDeadline deadline = QueryDeadline.after(1, TimeUnit.MINUTES);
+        deadline.cancel();
+        EntityViewSetting<DocumentSimpleCorrelationViewSubqueryId, CriteriaBuilder<DocumentSimpleCorrelationViewSubqueryId>> setting = createSetting();
+        setting.withDeadline(deadline);
+
+        try {
+            applySetting(setting).getResultList();
+            fail("Expected QueryTimeoutException");
+        } catch (QueryTimeoutException ex) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testCancelBetweenCorrelationBatches() {
+        QueryDeadline deadline = QueryDeadline.after(1, TimeUnit.MINUTES);
+        EntityViewSetting<DocumentSimpleCorrelationViewSubqueryId, CriteriaBuilder<DocumentSimpleCorrelationViewSubqueryId>> setting = createSetting();
+        setting.withDeadline(deadline);
+        CriteriaBuilder<DocumentSimpleCorrelationViewSubqueryId> cb = applySetting(setting);
+        cancelOnCorrelation = deadline;
+
+        try {
+            cb.getResultList();
+            fail("Expected QueryTimeoutException");
+        } catch (QueryTimeoutException ex) {
+            // Expected
+        }
+    }
+
+    private EntityViewSetting<DocumentSimpleCorrelationViewSubqueryId, CriteriaBuilder<DocumentSimpleCorrelationViewSubqueryId>> createSetting() {
+        EntityViewSetting<DocumentSimpleCorrelationViewSubqueryId, CriteriaBuilder<DocumentSimpleCorrelationViewSubqueryId>> setting = EntityViewSetting.create(DocumentSimpleCorrelationViewSubqueryId.class);
+        // Every document is correlated in a separate batch
+        setting.setProperty(ConfigurationProperties.DEFAULT_BATCH_SIZE + ".ownerRelatedDocumentIds", 1);
+        return setting;
+    }
+
+    private CriteriaBuilder<DocumentSimpleCorrelationViewSubqueryId> applySetting(EntityViewSetting<DocumentSimpleCorrelationViewSubqueryId, CriteriaBuilder<DocumentSimpleCorrelationViewSubqueryId>> setting) {
+        EntityViewManager evm = build(
+                DocumentSimpleCorrelationViewSubqueryId.class,
+                SimpleDocumentCorrelatedView.class,
+                SimplePersonCorrelatedSubView.class,
+                SimpleVersionCorrelatedView.class
+        );
+        return evm.applySetting(setting, cbf.create(em, Document.class, "d").orderByAsc("id"));
+    }
+
+    private static class CancellingQueryExecutionListener implements QueryExecutionListener {
+        @Override
+        public void onQueryExecuted(QueryExecution queryExecution) {
+            if (cancelOnCorrelation != null && queryExecution.getRole() == QueryExecutionRole.CORRELATION) {
+                cancelOnCorrelation.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.view.testsuite.correlation.simple;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.QueryExecution;
+import com.blazebit.persistence.spi.QueryExecutionListener;
+import com.blazebit.persistence.spi.QueryExecutionRole;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus4;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.testsuite.correlation.AbstractCorrelationTest;
+import com.blazebit.persistence.view.testsuite.correlation.model.DocumentCorrelationView;
+import com.blazebit.persistence.view.testsuite.correlation.model.SimpleDocumentCorrelatedView;
+import com.blazebit.persistence.view.testsuite.correlation.model.SimplePersonCorrelatedSubView;
+import com.blazebit.persistence.view.testsuite.correlation.model.SimpleVersionCorrelatedView;
+import com.blazebit.persistence.view.testsuite.correlation.simple.model.DocumentSimpleCorrelationViewSubqueryId;
+import com.blazebit.persistence.view.testsuite.correlation.simple.model.DocumentSimpleCorrelationViewSubselectId;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class CorrelationQueryExecutionListenerTest extends AbstractCorrelationTest {
+
+    private static final List<QueryExecution> EXECUTIONS = new ArrayList<>();
+
+    @Override
+    protected void configure(CriteriaBuilderConfiguration config) {
+        super.configure(config);
+        config.registerQueryExecutionListener(new RecordingQueryExecutionListener());
+    }
+
+    @Test
+    // NOTE: Requires values clause which currently is only available for Hibernate
+    @Category({ NoDatanucleus4.class, NoDatanucleus.class, NoOpenJPA.class, NoEclipselink.class})
+    public void testBatchedCorrelationQueriesAreReported() {
+        List<QueryExecution> executions = executeView(DocumentSimpleCorrelationViewSubqueryId.class, 2);
+
+        // Correlation queries run while transforming the results of the object query, so they are reported first
+        QueryExecution objectExecution = executions.get(executions.size() - 1);
+        assertEquals(QueryExecutionRole.OBJECT, objectExecution.getRole());
+        assertEquals(4, objectExecution.getRowCount());
+        assertTrue(executions.size() > 1);
+        for (int i = 0; i < executions.size() - 1; i++) {
+            assertEquals(QueryExecutionRole.CORRELATION, executions.get(i).getRole());
+        }
+    }
+
+    @Test
+    public void testSubselectCorrelationQueriesAreReported() {
+        List<QueryExecution> executions = executeView(DocumentSimpleCorrelationViewSubselectId.class, null);
+
+        assertEquals(QueryExecutionRole.OBJECT, executions.get(executions.size() - 1).getRole());
+        assertTrue(executions.size() > 1);
+        for (int i = 0; i < executions.size() - 1; i++) {
+            assertEquals(QueryExecutionRole.CORRELATION, executions.get(i).getRole());
+        }
+    }
+
+    private <T extends DocumentCorrelationView> List<QueryExecution> executeView(Class<T> entityView, Integer batchSize) {
+        EntityViewManager evm = build(
+                entityView,
+                SimpleDocumentCorrelatedView.class,
+                SimplePersonCorrelatedSubView.class,
+                SimpleVersionCorrelatedView.class
+        );
+
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d").orderByAsc("id");
+        EntityViewSetting<T, CriteriaBuilder<T>> setting = EntityViewSetting.create(entityView);
+        if (batchSize != null) {
+            setting.setProperty(ConfigurationProperties.DEFAULT_BATCH_SIZE + ".ownerRelatedDocumentIds", batchSize);
+        }
+        CriteriaBuilder<T> cb = evm.applySetting(setting, criteria);
+        EXECUTIONS.clear();
+        assertEquals(4, cb.getResultList().size());
+        return new ArrayList<>(EXECUTIONS);
+    }
+
+    private static class RecordingQueryExecutionListener implements QueryExecutionListener {
+        @Override
+        public void onQueryExecuted(QueryExecution queryExecution) {
+            EXECUTIONS.add(queryExecution);
+        }
+    }
+}
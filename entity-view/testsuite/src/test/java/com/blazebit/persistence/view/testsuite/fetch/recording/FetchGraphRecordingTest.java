@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.fetch.recording;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.fetch.recording.model.DocumentFetchGraphRecordingView;
+import com.blazebit.persistence.view.testsuite.fetch.recording.model.PersonFetchGraphRecordingView;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class FetchGraphRecordingTest extends AbstractEntityViewTest {
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person o1 = new Person("pers1", 20L);
+                em.persist(o1);
+
+                Document doc1 = new Document("doc1", 10L);
+                doc1.setOwner(o1);
+                em.persist(doc1);
+            }
+        });
+    }
+
+    @Test
+    public void testRecordedFetchGraphIsApplied() {
+        EntityViewManager evm = buildRecordingEntityViewManager();
+
+        for (int i = 0; i < 10; i++) {
+            CriteriaBuilder<DocumentFetchGraphRecordingView> cb = createCriteriaBuilder(evm);
+            assertTrue(cb.getQueryString().contains(".age"));
+            DocumentFetchGraphRecordingView view = cb.getResultList().get(0);
+            assertEquals("doc1", view.getName());
+            assertEquals("pers1", view.getOwner().getName());
+        }
+
+        CriteriaBuilder<DocumentFetchGraphRecordingView> cb = createCriteriaBuilder(evm);
+        assertFalse(cb.getQueryString().contains(".age"));
+        DocumentFetchGraphRecordingView view = cb.getResultList().get(0);
+        assertEquals("doc1", view.getName());
+        assertEquals("pers1", view.getOwner().getName());
+        assertNull(view.getOwner().getAge());
+
+        // Accessing the unfetched attribute causes the fetch graph to be learned again
+        cb = createCriteriaBuilder(evm);
+        assertTrue(cb.getQueryString().contains(".age"));
+        view = cb.getResultList().get(0);
+        assertEquals(20L, view.getOwner().getAge().longValue());
+    }
+
+    @Test
+    public void testExplicitFetchesTakePrecedence() {
+        EntityViewManager evm = buildRecordingEntityViewManager();
+
+        for (int i = 0; i < 11; i++) {
+            EntityViewSetting<DocumentFetchGraphRecordingView, CriteriaBuilder<DocumentFetchGraphRecordingView>> setting = EntityViewSetting.create(DocumentFetchGraphRecordingView.class);
+            setting.setProperty(ConfigurationProperties.FETCH_GRAPH_RECORDING, "explicit");
+            setting.fetch("age");
+            DocumentFetchGraphRecordingView view = evm.applySetting(setting, cbf.create(em, Document.class)).getResultList().get(0);
+            assertEquals(10L, view.getAge().longValue());
+            assertNull(view.getName());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRecordingRequiresEnabledInstrumentation() {
+        EntityViewManager evm = build(DocumentFetchGraphRecordingView.class, PersonFetchGraphRecordingView.class);
+        createCriteriaBuilder(evm);
+    }
+
+    private CriteriaBuilder<DocumentFetchGraphRecordingView> createCriteriaBuilder(EntityViewManager evm) {
+        EntityViewSetting<DocumentFetchGraphRecordingView, CriteriaBuilder<DocumentFetchGraphRecordingView>> setting = EntityViewSetting.create(DocumentFetchGraphRecordingView.class);
+        setting.setProperty(ConfigurationProperties.FETCH_GRAPH_RECORDING, "documents");
+        return evm.applySetting(setting, cbf.create(em, Document.class));
+    }
+
+    private EntityViewManager buildRecordingEntityViewManager() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.FETCH_GRAPH_RECORDING_ENABLED, "true");
+        return build(cfg, DocumentFetchGraphRecordingView.class, PersonFetchGraphRecordingView.class);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.multiset;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDB2;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.multiset.model.DocumentBasicCollectionsMultisetView;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class BasicCollectionsMultisetTest extends AbstractEntityViewTest {
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person p1 = new Person("pers1");
+                em.persist(p1);
+
+                Document doc1 = new Document("doc1");
+                doc1.setOwner(p1);
+                doc1.getStrings().add("a");
+                doc1.getStrings().add("b \"quoted\", with comma");
+                doc1.getStrings().add("a");
+                doc1.getStringMap().put("k1", "v1");
+                doc1.getStringMap().put("k2", "back\\slash");
+                em.persist(doc1);
+
+                Document doc2 = new Document("doc2");
+                doc2.setOwner(p1);
+                em.persist(doc2);
+            }
+        });
+    }
+
+    @Test
+    // DB2 does not support the JSON aggregation needed for multisets
+    @Category({ NoDB2.class, NoDatanucleus.class, NoEclipselink.class })
+    public void testBasicCollectionsMultisetFetch() {
+        EntityViewManager evm = build(DocumentBasicCollectionsMultisetView.class);
+        CriteriaBuilder<Document> criteria = cbf.create(em, Document.class, "d").orderByAsc("id");
+        CriteriaBuilder<DocumentBasicCollectionsMultisetView> cb = evm.applySetting(EntityViewSetting.create(DocumentBasicCollectionsMultisetView.class), criteria);
+        List<DocumentBasicCollectionsMultisetView> results = cb.getResultList();
+
+        assertEquals(2, results.size());
+        DocumentBasicCollectionsMultisetView doc1 = results.get(0);
+        assertEquals(Arrays.asList("a", "b \"quoted\", with comma", "a"), doc1.getStrings());
+        assertEquals(new HashSet<>(Arrays.asList("a", "b \"quoted\", with comma")), doc1.getStringSet());
+        Map<String, String> expectedMap = new HashMap<>();
+        expectedMap.put("k1", "v1");
+        expectedMap.put("k2", "back\\slash");
+        assertEquals(expectedMap, doc1.getStringMap());
+        assertEquals(new HashSet<>(Arrays.asList("doc1", "doc2")), doc1.getOwnerDocumentNames());
+
+        DocumentBasicCollectionsMultisetView doc2 = results.get(1);
+        assertEquals(Collections.emptyList(), doc2.getStrings());
+        assertEquals(Collections.emptySet(), doc2.getStringSet());
+        assertEquals(Collections.emptyMap(), doc2.getStringMap());
+        assertEquals(new HashSet<>(Arrays.asList("doc1", "doc2")), doc2.getOwnerDocumentNames());
+    }
+}
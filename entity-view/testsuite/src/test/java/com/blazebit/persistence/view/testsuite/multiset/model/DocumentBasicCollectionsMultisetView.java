@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.multiset.model;
+
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.view.CollectionMapping;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.FetchStrategy;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.Mapping;
+import com.blazebit.persistence.view.MappingCorrelatedSimple;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+@EntityView(Document.class)
+public interface DocumentBasicCollectionsMultisetView {
+
+    @IdMapping
+    public Long getId();
+
+    public String getName();
+
+    @Mapping(value = "strings", fetch = FetchStrategy.MULTISET)
+    public List<String> getStrings();
+
+    @Mapping(value = "strings", fetch = FetchStrategy.MULTISET)
+    @CollectionMapping(ignoreIndex = true)
+    public Set<String> getStringSet();
+
+    @Mapping(value = "stringMap", fetch = FetchStrategy.MULTISET)
+    public Map<String, String> getStringMap();
+
+    @MappingCorrelatedSimple(correlationBasis = "owner.id", correlated = Document.class, correlationExpression = "owner.id IN correlationKey", correlationResult = "name", fetch = FetchStrategy.MULTISET)
+    public Set<String> getOwnerDocumentNames();
+}
@@ -17,10 +17,12 @@
 package com.blazebit.persistence.view.testsuite.proxy;
 
 import com.blazebit.persistence.spi.PackageOpener;
+import com.blazebit.persistence.testsuite.entity.Document;
 import com.blazebit.persistence.testsuite.entity.Person;
 import com.blazebit.persistence.view.ConfigurationProperties;
 import com.blazebit.persistence.view.EntityViewManager;
 import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.impl.accessor.AttributeAccessor;
 import com.blazebit.persistence.view.impl.metamodel.ManagedViewTypeImplementor;
 import com.blazebit.persistence.view.impl.metamodel.MappingConstructorImpl;
 import com.blazebit.persistence.view.impl.proxy.ObjectInstantiator;
@@ -285,6 +287,35 @@ public class ProxyFactoryTest extends AbstractEntityViewTest {
         assertAttribute(proxyClass, "name", Modifier.PRIVATE | Modifier.FINAL, String.class);
     }
 
+    @Test
+    public void testGeneratedConstructorInvoker() throws Exception {
+        ViewType<DocumentInterfaceView> viewType = getViewMetamodel().view(DocumentInterfaceView.class);
+        Class<? extends DocumentInterfaceView> proxyClass = proxyFactory.getProxy(evm, (ManagedViewTypeImplementor<DocumentInterfaceView>) viewType);
+        Constructor<? extends DocumentInterfaceView> constructor = proxyClass.getDeclaredConstructor(Long.class, Map.class, Person.class, Person.class, String.class);
+
+        ObjectInstantiator<? extends DocumentInterfaceView> invoker = proxyFactory.getConstructorInvoker(constructor);
+        assertEquals(proxyClass.getPackage(), invoker.getClass().getPackage());
+        assertTrue(invoker == proxyFactory.getConstructorInvoker(constructor));
+
+        Map<Integer, Person> expectedContacts = new HashMap<Integer, Person>();
+        Person expectedPerson = new Person("pers");
+        DocumentInterfaceView instance = invoker.newInstance(new Object[]{ 1L, expectedContacts, expectedPerson, expectedPerson, "doc" });
+        assertEquals(Long.valueOf(1L), instance.getId());
+        assertTrue(expectedContacts == instance.getContacts());
+        assertEquals("doc", instance.getName());
+    }
+
+    @Test
+    public void testGeneratedEntityMethodAccessor() throws Exception {
+        AttributeAccessor accessor = proxyFactory.getEntityMethodAccessor(Document.class, Document.class.getMethod("getAge"), Document.class.getMethod("setAge", long.class), null);
+        assertNotNull(accessor);
+        Document document = new Document("doc", 1L);
+        assertEquals(1L, accessor.getValue(document));
+        accessor.setValue(document, 2L);
+        assertEquals(2L, document.getAge());
+        assertNull(accessor.getValue(null));
+    }
+
     @Test
     public void testProxyCreateInitialization() throws Exception {
         ViewType<DocumentCreateView> viewType = getViewMetamodel().view(DocumentCreateView.class);
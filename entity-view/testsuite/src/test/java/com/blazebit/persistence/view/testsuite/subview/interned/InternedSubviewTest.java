@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.view.testsuite.subview.interned;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.Mapping;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.subview.interned.model.DocumentRefView;
+import com.blazebit.persistence.view.testsuite.subview.interned.model.InternedDocumentView;
+import com.blazebit.persistence.view.testsuite.subview.interned.model.InternedPersonView;
+import com.blazebit.persistence.view.testsuite.subview.interned.model.InvalidInternedDocumentView;
+import com.blazebit.persistence.view.testsuite.subview.interned.model.PlainPersonView;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class InternedSubviewTest extends AbstractEntityViewTest {
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person o1 = new Person("pers1");
+                em.persist(o1);
+                em.persist(new Document("doc1", o1));
+                em.persist(new Document("doc2", o1));
+            }
+        });
+    }
+
+    @Test
+    public void testSubviewsWithSameIdAreShared() {
+        EntityViewManager evm = build(
+                InternedDocumentView.class,
+                InternedPersonView.class,
+                PlainPersonView.class,
+                DocumentRefView.class
+        );
+
+        List<InternedDocumentView> results = evm.applySetting(EntityViewSetting.create(InternedDocumentView.class), cbf.create(em, Document.class).orderByAsc("id"))
+                .getResultList();
+
+        assertEquals(2, results.size());
+        InternedDocumentView doc1 = results.get(0);
+        InternedDocumentView doc2 = results.get(1);
+        assertEquals("pers1", doc1.getOwner().getName());
+        // Interned via the view type
+        assertSame(doc1.getOwner(), doc2.getOwner());
+        // Interning disabled on the attribute
+        assertNotSame(doc1.getUninternedOwner(), doc2.getUninternedOwner());
+        // Interned via the attribute
+        assertSame(doc1.getPlainOwner(), doc2.getPlainOwner());
+        assertNotSame(doc1.getPlainUninternedOwner(), doc2.getPlainUninternedOwner());
+        // Interned collection elements are shared across the result
+        assertEquals(2, doc1.getSiblings().size());
+        Map<Long, DocumentRefView> siblings = new HashMap<>();
+        for (DocumentRefView sibling : doc1.getSiblings()) {
+            siblings.put(sibling.getId(), sibling);
+        }
+        for (DocumentRefView sibling : doc2.getSiblings()) {
+            assertSame(siblings.get(sibling.getId()), sibling);
+        }
+    }
+
+    @EntityView(Document.class)
+    public interface TwoOwnersDocumentView {
+        @IdMapping
+        Long getId();
+
+        InternedPersonView getOwner();
+
+        @Mapping("owner")
+        InternedPersonView getOwnerWithoutName();
+    }
+
+    @Test
+    public void testSubviewsOfDifferentAttributesAreNotShared() {
+        EntityViewManager evm = build(
+                TwoOwnersDocumentView.class,
+                InternedPersonView.class
+        );
+
+        EntityViewSetting<TwoOwnersDocumentView, CriteriaBuilder<TwoOwnersDocumentView>> setting = EntityViewSetting.create(TwoOwnersDocumentView.class);
+        setting.fetch("owner");
+        setting.fetch("ownerWithoutName.id");
+        List<TwoOwnersDocumentView> results = evm.applySetting(setting, cbf.create(em, Document.class).orderByAsc("id"))
+                .getResultList();
+
+        assertEquals(2, results.size());
+        TwoOwnersDocumentView doc1 = results.get(0);
+        TwoOwnersDocumentView doc2 = results.get(1);
+        assertSame(doc1.getOwner(), doc2.getOwner());
+        assertSame(doc1.getOwnerWithoutName(), doc2.getOwnerWithoutName());
+        // The subviews of the attributes are built from different fetches
+        assertNotSame(doc1.getOwner(), doc1.getOwnerWithoutName());
+        assertEquals("pers1", doc1.getOwner().getName());
+        assertNull(doc1.getOwnerWithoutName().getName());
+    }
+
+    @Test
+    public void testInternedOnlyAllowedForSubviewsWithId() {
+        try {
+            build(InvalidInternedDocumentView.class);
+            fail("Expected failure");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage().contains("@Interned"));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.view.testsuite.subview.interned.model;
+
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.Interned;
+import com.blazebit.persistence.view.Mapping;
+
+import java.util.Set;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+@EntityView(Document.class)
+public interface InternedDocumentView {
+
+    @IdMapping
+    public Long getId();
+
+    public String getName();
+
+    public InternedPersonView getOwner();
+
+    @Interned(false)
+    @Mapping("owner")
+    public InternedPersonView getUninternedOwner();
+
+    @Interned
+    @Mapping("owner")
+    public PlainPersonView getPlainOwner();
+
+    @Mapping("owner")
+    public PlainPersonView getPlainUninternedOwner();
+
+    @Interned
+    @Mapping("owner.ownedDocuments")
+    public Set<DocumentRefView> getSiblings();
+}
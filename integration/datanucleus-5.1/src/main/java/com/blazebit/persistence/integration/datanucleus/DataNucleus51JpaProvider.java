@@ -550,6 +550,16 @@ public class DataNucleus51JpaProvider implements JpaProvider {
         query.setHint("datanucleus.query.results.cached", true);
     }
 
+    @Override
+    public void setFetchSize(Query query, int fetchSize) {
+        query.setHint("datanucleus.query.fetchSize", fetchSize);
+    }
+
+    @Override
+    public void setQueryTimeout(Query query, int timeoutMillis) {
+        query.setHint("javax.persistence.query.timeout", timeoutMillis);
+    }
+
     @Override
     public void setSingularParameter(Query query, String name, Object value) {
         query.setParameter(name, value);
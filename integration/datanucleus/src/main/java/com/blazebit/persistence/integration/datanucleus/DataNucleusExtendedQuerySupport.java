@@ -55,6 +55,11 @@ public class DataNucleusExtendedQuerySupport implements ExtendedQuerySupport {
         return false;
     }
 
+    @Override
+    public boolean supportsExplainPlan() {
+        return false;
+    }
+
     @Override
     public boolean applyFirstResultMaxResults(Query query, int firstResult, int maxResults) {
         query.setFirstResult(firstResult);
@@ -133,6 +138,29 @@ public class DataNucleusExtendedQuerySupport implements ExtendedQuerySupport {
         // TODO: implement
         throw new UnsupportedOperationException("Not yet implemeneted!");
     }
+
+    @Override
+    public List<String> getExplainPlan(com.blazebit.persistence.spi.ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String explainSql) {
+        // TODO: implement
+        throw new UnsupportedOperationException("Not yet implemeneted!");
+    }
+
+    @Override
+    public boolean supportsTransactionCompletionCallbacks() {
+        return false;
+    }
+
+    @Override
+    public boolean registerTransactionCompletionCallback(EntityManager em, Runnable callback) {
+        // TODO: implement
+        throw new UnsupportedOperationException("Not yet implemeneted!");
+    }
+
+    @Override
+    public Object getQueryResultInfluencingState(EntityManager em) {
+        // TODO: implement
+        throw new UnsupportedOperationException("Not yet implemeneted!");
+    }
     
     private void applySql(Query query, String sqlOverride) {
         // TODO: parameter handling
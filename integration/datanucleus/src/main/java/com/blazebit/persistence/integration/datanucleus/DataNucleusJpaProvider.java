@@ -557,6 +557,16 @@ public class DataNucleusJpaProvider implements JpaProvider {
         query.setHint("datanucleus.query.results.cached", true);
     }
 
+    @Override
+    public void setFetchSize(Query query, int fetchSize) {
+        query.setHint("datanucleus.query.fetchSize", fetchSize);
+    }
+
+    @Override
+    public void setQueryTimeout(Query query, int timeoutMillis) {
+        query.setHint("javax.persistence.query.timeout", timeoutMillis);
+    }
+
     @Override
     public void setSingularParameter(Query query, String name, Object value) {
         query.setParameter(name, value);
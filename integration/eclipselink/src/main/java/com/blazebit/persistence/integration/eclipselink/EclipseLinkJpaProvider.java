@@ -654,6 +654,16 @@ public class EclipseLinkJpaProvider implements JpaProvider {
         query.setHint("eclipselink.query-results-cache", true);
     }
 
+    @Override
+    public void setFetchSize(Query query, int fetchSize) {
+        query.setHint("eclipselink.jdbc.fetch-size", fetchSize);
+    }
+
+    @Override
+    public void setQueryTimeout(Query query, int timeoutMillis) {
+        query.setHint("javax.persistence.query.timeout", timeoutMillis);
+    }
+
     @Override
     public void setSingularParameter(Query query, String name, Object value) {
         query.setParameter(name, value);
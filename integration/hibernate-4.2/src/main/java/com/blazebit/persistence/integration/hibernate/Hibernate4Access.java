@@ -55,6 +55,8 @@ import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -333,4 +335,13 @@ public class Hibernate4Access implements HibernateAccess {
         return new ParameterTranslationsImpl(queryParameterSpecifications);
     }
 
+    @Override
+    public int bindParameters(PreparedStatement statement, QueryParameters queryParameters, SessionImplementor session, List<ParameterSpecification> parameterSpecifications) throws SQLException {
+        int position = 1;
+        for (ParameterSpecification parameterSpecification : parameterSpecifications) {
+            position += parameterSpecification.bind(statement, queryParameters, session, position);
+        }
+        return position - 1;
+    }
+
 }
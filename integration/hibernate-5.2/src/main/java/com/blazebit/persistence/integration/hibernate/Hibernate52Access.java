@@ -54,6 +54,8 @@ import javax.persistence.PersistenceException;
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -233,4 +235,13 @@ public class Hibernate52Access implements HibernateAccess {
         return new ParameterTranslationsImpl(queryParameterSpecifications);
     }
 
+    @Override
+    public int bindParameters(PreparedStatement statement, QueryParameters queryParameters, SessionImplementor session, List<ParameterSpecification> parameterSpecifications) throws SQLException {
+        int position = 1;
+        for (ParameterSpecification parameterSpecification : parameterSpecifications) {
+            position += parameterSpecification.bind(statement, queryParameters, session, position);
+        }
+        return position - 1;
+    }
+
 }
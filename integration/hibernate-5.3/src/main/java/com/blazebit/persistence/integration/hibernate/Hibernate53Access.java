@@ -54,6 +54,8 @@ import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -260,4 +262,13 @@ public class Hibernate53Access implements HibernateAccess {
         }
     }
 
+    @Override
+    public int bindParameters(PreparedStatement statement, QueryParameters queryParameters, SessionImplementor session, List<ParameterSpecification> parameterSpecifications) throws SQLException {
+        int position = 1;
+        for (ParameterSpecification parameterSpecification : parameterSpecifications) {
+            position += parameterSpecification.bind(statement, queryParameters, session, position);
+        }
+        return position - 1;
+    }
+
 }
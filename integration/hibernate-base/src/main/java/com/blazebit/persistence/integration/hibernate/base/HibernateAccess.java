@@ -35,6 +35,8 @@ import org.hibernate.type.Type;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceException;
 import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 
@@ -90,4 +92,6 @@ public interface HibernateAccess {
             final Serializable[] collectionKeys);
 
     public ParameterTranslations createParameterTranslations(List<ParameterSpecification> queryParameterSpecifications);
+
+    public int bindParameters(PreparedStatement statement, QueryParameters queryParameters, SessionImplementor session, List<ParameterSpecification> parameterSpecifications) throws SQLException;
 }
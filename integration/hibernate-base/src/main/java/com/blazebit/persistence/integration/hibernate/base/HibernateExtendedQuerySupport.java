@@ -26,9 +26,13 @@ import com.blazebit.persistence.spi.DbmsDialect;
 import com.blazebit.persistence.spi.DbmsStatementType;
 import com.blazebit.persistence.spi.ExtendedQuerySupport;
 import com.blazebit.reflection.ReflectionUtils;
+import org.hibernate.Filter;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.ScrollMode;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.query.spi.QueryPlanCache;
@@ -55,6 +59,7 @@ import org.hibernate.hql.internal.ast.tree.QueryNode;
 import org.hibernate.hql.internal.ast.tree.SelectClause;
 import org.hibernate.hql.spi.ParameterTranslations;
 import org.hibernate.hql.spi.QueryTranslator;
+import org.hibernate.internal.FilterImpl;
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.loader.hql.QueryLoader;
 import org.hibernate.param.ParameterSpecification;
@@ -67,9 +72,16 @@ import javax.persistence.NoResultException;
 import javax.persistence.NonUniqueResultException;
 import javax.persistence.PersistenceException;
 import javax.persistence.Query;
+import javax.transaction.Synchronization;
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
@@ -82,8 +94,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -118,6 +132,11 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
         return false;
     }
 
+    @Override
+    public boolean supportsExplainPlan() {
+        return true;
+    }
+
     @Override
     public boolean applyFirstResultMaxResults(Query query, int firstResult, int maxResults) {
 //        boolean changed = firstResult == 0 && query.getFirstResult() != 0 || firstResult != 0 && query.getFirstResult() == 0
@@ -486,6 +505,8 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
         }
 
         autoFlush(querySpaces, session);
+        // Streams are consumed only once, so a forward-only cursor allows the driver to honor the fetch size instead of materializing the results
+        queryParameters.setScrollMode(ScrollMode.FORWARD_ONLY);
         return hibernateAccess.performStream(queryPlan, session, queryParameters);
     }
 
@@ -682,6 +703,139 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
         }
     }
 
+    @Override
+    public List<String> getExplainPlan(com.blazebit.persistence.spi.ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String explainSql) {
+        EntityManager em = serviceProvider.getService(EntityManager.class);
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+
+        if (session.isClosed()) {
+            throw new PersistenceException("Entity manager is closed!");
+        }
+
+        // Create combined query parameters
+        List<String> queryStrings = new ArrayList<>(participatingQueries.size());
+        Set<String> querySpaces = new HashSet<>();
+        QueryParamEntry queryParametersEntry = createQueryParameters(em, query, participatingQueries, queryStrings, querySpaces);
+        autoFlush(querySpaces, session);
+
+        Connection connection = null;
+        Savepoint savepoint = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            connection = session.connection();
+            savepoint = setSavepoint(connection);
+            ps = connection.prepareStatement(explainSql);
+            hibernateAccess.bindParameters(ps, queryParametersEntry.queryParameters, session, queryParametersEntry.specifications);
+            rs = ps.executeQuery();
+            List<String> rows = new ArrayList<>();
+            while (rs.next()) {
+                rows.add(rs.getString(1));
+            }
+            close(rs);
+            rs = null;
+            close(ps);
+            ps = null;
+            releaseSavepoint(connection, savepoint);
+            return rows;
+        } catch (SQLException | RuntimeException ex) {
+            LOG.severe("Could not execute the following SQL query: " + explainSql);
+            close(rs);
+            close(ps);
+            // Some DBMS like PostgreSQL abort the whole transaction on an error, so we roll back to the savepoint to let the caller's transaction continue
+            // The error is not converted through the session either, because that would mark the caller's transaction for rollback
+            rollbackToSavepoint(connection, savepoint);
+            throw new PersistenceException("Could not explain query", ex);
+        }
+    }
+
+    private static Savepoint setSavepoint(Connection connection) {
+        try {
+            if (connection.getAutoCommit()) {
+                return null;
+            }
+            return connection.setSavepoint();
+        } catch (SQLException ex) {
+            // The DBMS or driver doesn't support savepoints, so we explain without one
+            return null;
+        }
+    }
+
+    private static void releaseSavepoint(Connection connection, Savepoint savepoint) {
+        if (savepoint != null) {
+            try {
+                connection.releaseSavepoint(savepoint);
+            } catch (SQLException ex) {
+                // Some drivers like the Oracle one don't support releasing savepoints, they are released when the transaction ends anyway
+            }
+        }
+    }
+
+    private static void rollbackToSavepoint(Connection connection, Savepoint savepoint) {
+        if (savepoint != null) {
+            try {
+                connection.rollback(savepoint);
+            } catch (SQLException ex) {
+                LOG.log(Level.WARNING, "Could not roll back to the savepoint after the explain statement failed", ex);
+            }
+        }
+    }
+
+    @Override
+    public boolean supportsTransactionCompletionCallbacks() {
+        return true;
+    }
+
+    @Override
+    public boolean registerTransactionCompletionCallback(EntityManager em, final Runnable callback) {
+        Transaction transaction = em.unwrap(Session.class).getTransaction();
+        if (!transaction.isActive()) {
+            return false;
+        }
+        transaction.registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // No-op
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                callback.run();
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public Object getQueryResultInfluencingState(EntityManager em) {
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        String tenantIdentifier = session.getTenantIdentifier();
+        Map<String, Filter> enabledFilters = session.getLoadQueryInfluencers().getEnabledFilters();
+        if (tenantIdentifier == null && enabledFilters.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> filters = new TreeMap<>();
+        for (Filter filter : enabledFilters.values()) {
+            if (filter instanceof FilterImpl) {
+                filters.put(filter.getName(), new HashMap<>(((FilterImpl) filter).getParameters()));
+            } else {
+                // We can't access the parameter values, so the filter instance itself has to be part of the state
+                filters.put(filter.getName(), filter);
+            }
+        }
+        return Arrays.asList(tenantIdentifier, filters);
+    }
+
+    private static void close(AutoCloseable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (Exception ex) {
+                LOG.log(Level.FINE, "Could not close JDBC resource", ex);
+            }
+        }
+    }
+
     public void autoFlush(Set<String> querySpaces, SessionImplementor sessionImplementor) {
         AutoFlushEvent event = new AutoFlushEvent(querySpaces, (EventSource) sessionImplementor);
         for (AutoFlushEventListener listener : sessionImplementor.getFactory().getServiceRegistry().getService(EventListenerRegistry.class).getEventListenerGroup(EventType.AUTO_FLUSH).listeners()) {
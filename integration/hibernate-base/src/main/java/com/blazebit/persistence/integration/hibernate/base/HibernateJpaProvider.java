@@ -1612,6 +1612,17 @@ public class HibernateJpaProvider implements JpaProvider {
         query.setHint("org.hibernate.cacheable", true);
     }
 
+    @Override
+    public void setFetchSize(Query query, int fetchSize) {
+        query.setHint("org.hibernate.fetchSize", fetchSize);
+    }
+
+    @Override
+    public void setQueryTimeout(Query query, int timeoutMillis) {
+        // The Hibernate timeout is specified in seconds
+        query.setHint("org.hibernate.timeout", (timeoutMillis + 999) / 1000);
+    }
+
     @Override
     public void setSingularParameter(Query query, String name, Object value) {
         if (value instanceof Collection) {
@@ -16,12 +16,12 @@
 
 package com.blazebit.persistence.integration.hibernate.base;
 
-import com.blazebit.apt.service.ServiceProvider;
 import com.blazebit.persistence.ConfigurationProperties;
 import com.blazebit.persistence.ReturningResult;
 import com.blazebit.persistence.spi.ConfigurationSource;
 import com.blazebit.persistence.spi.DbmsDialect;
 import com.blazebit.persistence.spi.ExtendedQuerySupport;
+import com.blazebit.persistence.spi.ServiceProvider;
 import com.blazebit.reflection.ReflectionUtils;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
@@ -30,8 +30,12 @@ import jakarta.persistence.Query;
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TupleElement;
 import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.transaction.Synchronization;
+import org.hibernate.Filter;
 import org.hibernate.HibernateException;
 import org.hibernate.NonUniqueResultException;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityKey;
@@ -39,6 +43,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.internal.FilterImpl;
 import org.hibernate.internal.FilterJdbcParameter;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
@@ -130,7 +135,9 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.sql.PreparedStatement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -138,6 +145,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.logging.Logger;
@@ -146,7 +154,7 @@ import java.util.logging.Logger;
  * @author Christian Beikov
  * @since 1.6.7
  */
-@ServiceProvider(ExtendedQuerySupport.class)
+@com.blazebit.apt.service.ServiceProvider(ExtendedQuerySupport.class)
 public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
 
     private static final Logger LOG = Logger.getLogger(HibernateExtendedQuerySupport.class.getName());
@@ -175,6 +183,11 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
         return true;
     }
 
+    @Override
+    public boolean supportsExplainPlan() {
+        return false;
+    }
+
     @Override
     public boolean applyFirstResultMaxResults(Query query, int firstResult, int maxResults) {
         Limit limit = query.unwrap(QuerySqmImpl.class).getQueryOptions().getLimit();
@@ -470,11 +483,11 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
 
     @Override
     @SuppressWarnings("rawtypes")
-    public List getResultList(com.blazebit.persistence.spi.ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String sqlOverride, boolean queryPlanCacheEnabled) {
+    public List getResultList(ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String sqlOverride, boolean queryPlanCacheEnabled) {
         return getResultList(serviceProvider, participatingQueries, query, sqlOverride, queryPlanCacheEnabled, query.unwrap(DomainQueryExecutionContext.class));
     }
 
-    private List getResultList(com.blazebit.persistence.spi.ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String sqlOverride, boolean queryPlanCacheEnabled, DomainQueryExecutionContext executionContext) {
+    private List getResultList(ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String sqlOverride, boolean queryPlanCacheEnabled, DomainQueryExecutionContext executionContext) {
         QuerySqmImpl<?> hqlQuery = query.unwrap(QuerySqmImpl.class);
         SessionFactoryImplementor sessionFactory = hqlQuery.getSessionFactory();
 
@@ -594,11 +607,11 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
     }
 
     @Override
-    public Object getResultStream(com.blazebit.persistence.spi.ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String sqlOverride, boolean queryPlanCacheEnabled) {
+    public Object getResultStream(ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String sqlOverride, boolean queryPlanCacheEnabled) {
         return getResultStream(serviceProvider, participatingQueries, query, sqlOverride, queryPlanCacheEnabled, query.unwrap(DomainQueryExecutionContext.class));
     }
 
-    private Object getResultStream(com.blazebit.persistence.spi.ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String sqlOverride, boolean queryPlanCacheEnabled, DomainQueryExecutionContext executionContext) {
+    private Object getResultStream(ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String sqlOverride, boolean queryPlanCacheEnabled, DomainQueryExecutionContext executionContext) {
         QuerySqmImpl<?> hqlQuery = query.unwrap(QuerySqmImpl.class);
         SessionFactoryImplementor sessionFactory = hqlQuery.getSessionFactory();
 
@@ -678,7 +691,7 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
 
     @Override
     @SuppressWarnings({"rawtypes", "unchecked"})
-    public Object getSingleResult(com.blazebit.persistence.spi.ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String sqlOverride, boolean queryPlanCacheEnabled) {
+    public Object getSingleResult(ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String sqlOverride, boolean queryPlanCacheEnabled) {
         final List list = getResultList(serviceProvider, participatingQueries, query, sqlOverride, queryPlanCacheEnabled);
         if (list.size() == 0) {
             throw new NoResultException("No entity found for query");
@@ -780,7 +793,7 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
     }
 
     @Override
-    public int executeUpdate(com.blazebit.persistence.spi.ServiceProvider serviceProvider, List<Query> participatingQueries, Query baseQuery, Query query, String finalSql, boolean queryPlanCacheEnabled) {
+    public int executeUpdate(ServiceProvider serviceProvider, List<Query> participatingQueries, Query baseQuery, Query query, String finalSql, boolean queryPlanCacheEnabled) {
         EntityManager em = serviceProvider.getService(EntityManager.class);
         SessionImplementor session = em.unwrap(SessionImplementor.class);
         if (session.isClosed()) {
@@ -883,7 +896,7 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
 
     @Override
     @SuppressWarnings("unchecked")
-    public ReturningResult<Object[]> executeReturning(com.blazebit.persistence.spi.ServiceProvider serviceProvider, List<Query> participatingQueries, Query modificationBaseQuery, Query exampleQuery, String sqlOverride, boolean queryPlanCacheEnabled) {
+    public ReturningResult<Object[]> executeReturning(ServiceProvider serviceProvider, List<Query> participatingQueries, Query modificationBaseQuery, Query exampleQuery, String sqlOverride, boolean queryPlanCacheEnabled) {
         DbmsDialect dbmsDialect = serviceProvider.getService(DbmsDialect.class);
         EntityManager em = serviceProvider.getService(EntityManager.class);
         SessionImplementor session = em.unwrap(SessionImplementor.class);
@@ -1121,6 +1134,57 @@ public class HibernateExtendedQuerySupport implements ExtendedQuerySupport {
         }
     }
 
+    @Override
+    public List<String> getExplainPlan(ServiceProvider serviceProvider, List<Query> participatingQueries, Query query, String explainSql) {
+        // Binding the parameters of SQL AST based queries to a custom statement isn't possible yet, see supportsExplainPlan()
+        throw new UnsupportedOperationException("Explaining queries is not supported by the JPA provider!");
+    }
+
+    @Override
+    public boolean supportsTransactionCompletionCallbacks() {
+        return true;
+    }
+
+    @Override
+    public boolean registerTransactionCompletionCallback(EntityManager em, final Runnable callback) {
+        Transaction transaction = em.unwrap(Session.class).getTransaction();
+        if (!transaction.isActive()) {
+            return false;
+        }
+        transaction.registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // No-op
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                callback.run();
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public Object getQueryResultInfluencingState(EntityManager em) {
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        String tenantIdentifier = session.getTenantIdentifier();
+        Map<String, Filter> enabledFilters = session.getLoadQueryInfluencers().getEnabledFilters();
+        if (tenantIdentifier == null && enabledFilters.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> filters = new TreeMap<>();
+        for (Filter filter : enabledFilters.values()) {
+            if (filter instanceof FilterImpl) {
+                filters.put(filter.getName(), new HashMap<>(((FilterImpl) filter).getParameters()));
+            } else {
+                // We can't access the parameter values, so the filter instance itself has to be part of the state
+                filters.put(filter.getName(), filter);
+            }
+        }
+        return Arrays.asList(tenantIdentifier, filters);
+    }
+
     private static String[][] getReturningColumns(boolean caseInsensitive, String exampleQuerySql) {
         int fromIndex = exampleQuerySql.indexOf("from");
         int selectIndex = exampleQuerySql.indexOf("select");
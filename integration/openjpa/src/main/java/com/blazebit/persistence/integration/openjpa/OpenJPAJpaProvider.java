@@ -415,6 +415,18 @@ public class OpenJPAJpaProvider implements JpaProvider {
         }
     }
 
+    @Override
+    public void setFetchSize(Query query, int fetchSize) {
+        if (query instanceof OpenJPAQuery) {
+            ((OpenJPAQuery) query).getFetchPlan().setFetchBatchSize(fetchSize);
+        }
+    }
+
+    @Override
+    public void setQueryTimeout(Query query, int timeoutMillis) {
+        query.setHint("javax.persistence.query.timeout", timeoutMillis);
+    }
+
     @Override
     public void setSingularParameter(Query query, String name, Object value) {
         query.setParameter(name, value);
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.querydsl;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.impl.AbstractFullQueryBuilder;
+import com.querydsl.core.JoinExpression;
+import com.querydsl.core.JoinFlag;
+import com.querydsl.core.QueryFlag;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.QueryModifiers;
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.ParamExpression;
+import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.jpa.JPQLTemplates;
+
+import javax.annotation.Nullable;
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache for {@link CriteriaBuilder} instances rendered by the {@link BlazeCriteriaBuilderRenderer}.
+ *
+ * Queries are keyed by their normalized Querydsl metadata structure, in which constants are replaced by slots.
+ * On a cache hit, the renderer traversal and builder construction are skipped. Instead, a copy of the cached template
+ * builder is created for the current {@link EntityManager} and only the constants and parameters are bound.
+ * The cached template builders are not bound to an {@link EntityManager}.
+ *
+ * Queries for which the rendered builder depends on constant values in a way that can't be expressed through
+ * parameters, like queries with a {@code VALUES} clause or set operations, are not cached.
+ *
+ * The cache is thread safe and is meant to be shared, e.g. by passing it to a {@link BlazeJPAQueryFactory}.
+ *
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class BlazeCriteriaBuilderRenderCache {
+
+    /**
+     * The default maximum amount of cached query shapes.
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final Entry UNCACHEABLE = new Entry(null, null);
+
+    private final Map<Key, Entry> entries;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong uncacheableCount = new AtomicLong();
+
+    /**
+     * Creates a new render cache with the {@link #DEFAULT_MAX_SIZE}.
+     */
+    public BlazeCriteriaBuilderRenderCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new render cache that holds at most the given amount of query shapes.
+     *
+     * @param maxSize The maximum amount of cached query shapes
+     */
+    public BlazeCriteriaBuilderRenderCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid max size: " + maxSize);
+        }
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Returns the amount of renderings that could be served from the cache.
+     *
+     * @return the cache hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the amount of renderings that could not be served from the cache, including uncacheable ones.
+     *
+     * @return the cache miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the amount of renderings that could not be served from the cache because the query shape is uncacheable.
+     *
+     * @return the uncacheable count
+     */
+    public long getUncacheableCount() {
+        return uncacheableCount.get();
+    }
+
+    /**
+     * Returns the ratio of cache hits to total renderings.
+     *
+     * @return the hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0d : (double) hits / total;
+    }
+
+    /**
+     * Returns the amount of query shapes that are currently cached.
+     *
+     * @return the cache size
+     */
+    public int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all cached entries and resets the statistics.
+     */
+    public void clear() {
+        entries.clear();
+        hitCount.set(0L);
+        missCount.set(0L);
+        uncacheableCount.set(0L);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> CriteriaBuilder<T> get(ShapeSerializer shape, CriteriaBuilderFactory criteriaBuilderFactory, EntityManager entityManager, JPQLTemplates templates) {
+        Entry entry = entries.get(new Key(criteriaBuilderFactory, templates, shape.getShape()));
+        if (entry == null || entry == UNCACHEABLE) {
+            missCount.incrementAndGet();
+            if (entry == UNCACHEABLE) {
+                uncacheableCount.incrementAndGet();
+                shape.cacheable = false;
+                shape.known = true;
+            }
+            return null;
+        }
+
+        CriteriaBuilder<T> criteriaBuilder;
+        // The template is never handed out, but the copy process isn't thread safe
+        synchronized (entry) {
+            criteriaBuilder = (CriteriaBuilder<T>) entry.template.copyTemplate(entityManager);
+        }
+        List<Object> constants = shape.getConstants();
+        for (int i = 0; i < constants.size(); i++) {
+            criteriaBuilder.setParameter(entry.constantLabels[i], constants.get(i));
+        }
+        for (Map.Entry<String, Object> parameter : shape.getParameters().entrySet()) {
+            criteriaBuilder.setParameter(parameter.getKey(), parameter.getValue());
+        }
+        hitCount.incrementAndGet();
+        return criteriaBuilder;
+    }
+
+    void put(ShapeSerializer shape, CriteriaBuilderFactory criteriaBuilderFactory, JPQLTemplates templates, Object output, CriteriaBuilder<?> criteriaBuilder, Map<Object, String> constantToLabel) {
+        if (shape.known) {
+            return;
+        }
+        Key key = new Key(criteriaBuilderFactory, templates, shape.getShape());
+        Entry entry = UNCACHEABLE;
+        if (shape.isCacheable() && output == criteriaBuilder && criteriaBuilder instanceof AbstractFullQueryBuilder<?, ?, ?, ?, ?>) {
+            List<Object> constants = shape.getConstants();
+            // Every constant must have been rendered as parameter, otherwise the builder depends on the constant value
+            if (constants.size() == constantToLabel.size()) {
+                String[] constantLabels = new String[constants.size()];
+                for (int i = 0; i < constantLabels.length; i++) {
+                    String label = constantToLabel.get(constants.get(i));
+                    if (label == null) {
+                        constantLabels = null;
+                        break;
+                    }
+                    constantLabels[i] = label;
+                }
+                if (constantLabels != null) {
+                    // The template outlives the current request, so it must not keep the entity manager and its persistence context alive
+                    entry = new Entry(((AbstractFullQueryBuilder<?, ?, ?, ?, ?>) criteriaBuilder).copyTemplate(null), constantLabels);
+                }
+            }
+        }
+        if (entry == UNCACHEABLE) {
+            uncacheableCount.incrementAndGet();
+        }
+        entries.put(key, entry);
+    }
+
+    /**
+     * The cache key that consists of the normalized query shape and the rendering context.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    private static final class Key {
+        private final CriteriaBuilderFactory criteriaBuilderFactory;
+        private final JPQLTemplates templates;
+        private final String shape;
+        private final int hashCode;
+
+        public Key(CriteriaBuilderFactory criteriaBuilderFactory, JPQLTemplates templates, String shape) {
+            this.criteriaBuilderFactory = criteriaBuilderFactory;
+            this.templates = templates;
+            this.shape = shape;
+            this.hashCode = 31 * (31 * System.identityHashCode(criteriaBuilderFactory) + System.identityHashCode(templates)) + shape.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return criteriaBuilderFactory == key.criteriaBuilderFactory && templates == key.templates && shape.equals(key.shape);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * A cached template builder along with the parameter labels of the constant slots.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    private static final class Entry {
+        private final AbstractFullQueryBuilder<?, ?, ?, ?, ?> template;
+        private final String[] constantLabels;
+
+        public Entry(AbstractFullQueryBuilder<?, ?, ?, ?, ?> template, String[] constantLabels) {
+            this.template = template;
+            this.constantLabels = constantLabels;
+        }
+    }
+
+    /**
+     * Serializes query metadata to a normalized shape string in which constants are replaced by slots.
+     * Constants are assigned slots by identity, just like the {@link BlazeCriteriaBuilderRenderer} assigns parameter labels.
+     *
+     * @author Christian Beikov
+     * @since 1.6.9
+     */
+    static final class ShapeSerializer extends JPQLNextSerializer {
+
+        private final Map<Object, Integer> constantToSlot = new IdentityHashMap<>();
+        private final List<Object> constants = new ArrayList<>();
+        private final Map<String, Object> parameters = new TreeMap<>();
+        private boolean cacheable = true;
+        private boolean known;
+        private int depth;
+
+        public ShapeSerializer(JPQLTemplates templates, EntityManager entityManager) {
+            super(templates, entityManager);
+        }
+
+        public String getShape() {
+            return toString();
+        }
+
+        public List<Object> getConstants() {
+            return constants;
+        }
+
+        public Map<String, Object> getParameters() {
+            return parameters;
+        }
+
+        public boolean isCacheable() {
+            return cacheable;
+        }
+
+        @Override
+        public void serialize(QueryMetadata metadata, boolean forCountRow, @Nullable String projection) {
+            depth++;
+            for (JoinExpression join : metadata.getJoins()) {
+                if (join.getTarget() instanceof ValuesExpression<?>) {
+                    // The values are rendered into the builder directly
+                    cacheable = false;
+                }
+                append("{").append(join.getType().name());
+                for (JoinFlag joinFlag : join.getFlags()) {
+                    append(",").append(joinFlag.getPosition().name()).append(":");
+                    handle(joinFlag.getFlag());
+                }
+                append("}");
+            }
+            for (QueryFlag flag : metadata.getFlags()) {
+                append("{").append(flag.getPosition().name()).append(":");
+                handle(flag.getFlag());
+                append("}");
+            }
+            for (Map.Entry<ParamExpression<?>, Object> entry : metadata.getParams().entrySet()) {
+                parameters.put(entry.getKey().getName(), entry.getValue());
+                append("{param:").append(entry.getKey().getName()).append("}");
+            }
+            // Limit and offset of the top level query are applied on the builder after rendering
+            QueryModifiers modifiers = metadata.getModifiers();
+            if (depth > 1 && modifiers != null) {
+                append("{limit:").append(String.valueOf(modifiers.getLimit())).append(",offset:").append(String.valueOf(modifiers.getOffset())).append("}");
+            }
+            if (metadata.isDistinct()) {
+                append("{distinct}");
+            }
+            super.serialize(metadata, forCountRow, projection);
+            depth--;
+        }
+
+        @Override
+        public Void visit(SubQueryExpression<?> query, Void context) {
+            append("(");
+            super.visit(query, context);
+            append(")");
+            return null;
+        }
+
+        @Override
+        public Void visit(FactoryExpression<?> expr, Void context) {
+            // The factory type determines the object builder, but isn't serialized
+            append("{new ").append(expr.getClass().getName()).append("<").append(expr.getType().getName()).append(">}");
+            return super.visit(expr, context);
+        }
+
+        @Override
+        public Void visit(ParamExpression<?> param, Void context) {
+            append(":").append(param.getName());
+            return null;
+        }
+
+        @Override
+        public void visitConstant(Object constant) {
+            Integer slot = constantToSlot.get(constant);
+            if (slot == null) {
+                slot = constants.size();
+                constantToSlot.put(constant, slot);
+                constants.add(constant);
+            }
+            // The type is part of the shape as it influences the rendering e.g. for collections
+            append("?").append(slot.toString()).append("<").append(constant.getClass().getName()).append(">");
+        }
+    }
+}
@@ -112,6 +112,8 @@ public class BlazeCriteriaBuilderRenderer<T> {
 
     private final CriteriaBuilderFactory criteriaBuilderFactory;
     private final EntityManager entityManager;
+    private final JPQLTemplates templates;
+    private final BlazeCriteriaBuilderRenderCache renderCache;
     private final JPQLNextSerializer serializer;
     private final Map<Object, String> constantToLabel = new IdentityHashMap<>();
     private Map<Expression<?>, String> subQueryToLabel = new IdentityHashMap<>();
@@ -120,16 +122,44 @@ public class BlazeCriteriaBuilderRenderer<T> {
     private CriteriaBuilder<T> criteriaBuilder;
 
     public BlazeCriteriaBuilderRenderer(CriteriaBuilderFactory criteriaBuilderFactory, EntityManager entityManager, JPQLTemplates templates) {
+        this(criteriaBuilderFactory, entityManager, templates, null);
+    }
+
+    /**
+     * Creates a new renderer that uses the given render cache.
+     *
+     * @param criteriaBuilderFactory The criteria builder factory
+     * @param entityManager The entity manager
+     * @param templates The templates
+     * @param renderCache The render cache or <code>null</code>
+     * @since 1.6.9
+     */
+    public BlazeCriteriaBuilderRenderer(CriteriaBuilderFactory criteriaBuilderFactory, EntityManager entityManager, JPQLTemplates templates, BlazeCriteriaBuilderRenderCache renderCache) {
         this.serializer = new JPQLNextExpressionSerializer(templates, entityManager);
         this.criteriaBuilderFactory = criteriaBuilderFactory;
         this.entityManager = entityManager;
+        this.templates = templates;
+        this.renderCache = renderCache;
     }
 
     public Queryable<T, ?> render(Expression<?> expression) {
+        BlazeCriteriaBuilderRenderCache.ShapeSerializer shape = null;
+        if (renderCache != null && expression instanceof SubQueryExpression<?>) {
+            shape = new BlazeCriteriaBuilderRenderCache.ShapeSerializer(templates, entityManager);
+            shape.serialize(((SubQueryExpression<?>) expression).getMetadata(), false, null);
+            CriteriaBuilder<T> cachedCriteriaBuilder = renderCache.get(shape, criteriaBuilderFactory, entityManager, templates);
+            if (cachedCriteriaBuilder != null) {
+                this.criteriaBuilder = cachedCriteriaBuilder;
+                return cachedCriteriaBuilder;
+            }
+        }
         this.criteriaBuilder = (CriteriaBuilder) criteriaBuilderFactory.create(entityManager, Object.class);
         renderCTEs(expression);
         Object output = serializeSubQuery(this.criteriaBuilder, expression);
         renderConstants((ParameterHolder<?>) output);
+        if (shape != null) {
+            renderCache.put(shape, criteriaBuilderFactory, templates, output, criteriaBuilder, constantToLabel);
+        }
         return (Queryable<T, ?>) output;
     }
 
@@ -45,15 +45,30 @@ public class BlazeJPAQueryFactory implements JPQLNextQueryFactory {
     private final EntityManager entityManager;
     private final CriteriaBuilderFactory criteriaBuilderFactory;
     private final JPQLNextTemplates templates;
+    private final BlazeCriteriaBuilderRenderCache renderCache;
 
     public BlazeJPAQueryFactory(EntityManager entityManager, CriteriaBuilderFactory criteriaBuilderFactory) {
         this(JPQLNextTemplates.DEFAULT, entityManager, criteriaBuilderFactory);
     }
 
     public BlazeJPAQueryFactory(JPQLNextTemplates templates, EntityManager entityManager, CriteriaBuilderFactory criteriaBuilderFactory) {
+        this(templates, entityManager, criteriaBuilderFactory, null);
+    }
+
+    /**
+     * Creates a query factory that renders queries through the given render cache.
+     *
+     * @param templates The templates
+     * @param entityManager The entity manager
+     * @param criteriaBuilderFactory The criteria builder factory
+     * @param renderCache The render cache or <code>null</code>
+     * @since 1.6.9
+     */
+    public BlazeJPAQueryFactory(JPQLNextTemplates templates, EntityManager entityManager, CriteriaBuilderFactory criteriaBuilderFactory, BlazeCriteriaBuilderRenderCache renderCache) {
         this.templates = templates;
         this.entityManager = entityManager;
         this.criteriaBuilderFactory = criteriaBuilderFactory;
+        this.renderCache = renderCache;
     }
 
     @Override
@@ -168,7 +183,7 @@ public class BlazeJPAQueryFactory implements JPQLNextQueryFactory {
 
     @Override
     public BlazeJPAQuery<?> query() {
-        return new BlazeJPAQuery<>(entityManager, templates, criteriaBuilderFactory);
+        return new BlazeJPAQuery<>(entityManager, templates, criteriaBuilderFactory).setRenderCache(renderCache);
     }
 
     @Override
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2014 - 2023 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.querydsl;
+
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.testsuite.AbstractCoreTest;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.IntIdEntity;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.entity.Version;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.Param;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.blazebit.persistence.querydsl.JPQLNextExpressions.selectFrom;
+import static com.blazebit.persistence.testsuite.entity.QDocument.document;
+import static com.blazebit.persistence.testsuite.entity.QPerson.person;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Christian Beikov
+ * @since 1.6.9
+ */
+public class RenderCacheTest extends AbstractCoreTest {
+
+    private BlazeCriteriaBuilderRenderCache renderCache;
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] {
+                Document.class,
+                Person.class,
+                IntIdEntity.class,
+                Version.class
+        };
+    }
+
+    public void doInJPA(Consumer<EntityManager> function) {
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager entityManager) {
+                function.accept(entityManager);
+            }
+        });
+    }
+
+    @Before
+    public void setUp() {
+        renderCache = new BlazeCriteriaBuilderRenderCache();
+        cleanDatabase();
+        doInJPA(entityManager -> {
+            for (int i = 0; i < 10; i++) {
+                Person person = new Person();
+                person.setName("Person " + i);
+                Document testEntity = new Document();
+                testEntity.setName("Doc " + i);
+                testEntity.setAge(i);
+                testEntity.setOwner(person);
+                entityManager.persist(testEntity);
+            }
+        });
+    }
+
+    @Test
+    public void testSameShapeIsServedFromCache() {
+        doInJPA(em -> {
+            BlazeJPAQueryFactory queryFactory = new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache);
+
+            List<String> first = queryFactory.select(document.name).from(document).where(document.age.goe(8L)).orderBy(document.name.asc()).fetch();
+            List<String> second = queryFactory.select(document.name).from(document).where(document.age.goe(5L)).orderBy(document.name.asc()).fetch();
+
+            assertEquals(Arrays.asList("Doc 8", "Doc 9"), first);
+            assertEquals(Arrays.asList("Doc 5", "Doc 6", "Doc 7", "Doc 8", "Doc 9"), second);
+            assertEquals(1L, renderCache.getHitCount());
+            assertEquals(1L, renderCache.getMissCount());
+            assertEquals(1, renderCache.getSize());
+        });
+    }
+
+    @Test
+    public void testCacheHitAcrossEntityManagers() {
+        doInJPA(em -> {
+            new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache).select(document.name).from(document).where(document.name.eq("Doc 1")).fetch();
+        });
+        doInJPA(em -> {
+            List<String> result = new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache).select(document.name).from(document).where(document.name.eq("Doc 2")).fetch();
+            assertEquals(Arrays.asList("Doc 2"), result);
+        });
+        assertEquals(1L, renderCache.getHitCount());
+        assertEquals(0.5d, renderCache.getHitRate(), 0.0001d);
+    }
+
+    @Test
+    public void testCachedBuilderIsBoundToCurrentEntityManager() {
+        doInJPA(em -> {
+            new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache).select(document.name).from(document).where(document.name.eq("Doc 1")).fetch();
+        });
+        doInJPA(em -> {
+            BlazeJPAQuery<String> query = new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache).select(document.name).from(document).where(document.name.eq("Doc 2"));
+            assertSame(em, query.getFullQueryBuilder(null).getEntityManager());
+        });
+        assertEquals(1L, renderCache.getHitCount());
+    }
+
+    @Test
+    public void testEntityResultIsServedFromCache() {
+        doInJPA(em -> {
+            BlazeJPAQueryFactory queryFactory = new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache);
+
+            List<Document> first = queryFactory.selectFrom(document).where(document.name.eq("Doc 1")).fetch();
+            List<Document> second = queryFactory.selectFrom(document).where(document.name.eq("Doc 2")).fetch();
+
+            assertEquals(1, first.size());
+            assertEquals("Doc 1", first.get(0).getName());
+            assertEquals(1, second.size());
+            assertEquals("Doc 2", second.get(0).getName());
+            assertEquals(1L, renderCache.getHitCount());
+        });
+    }
+
+    @Test
+    public void testDifferentShapesAreCachedSeparately() {
+        doInJPA(em -> {
+            BlazeJPAQueryFactory queryFactory = new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache);
+
+            String sameConstant = "Doc 1";
+            // The same constant object is bound only once, so this is a different shape than two distinct constants
+            long sameConstantCount = queryFactory.select(document.id).from(document).where(document.name.eq(sameConstant).or(document.name.eq(sameConstant))).fetch().size();
+            long distinctConstantCount = queryFactory.select(document.id).from(document).where(document.name.eq("Doc 1").or(document.name.eq("Doc 2"))).fetch().size();
+            long otherPredicateCount = queryFactory.select(document.id).from(document).where(document.name.ne("Doc 1")).fetch().size();
+
+            assertEquals(1L, sameConstantCount);
+            assertEquals(2L, distinctConstantCount);
+            assertEquals(9L, otherPredicateCount);
+            assertEquals(0L, renderCache.getHitCount());
+            assertEquals(3, renderCache.getSize());
+        });
+    }
+
+    @Test
+    public void testFactoryExpressionAndSubqueryFromCache() {
+        doInJPA(em -> {
+            BlazeJPAQueryFactory queryFactory = new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache);
+
+            for (int i = 0; i < 3; i++) {
+                List<Tuple> result = queryFactory.select(document.name, document.owner.name)
+                        .from(document)
+                        .where(document.owner.id.in(selectFrom(person).select(person.id).where(person.name.eq("Person " + i))))
+                        .fetch();
+                assertEquals(1, result.size());
+                assertEquals("Doc " + i, result.get(0).get(document.name));
+                assertEquals("Person " + i, result.get(0).get(document.owner.name));
+            }
+
+            List<DocumentName> names = queryFactory.select(Projections.constructor(DocumentName.class, document.name))
+                    .from(document)
+                    .where(document.name.eq("Doc 3"))
+                    .fetch();
+            assertEquals("Doc 3", names.get(0).name);
+            assertEquals(2L, renderCache.getHitCount());
+            assertEquals(2, renderCache.getSize());
+        });
+    }
+
+    @Test
+    public void testParametersAreRebound() {
+        doInJPA(em -> {
+            BlazeJPAQueryFactory queryFactory = new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache);
+            Param<String> name = new Param<>(String.class, "name");
+
+            assertEquals(Arrays.asList("Doc 4"), queryFactory.select(document.name).from(document).where(document.name.eq(name)).set(name, "Doc 4").fetch());
+            assertEquals(Arrays.asList("Doc 6"), queryFactory.select(document.name).from(document).where(document.name.eq(name)).set(name, "Doc 6").fetch());
+            assertEquals(1L, renderCache.getHitCount());
+        });
+    }
+
+    @Test
+    public void testPaginationFromCache() {
+        doInJPA(em -> {
+            BlazeJPAQueryFactory queryFactory = new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache);
+
+            PagedList<String> firstPage = queryFactory.select(document.name).from(document).where(document.age.lt(9L)).orderBy(document.id.asc()).fetchPage(0, 2);
+            PagedList<String> secondPage = queryFactory.select(document.name).from(document).where(document.age.lt(5L)).orderBy(document.id.asc()).fetchPage(2, 2);
+
+            assertEquals(9L, firstPage.getTotalSize());
+            assertEquals(Arrays.asList("Doc 0", "Doc 1"), firstPage);
+            assertEquals(5L, secondPage.getTotalSize());
+            assertEquals(Arrays.asList("Doc 2", "Doc 3"), secondPage);
+            assertEquals(1L, renderCache.getHitCount());
+        });
+    }
+
+    @Test
+    public void testValuesClauseIsNotCached() {
+        doInJPA(em -> {
+            BlazeJPAQueryFactory queryFactory = new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache);
+
+            for (int i = 0; i < 2; i++) {
+                Document doc = new Document();
+                doc.setName("Values " + i);
+                List<String> result = queryFactory.fromValues(document, Arrays.asList(doc))
+                        .select(document.name)
+                        .fetch();
+                assertEquals(Arrays.asList("Values " + i), result);
+            }
+            assertEquals(0L, renderCache.getHitCount());
+            assertEquals(2L, renderCache.getUncacheableCount());
+        });
+    }
+
+    @Test
+    public void testTemplateStringConstantsArePartOfTheShape() {
+        doInJPA(em -> {
+            BlazeJPAQueryFactory queryFactory = new BlazeJPAQueryFactory(JPQLNextTemplates.DEFAULT, em, cbf, renderCache);
+
+            List<Long> first = queryFactory.select(document.id).from(document).where(Expressions.booleanTemplate(document.name.toString() + " = 'Doc 1'")).fetch();
+            List<Long> second = queryFactory.select(document.id).from(document).where(Expressions.booleanTemplate(document.name.toString() + " = 'Doc 2'")).fetch();
+
+            assertEquals(1, first.size());
+            assertEquals(1, second.size());
+            assertEquals(2, renderCache.getSize());
+        });
+    }
+
+    public static class DocumentName {
+        private final String name;
+
+        public DocumentName(String name) {
+            this.name = name;
+        }
+    }
+}
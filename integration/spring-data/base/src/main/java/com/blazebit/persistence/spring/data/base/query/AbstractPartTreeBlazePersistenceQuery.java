@@ -290,9 +290,6 @@ public abstract class AbstractPartTreeBlazePersistenceQuery extends AbstractJpaQ
             boolean withKeysetExtraction = false;
             boolean withExtractAllKeysets = false;
             Pageable pageable = binder.getPageable();
-            if (!withCount) {
-                maxResults++;
-            }
 
             if (entityViewClass == null) {
                 PaginatedCriteriaBuilder<Object> paginatedCriteriaBuilder;
@@ -311,7 +308,7 @@ public abstract class AbstractPartTreeBlazePersistenceQuery extends AbstractJpaQ
                 if (withCount) {
                     paginatedCriteriaBuilder.withCountQuery(true);
                 } else {
-                    paginatedCriteriaBuilder.withHighestKeysetOffset(1).withCountQuery(false);
+                    paginatedCriteriaBuilder.withHasNextPageLookahead(true).withCountQuery(false);
                 }
                 jpaQuery = paginatedCriteriaBuilder.getQuery();
             } else {
@@ -330,7 +327,7 @@ public abstract class AbstractPartTreeBlazePersistenceQuery extends AbstractJpaQ
                 if (withCount) {
                     paginatedCriteriaBuilder.withCountQuery(true);
                 } else {
-                    paginatedCriteriaBuilder.withHighestKeysetOffset(1).withCountQuery(false);
+                    paginatedCriteriaBuilder.withHasNextPageLookahead(true).withCountQuery(false);
                 }
                 if (withKeysetExtraction) {
                     paginatedCriteriaBuilder.withKeysetExtraction(true);
@@ -17,6 +17,7 @@
 package com.blazebit.persistence.spring.data.base.query;
 
 import com.blazebit.persistence.KeysetPage;
+import com.blazebit.persistence.PagedArrayList;
 import com.blazebit.persistence.PagedList;
 import com.blazebit.persistence.spring.data.repository.KeysetAwareSlice;
 import com.blazebit.persistence.spring.data.repository.KeysetPageRequest;
@@ -40,7 +41,7 @@ public class KeysetAwareSliceImpl<T> extends SliceImpl<T> implements KeysetAware
     }
 
     public KeysetAwareSliceImpl(PagedList<T> list, Pageable pageable) {
-        super(list.size() > pageable.getPageSize() ? list.subList(0, pageable.getPageSize()) : list, keysetPageable(list.getKeysetPage(), pageable), list.size() > pageable.getPageSize());
+        super(list.size() > pageable.getPageSize() ? list.subList(0, pageable.getPageSize()) : list, keysetPageable(list.getKeysetPage(), pageable), hasNextPage(list, pageable));
         this.keysetPage = list.getKeysetPage();
     }
 
@@ -49,6 +50,10 @@ public class KeysetAwareSliceImpl<T> extends SliceImpl<T> implements KeysetAware
         this.keysetPage = keysetPage;
     }
 
+    private static boolean hasNextPage(PagedList<?> list, Pageable pageable) {
+        return list instanceof PagedArrayList<?> && ((PagedArrayList<?>) list).hasNextPage() || list.size() > pageable.getPageSize();
+    }
+
     @Override
     public KeysetPage getKeysetPage() {
         return keysetPage;
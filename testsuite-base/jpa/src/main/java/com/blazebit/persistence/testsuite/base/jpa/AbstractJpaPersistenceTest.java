@@ -646,10 +646,29 @@ public abstract class AbstractJpaPersistenceTest {
     }
 
     protected EntityManagerFactory createEntityManagerFactory(String persistenceUnitName, Map<Object, Object> properties) {
+        return createEntityManagerFactory(persistenceUnitName, properties, getDataSource(properties));
+    }
+
+    /**
+     * Creates an entity manager factory for the test entities against a separate database, e.g. to simulate a read replica.
+     * The schema of the database is dropped and recreated.
+     *
+     * @param jdbcUrl The JDBC url of the separate database
+     * @return The entity manager factory
+     */
+    protected EntityManagerFactory createSecondaryEntityManagerFactory(String jdbcUrl) {
+        Properties properties = createDefaultProperties();
+        properties.put("javax.persistence.jdbc.url", jdbcUrl);
+        properties.put("javax.persistence.schema-generation.database.action", "drop-and-create");
+        properties = applyProperties(properties);
+        return createEntityManagerFactory("TestsuiteBase", properties, createDataSource(properties, null));
+    }
+
+    private EntityManagerFactory createEntityManagerFactory(String persistenceUnitName, Map<Object, Object> properties, DataSource dataSource) {
         MutablePersistenceUnitInfo persistenceUnitInfo = new MutablePersistenceUnitInfo();
         persistenceUnitInfo.setPersistenceUnitName(persistenceUnitName);
         persistenceUnitInfo.setTransactionType(PersistenceUnitTransactionType.RESOURCE_LOCAL);
-        persistenceUnitInfo.setNonJtaDataSource(getDataSource(properties));
+        persistenceUnitInfo.setNonJtaDataSource(dataSource);
         persistenceUnitInfo.setExcludeUnlistedClasses(true);
 
         try {
@@ -933,11 +952,15 @@ public abstract class AbstractJpaPersistenceTest {
         private final Properties properties;
         private final Map<String, Class<?>> macros;
         private final Map<String, Class<?>> functions;
+        private final List<Class<?>> queryExecutionListeners;
+        private final Class<?> readOnlyEntityManagerProvider;
 
         private CriteriaBuilderConfigurationEqualityWrapper(CriteriaBuilderConfigurationImpl cfg) {
             this.properties = cfg.getProperties();
             this.macros = cfg.getMacros().entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getClass()));
             this.functions = cfg.getFunctions().entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getClass()));
+            this.queryExecutionListeners = cfg.getQueryExecutionListeners().stream().map(Object::getClass).collect(Collectors.toList());
+            this.readOnlyEntityManagerProvider = cfg.getReadOnlyEntityManagerProvider() == null ? null : cfg.getReadOnlyEntityManagerProvider().getClass();
         }
 
         @Override
@@ -951,12 +974,14 @@ public abstract class AbstractJpaPersistenceTest {
             CriteriaBuilderConfigurationEqualityWrapper that = (CriteriaBuilderConfigurationEqualityWrapper) o;
             return properties.equals(that.properties) &&
                     macros.equals(that.macros) &&
-                    functions.equals(that.functions);
+                    functions.equals(that.functions) &&
+                    queryExecutionListeners.equals(that.queryExecutionListeners) &&
+                    Objects.equals(readOnlyEntityManagerProvider, that.readOnlyEntityManagerProvider);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(properties, macros, functions);
+            return Objects.hash(properties, macros, functions, queryExecutionListeners, readOnlyEntityManagerProvider);
         }
     }
 }